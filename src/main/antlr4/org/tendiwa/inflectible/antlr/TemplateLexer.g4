@@ -38,6 +38,7 @@ NO_GRAMMEME_PLACEHOLDER_END: ']' -> popMode;
 GRAMMEMES_TRANSITION: ']<' -> pushMode(GRAMMEMES);
 KEYWORD_LEXEME: 'lexeme' -> pushMode(STATIC_LEXEME);
 CAPITALIZED_KEYWORD_LEXEME: 'Lexeme' -> pushMode(STATIC_LEXEME);
+PHONETIC_MARK: '~' -> pushMode(PHONETIC);
 PH_ARG: ARGUMENT_NAME -> type(ARGUMENT_NAME);
 PH_ARG_CAPITALIZED: CAPITALIZED_ARGUMENT_NAME -> type(CAPITALIZED_ARGUMENT_NAME);
 
@@ -45,10 +46,15 @@ mode STATIC_LEXEME;
 PH_CONCEPT_ID: CONCEPT_ID -> type(CONCEPT_ID), popMode;
 KEYWORD_LEXEME_WS: WS -> type(WS), skip;
 
+mode PHONETIC;
+PHONETIC_WORD: ~(']' | '\n' | '\r' | ' ')+;
+PHONETIC_END: ']' -> type(NO_GRAMMEME_PLACEHOLDER_END), popMode, popMode; // Pops through PLACEHOLDER_ID
+
 mode GRAMMEMES;
 GRAMMEMES_WS: WS -> type(WS), skip;
 PLACEHOLDER_END: '>' -> popMode, popMode; // Pops through PLACEHOLDER_ID
 AGREEMENT_DELIMITER: ';' -> pushMode(AGREEMENT);
+QUANTITY_DELIMITER: '#' -> pushMode(AGREEMENT);
 GR_GRAMMEME: GRAMMEME -> type(GRAMMEME);
 
 mode AGREEMENT;
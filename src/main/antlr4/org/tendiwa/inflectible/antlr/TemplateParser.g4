@@ -8,7 +8,11 @@ options {
 
 templates: template+;
 
-template: id LPAREN declaredArguments RPAREN TEMPLATE_START templateBody TEMPLATE_END;
+template: id LPAREN declaredArguments RPAREN (TEMPLATE_START templateBody TEMPLATE_END | templatePart+);
+
+templatePart: partName TEMPLATE_START templateBody TEMPLATE_END;
+
+partName: ID;
 
 id: ID (DOT ID)*;
 
@@ -21,6 +25,7 @@ line: ((COMMENT) | (piece+));
 piece: singlePartPlaceholder
     | twoPartPlaceholder
     | vocabularyPlaceholder
+    | phoneticPlaceholder
     | rawText;
 
 rawText: (~(PLACEHOLDER_START | TEMPLATE_INDENT | TEMPLATE_END))+;
@@ -31,9 +36,12 @@ twoPartPlaceholder: PLACEHOLDER_START capitalizableArgumentName GRAMMEMES_TRANSI
 
 grammaticalMeaning: grammemes
     | agreement
-    | grammemes agreement;
+    | grammemes agreement
+    | grammemes? agreement? quantity;
 
-vocabularyPlaceholder: PLACEHOLDER_START vocabularyPointer GRAMMEMES_TRANSITION grammemes? agreement PLACEHOLDER_END;
+vocabularyPlaceholder: PLACEHOLDER_START vocabularyPointer GRAMMEMES_TRANSITION grammemes? (agreement quantity? | quantity) PLACEHOLDER_END;
+
+phoneticPlaceholder: PLACEHOLDER_START PHONETIC_MARK PHONETIC_WORD NO_GRAMMEME_PLACEHOLDER_END;
 
 vocabularyPointer: keywordLexeme conceptId;
 
@@ -46,3 +54,5 @@ argumentName: ARGUMENT_NAME;
 capitalizedArgumentName: CAPITALIZED_ARGUMENT_NAME;
 
 agreement: AGREEMENT_DELIMITER argumentName;
+
+quantity: QUANTITY_DELIMITER argumentName;
@@ -44,6 +44,17 @@ public abstract class AbstractLanguage implements Language {
      */
     private final transient Class<? extends PartOfSpeech> parts;
 
+    /**
+     * Number agreement rules for this language's {@link Language#grammar()}.
+     */
+    private final transient NumberAgreement agreement;
+
+    /**
+     * Phonetic agreement rules for this language's
+     * {@link Language#grammar()}.
+     */
+    private final transient Phonetics phonetics;
+
     /**
      * Ctor.
      * @param grams Enum that contains grammemes for this language's
@@ -55,13 +66,58 @@ public abstract class AbstractLanguage implements Language {
         final Class<? extends Grammeme> grams,
         final Class<? extends PartOfSpeech> prts
 
+    ) {
+        this(grams, prts, new NaAbsent());
+    }
+
+    /**
+     * Ctor.
+     * @param grams Enum that contains grammemes for this language's
+     *  {@link Language#grammar()}.
+     * @param prts Enum that contains parts of speech for this language's
+     *  {@link Language#grammar()}.
+     * @param rules Number agreement rules for this language's
+     *  {@link Language#grammar()}.
+     */
+    protected AbstractLanguage(
+        final Class<? extends Grammeme> grams,
+        final Class<? extends PartOfSpeech> prts,
+        final NumberAgreement rules
+    ) {
+        this(grams, prts, rules, new PhAbsent());
+    }
+
+    /**
+     * Ctor.
+     * @param grams Enum that contains grammemes for this language's
+     *  {@link Language#grammar()}.
+     * @param prts Enum that contains parts of speech for this language's
+     *  {@link Language#grammar()}.
+     * @param rules Number agreement rules for this language's
+     *  {@link Language#grammar()}.
+     * @param sounds Phonetic agreement rules for this language's
+     *  {@link Language#grammar()}.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    protected AbstractLanguage(
+        final Class<? extends Grammeme> grams,
+        final Class<? extends PartOfSpeech> prts,
+        final NumberAgreement rules,
+        final Phonetics sounds
     ) {
         this.grammemes = grams;
         this.parts = prts;
+        this.agreement = rules;
+        this.phonetics = sounds;
     }
 
     @Override
     public final Grammar grammar() {
-        return new EnumBasedGrammar(this.grammemes, this.parts);
+        return new EnumBasedGrammar(
+            this.grammemes,
+            this.parts,
+            this.agreement,
+            this.phonetics
+        );
     }
 }
@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import java.util.Map;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+
+/**
+ * Vocabulary that keeps its lexemes in an array indexed by ids of a
+ * {@link ConceptRegistry}. Concepts are interned when the vocabulary is
+ * created. Lexemes of {@link InternedConcept}s of the same registry are found
+ * by a plain array index; other concepts are looked up by their identifiers
+ * in the registry first.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class ArrayVocabulary implements Vocabulary {
+    /**
+     * Registry of concepts.
+     */
+    private final transient ConceptRegistry registry;
+
+    /**
+     * Interned concepts by their ids, or null for concepts this vocabulary
+     * doesn't have.
+     */
+    private final transient InternedConcept[] concepts;
+
+    /**
+     * Lexemes by ids of their concepts.
+     */
+    private final transient Lexeme[] lexemes;
+
+    /**
+     * Ctor.
+     * @param ids Registry of concepts
+     * @param map Lexemes by their concepts
+     * @throws Exception If could not intern a concept
+     */
+    public ArrayVocabulary(
+        final ConceptRegistry ids,
+        final Map<? extends Concept, Lexeme> map
+    ) throws Exception {
+        this.registry = ids;
+        final InternedConcept[] interned = new InternedConcept[map.size()];
+        final Lexeme[] values = new Lexeme[map.size()];
+        int next = 0;
+        for (final Map.Entry<? extends Concept, Lexeme> entry
+            : map.entrySet()) {
+            interned[next] = ids.concept(entry.getKey().identifier());
+            values[next] = entry.getValue();
+            next += 1;
+        }
+        this.concepts = new InternedConcept[ids.size()];
+        this.lexemes = new Lexeme[ids.size()];
+        for (int entry = 0; entry < interned.length; ++entry) {
+            this.concepts[interned[entry].index()] = interned[entry];
+            this.lexemes[interned[entry].index()] = values[entry];
+        }
+    }
+
+    @Override
+    public Lexeme lexeme(final Concept concept) throws Exception {
+        final int index = this.index(concept);
+        Instrumentation.INSTANCE.metrics().lookup(
+            index != ConceptRegistry.ABSENT
+        );
+        if (index == ConceptRegistry.ABSENT) {
+            throw new MissingLexemeException(concept.identifier());
+        }
+        return this.lexemes[index];
+    }
+
+    @Override
+    public boolean hasLexeme(final Concept concept) throws Exception {
+        return this.index(concept) != ConceptRegistry.ABSENT;
+    }
+
+    /**
+     * Finds the id of a concept this vocabulary has a lexeme for.
+     * @param concept Concept
+     * @return Id of the concept, or {@link ConceptRegistry#ABSENT} if this
+     *  vocabulary doesn't have a lexeme for the concept
+     * @throws Exception If could not obtain the concept's identifier
+     */
+    private int index(final Concept concept) throws Exception {
+        int index = ConceptRegistry.ABSENT;
+        if (concept instanceof InternedConcept) {
+            index = InternedConcept.class.cast(concept).index();
+        }
+        if (index < 0 || index >= this.concepts.length
+            || this.concepts[index] != concept) {
+            index = this.registry.index(concept.identifier());
+        }
+        if (index >= this.lexemes.length
+            || index >= 0 && this.lexemes[index] == null) {
+            index = ConceptRegistry.ABSENT;
+        }
+        return index;
+    }
+}
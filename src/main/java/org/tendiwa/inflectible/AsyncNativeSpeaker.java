@@ -0,0 +1,57 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Knows how to speak a language without blocking the caller. Lookups in
+ * vocabularies and inflection of words happen in the background, so the
+ * caller may go on while cold vocabularies are loaded.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public interface AsyncNativeSpeaker {
+    /**
+     * Produces a text from a given template by filling out its placeholders
+     * with what we need.
+     * @param identifier Id of a template to fill out
+     * @param arguments Conceptions that have words in vocabulary for them.
+     * @return Text for humans to read, completed exceptionally if couldn't
+     *  produce it
+     */
+    CompletableFuture<String> text(String identifier, Concept... arguments);
+
+    /**
+     * Produces several texts at once.
+     * @param utterances Texts to produce
+     * @return Texts for humans to read in the order of utterances, completed
+     *  exceptionally if couldn't produce any of them
+     */
+    CompletableFuture<ImmutableList<String>> texts(
+        ImmutableList<Utterance> utterances
+    );
+}
@@ -0,0 +1,73 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.stream.Collectors;
+import org.tenidwa.collections.utils.Rethrowing;
+
+/**
+ * {@link MultipartTemplate} defined by its named parts. Each part is a
+ * {@link Template} with the same arguments.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class BasicMultipartTemplate implements MultipartTemplate {
+    /**
+     * Parts of the template in the order they are declared in.
+     */
+    private final transient ImmutableMap<String, Template> parts;
+
+    /**
+     * Ctor.
+     * @param templates Parts of the template by their names
+     */
+    public BasicMultipartTemplate(
+        final ImmutableMap<String, Template> templates
+    ) {
+        this.parts = templates;
+    }
+
+    @Override
+    public String fillUp(
+        final ImmutableList<Lexeme> arguments,
+        final Vocabulary vocabulary
+    ) throws Exception {
+        final MultipartText text = this.parts(arguments, vocabulary);
+        return text.names()
+            .stream()
+            .map(Rethrowing.rethrowFunction(text::part))
+            .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public MultipartText parts(
+        final ImmutableList<Lexeme> arguments,
+        final Vocabulary vocabulary
+    ) {
+        return new LazyMultipartText(this.parts, arguments, vocabulary);
+    }
+}
@@ -24,15 +24,19 @@
 package org.tendiwa.inflectible;
 
 import com.google.common.collect.ImmutableList;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tendiwa.inflectible.metrics.Metrics;
+import org.tenidwa.collections.utils.Collectors;
+import org.tenidwa.collections.utils.Rethrowing;
 
 /**
- * {@link NativeSpeaker} defined by a vocabulary of {@link Lexeme}s and a
+ * {@link MultipartSpeaker} defined by a vocabulary of {@link Lexeme}s and a
  * templatuary of {@link Template}s.
  * @author Georgy Vlasov (suseika@tendiwa.org)
  * @version $Id$
  * @since 0.1.0
  */
-public final class BasicNativeSpeaker implements NativeSpeaker {
+public final class BasicNativeSpeaker implements MultipartSpeaker {
     /**
      * Vocabulary of lexemes.
      */
@@ -61,10 +65,48 @@ public final class BasicNativeSpeaker implements NativeSpeaker {
         final String identifier,
         final Concept... arguments
     ) throws Exception {
-        return new FilledOutText(
+        final Metrics metrics = Instrumentation.INSTANCE.metrics();
+        final long start = metrics.clock();
+        final String text = new FilledOutText(
             this.templatuary.template(new TnBasic(identifier)),
             this.vocabulary,
             ImmutableList.copyOf(arguments)
         ).string();
+        metrics.render(
+            identifier,
+            metrics.clock() - start
+        );
+        return text;
+    }
+
+    @Override
+    public MultipartText multipartText(
+        final String identifier,
+        final Concept... arguments
+    ) throws Exception {
+        final Template template =
+            this.templatuary.template(new TnBasic(identifier));
+        if (!(template instanceof MultipartTemplate)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Template \"%s\" doesn't consist of parts",
+                    identifier
+                )
+            );
+        }
+        return new TimedMultipartText(
+            identifier,
+            MultipartTemplate.class.cast(template).parts(
+                ImmutableList.copyOf(arguments)
+                    .stream()
+                    .map(
+                        Rethrowing.rethrowFunction(
+                            concept -> concept.lexeme(this.vocabulary)
+                        )
+                    )
+                    .collect(Collectors.toImmutableList()),
+                this.vocabulary
+            )
+        );
     }
 }
@@ -25,8 +25,6 @@ package org.tendiwa.inflectible;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
-import java.util.stream.Collectors;
-import org.tenidwa.collections.utils.Rethrowing;
 
 /**
  * {@link Templatuary} defined by a map from template identifiers to templates.
@@ -36,21 +34,23 @@ import org.tenidwa.collections.utils.Rethrowing;
  */
 public final class BasicTemplatuary implements Templatuary {
     /**
-     * Map from template identifiers to templates.
+     * Map from string template names to templates.
      */
-    private final transient ImmutableMap<TemplateName, Template> templates;
+    private final transient ImmutableMap<String, Template> templates;
 
     /**
      * Ctor.
      * @param map Map from template identifiers to templates.
+     * @throws Exception If could not obtain names of the templates
      */
-    public BasicTemplatuary(final ImmutableMap<TemplateName, Template> map) {
-        this.templates = map;
+    public BasicTemplatuary(final ImmutableMap<TemplateName, Template> map)
+        throws Exception {
+        this.templates = BasicTemplatuary.stringMap(map);
     }
 
     @Override
     public Template template(final TemplateName name) throws Exception {
-        final Template template = this.templates.get(name);
+        final Template template = this.templates.get(name.string());
         if (template == null) {
             throw new MissingTemplateException(name);
         }
@@ -59,24 +59,23 @@ public final class BasicTemplatuary implements Templatuary {
 
     @Override
     public boolean hasTemplate(final TemplateName name) throws Exception {
-        return this.stringMap().containsKey(name.string());
+        return this.templates.containsKey(name.string());
     }
 
-    // To be refactored in #47
     /**
      * Cretes map from string template names to their templates.
+     * @param map Map from template identifiers to templates
      * @return Map from string template names to their templates
      * @throws Exception If could not create the map
      */
-    private Map<String, Template> stringMap() throws Exception {
-        return this.templates
-            .keySet()
-            .stream()
-            .collect(
-                Collectors.toMap(
-                    Rethrowing.rethrowFunction(TemplateName::string),
-                    this.templates::get
-                )
-            );
+    private static ImmutableMap<String, Template> stringMap(
+        final ImmutableMap<TemplateName, Template> map
+    ) throws Exception {
+        final ImmutableMap.Builder<String, Template> builder =
+            ImmutableMap.builder();
+        for (final Map.Entry<TemplateName, Template> entry : map.entrySet()) {
+            builder.put(entry.getKey().string(), entry.getValue());
+        }
+        return builder.build();
     }
 }
@@ -26,6 +26,7 @@ package org.tendiwa.inflectible;
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.tendiwa.inflectible.metrics.Instrumentation;
 import org.tenidwa.collections.utils.Rethrowing;
 
 /**
@@ -51,6 +52,7 @@ public final class BasicVocabulary implements Vocabulary {
     @Override
     public Lexeme lexeme(final Concept concept) throws Exception {
         final Lexeme lexeme = this.stringMap().get(concept.identifier());
+        Instrumentation.INSTANCE.metrics().lookup(lexeme != null);
         if (lexeme == null) {
             throw new MissingLexemeException(concept.identifier());
         }
@@ -38,4 +38,16 @@ public interface Concept {
      * @throws Exception If could not obtain an identifier of the concept
      */
     String identifier() throws Exception;
+
+    /**
+     * Lexeme that names this concept. Most concepts are looked up in a
+     * vocabulary by their identifier, but some, like numbers, know their
+     * lexeme themselves.
+     * @param vocabulary Vocabulary to look the lexeme up in
+     * @return Lexeme of this concept
+     * @throws Exception If could not obtain the lexeme
+     */
+    default Lexeme lexeme(final Vocabulary vocabulary) throws Exception {
+        return vocabulary.lexeme(new ValidatedConcept(this.identifier()));
+    }
 }
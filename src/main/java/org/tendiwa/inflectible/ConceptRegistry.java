@@ -0,0 +1,127 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry that interns concept identifiers into dense integer ids. Each
+ * identifier gets the next free id the first time it is interned, so ids of
+ * a registry go from 0 to {@link ConceptRegistry#size()} without gaps and
+ * may be used as array indices. Vocabularies that share a registry share
+ * the ids of their concepts. Identifiers are validated the same way the
+ * markup of lexemes does: uppercase letters, possibly separated by dots.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class ConceptRegistry {
+    /**
+     * Id of an identifier that isn't interned.
+     */
+    public static final int ABSENT = -1;
+
+    /**
+     * Interned concepts by their identifiers.
+     */
+    private final transient Map<String, InternedConcept> concepts;
+
+    /**
+     * Ctor.
+     */
+    public ConceptRegistry() {
+        this.concepts = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Interns a concept identifier.
+     * @param identifier Identifier of a concept
+     * @return Interned concept, the same one for the same identifier
+     * @throws Exception If the identifier is not valid
+     */
+    public InternedConcept concept(final String identifier) throws Exception {
+        InternedConcept concept = this.concepts.get(identifier);
+        if (concept == null) {
+            final String valid = ConceptRegistry.valid(identifier);
+            synchronized (this.concepts) {
+                concept = this.concepts.get(identifier);
+                if (concept == null) {
+                    concept = new CpInterned(valid, this.concepts.size());
+                    this.concepts.put(identifier, concept);
+                }
+            }
+        }
+        return concept;
+    }
+
+    /**
+     * Finds the id of a concept identifier without interning it.
+     * @param identifier Identifier of a concept
+     * @return Id of the identifier, or {@link ConceptRegistry#ABSENT} if it
+     *  isn't interned
+     */
+    public int index(final String identifier) {
+        final InternedConcept concept = this.concepts.get(identifier);
+        final int index;
+        if (concept == null) {
+            index = ConceptRegistry.ABSENT;
+        } else {
+            index = concept.index();
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of interned identifiers.
+     * @return Number of identifiers, which is also the next free id
+     */
+    public int size() {
+        return this.concepts.size();
+    }
+
+    /**
+     * Validates a concept identifier. Like in markup of lexemes, it must
+     * consist of uppercase letters and dots, and may neither start nor end
+     * with a dot, e.g. <i>FIRE.BALL</i>.
+     * @param identifier Identifier of a concept
+     * @return The same identifier
+     */
+    private static String valid(final String identifier) {
+        final int last = identifier.length() - 1;
+        for (int index = 0; index <= last; ++index) {
+            final char character = identifier.charAt(index);
+            if (!Character.isUpperCase(character)
+                && (character != '.' || index == 0 || index == last)) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "\"%s\" is not a valid lexeme identifier",
+                        identifier
+                    )
+                );
+            }
+        }
+        return identifier;
+    }
+}
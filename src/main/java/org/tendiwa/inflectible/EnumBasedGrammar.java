@@ -48,6 +48,16 @@ public final class EnumBasedGrammar implements Grammar {
      */
     private final transient Class<? extends PartOfSpeech> parts;
 
+    /**
+     * Number agreement rules.
+     */
+    private final transient NumberAgreement agreement;
+
+    /**
+     * Phonetic agreement rules.
+     */
+    private final transient Phonetics phonetic;
+
     /**
      * Ctor.
      * @param grams Enum with grammemes
@@ -56,6 +66,37 @@ public final class EnumBasedGrammar implements Grammar {
     public EnumBasedGrammar(
         final Class<? extends Grammeme> grams,
         final Class<? extends PartOfSpeech> prts
+    ) {
+        this(grams, prts, new NaAbsent());
+    }
+
+    /**
+     * Ctor.
+     * @param grams Enum with grammemes
+     * @param prts Enum with parts of speech
+     * @param rules Number agreement rules
+     */
+    public EnumBasedGrammar(
+        final Class<? extends Grammeme> grams,
+        final Class<? extends PartOfSpeech> prts,
+        final NumberAgreement rules
+    ) {
+        this(grams, prts, rules, new PhAbsent());
+    }
+
+    /**
+     * Ctor.
+     * @param grams Enum with grammemes
+     * @param prts Enum with parts of speech
+     * @param rules Number agreement rules
+     * @param sounds Phonetic agreement rules
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public EnumBasedGrammar(
+        final Class<? extends Grammeme> grams,
+        final Class<? extends PartOfSpeech> prts,
+        final NumberAgreement rules,
+        final Phonetics sounds
     ) {
         if (!grams.isEnum()) {
             throw new IllegalArgumentException(
@@ -67,6 +108,8 @@ public final class EnumBasedGrammar implements Grammar {
         }
         this.grammemes = grams;
         this.parts = prts;
+        this.agreement = rules;
+        this.phonetic = sounds;
     }
 
     @Override
@@ -82,4 +125,23 @@ public final class EnumBasedGrammar implements Grammar {
             .getMethod(EnumBasedGrammar.ENUM_NAME_METHOD, String.class)
             .invoke(null, name);
     }
+
+    @Override
+    public NumberAgreement numberAgreement() {
+        return this.agreement;
+    }
+
+    @Override
+    public Phonetics phonetics() {
+        return this.phonetic;
+    }
+
+    /**
+     * Returns lookup tables of the grammemes of this grammar and their
+     * categories, built once for each grammeme enum.
+     * @return Tables of the grammemes
+     */
+    public GrammarTables tables() {
+        return GrammarTables.of(this.grammemes);
+    }
 }
@@ -0,0 +1,67 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+/**
+ * {@link GrammaticalCategory} declared in an enum whose grammemes are
+ * declared in another enum. Queries of the category are answered by the
+ * {@link GrammarTables} of the grammeme enum, so an enum of categories only
+ * has to tell which enum its grammemes are in.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public interface EnumGrammaticalCategory extends GrammaticalCategory {
+    /**
+     * Returns the enum with grammemes of this category.
+     * @return Enum with grammemes
+     */
+    Class<? extends Grammeme> grammemes();
+
+    @Override
+    default Grammeme defaultGrammeme() {
+        return GrammarTables.of(this.grammemes()).defaultGrammeme(this);
+    }
+
+    @Override
+    default boolean containsGrammeme(final Grammeme grammeme) {
+        return GrammarTables.of(this.grammemes()).contains(this, grammeme);
+    }
+
+    /**
+     * Finds the grammeme of this grammatical category from meaning. By
+     * default it is the default grammeme of this category if the meaning
+     * has no grammeme of this category.
+     * @param meaning GrammaticalMeaning to search in
+     * @return Grammeme in this grammatical category
+     * @throws Exception If could not obtain grammemes of the meaning
+     */
+    @Override
+    default Grammeme getGrammeme(final GrammaticalMeaning meaning)
+        throws Exception {
+        return GrammarTables.of(this.grammemes())
+            .grammeme(this, meaning)
+            .orElse(this.defaultGrammeme());
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.tenidwa.collections.utils.Collectors;
+
+/**
+ * {@link AsyncNativeSpeaker} that produces texts with a synchronous
+ * {@link NativeSpeaker} on an {@link Executor} supplied by the caller. Any
+ * executor will do: a thread pool, a fork-join pool or an executor that starts
+ * a new virtual thread per task.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class ExecutingNativeSpeaker implements AsyncNativeSpeaker {
+    /**
+     * Synchronous speaker.
+     */
+    private final transient NativeSpeaker speaker;
+
+    /**
+     * Executor to produce texts on.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Ctor.
+     * @param synchronous Synchronous speaker
+     * @param tasks Executor to produce texts on
+     */
+    public ExecutingNativeSpeaker(
+        final NativeSpeaker synchronous,
+        final Executor tasks
+    ) {
+        this.speaker = synchronous;
+        this.executor = tasks;
+    }
+
+    @Override
+    public CompletableFuture<String> text(
+        final String identifier,
+        final Concept... arguments
+    ) {
+        return this.said(new Utterance(identifier, arguments));
+    }
+
+    @Override
+    public CompletableFuture<ImmutableList<String>> texts(
+        final ImmutableList<Utterance> utterances
+    ) {
+        final List<CompletableFuture<String>> texts = utterances.stream()
+            .map(this::said)
+            .collect(Collectors.toImmutableList());
+        return CompletableFuture
+            .allOf(texts.toArray(new CompletableFuture<?>[texts.size()]))
+            .thenApply(
+                done -> texts.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toImmutableList())
+            );
+    }
+
+    /**
+     * Says an utterance on the executor. The text is completed exceptionally
+     * if the speaker fails in any way, or if the executor rejects the task.
+     * @param utterance Utterance
+     * @return Text for humans to read
+     * @checkstyle IllegalCatchCheck (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private CompletableFuture<String> said(final Utterance utterance) {
+        final CompletableFuture<String> text = new CompletableFuture<>();
+        try {
+            this.executor.execute(
+                () -> {
+                    try {
+                        text.complete(utterance.said(this.speaker));
+                    } catch (final Throwable ex) {
+                        text.completeExceptionally(ex);
+                    }
+                }
+            );
+        } catch (final RejectedExecutionException ex) {
+            text.completeExceptionally(ex);
+        }
+        return text;
+    }
+}
@@ -23,6 +23,8 @@
  */
 package org.tendiwa.inflectible;
 
+import org.tendiwa.inflectible.metrics.Instrumentation;
+
 /**
  * {@link Vocabulary} that will not throw an exception if it doesn't have a
  * particular lexeme. Instead, it will return a lexeme whose spelling is a
@@ -58,6 +60,7 @@ public final class FailSafeVocabulary implements Vocabulary {
         if (this.wrapped.hasLexeme(concept)) {
             answer = this.wrapped.lexeme(concept);
         } else {
+            Instrumentation.INSTANCE.metrics().fallback();
             answer = new MissingLexeme(concept, this.language);
         }
         return answer;
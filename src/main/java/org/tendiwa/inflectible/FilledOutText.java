@@ -72,13 +72,7 @@ public final class FilledOutText implements Text {
                 .stream()
                 .map(
                     Rethrowing.rethrowFunction(
-                        concept
-                            -> this.vocabulary
-                            .lexeme(
-                                new ValidatedConcept(
-                                    concept.identifier()
-                                )
-                            )
+                        concept -> concept.lexeme(this.vocabulary)
                     )
                 )
                 .collect(Collectors.toImmutableList()),
@@ -0,0 +1,82 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+/**
+ * {@link GrammarRule} that makes a word agree with a number from an argument.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class GrQuantity implements GrammarRule {
+    /**
+     * Name of the argument with a number.
+     */
+    private final transient ArgumentName name;
+
+    /**
+     * Number agreement rules of the language.
+     */
+    private final transient NumberAgreement agreement;
+
+    /**
+     * Rule for the grammatical meaning of the whole phrase.
+     */
+    private final transient GrammarRule phrase;
+
+    /**
+     * Ctor.
+     * @param argument Name of the argument with a number
+     * @param rules Number agreement rules of the language
+     * @param meaning Rule for the grammatical meaning of the whole phrase
+     */
+    public GrQuantity(
+        final ArgumentName argument,
+        final NumberAgreement rules,
+        final GrammarRule meaning
+    ) {
+        this.name = argument;
+        this.agreement = rules;
+        this.phrase = meaning;
+    }
+
+    @Override
+    public GrammaticalMeaning grammaticalMeaning(
+        final ActualArguments arguments
+    ) throws Exception {
+        final Lexeme lexeme = arguments.byName(this.name);
+        if (!(lexeme instanceof Numeral)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Argument \"%s\" is not a number",
+                    this.name.string()
+                )
+            );
+        }
+        return this.agreement.meaning(
+            ((Numeral) lexeme).value(),
+            this.phrase.grammaticalMeaning(arguments)
+        );
+    }
+}
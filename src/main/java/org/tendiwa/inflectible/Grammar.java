@@ -24,7 +24,8 @@
 package org.tendiwa.inflectible;
 
 /**
- * Grammar of a natural language. Knows grammemes by their name.
+ * Grammar of a natural language. Knows grammemes by their name and how
+ * words agree with numbers and with each other's sounds.
  * @author Georgy Vlasov (suseika@tendiwa.org)
  * @version $Id$
  * @since 0.1.0
@@ -45,4 +46,22 @@ public interface Grammar {
      * @throws Exception If could not get part of speech with such name
      */
     PartOfSpeech partOfSpeechByName(String text) throws Exception;
+
+    /**
+     * Returns the rules of agreement of counted words with numbers. By
+     * default counted words don't agree with numbers.
+     * @return Number agreement rules
+     */
+    default NumberAgreement numberAgreement() {
+        return new NaAbsent();
+    }
+
+    /**
+     * Returns the rules of phonetic agreement. By default words don't agree
+     * with each other's sounds.
+     * @return Phonetics
+     */
+    default Phonetics phonetics() {
+        return new PhAbsent();
+    }
 }
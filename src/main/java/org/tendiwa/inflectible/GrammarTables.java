@@ -0,0 +1,359 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Optional;
+
+/**
+ * Lookup tables of a grammar whose grammemes and grammatical categories are
+ * both enums. The tables are computed once and are indexed by ordinals, so
+ * finding the grammemes of a category, the category of a grammeme or the
+ * grammeme of a category in a meaning doesn't need to scan all the grammemes.
+ * <p/>
+ * Tables are built once for each grammeme enum by
+ * {@link GrammarTables#of(Class)} and shared by everything that needs them:
+ * {@link EnumBasedGrammar#tables()} of languages built on
+ * {@link AbstractLanguage}, category enums implementing
+ * {@link EnumGrammaticalCategory} and lexemes of the languages.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class GrammarTables {
+    /**
+     * Tables by grammeme enums.
+     */
+    private static final ClassValue<GrammarTables> BUILT =
+        new ClassValue<GrammarTables>() {
+            @Override
+            protected GrammarTables computeValue(final Class<?> type) {
+                final Class<? extends Grammeme> grams =
+                    type.asSubclass(Grammeme.class);
+                return new GrammarTables(
+                    grams,
+                    GrammarTables.categories(grams)
+                );
+            }
+        };
+
+    /**
+     * Grammemes in order of their ordinals.
+     */
+    private final transient Grammeme[] grammemes;
+
+    /**
+     * Grammatical categories in order of their ordinals.
+     */
+    private final transient GrammaticalCategory[] categories;
+
+    /**
+     * Ordinals of categories of grammemes, by ordinals of grammemes.
+     */
+    private final transient int[] owners;
+
+    /**
+     * Positions of grammemes within their categories, by ordinals of
+     * grammemes.
+     */
+    private final transient int[] positions;
+
+    /**
+     * Grammemes of each category in declaration order, by ordinals of
+     * categories.
+     */
+    private final transient ImmutableList<ImmutableList<Grammeme>> members;
+
+    /**
+     * Ctor.
+     * @param grams Enum with grammemes
+     * @param cats Enum with grammatical categories of the grammemes
+     */
+    public GrammarTables(
+        final Class<? extends Grammeme> grams,
+        final Class<? extends GrammaticalCategory> cats
+    ) {
+        GrammarTables.requireEnum(grams, "Grammemes");
+        GrammarTables.requireEnum(cats, "Grammatical categories");
+        this.grammemes = grams.getEnumConstants();
+        this.categories = cats.getEnumConstants();
+        this.owners = new int[this.grammemes.length];
+        this.positions = new int[this.grammemes.length];
+        final int[] counts = new int[this.categories.length];
+        for (int ordinal = 0; ordinal < this.grammemes.length; ++ordinal) {
+            final int owner =
+                this.categoryOrdinal(this.grammemes[ordinal].category());
+            this.owners[ordinal] = owner;
+            this.positions[ordinal] = counts[owner];
+            counts[owner] += 1;
+        }
+        final ImmutableList.Builder<ImmutableList<Grammeme>> builder =
+            ImmutableList.builder();
+        for (int owner = 0; owner < this.categories.length; ++owner) {
+            final ImmutableList.Builder<Grammeme> category =
+                ImmutableList.builder();
+            for (int ordinal = 0; ordinal < this.grammemes.length; ++ordinal) {
+                if (this.owners[ordinal] == owner) {
+                    category.add(this.grammemes[ordinal]);
+                }
+            }
+            builder.add(category.build());
+        }
+        this.members = builder.build();
+    }
+
+    /**
+     * Returns the tables of a grammeme enum, building them the first time
+     * they are asked for. The enum of grammatical categories is the one
+     * that the grammemes' categories are declared in.
+     * @param grams Enum with grammemes
+     * @return Tables of the grammemes and their categories
+     */
+    public static GrammarTables of(final Class<? extends Grammeme> grams) {
+        return GrammarTables.BUILT.get(grams);
+    }
+
+    /**
+     * Returns grammemes of a grammatical category in declaration order.
+     * @param category Grammatical category
+     * @return Grammemes of the category
+     */
+    public ImmutableList<Grammeme> grammemes(
+        final GrammaticalCategory category
+    ) {
+        return this.members.get(this.categoryOrdinal(category));
+    }
+
+    /**
+     * Returns the default grammeme of a grammatical category, which is the
+     * first one declared.
+     * @param category Grammatical category
+     * @return Default grammeme of the category
+     */
+    public Grammeme defaultGrammeme(final GrammaticalCategory category) {
+        final ImmutableList<Grammeme> grams = this.grammemes(category);
+        if (grams.isEmpty()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Grammatical category %s has no grammemes",
+                    category
+                )
+            );
+        }
+        return grams.get(0);
+    }
+
+    /**
+     * Checks if a grammatical category contains a grammeme.
+     * @param category Grammatical category
+     * @param grammeme Grammeme
+     * @return True iff the grammeme belongs to this grammar and to the
+     *  category
+     */
+    public boolean contains(
+        final GrammaticalCategory category,
+        final Grammeme grammeme
+    ) {
+        return this.belongs(grammeme)
+            && this.owners[((Enum<?>) grammeme).ordinal()]
+            == this.categoryOrdinal(category);
+    }
+
+    /**
+     * Returns the position of a grammeme among the grammemes of its
+     * category.
+     * @param grammeme Grammeme
+     * @return Index of the grammeme within its category
+     */
+    public int index(final Grammeme grammeme) {
+        if (!this.belongs(grammeme)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Grammeme %s doesn't belong to this grammar",
+                    grammeme
+                )
+            );
+        }
+        return this.positions[((Enum<?>) grammeme).ordinal()];
+    }
+
+    /**
+     * Finds the grammeme of a grammatical category in a meaning.
+     * @param category Grammatical category
+     * @param meaning Grammatical meaning
+     * @return Grammeme of the category, or empty if the meaning has no
+     *  grammeme of that category
+     * @throws Exception If could not obtain grammemes of the meaning
+     */
+    public Optional<Grammeme> grammeme(
+        final GrammaticalCategory category,
+        final GrammaticalMeaning meaning
+    ) throws Exception {
+        final int owner = this.categoryOrdinal(category);
+        Optional<Grammeme> answer = Optional.empty();
+        for (final Grammeme grammeme : meaning.grammemes()) {
+            if (this.belongs(grammeme)
+                && this.owners[((Enum<?>) grammeme).ordinal()] == owner) {
+                answer = Optional.of(grammeme);
+                break;
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Finds the position of the grammeme of a grammatical category in a
+     * meaning among the grammemes of that category.
+     * @param category Grammatical category
+     * @param meaning Grammatical meaning
+     * @return Index of the grammeme within its category, or -1 if the
+     *  meaning has no grammeme of that category
+     * @throws Exception If could not obtain grammemes of the meaning
+     */
+    public int index(
+        final GrammaticalCategory category,
+        final GrammaticalMeaning meaning
+    ) throws Exception {
+        final Optional<Grammeme> grammeme = this.grammeme(category, meaning);
+        final int answer;
+        if (grammeme.isPresent()) {
+            answer = this.index(grammeme.get());
+        } else {
+            answer = -1;
+        }
+        return answer;
+    }
+
+    /**
+     * Finds the position of the grammeme of a grammatical category in a word
+     * form of a lexeme. A persistent grammeme of the lexeme takes precedence
+     * over the one of the form.
+     * @param persistent Index of the persistent grammeme of the category,
+     *  or -1 if the lexeme has none
+     * @param category Grammatical category
+     * @param meaning Grammatical meaning of the form
+     * @return Index of the grammeme within its category, or 0 for the
+     *  default grammeme if neither the lexeme nor the form have one
+     * @throws Exception If could not obtain grammemes of the meaning
+     */
+    public int index(
+        final int persistent,
+        final GrammaticalCategory category,
+        final GrammaticalMeaning meaning
+    ) throws Exception {
+        final int answer;
+        if (persistent < 0) {
+            answer = Math.max(this.index(category, meaning), 0);
+        } else {
+            answer = persistent;
+        }
+        return answer;
+    }
+
+    /**
+     * Checks if a grammeme is one of the grammemes of this grammar.
+     * @param grammeme Grammeme
+     * @return True iff the grammeme belongs to this grammar
+     */
+    private boolean belongs(final Grammeme grammeme) {
+        final boolean answer;
+        if (grammeme instanceof Enum) {
+            final int ordinal = ((Enum<?>) grammeme).ordinal();
+            answer = ordinal < this.grammemes.length
+                && this.grammemes[ordinal] == grammeme;
+        } else {
+            answer = false;
+        }
+        return answer;
+    }
+
+    /**
+     * Finds the ordinal of a grammatical category in the category enum.
+     * @param category Grammatical category
+     * @return Ordinal of the category
+     */
+    private int categoryOrdinal(final GrammaticalCategory category) {
+        if (!(category instanceof Enum)
+            || ((Enum<?>) category).ordinal() >= this.categories.length
+            || this.categories[((Enum<?>) category).ordinal()] != category) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Grammatical category %s doesn't belong to this grammar",
+                    category
+                )
+            );
+        }
+        return ((Enum<?>) category).ordinal();
+    }
+
+    /**
+     * Finds the enum that grammatical categories of grammemes are declared
+     * in.
+     * @param grams Enum with grammemes
+     * @return Enum with grammatical categories
+     */
+    private static Class<? extends GrammaticalCategory> categories(
+        final Class<? extends Grammeme> grams
+    ) {
+        GrammarTables.requireEnum(grams, "Grammemes");
+        final Grammeme[] constants = grams.getEnumConstants();
+        if (constants.length == 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "%s: Grammemes enum has no grammemes",
+                    grams.getCanonicalName()
+                )
+            );
+        }
+        final GrammaticalCategory category = constants[0].category();
+        if (!(category instanceof Enum)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "%s: Grammatical categories of grammemes must be enums",
+                    grams.getCanonicalName()
+                )
+            );
+        }
+        return ((Enum<?>) category)
+            .getDeclaringClass()
+            .asSubclass(GrammaticalCategory.class);
+    }
+
+    /**
+     * Checks that a class is an enum.
+     * @param type Class
+     * @param what What the class should contain
+     */
+    private static void requireEnum(final Class<?> type, final String what) {
+        if (!type.isEnum()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "%s: %s class must be an enum",
+                    type.getCanonicalName(),
+                    what
+                )
+            );
+        }
+    }
+}
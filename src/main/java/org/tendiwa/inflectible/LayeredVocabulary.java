@@ -0,0 +1,124 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tenidwa.collections.utils.Rethrowing;
+
+/**
+ * Vocabulary that consists of several layers, each one overriding lexemes of
+ * the layers below it. Layers skip the concepts they don't have without
+ * probing their vocabularies, and the lexeme found for a concept is
+ * remembered, so a lookup through many layers costs about the same as a
+ * lookup in one vocabulary. Concepts that no layer has are not remembered,
+ * so looking up arbitrary identifiers doesn't grow the vocabulary.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class LayeredVocabulary implements Vocabulary {
+    /**
+     * Layers from the topmost one to the bottommost one.
+     */
+    private final transient ImmutableList<VocabularyLayer> layers;
+
+    /**
+     * Lexemes of the concepts that were already found.
+     */
+    private final transient Map<String, Lexeme> resolved;
+
+    /**
+     * Ctor.
+     * @param stack Layers from the topmost one to the bottommost one
+     */
+    public LayeredVocabulary(final ImmutableList<VocabularyLayer> stack) {
+        this.layers = stack;
+        this.resolved = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public Lexeme lexeme(final Concept concept) throws Exception {
+        final Optional<Lexeme> lexeme = this.resolution(concept);
+        Instrumentation.INSTANCE.metrics().lookup(lexeme.isPresent());
+        if (!lexeme.isPresent()) {
+            throw new MissingLexemeException(concept.identifier());
+        }
+        return lexeme.get();
+    }
+
+    @Override
+    public boolean hasLexeme(final Concept concept) throws Exception {
+        return this.resolution(concept).isPresent();
+    }
+
+    /**
+     * Obtains a lexeme for a concept from the topmost layer that has it.
+     * @param concept Concept
+     * @return Lexeme, or nothing if no layer has a lexeme for the concept
+     * @throws Exception If couldn't search for a lexeme
+     */
+    private Optional<Lexeme> resolution(final Concept concept)
+        throws Exception {
+        final String identifier = concept.identifier();
+        Lexeme lexeme = this.resolved.get(identifier);
+        Instrumentation.INSTANCE.metrics().cache(
+            LayeredVocabulary.class.getSimpleName(),
+            lexeme != null
+        );
+        if (lexeme == null) {
+            lexeme = this.resolved.computeIfAbsent(
+                identifier,
+                Rethrowing.rethrowFunction(
+                    key -> this.search(key, concept).orElse(null)
+                )
+            );
+        }
+        return Optional.ofNullable(lexeme);
+    }
+
+    /**
+     * Searches the layers for a lexeme from top to bottom.
+     * @param identifier Identifier of a concept
+     * @param concept Concept
+     * @return Lexeme, or nothing if no layer has a lexeme for the concept
+     * @throws Exception If couldn't search for a lexeme
+     */
+    private Optional<Lexeme> search(
+        final String identifier,
+        final Concept concept
+    ) throws Exception {
+        Optional<Lexeme> lexeme = Optional.empty();
+        for (final VocabularyLayer layer : this.layers) {
+            lexeme = layer.lexeme(identifier, concept);
+            if (lexeme.isPresent()) {
+                break;
+            }
+        }
+        return lexeme;
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import org.tenidwa.collections.utils.Rethrowing;
+
+/**
+ * {@link MultipartText} that renders each of its parts only when it is asked
+ * for, and only once, even if it is asked for by several threads at once.
+ * All the parts share the same already resolved arguments.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class LazyMultipartText implements MultipartText {
+    /**
+     * Parts, each rendered on first use.
+     */
+    private final transient ImmutableMap<String, Supplier<String>> parts;
+
+    /**
+     * Ctor.
+     * @param templates Templates of the parts by their names
+     * @param lexemes Arguments to fill out the parts with
+     * @param vocabulary Vocabulary of the language of the text
+     */
+    LazyMultipartText(
+        final ImmutableMap<String, Template> templates,
+        final ImmutableList<Lexeme> lexemes,
+        final Vocabulary vocabulary
+    ) {
+        this.parts = ImmutableMap.copyOf(
+            Maps.transformValues(
+                templates,
+                template -> Suppliers.memoize(
+                    Rethrowing.rethrowSupplier(
+                        () -> template.fillUp(lexemes, vocabulary)
+                    )::get
+                )
+            )
+        );
+    }
+
+    @Override
+    public ImmutableList<String> names() {
+        return this.parts.keySet().asList();
+    }
+
+    @Override
+    public String part(final String name) throws Exception {
+        if (!this.parts.containsKey(name)) {
+            throw new IllegalArgumentException(
+                String.format("There is no part \"%s\" in the text", name)
+            );
+        }
+        return this.parts.get(name).get();
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+
+/**
+ * Vocabulary of a tenant that adds or overrides a few lexemes on top of a
+ * base vocabulary shared with other tenants. The base is referenced, never
+ * copied, so an overlay takes memory only for its own lexemes. Overlays are
+ * immutable: adding lexemes to an overlay creates a new overlay in time
+ * proportional to the number of the tenant's own lexemes.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class OverlayVocabulary implements Vocabulary {
+    /**
+     * Shared base vocabulary.
+     */
+    private final transient Vocabulary base;
+
+    /**
+     * Lexemes of the tenant by concept identifiers.
+     */
+    private final transient ImmutableMap<String, Lexeme> delta;
+
+    /**
+     * Ctor.
+     * @param shared Shared base vocabulary
+     */
+    public OverlayVocabulary(final Vocabulary shared) {
+        this(shared, ImmutableMap.of());
+    }
+
+    /**
+     * Ctor.
+     * @param shared Shared base vocabulary
+     * @param own Lexemes of the tenant by concept identifiers
+     */
+    public OverlayVocabulary(
+        final Vocabulary shared,
+        final ImmutableMap<String, Lexeme> own
+    ) {
+        this.base = shared;
+        this.delta = own;
+    }
+
+    @Override
+    public Lexeme lexeme(final Concept concept) throws Exception {
+        final Lexeme own = this.delta.get(concept.identifier());
+        final Lexeme lexeme;
+        if (own == null) {
+            lexeme = this.base.lexeme(concept);
+        } else {
+            Instrumentation.INSTANCE.metrics().lookup(true);
+            lexeme = own;
+        }
+        return lexeme;
+    }
+
+    @Override
+    public boolean hasLexeme(final Concept concept) throws Exception {
+        return this.delta.containsKey(concept.identifier())
+            || this.base.hasLexeme(concept);
+    }
+
+    /**
+     * Creates an overlay with more lexemes of the tenant. Lexemes with the
+     * same concepts as the tenant already has replace the old ones.
+     * @param lexemes Lexemes by concept identifiers
+     * @return New overlay over the same base vocabulary
+     */
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    public OverlayVocabulary with(final Map<String, Lexeme> lexemes) {
+        final Map<String, Lexeme> merged = new HashMap<>(this.delta);
+        merged.putAll(lexemes);
+        return new OverlayVocabulary(this.base, ImmutableMap.copyOf(merged));
+    }
+
+    /**
+     * Returns the number of the tenant's own lexemes. This is all the memory
+     * an overlay takes apart from the shared base.
+     * @return Number of lexemes added or overridden by the tenant
+     */
+    public int size() {
+        return this.delta.size();
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * {@link Phonetics} defined by two tables. The first one maps beginnings of
+ * words to phonetic classes; the longest matching beginning wins. The second
+ * one maps a basic variant of a word and a phonetic class of the next word
+ * to another variant. Lookups ignore case, and the variant keeps the
+ * capitalization of the basic variant.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class PhTabular implements Phonetics {
+    /**
+     * Phonetic classes by lowercase beginnings of words.
+     */
+    private final transient ImmutableMap<String, PhoneticClass> beginnings;
+
+    /**
+     * Phonetic class of words with no matching beginning.
+     */
+    private final transient PhoneticClass fallback;
+
+    /**
+     * Variants of words by their lowercase basic variants and phonetic
+     * classes of the next word.
+     */
+    private final transient
+        ImmutableTable<String, PhoneticClass, String> variants;
+
+    /**
+     * Length of the longest beginning.
+     */
+    private final transient int longest;
+
+    /**
+     * Ctor.
+     * @param prefixes Phonetic classes by lowercase beginnings of words
+     * @param otherwise Phonetic class of words with no matching beginning
+     * @param alternations Variants of words by their lowercase basic variants
+     *  and phonetic classes of the next word
+     */
+    public PhTabular(
+        final ImmutableMap<String, PhoneticClass> prefixes,
+        final PhoneticClass otherwise,
+        final ImmutableTable<String, PhoneticClass, String> alternations
+    ) {
+        this.beginnings = prefixes;
+        this.fallback = otherwise;
+        this.variants = alternations;
+        this.longest = prefixes.keySet()
+            .stream()
+            .mapToInt(String::length)
+            .max()
+            .orElse(0);
+    }
+
+    @Override
+    public Optional<PhoneticClass> phoneticClass(final String spelling) {
+        final String beginning = spelling
+            .substring(0, Math.min(spelling.length(), this.longest))
+            .toLowerCase(Locale.ROOT);
+        PhoneticClass answer = this.fallback;
+        for (int length = beginning.length(); length > 0; --length) {
+            final PhoneticClass matching =
+                this.beginnings.get(beginning.substring(0, length));
+            if (matching != null) {
+                answer = matching;
+                break;
+            }
+        }
+        return Optional.of(answer);
+    }
+
+    @Override
+    public String variant(
+        final String word,
+        final Optional<PhoneticClass> following
+    ) {
+        String answer = word;
+        if (following.isPresent()) {
+            final String variant = this.variants.get(
+                word.toLowerCase(Locale.ROOT),
+                following.get()
+            );
+            if (variant != null) {
+                answer = variant;
+                if (Character.isUpperCase(word.charAt(0))) {
+                    answer = new SpCapitalized(new SpBasic(variant)).string();
+                }
+            }
+        }
+        return answer;
+    }
+}
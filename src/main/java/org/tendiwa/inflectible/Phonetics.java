@@ -0,0 +1,51 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import java.util.Optional;
+
+/**
+ * Rules of phonetic agreement of a language: words like English "a"/"an" or
+ * Russian "о"/"об" that change depending on how the next word sounds.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public interface Phonetics {
+    /**
+     * Finds the phonetic class of a spelling.
+     * @param spelling Spelling of a word
+     * @return Phonetic class, or nothing if the language doesn't distinguish
+     *  phonetic classes
+     */
+    Optional<PhoneticClass> phoneticClass(String spelling);
+
+    /**
+     * Chooses a variant of a word that agrees with the next word.
+     * @param word Basic variant of the word, like "a" or "о"
+     * @param following Phonetic class of the next word
+     * @return Variant of the word
+     */
+    String variant(String word, Optional<PhoneticClass> following);
+}
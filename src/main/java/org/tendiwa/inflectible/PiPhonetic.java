@@ -0,0 +1,114 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Optional;
+
+/**
+ * Template body piece with a word that agrees phonetically with the pieces
+ * following it, like English "a"/"an". The word agrees with the last of the
+ * following pieces, and the other following pieces (usually whitespace) are
+ * put between them.
+ * <p>If the spelling of the last piece knows its phonetic class, the class
+ * is not computed again; otherwise the spelling is analyzed, which is the
+ * case for plain text.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class PiPhonetic implements TemplateBodyPiece {
+    /**
+     * Basic variant of the word.
+     */
+    private final transient String word;
+
+    /**
+     * Phonetics of the language.
+     */
+    private final transient Phonetics phonetics;
+
+    /**
+     * Pieces following the word.
+     */
+    private final transient ImmutableList<TemplateBodyPiece> following;
+
+    /**
+     * Ctor.
+     * @param basic Basic variant of the word
+     * @param rules Phonetics of the language
+     * @param pieces Pieces following the word
+     */
+    public PiPhonetic(
+        final String basic,
+        final Phonetics rules,
+        final ImmutableList<TemplateBodyPiece> pieces
+    ) {
+        this.word = basic;
+        this.phonetics = rules;
+        this.following = pieces;
+    }
+
+    @Override
+    public String fillUp(
+        final ActualArguments arguments,
+        final Vocabulary vocabulary
+    ) throws Exception {
+        final String answer;
+        if (this.following.isEmpty()) {
+            answer = this.word;
+        } else {
+            final StringBuilder gap = new StringBuilder();
+            for (final TemplateBodyPiece piece
+                : this.following.subList(0, this.following.size() - 1)) {
+                gap.append(piece.fillUp(arguments, vocabulary));
+            }
+            final Spelling next = this.following
+                .get(this.following.size() - 1)
+                .spelling(arguments, vocabulary);
+            answer = new StringBuilder(
+                this.phonetics.variant(this.word, this.classOf(next))
+            )
+                .append(gap)
+                .append(next.string())
+                .toString();
+        }
+        return answer;
+    }
+
+    /**
+     * Finds the phonetic class of a spelling.
+     * @param spelling Spelling
+     * @return Stored phonetic class, or the one computed from the spelling
+     */
+    private Optional<PhoneticClass> classOf(
+        final Spelling spelling
+    ) {
+        Optional<PhoneticClass> answer = spelling.phoneticClass();
+        if (!answer.isPresent()) {
+            answer = this.phonetics.phoneticClass(spelling.string().trim());
+        }
+        return answer;
+    }
+}
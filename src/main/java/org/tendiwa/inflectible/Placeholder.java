@@ -68,6 +68,14 @@ public final class Placeholder implements TemplateBodyPiece {
     public String fillUp(
         final ActualArguments arguments,
         final Vocabulary vocabulary
+    ) throws Exception {
+        return this.spelling(arguments, vocabulary).string();
+    }
+
+    @Override
+    public Spelling spelling(
+        final ActualArguments arguments,
+        final Vocabulary vocabulary
     ) throws Exception {
         return
             this.spelling
@@ -75,7 +83,6 @@ public final class Placeholder implements TemplateBodyPiece {
                     this.lexical
                         .pickLexeme(arguments, vocabulary)
                         .wordForm(this.grammar.grammaticalMeaning(arguments))
-                )
-                .string();
+                );
     }
 }
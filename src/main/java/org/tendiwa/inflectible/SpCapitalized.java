@@ -23,6 +23,8 @@
  */
 package org.tendiwa.inflectible;
 
+import java.util.Optional;
+
 /**
  * Spelling with its first letter capitalized.
  * @author Georgy Vlasov (suseika@tendiwa.org)
@@ -51,4 +53,9 @@ public final class SpCapitalized implements Spelling {
             this.decorated.string().substring(1)
         );
     }
+
+    @Override
+    public Optional<PhoneticClass> phoneticClass() {
+        return this.decorated.phoneticClass();
+    }
 }
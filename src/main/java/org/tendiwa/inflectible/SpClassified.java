@@ -0,0 +1,68 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import java.util.Optional;
+
+/**
+ * Spelling stored along with its phonetic class, so the class is not
+ * computed again each time the spelling is used.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class SpClassified implements Spelling {
+    /**
+     * Decorated spelling.
+     */
+    private final transient Spelling decorated;
+
+    /**
+     * Phonetic class of the spelling.
+     */
+    private final transient Optional<PhoneticClass> klass;
+
+    /**
+     * Ctor.
+     * @param wrapped Decorated spelling
+     * @param phonetic Phonetic class of the spelling
+     */
+    public SpClassified(
+        final Spelling wrapped,
+        final Optional<PhoneticClass> phonetic
+    ) {
+        this.decorated = wrapped;
+        this.klass = phonetic;
+    }
+
+    @Override
+    public String string() {
+        return this.decorated.string();
+    }
+
+    @Override
+    public Optional<PhoneticClass> phoneticClass() {
+        return this.klass;
+    }
+}
@@ -23,6 +23,8 @@
  */
 package org.tendiwa.inflectible;
 
+import java.util.Optional;
+
 /**
  * How a particular word is written.
  * @author Georgy Vlasov (suseika@tendiwa.org)
@@ -56,4 +58,13 @@ public interface Spelling {
             this.string().length() - 1
         );
     }
+
+    /**
+     * Returns the phonetic class of the spelling, if it is known without
+     * analyzing the spelling.
+     * @return Phonetic class or nothing
+     */
+    default Optional<PhoneticClass> phoneticClass() {
+        return Optional.empty();
+    }
 }
@@ -45,4 +45,19 @@ public interface TemplateBodyPiece {
         ActualArguments arguments,
         Vocabulary vocabulary
     ) throws Exception;
+
+    /**
+     * Retrieves the spelling of this text part. Unlike the string value, the
+     * spelling may carry the phonetic class of the text.
+     * @param arguments Argument values passed to the Template.
+     * @param vocabulary Vocabulary
+     * @return Spelling of this part
+     * @throws Exception If couldn't produce any text
+     */
+    default Spelling spelling(
+        final ActualArguments arguments,
+        final Vocabulary vocabulary
+    ) throws Exception {
+        return new SpBasic(this.fillUp(arguments, vocabulary));
+    }
 }
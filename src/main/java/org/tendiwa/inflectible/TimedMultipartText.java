@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tendiwa.inflectible.metrics.Metrics;
+
+/**
+ * {@link MultipartText} that reports each request of a part as a render of
+ * its template to {@link Instrumentation}. Parts are reported by the
+ * identifier of the template and the name of the part, e.g.
+ * <i>quest#title</i>.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class TimedMultipartText implements MultipartText {
+    /**
+     * Identifier of the template of the text.
+     */
+    private final transient String identifier;
+
+    /**
+     * Text with the parts.
+     */
+    private final transient MultipartText text;
+
+    /**
+     * Ctor.
+     * @param template Identifier of the template of the text
+     * @param parts Text with the parts
+     */
+    TimedMultipartText(final String template, final MultipartText parts) {
+        this.identifier = template;
+        this.text = parts;
+    }
+
+    @Override
+    public ImmutableList<String> names() {
+        return this.text.names();
+    }
+
+    @Override
+    public String part(final String name) throws Exception {
+        final Metrics metrics = Instrumentation.INSTANCE.metrics();
+        final long start = metrics.clock();
+        final String part = this.text.part(name);
+        metrics.render(
+            String.format("%s#%s", this.identifier, name),
+            metrics.clock() - start
+        );
+        return part;
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A text that is yet to be said: identifier of a template along with the
+ * arguments to fill it out with.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class Utterance {
+    /**
+     * Id of a template.
+     */
+    private final transient String identifier;
+
+    /**
+     * Arguments to fill out the template with.
+     */
+    private final transient ImmutableList<Concept> arguments;
+
+    /**
+     * Ctor.
+     * @param template Id of a template
+     * @param concepts Arguments to fill out the template with
+     */
+    public Utterance(final String template, final Concept... concepts) {
+        this.identifier = template;
+        this.arguments = ImmutableList.copyOf(concepts);
+    }
+
+    /**
+     * Says this utterance.
+     * @param speaker Speaker of a language
+     * @return Text for humans to read
+     * @throws Exception If couldn't produce a text
+     */
+    public String said(final NativeSpeaker speaker) throws Exception {
+        return speaker.text(
+            this.identifier,
+            this.arguments.toArray(new Concept[this.arguments.size()])
+        );
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * One of the layers of a {@link LayeredVocabulary}. A layer knows the
+ * identifiers of its concepts in advance and keeps them in a Bloom filter, so
+ * most of the concepts that the layer doesn't have are rejected without
+ * asking the vocabulary.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class VocabularyLayer {
+    /**
+     * Probability of a false positive answer of the Bloom filter.
+     */
+    private static final double FALSE_POSITIVES = 0.01;
+
+    /**
+     * Vocabulary of the layer.
+     */
+    private final transient Vocabulary vocabulary;
+
+    /**
+     * Identifiers of the concepts of the layer.
+     */
+    private final transient BloomFilter<CharSequence> sketch;
+
+    /**
+     * Ctor.
+     * @param lexemes Vocabulary of the layer
+     * @param concepts Identifiers of all the concepts the vocabulary has
+     *  lexemes for
+     */
+    public VocabularyLayer(
+        final Vocabulary lexemes,
+        final Collection<String> concepts
+    ) {
+        this.vocabulary = lexemes;
+        this.sketch = BloomFilter.create(
+            Funnels.unencodedCharsFunnel(),
+            Math.max(concepts.size(), 1),
+            VocabularyLayer.FALSE_POSITIVES
+        );
+        concepts.forEach(this.sketch::put);
+    }
+
+    /**
+     * Finds a lexeme for a concept in this layer.
+     * @param identifier Identifier of the concept
+     * @param concept Concept
+     * @return Lexeme, or nothing if this layer doesn't have a lexeme for the
+     *  concept
+     * @throws Exception If couldn't search for a lexeme
+     */
+    Optional<Lexeme> lexeme(final String identifier, final Concept concept)
+        throws Exception {
+        final Optional<Lexeme> lexeme;
+        if (this.sketch.mightContain(identifier)
+            && this.vocabulary.hasLexeme(concept)) {
+            lexeme = Optional.of(this.vocabulary.lexeme(concept));
+        } else {
+            lexeme = Optional.empty();
+        }
+        return lexeme;
+    }
+}
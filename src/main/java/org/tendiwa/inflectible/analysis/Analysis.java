@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.analysis;
+
+import org.tendiwa.inflectible.Concept;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+
+/**
+ * One of the possible interpretations of a word form: the concept of its
+ * lexeme and its grammatical meaning.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class Analysis {
+    /**
+     * Concept of the lexeme.
+     */
+    private final transient Concept lexeme;
+
+    /**
+     * Grammatical meaning of the word form.
+     */
+    private final transient GrammaticalMeaning grammemes;
+
+    /**
+     * Ctor.
+     * @param concept Concept of the lexeme
+     * @param meaning Grammatical meaning of the word form
+     */
+    public Analysis(final Concept concept, final GrammaticalMeaning meaning) {
+        this.lexeme = concept;
+        this.grammemes = meaning;
+    }
+
+    /**
+     * Concept of the lexeme the word form belongs to.
+     * @return Concept
+     */
+    public Concept concept() {
+        return this.lexeme;
+    }
+
+    /**
+     * Grammatical meaning of the word form.
+     * @return Grammatical meaning
+     */
+    public GrammaticalMeaning meaning() {
+        return this.grammemes;
+    }
+}
@@ -0,0 +1,292 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.analysis;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.offheap.GmOfMask;
+import org.tendiwa.inflectible.offheap.GrammemeBits;
+
+/**
+ * {@link Analyzer} backed by a minimized acyclic automaton (DAWG) built by
+ * {@link DawgBuilder}. Each final state of the automaton refers to a set of
+ * analyses, and equal suffix subtrees are stored once. An analysis only
+ * holds a paradigm, a length of ending and grammemes, so lexemes that
+ * inflect alike share suffixes; concepts are found by the stem that remains
+ * after cutting the ending off, together with the paradigm. Lookup takes
+ * time proportional to the length of the word.
+ * <p/>
+ * The automaton is read from the serialized form written by
+ * {@link DawgBuilder#save(java.io.OutputStream)}, so it doesn't need to be
+ * rebuilt from a vocabulary at every startup.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+@SuppressWarnings("PMD.TooManyFields")
+public final class DawgAnalyzer implements Analyzer {
+    /**
+     * Magic number that every serialized automaton starts with.
+     */
+    static final int MAGIC = 0x44415747;
+
+    /**
+     * Version of the serialized form.
+     */
+    static final int VERSION = 2;
+
+    /**
+     * Transition target for a missing transition.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * Encoding of grammemes.
+     */
+    private final transient GrammemeBits bits;
+
+    /**
+     * Concept identifiers.
+     */
+    private final transient String[] concepts;
+
+    /**
+     * Paradigm index of each analysis.
+     */
+    private final transient int[] paradigms;
+
+    /**
+     * Length of the ending of each analysis.
+     */
+    private final transient int[] cuts;
+
+    /**
+     * Grammemes mask of each analysis.
+     */
+    private final transient long[] masks;
+
+    /**
+     * Concept indices by stems and paradigm indices.
+     */
+    private final transient ImmutableMap<Map.Entry<String, Integer>, int[]>
+        lemmas;
+
+    /**
+     * Sets of analysis indices.
+     */
+    private final transient int[][] payloads;
+
+    /**
+     * Payload index of each state, or -1 for non-final states.
+     */
+    private final transient int[] finals;
+
+    /**
+     * Index of the first transition of each state.
+     */
+    private final transient int[] firsts;
+
+    /**
+     * Number of transitions of each state.
+     */
+    private final transient int[] counts;
+
+    /**
+     * Labels of transitions, sorted within each state.
+     */
+    private final transient char[] labels;
+
+    /**
+     * Targets of transitions.
+     */
+    private final transient int[] targets;
+
+    /**
+     * Initial state.
+     */
+    private final transient int root;
+
+    /**
+     * Ctor.
+     * @param grammemes Enum with grammemes of the language of the analyzer
+     * @param input Serialized automaton
+     * @throws IOException If could not read the automaton
+     */
+    public DawgAnalyzer(
+        final Class<? extends Grammeme> grammemes,
+        final InputStream input
+    ) throws IOException {
+        this.bits = new GrammemeBits(grammemes);
+        final DataInputStream data =
+            new DataInputStream(new BufferedInputStream(input));
+        if (data.readInt() != DawgAnalyzer.MAGIC
+            || data.readInt() != DawgAnalyzer.VERSION) {
+            throw new IOException("Stream doesn't contain a known automaton");
+        }
+        if (data.readInt() != grammemes.getEnumConstants().length) {
+            throw new IOException(
+                String.format(
+                    "Automaton was not built for grammemes of %s",
+                    grammemes.getCanonicalName()
+                )
+            );
+        }
+        this.concepts = new String[data.readInt()];
+        for (int index = 0; index < this.concepts.length; ++index) {
+            this.concepts[index] = data.readUTF();
+        }
+        this.paradigms = new int[data.readInt()];
+        this.cuts = new int[this.paradigms.length];
+        this.masks = new long[this.paradigms.length];
+        for (int index = 0; index < this.paradigms.length; ++index) {
+            this.paradigms[index] = data.readInt();
+            this.cuts[index] = data.readInt();
+            this.masks[index] = data.readLong();
+        }
+        this.lemmas = DawgAnalyzer.lemmas(data);
+        this.payloads = new int[data.readInt()][];
+        for (int index = 0; index < this.payloads.length; ++index) {
+            this.payloads[index] = new int[data.readInt()];
+            for (int item = 0; item < this.payloads[index].length; ++item) {
+                this.payloads[index][item] = data.readInt();
+            }
+        }
+        this.finals = new int[data.readInt()];
+        this.firsts = new int[this.finals.length];
+        this.counts = new int[this.finals.length];
+        for (int state = 0; state < this.finals.length; ++state) {
+            this.finals[state] = data.readInt();
+            this.firsts[state] = data.readInt();
+            this.counts[state] = data.readInt();
+        }
+        this.labels = new char[data.readInt()];
+        this.targets = new int[this.labels.length];
+        for (int index = 0; index < this.labels.length; ++index) {
+            this.labels[index] = data.readChar();
+            this.targets[index] = data.readInt();
+        }
+        this.root = data.readInt();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    public ImmutableList<Analysis> analyses(final String spelling) {
+        int state = this.root;
+        for (int index = 0;
+            index < spelling.length() && state != DawgAnalyzer.NONE;
+            ++index) {
+            state = this.transition(state, spelling.charAt(index));
+        }
+        final ImmutableList.Builder<Analysis> builder = ImmutableList.builder();
+        if (state != DawgAnalyzer.NONE && this.finals[state] >= 0) {
+            for (final int analysis : this.payloads[this.finals[state]]) {
+                final int[] owners = this.lemmas.get(
+                    Maps.immutableEntry(
+                        spelling.substring(
+                            0,
+                            spelling.length() - this.cuts[analysis]
+                        ),
+                        this.paradigms[analysis]
+                    )
+                );
+                if (owners == null) {
+                    continue;
+                }
+                for (final int owner : owners) {
+                    final String concept = this.concepts[owner];
+                    builder.add(
+                        new Analysis(
+                            () -> concept,
+                            new GmOfMask(this.bits, this.masks[analysis])
+                        )
+                    );
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Number of states in the automaton.
+     * @return Number of states
+     */
+    int states() {
+        return this.finals.length;
+    }
+
+    /**
+     * Reads concept indices by stems and paradigm indices.
+     * @param data Serialized automaton
+     * @return Concept indices
+     * @throws IOException If could not read
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static ImmutableMap<Map.Entry<String, Integer>, int[]> lemmas(
+        final DataInputStream data
+    ) throws IOException {
+        final int size = data.readInt();
+        final ImmutableMap.Builder<Map.Entry<String, Integer>, int[]> builder =
+            ImmutableMap.builder();
+        for (int index = 0; index < size; ++index) {
+            final String stem = data.readUTF();
+            final int paradigm = data.readInt();
+            final int[] owners = new int[data.readInt()];
+            for (int item = 0; item < owners.length; ++item) {
+                owners[item] = data.readInt();
+            }
+            builder.put(Maps.immutableEntry(stem, paradigm), owners);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Follows a transition.
+     * @param state Source state
+     * @param label Label of the transition
+     * @return Target state, or -1 if there is no such transition
+     */
+    private int transition(final int state, final char label) {
+        final int found = Arrays.binarySearch(
+            this.labels,
+            this.firsts[state],
+            this.firsts[state] + this.counts[state],
+            label
+        );
+        final int target;
+        if (found < 0) {
+            target = DawgAnalyzer.NONE;
+        } else {
+            target = this.targets[found];
+        }
+        return target;
+    }
+}
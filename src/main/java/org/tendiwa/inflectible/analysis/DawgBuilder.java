@@ -0,0 +1,274 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.analysis;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.tendiwa.inflectible.Concept;
+import org.tendiwa.inflectible.GmEmpty;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.offheap.GrammemeBits;
+import org.tenidwa.collections.utils.Collectors;
+
+/**
+ * Collects word forms and compiles them into a {@link DawgAnalyzer}. Word
+ * forms of a lexeme are obtained by asking it for a spelling of every
+ * grammatical meaning of its part of speech, so forms derived by
+ * {@link org.tendiwa.inflectible.inflection.LxWithSuppletivism} or
+ * {@link org.tendiwa.inflectible.implementations.RussianNoun} are indexed
+ * just like the forms written in markup. Not thread-safe.
+ * <p/>
+ * Word forms of a lexeme are split into a stem, common to all of them, and
+ * a paradigm of endings. The automaton only stores, for each word form, its
+ * paradigm, the length of its ending and its grammemes, which are the same
+ * for all the lexemes that inflect alike, so their suffixes are merged.
+ * Concepts are found separately by the stem and the paradigm.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class DawgBuilder {
+    /**
+     * Enum with grammemes of the language of word forms.
+     */
+    private final transient Class<? extends Grammeme> grammemes;
+
+    /**
+     * Encoding of grammemes.
+     */
+    private final transient GrammemeBits bits;
+
+    /**
+     * Spellings and grammemes masks of word forms by concept identifiers.
+     */
+    private final transient Map<String, Set<Map.Entry<String, Long>>> forms;
+
+    /**
+     * Ctor.
+     * @param grams Enum with grammemes of the language of word forms
+     */
+    public DawgBuilder(final Class<? extends Grammeme> grams) {
+        this.grammemes = grams;
+        this.bits = new GrammemeBits(grams);
+        this.forms = new LinkedHashMap<>();
+    }
+
+    /**
+     * Adds all the word forms of a lexeme. A lexeme that has the same
+     * spelling for all the meanings only falls back to its default spelling,
+     * so the spelling is added once, without grammemes.
+     * @param concept Concept of the lexeme
+     * @param lexeme Lexeme
+     * @param meanings Grammatical meanings of the word forms, usually
+     *  {@link org.tendiwa.inflectible.PartOfSpeech#meaningVariations()} of
+     *  the lexeme's part of speech
+     * @return This builder
+     * @throws Exception If could not obtain word forms
+     */
+    public DawgBuilder add(
+        final Concept concept,
+        final Lexeme lexeme,
+        final Set<? extends GrammaticalMeaning> meanings
+    ) throws Exception {
+        final String fallback = lexeme.defaultSpelling().string();
+        final Map<GrammaticalMeaning, String> spellings = new LinkedHashMap<>();
+        for (final GrammaticalMeaning meaning : meanings) {
+            spellings.put(meaning, lexeme.wordForm(meaning).string());
+        }
+        if (spellings.values().stream().allMatch(fallback::equals)) {
+            this.add(fallback, concept, new GmEmpty());
+        } else {
+            for (final Map.Entry<GrammaticalMeaning, String> form
+                : spellings.entrySet()) {
+                this.add(form.getValue(), concept, form.getKey());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds a word form.
+     * @param spelling Spelling of the word form
+     * @param concept Concept of the word form's lexeme
+     * @param meaning Grammatical meaning of the word form
+     * @return This builder
+     * @throws Exception If could not obtain grammemes or identifier
+     */
+    public DawgBuilder add(
+        final String spelling,
+        final Concept concept,
+        final GrammaticalMeaning meaning
+    ) throws Exception {
+        this.forms.computeIfAbsent(
+            concept.identifier(),
+            any -> new LinkedHashSet<>()
+        ).add(Maps.immutableEntry(spelling, this.bits.mask(meaning)));
+        return this;
+    }
+
+    /**
+     * Minimizes the collected word forms and writes the automaton in the
+     * form read by {@link DawgAnalyzer}.
+     * @param output Where to write the automaton
+     * @throws IOException If could not write
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    public void save(final OutputStream output) throws IOException {
+        final List<String> concepts = new ArrayList<>(this.forms.keySet());
+        final Map<List<Map.Entry<String, Long>>, Integer> paradigms =
+            new LinkedHashMap<>();
+        final Map<List<Long>, Integer> analyses = new LinkedHashMap<>();
+        final Map<Map.Entry<String, Integer>, List<Integer>> lemmas =
+            new LinkedHashMap<>();
+        final TrieNode trie = new TrieNode();
+        for (int concept = 0; concept < concepts.size(); ++concept) {
+            final Set<Map.Entry<String, Long>> words =
+                this.forms.get(concepts.get(concept));
+            final String stem = DawgBuilder.stem(words);
+            final int paradigm = paradigms.computeIfAbsent(
+                DawgBuilder.endings(words, stem.length()),
+                any -> paradigms.size()
+            );
+            lemmas.computeIfAbsent(
+                Maps.immutableEntry(stem, paradigm),
+                any -> new ArrayList<>(1)
+            ).add(concept);
+            for (final Map.Entry<String, Long> word : words) {
+                final String spelling = word.getKey();
+                final int analysis = analyses.computeIfAbsent(
+                    ImmutableList.of(
+                        (long) paradigm,
+                        (long) (spelling.length() - stem.length()),
+                        word.getValue()
+                    ),
+                    any -> analyses.size()
+                );
+                TrieNode node = trie;
+                for (int index = 0; index < spelling.length(); ++index) {
+                    node = node.child(spelling.charAt(index));
+                }
+                node.accept(analysis);
+            }
+        }
+        final DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(DawgAnalyzer.MAGIC);
+        data.writeInt(DawgAnalyzer.VERSION);
+        data.writeInt(this.grammemes.getEnumConstants().length);
+        data.writeInt(concepts.size());
+        for (final String concept : concepts) {
+            data.writeUTF(concept);
+        }
+        data.writeInt(analyses.size());
+        for (final List<Long> analysis : analyses.keySet()) {
+            data.writeInt(analysis.get(0).intValue());
+            data.writeInt(analysis.get(1).intValue());
+            data.writeLong(analysis.get(2));
+        }
+        data.writeInt(lemmas.size());
+        for (final Map.Entry<Map.Entry<String, Integer>, List<Integer>> lemma
+            : lemmas.entrySet()) {
+            data.writeUTF(lemma.getKey().getKey());
+            data.writeInt(lemma.getKey().getValue());
+            data.writeInt(lemma.getValue().size());
+            for (final int concept : lemma.getValue()) {
+                data.writeInt(concept);
+            }
+        }
+        new MinimizedTrie(trie).write(data);
+        data.flush();
+    }
+
+    /**
+     * Compiles the collected word forms into an analyzer.
+     * @return Analyzer
+     * @throws IOException If could not compile the automaton
+     */
+    public DawgAnalyzer analyzer() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        this.save(bytes);
+        return new DawgAnalyzer(
+            this.grammemes,
+            new ByteArrayInputStream(bytes.toByteArray())
+        );
+    }
+
+    /**
+     * Finds the longest common prefix of word forms.
+     * @param words Spellings and grammemes masks of word forms
+     * @return Stem
+     */
+    private static String stem(final Set<Map.Entry<String, Long>> words) {
+        String stem = words.iterator().next().getKey();
+        for (final Map.Entry<String, Long> word : words) {
+            int length = 0;
+            while (length < stem.length()
+                && length < word.getKey().length()
+                && stem.charAt(length) == word.getKey().charAt(length)) {
+                length += 1;
+            }
+            stem = stem.substring(0, length);
+        }
+        return stem;
+    }
+
+    /**
+     * Obtains the paradigm of word forms: their endings and grammemes
+     * masks in a fixed order.
+     * @param words Spellings and grammemes masks of word forms
+     * @param stem Length of the stem of the word forms
+     * @return Endings with grammemes masks
+     */
+    private static List<Map.Entry<String, Long>> endings(
+        final Set<Map.Entry<String, Long>> words,
+        final int stem
+    ) {
+        return words.stream()
+            .map(
+                word -> Maps.immutableEntry(
+                    word.getKey().substring(stem),
+                    word.getValue()
+                )
+            )
+            .sorted(
+                Comparator.<Map.Entry<String, Long>, String>comparing(
+                    Map.Entry::getKey
+                ).thenComparing(Map.Entry::getValue)
+            )
+            .collect(Collectors.toImmutableList());
+    }
+}
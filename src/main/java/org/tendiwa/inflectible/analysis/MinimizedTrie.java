@@ -0,0 +1,175 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.analysis;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+/**
+ * Trie with equivalent nodes merged, laid out in arrays for
+ * {@link DawgAnalyzer}. Two nodes are equivalent if they have the same
+ * analyses and their transitions lead to equivalent nodes by the same
+ * letters; nodes are merged bottom-up, so each state is registered after
+ * all of its successors.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class MinimizedTrie {
+    /**
+     * States by their signatures: payload followed by pairs of letters and
+     * target states.
+     */
+    private final transient Map<List<Integer>, Integer> registry;
+
+    /**
+     * Distinct sets of analyses.
+     */
+    private final transient Map<List<Integer>, Integer> payloads;
+
+    /**
+     * Payload index of each state.
+     */
+    private final transient List<Integer> finals;
+
+    /**
+     * Index of the first transition of each state.
+     */
+    private final transient List<Integer> firsts;
+
+    /**
+     * Number of transitions of each state.
+     */
+    private final transient List<Integer> counts;
+
+    /**
+     * Labels of transitions.
+     */
+    private final transient List<Character> labels;
+
+    /**
+     * Targets of transitions.
+     */
+    private final transient List<Integer> targets;
+
+    /**
+     * Initial state.
+     */
+    private final transient int root;
+
+    /**
+     * Ctor.
+     * @param trie Root of the trie to minimize
+     */
+    MinimizedTrie(final TrieNode trie) {
+        this.registry = new HashMap<>();
+        this.payloads = new LinkedHashMap<>();
+        this.finals = new ArrayList<>();
+        this.firsts = new ArrayList<>();
+        this.counts = new ArrayList<>();
+        this.labels = new ArrayList<>();
+        this.targets = new ArrayList<>();
+        this.root = this.state(trie);
+    }
+
+    /**
+     * Writes payloads, states and transitions.
+     * @param data Where to write
+     * @throws IOException If could not write
+     */
+    void write(final DataOutputStream data) throws IOException {
+        data.writeInt(this.payloads.size());
+        for (final List<Integer> payload : this.payloads.keySet()) {
+            data.writeInt(payload.size());
+            for (final int analysis : payload) {
+                data.writeInt(analysis);
+            }
+        }
+        data.writeInt(this.finals.size());
+        for (int state = 0; state < this.finals.size(); ++state) {
+            data.writeInt(this.finals.get(state));
+            data.writeInt(this.firsts.get(state));
+            data.writeInt(this.counts.get(state));
+        }
+        data.writeInt(this.labels.size());
+        for (int index = 0; index < this.labels.size(); ++index) {
+            data.writeChar(this.labels.get(index));
+            data.writeInt(this.targets.get(index));
+        }
+        data.writeInt(this.root);
+    }
+
+    /**
+     * Finds or registers the state equivalent to a trie node.
+     * @param node Trie node
+     * @return State
+     */
+    private int state(final TrieNode node) {
+        final List<Integer> signature =
+            new ArrayList<>(1 + node.children().size() * 2);
+        signature.add(this.payload(node.analyses()));
+        for (final Map.Entry<Character, TrieNode> child
+            : node.children().entrySet()) {
+            signature.add((int) child.getKey());
+            signature.add(this.state(child.getValue()));
+        }
+        Integer state = this.registry.get(signature);
+        if (state == null) {
+            state = this.finals.size();
+            this.registry.put(signature, state);
+            this.finals.add(signature.get(0));
+            this.firsts.add(this.labels.size());
+            this.counts.add(node.children().size());
+            for (int index = 1; index < signature.size(); index += 2) {
+                this.labels.add((char) signature.get(index).intValue());
+                this.targets.add(signature.get(index + 1));
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Finds or registers a set of analyses.
+     * @param analyses Indices of analyses
+     * @return Payload index, or -1 if there are no analyses
+     */
+    private int payload(final SortedSet<Integer> analyses) {
+        final int payload;
+        if (analyses.isEmpty()) {
+            payload = -1;
+        } else {
+            payload = this.payloads.computeIfAbsent(
+                new ArrayList<>(analyses),
+                any -> this.payloads.size()
+            );
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.analysis;
+
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Node of the trie that {@link DawgBuilder} accumulates words in before
+ * minimizing it.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class TrieNode {
+    /**
+     * Child nodes by letters.
+     */
+    private final transient SortedMap<Character, TrieNode> children;
+
+    /**
+     * Indices of analyses of the word ending in this node.
+     */
+    private final transient SortedSet<Integer> analyses;
+
+    /**
+     * Ctor.
+     */
+    TrieNode() {
+        this.children = new TreeMap<>();
+        this.analyses = new TreeSet<>();
+    }
+
+    /**
+     * Finds or creates a child node.
+     * @param letter Letter leading to the child
+     * @return Child node
+     */
+    TrieNode child(final char letter) {
+        return this.children.computeIfAbsent(letter, any -> new TrieNode());
+    }
+
+    /**
+     * Marks the word ending in this node as having an analysis.
+     * @param analysis Index of the analysis
+     */
+    void accept(final int analysis) {
+        this.analyses.add(analysis);
+    }
+
+    /**
+     * Child nodes of this node.
+     * @return Child nodes by letters
+     */
+    SortedMap<Character, TrieNode> children() {
+        return this.children;
+    }
+
+    /**
+     * Analyses of the word ending in this node.
+     * @return Indices of analyses
+     */
+    SortedSet<Integer> analyses() {
+        return this.analyses;
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.MissingTemplateException;
+import org.tendiwa.inflectible.Template;
+import org.tendiwa.inflectible.TemplateName;
+import org.tendiwa.inflectible.Templatuary;
+import org.tendiwa.inflectible.compiled.CompiledTemplatuary;
+import org.tendiwa.inflectible.compiled.SourceCache;
+import org.tendiwa.inflectible.compiled.TemplateImage;
+
+/**
+ * {@link Templatuary} that compiles each of its source files once and keeps
+ * the compiled templates in a {@link SourceCache}. Markup is parsed only for
+ * the files that have changed since they were last compiled.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class CachedTemplatuary implements Templatuary {
+    /**
+     * Templates from each of the source files.
+     */
+    private final transient ImmutableList<Templatuary> templatuaries;
+
+    /**
+     * Ctor.
+     * @param grammar Grammar of the language of the templates
+     * @param sources Files with templates' markup
+     * @param directory Directory of the cache
+     * @throws Exception If could not read or compile any of the files
+     */
+    public CachedTemplatuary(
+        final Grammar grammar,
+        final List<Path> sources,
+        final Path directory
+    ) throws Exception {
+        final SourceCache cache = new SourceCache(
+            directory,
+            String.format("texts/%d", TemplateImage.VERSION)
+        );
+        final ImmutableList.Builder<Templatuary> builder =
+            ImmutableList.builder();
+        for (final Path source : sources) {
+            builder.add(
+                new CompiledTemplatuary(
+                    grammar,
+                    cache.compiled(source, CachedTemplatuary::compiled)
+                )
+            );
+        }
+        this.templatuaries = builder.build();
+    }
+
+    @Override
+    public Template template(final TemplateName name) throws Exception {
+        final Optional<Templatuary> templatuary = this.templatuary(name);
+        if (!templatuary.isPresent()) {
+            throw new MissingTemplateException(name);
+        }
+        return templatuary.get().template(name);
+    }
+
+    @Override
+    public boolean hasTemplate(final TemplateName name) throws Exception {
+        return this.templatuary(name).isPresent();
+    }
+
+    /**
+     * Finds the source file's templates that have a template.
+     * @param name Name of the template
+     * @return Templates of the first source file that has the template, or
+     *  nothing if there is no such file
+     * @throws Exception If could not check for presence of the template
+     */
+    private Optional<Templatuary> templatuary(final TemplateName name)
+        throws Exception {
+        Optional<Templatuary> answer = Optional.empty();
+        for (final Templatuary templatuary : this.templatuaries) {
+            if (!answer.isPresent() && templatuary.hasTemplate(name)) {
+                answer = Optional.of(templatuary);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Compiles markup of templates.
+     * @param source Markup of templates
+     * @return Compiled image
+     * @throws Exception If could not compile the markup
+     */
+    private static ByteBuffer compiled(final byte[] source)
+        throws Exception {
+        return ByteBuffer.wrap(
+            new TemplateCompiler(
+                ImmutableList.of(new ByteArrayInputStream(source))
+            )
+                .image()
+                .bytes()
+        );
+    }
+}
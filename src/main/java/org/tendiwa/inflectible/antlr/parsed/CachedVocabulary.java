@@ -0,0 +1,180 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import org.tendiwa.inflectible.Concept;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.MissingLexemeException;
+import org.tendiwa.inflectible.Vocabulary;
+import org.tendiwa.inflectible.antlr.LexemeParser;
+import org.tendiwa.inflectible.compiled.SourceCache;
+import org.tendiwa.inflectible.offheap.OffHeapImage;
+import org.tendiwa.inflectible.offheap.OffHeapVocabulary;
+
+/**
+ * {@link Vocabulary} that compiles each of its source files once into an
+ * off-heap image and keeps the images in a {@link SourceCache}. Markup is
+ * parsed and word forms are generated only for the files that have changed
+ * since they were last compiled, or when the grammemes of the language
+ * change. Lexemes are not kept on the heap: each lookup reads the lexeme
+ * from the images, so the heap doesn't grow with the number of concepts
+ * rendered.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class CachedVocabulary implements Vocabulary {
+    /**
+     * Grammar of the language of the lexemes.
+     */
+    private final transient Grammar grammar;
+
+    /**
+     * Enum with grammemes of the language of the lexemes.
+     */
+    private final transient Class<? extends Grammeme> grammemes;
+
+    /**
+     * Lexemes from each of the source files.
+     */
+    private final transient ImmutableList<Vocabulary> vocabularies;
+
+    /**
+     * Ctor.
+     * @param gram Grammar of the language of the lexemes
+     * @param grams Enum with grammemes of the language of the lexemes
+     * @param sources Files with lexemes' markup
+     * @param directory Directory of the cache
+     * @throws Exception If could not read or compile any of the files
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CachedVocabulary(
+        final Grammar gram,
+        final Class<? extends Grammeme> grams,
+        final List<Path> sources,
+        final Path directory
+    ) throws Exception {
+        this.grammar = gram;
+        this.grammemes = grams;
+        this.vocabularies = this.loaded(sources, directory);
+    }
+
+    @Override
+    public Lexeme lexeme(final Concept concept) throws Exception {
+        final Optional<Vocabulary> vocabulary = this.vocabulary(concept);
+        if (!vocabulary.isPresent()) {
+            throw new MissingLexemeException(concept.identifier());
+        }
+        return vocabulary.get().lexeme(concept);
+    }
+
+    @Override
+    public boolean hasLexeme(final Concept concept) throws Exception {
+        return this.vocabulary(concept).isPresent();
+    }
+
+    /**
+     * Loads images of all the source files from the cache, compiling the
+     * ones that are not there.
+     * @param sources Files with lexemes' markup
+     * @param directory Directory of the cache
+     * @return Lexemes from each of the source files
+     * @throws Exception If could not read or compile any of the files
+     */
+    private ImmutableList<Vocabulary> loaded(
+        final List<Path> sources,
+        final Path directory
+    ) throws Exception {
+        final SourceCache cache = new SourceCache(
+            directory,
+            String.format(
+                "words/%d/%s%s",
+                OffHeapImage.VERSION,
+                this.grammemes.getName(),
+                Arrays.toString(this.grammemes.getEnumConstants())
+            )
+        );
+        final ImmutableList.Builder<Vocabulary> builder =
+            ImmutableList.builder();
+        for (final Path source : sources) {
+            builder.add(
+                new OffHeapVocabulary(
+                    this.grammemes,
+                    cache.compiled(source, this::compiled)
+                )
+            );
+        }
+        return builder.build();
+    }
+
+    /**
+     * Finds the first source file's lexemes that have a lexeme.
+     * @param concept Concept of the lexeme
+     * @return Lexemes of the first source file that has the lexeme, or
+     *  nothing if there is no such file
+     * @throws Exception If could not check for presence of the lexeme
+     */
+    private Optional<Vocabulary> vocabulary(final Concept concept)
+        throws Exception {
+        Optional<Vocabulary> answer = Optional.empty();
+        final Iterator<Vocabulary> iterator = this.vocabularies.iterator();
+        while (!answer.isPresent() && iterator.hasNext()) {
+            final Vocabulary vocabulary = iterator.next();
+            if (vocabulary.hasLexeme(concept)) {
+                answer = Optional.of(vocabulary);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Compiles markup of lexemes into an off-heap image.
+     * @param source Markup of lexemes
+     * @return Compiled image in a direct buffer
+     * @throws Exception If could not compile the markup
+     */
+    private ByteBuffer compiled(final byte[] source) throws Exception {
+        final OffHeapImage image = new OffHeapImage(this.grammemes);
+        for (final LexemeParser.LexemeContext lexeme
+            : new BasicLexemeParser(new ByteArrayInputStream(source))
+                .lexemes()
+                .lexeme()) {
+            new ParsedLexeme(this.grammar, lexeme).addTo(
+                image,
+                new ParsedConcept(lexeme.conceptId())
+            );
+        }
+        return image.buffer();
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Optional;
 import org.tendiwa.inflectible.ActualArguments;
 import org.tendiwa.inflectible.AnyPartOfSpeech;
 import org.tendiwa.inflectible.GrCombined;
+import org.tendiwa.inflectible.GrQuantity;
 import org.tendiwa.inflectible.GrStatic;
 import org.tendiwa.inflectible.Grammar;
 import org.tendiwa.inflectible.GrammarRule;
@@ -36,8 +37,9 @@ import org.tendiwa.inflectible.antlr.TemplateParser;
 
 /**
  * Grammar rule that produces grammatical meaning by looking at placeholder's
- * agreement and static grammemes. Placeholders may omit declaring
- * agreement or static grammemes, but one of those is always present.
+ * agreement, static grammemes and quantity. Placeholders may omit declaring
+ * any of those, but one of those is always present. Quantity, if present,
+ * has the final say on the grammatical meaning.
  * @author Georgy Vlasov (suseika@tendiwa.org)
  * @version $Id$
  * @since 0.2.0
@@ -60,6 +62,12 @@ public final class GrParsedStaticOrAgreement implements GrammarRule {
     private final transient
         Optional<TemplateParser.AgreementContext> agreement;
 
+    /**
+     * ANTLR parse tree of quantity.
+     */
+    private final transient
+        Optional<TemplateParser.QuantityContext> quantity;
+
     /**
      * Ctor.
      * @param gram Grammar of a natural language
@@ -70,17 +78,45 @@ public final class GrParsedStaticOrAgreement implements GrammarRule {
         final Grammar gram,
         final Optional<TemplateParser.GrammemesContext> grams,
         final Optional<TemplateParser.AgreementContext> agr
+    ) {
+        this(gram, grams, agr, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param gram Grammar of a natural language
+     * @param grams ANTLR parse tree of grammemes
+     * @param agr ANTLR parse tree of agreement
+     * @param qnt ANTLR parse tree of quantity
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public GrParsedStaticOrAgreement(
+        final Grammar gram,
+        final Optional<TemplateParser.GrammemesContext> grams,
+        final Optional<TemplateParser.AgreementContext> agr,
+        final Optional<TemplateParser.QuantityContext> qnt
     ) {
         this.grammar = gram;
         this.grammemes = grams;
         this.agreement = agr;
+        this.quantity = qnt;
     }
 
     @Override
     public GrammaticalMeaning grammaticalMeaning(
         final ActualArguments arguments
     ) throws Exception {
-        return this.upToTwoCombinedRules().grammaticalMeaning(arguments);
+        final GrammarRule rule;
+        if (this.quantity.isPresent()) {
+            rule = new GrQuantity(
+                new AnParsed(this.quantity.get().argumentName()),
+                this.grammar.numberAgreement(),
+                this.upToTwoCombinedRules()
+            );
+        } else {
+            rule = this.upToTwoCombinedRules();
+        }
+        return rule.grammaticalMeaning(arguments);
     }
 
     /**
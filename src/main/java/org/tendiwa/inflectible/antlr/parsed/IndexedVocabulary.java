@@ -0,0 +1,150 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.tendiwa.inflectible.Concept;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.MissingLexemeException;
+import org.tendiwa.inflectible.Vocabulary;
+import org.tendiwa.inflectible.inflection.ParadigmPool;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tendiwa.inflectible.metrics.Metrics;
+import org.tenidwa.collections.utils.Rethrowing;
+
+/**
+ * Vocabulary that parses the markup of each lexeme only when the lexeme is
+ * first asked for. At construction it only obtains an index of the places of
+ * lexemes' markup in the source files, so it starts in time proportional to
+ * the size of the index rather than the size of the vocabulary. A parsed
+ * lexeme is expanded into its word forms once and kept, so the markup is
+ * never parsed or inflected again.
+ * <p/>
+ * Unlike {@link ParsedVocabulary}, this vocabulary reads from files, because
+ * it needs random access to the markup.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class IndexedVocabulary implements Vocabulary {
+    /**
+     * Source files with lexemes' markup.
+     */
+    private final transient ImmutableList<Path> sources;
+
+    /**
+     * Grammar of the language of the lexemes.
+     */
+    private final transient Grammar grammar;
+
+    /**
+     * Places of lexemes' markup by concept identifiers.
+     */
+    private final transient ImmutableMap<String, LexemeLocation> index;
+
+    /**
+     * Paradigms shared by the parsed lexemes.
+     */
+    private final transient ParadigmPool paradigms;
+
+    /**
+     * Lexemes that were already parsed.
+     */
+    private final transient Map<String, Lexeme> parsed;
+
+    /**
+     * Ctor.
+     * @param grammemes Grammar of the language of the lexemes
+     * @param markup Source files with lexemes' markup
+     * @param persisted Where to persist the index of the sources. If the
+     *  index can't be written there, it is only kept in memory
+     * @throws IOException If couldn't read the sources or the index
+     */
+    public IndexedVocabulary(
+        final Grammar grammemes,
+        final List<Path> markup,
+        final Path persisted
+    ) throws IOException {
+        final Metrics metrics = Instrumentation.INSTANCE.metrics();
+        final long start = metrics.clock();
+        this.sources = ImmutableList.copyOf(markup);
+        this.grammar = grammemes;
+        this.index = new LexemeIndex(this.sources, persisted).locations();
+        this.paradigms = new ParadigmPool(grammemes.phonetics());
+        this.parsed = new ConcurrentHashMap<>(0);
+        metrics.load(
+            persisted.toString(),
+            metrics.clock() - start
+        );
+    }
+
+    @Override
+    public Lexeme lexeme(final Concept concept) throws Exception {
+        final String identifier = concept.identifier();
+        final boolean hit = this.index.containsKey(identifier);
+        Instrumentation.INSTANCE.metrics().lookup(hit);
+        if (!hit) {
+            throw new MissingLexemeException(identifier);
+        }
+        Lexeme lexeme = this.parsed.get(identifier);
+        Instrumentation.INSTANCE.metrics().cache(
+            IndexedVocabulary.class.getSimpleName(),
+            lexeme != null
+        );
+        if (lexeme == null) {
+            lexeme = this.parsed.computeIfAbsent(
+                identifier,
+                Rethrowing.rethrowFunction(this::fromMarkup)
+            );
+        }
+        return lexeme;
+    }
+
+    @Override
+    public boolean hasLexeme(final Concept concept) throws Exception {
+        return this.index.containsKey(concept.identifier());
+    }
+
+    /**
+     * Parses the markup of a lexeme and expands it into its word forms.
+     * @param identifier Concept identifier of the lexeme
+     * @return Lexeme
+     * @throws Exception If couldn't read the markup or expand the lexeme
+     */
+    private Lexeme fromMarkup(final String identifier) throws Exception {
+        return new ParsedLexeme(
+            this.grammar,
+            new BasicLexemeParser(
+                this.index.get(identifier).markup(this.sources)
+            ).lexeme()
+        ).expanded(this.paradigms);
+    }
+}
@@ -0,0 +1,291 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Index from concept identifiers to the places of lexemes' markup in source
+ * files. The index is persisted to a file alongside the sources and is
+ * scanned anew only if any of the sources changed since. If the index can't
+ * be persisted, the scanned index is used anyway.
+ * <p/>
+ * Persisted index is a text file. Its first line is a header, then goes a
+ * line for each source file with its size, modification time and path, then
+ * a line for each lexeme with its concept identifier, index of its source
+ * file, offset and length of its markup.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class LexemeIndex {
+    /**
+     * First line of a persisted index.
+     */
+    private static final String HEADER = "inflectible-lexeme-index 1";
+
+    /**
+     * Number of fields in a line of a lexeme.
+     */
+    private static final int FIELDS = 4;
+
+    /**
+     * Splits lines of a persisted index to fields.
+     */
+    private static final Splitter SPACE = Splitter.on(' ');
+
+    /**
+     * Source files with lexemes' markup.
+     */
+    private final transient List<Path> sources;
+
+    /**
+     * Persisted index.
+     */
+    private final transient Path file;
+
+    /**
+     * Ctor.
+     * @param markup Source files with lexemes' markup
+     * @param persisted Path of the persisted index
+     */
+    LexemeIndex(final List<Path> markup, final Path persisted) {
+        this.sources = markup;
+        this.file = persisted;
+    }
+
+    /**
+     * Obtains the index, either from the persisted file or by scanning the
+     * sources.
+     * @return Places of lexemes' markup by concept identifiers
+     * @throws IOException If couldn't read the sources or the index
+     */
+    ImmutableMap<String, LexemeLocation> locations() throws IOException {
+        final ImmutableList<String> stamps = this.stamps();
+        final List<String> lines = this.lines();
+        final ImmutableMap<String, LexemeLocation> locations;
+        if (LexemeIndex.isFresh(lines, stamps)) {
+            locations = this.persisted(
+                lines.subList(stamps.size() + 1, lines.size())
+            );
+        } else {
+            locations = this.scanned();
+            this.persist(stamps, locations);
+        }
+        return locations;
+    }
+
+    /**
+     * Describes the current state of the source files.
+     * @return Line of the persisted index for each source file
+     * @throws IOException If couldn't read attributes of a source
+     */
+    private ImmutableList<String> stamps() throws IOException {
+        final ImmutableList.Builder<String> stamps = ImmutableList.builder();
+        for (final Path source : this.sources) {
+            stamps.add(
+                String.format(
+                    "%d %d %s",
+                    Files.size(source),
+                    Files.getLastModifiedTime(source).toMillis(),
+                    source.toAbsolutePath()
+                )
+            );
+        }
+        return stamps.build();
+    }
+
+    /**
+     * Reads the lines of the persisted index.
+     * @return Lines of the persisted index, or no lines if there is no
+     *  persisted index
+     * @throws IOException If couldn't read the persisted index
+     */
+    private List<String> lines() throws IOException {
+        final List<String> lines;
+        if (Files.exists(this.file)) {
+            lines = Files.readAllLines(this.file, StandardCharsets.UTF_8);
+        } else {
+            lines = ImmutableList.of();
+        }
+        return lines;
+    }
+
+    /**
+     * Checks if the persisted index describes the sources as they are now.
+     * @param lines Lines of the persisted index
+     * @param stamps Current state of the source files
+     * @return True iff the persisted index may be used
+     */
+    private static boolean isFresh(
+        final List<String> lines,
+        final ImmutableList<String> stamps
+    ) {
+        return lines.size() > stamps.size()
+            && LexemeIndex.HEADER.equals(lines.get(0))
+            && stamps.equals(lines.subList(1, stamps.size() + 1));
+    }
+
+    /**
+     * Reads the lexemes of the persisted index.
+     * @param lexemes Lines of lexemes of the persisted index
+     * @return Places of lexemes' markup by concept identifiers
+     * @throws IOException If the persisted index is malformed
+     */
+    private ImmutableMap<String, LexemeLocation> persisted(
+        final List<String> lexemes
+    ) throws IOException {
+        final ImmutableMap.Builder<String, LexemeLocation> locations =
+            ImmutableMap.builder();
+        for (final String line : lexemes) {
+            final List<String> fields = LexemeIndex.SPACE.splitToList(line);
+            if (fields.size() != LexemeIndex.FIELDS) {
+                throw new IOException(
+                    String.format(
+                        "Malformed line \"%s\" in lexeme index %s",
+                        line,
+                        this.file
+                    )
+                );
+            }
+            locations.put(
+                fields.get(0),
+                new LexemeLocation(
+                    Integer.parseInt(fields.get(1)),
+                    Long.parseLong(fields.get(2)),
+                    Integer.parseInt(fields.get(LexemeIndex.FIELDS - 1))
+                )
+            );
+        }
+        return locations.build();
+    }
+
+    /**
+     * Writes the index alongside the sources, if the location of the index
+     * allows it.
+     * @param stamps Current state of the source files
+     * @param locations Places of lexemes' markup by concept identifiers
+     */
+    @SuppressWarnings("PMD.EmptyCatchBlock")
+    private void persist(
+        final ImmutableList<String> stamps,
+        final ImmutableMap<String, LexemeLocation> locations
+    ) {
+        final ImmutableList.Builder<String> lines = ImmutableList.builder();
+        lines.add(LexemeIndex.HEADER);
+        lines.addAll(stamps);
+        locations.forEach(
+            (concept, location) -> lines.add(
+                String.format("%s %s", concept, location.serialized())
+            )
+        );
+        try {
+            Files.write(this.file, lines.build(), StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            // The sources are scanned again next time
+        }
+    }
+
+    /**
+     * Scans all the sources.
+     * @return Places of lexemes' markup by concept identifiers
+     * @throws IOException If couldn't read a source
+     */
+    private ImmutableMap<String, LexemeLocation> scanned() throws IOException {
+        final ImmutableMap.Builder<String, LexemeLocation> locations =
+            ImmutableMap.builder();
+        for (int source = 0; source < this.sources.size(); ++source) {
+            this.scan(source, locations);
+        }
+        return locations.build();
+    }
+
+    /**
+     * Finds the markup of each lexeme in a source without parsing it. A
+     * lexeme starts with a concept identifier and ends with the brace that
+     * closes its word forms. Lexemes' markup is ASCII outside of the word
+     * forms, so the source is scanned byte by byte.
+     * @param source Index of the source
+     * @param locations Where to put places of lexemes' markup
+     * @throws IOException If couldn't read the source
+     * @checkstyle ExecutableStatementCountCheck (50 lines)
+     */
+    private void scan(
+        final int source,
+        final ImmutableMap.Builder<String, LexemeLocation> locations
+    ) throws IOException {
+        final StringBuilder concept = new StringBuilder();
+        long start = -1L;
+        boolean forms = false;
+        long position = 0L;
+        try (final InputStream input = new BufferedInputStream(
+            Files.newInputStream(this.sources.get(source))
+        )) {
+            for (int next = input.read(); next != -1; next = input.read()) {
+                if (forms) {
+                    if (next == '}') {
+                        locations.put(
+                            concept.toString(),
+                            new LexemeLocation(
+                                source,
+                                start,
+                                (int) (position - start + 1)
+                            )
+                        );
+                        concept.setLength(0);
+                        start = -1L;
+                        forms = false;
+                    }
+                } else if (next == '{') {
+                    forms = true;
+                } else if (start < 0 && !Character.isWhitespace(next)) {
+                    start = position;
+                    concept.append((char) next);
+                } else if (concept.length() == position - start
+                    && (next == '.' || next >= 'A' && next <= 'Z')) {
+                    concept.append((char) next);
+                }
+                ++position;
+            }
+        }
+        if (start >= 0) {
+            throw new IOException(
+                String.format(
+                    "Lexeme %s in %s is not closed",
+                    concept,
+                    this.sources.get(source)
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Place of the markup of a single lexeme in one of the source files of a
+ * vocabulary.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class LexemeLocation {
+    /**
+     * Index of the source file.
+     */
+    private final transient int source;
+
+    /**
+     * Offset of the first byte of the markup in the file.
+     */
+    private final transient long offset;
+
+    /**
+     * Number of bytes in the markup.
+     */
+    private final transient int length;
+
+    /**
+     * Ctor.
+     * @param file Index of the source file
+     * @param start Offset of the first byte of the markup in the file
+     * @param bytes Number of bytes in the markup
+     */
+    LexemeLocation(final int file, final long start, final int bytes) {
+        this.source = file;
+        this.offset = start;
+        this.length = bytes;
+    }
+
+    /**
+     * Reads the markup of the lexeme.
+     * @param sources Source files of the vocabulary
+     * @return Markup of the lexeme
+     * @throws IOException If couldn't read the markup
+     */
+    String markup(final List<Path> sources) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(this.length);
+        try (final FileChannel channel = FileChannel.open(
+            sources.get(this.source),
+            StandardOpenOption.READ
+        )) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, this.offset + buffer.position())
+                    < 0) {
+                    throw new EOFException(
+                        String.format(
+                            "File %s ended before the lexeme at %d",
+                            sources.get(this.source),
+                            this.offset
+                        )
+                    );
+                }
+            }
+        }
+        buffer.flip();
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+
+    /**
+     * Serializes this location for a line of a persisted index.
+     * @return Source index, offset and length separated by spaces
+     */
+    String serialized() {
+        return String.format(
+            "%d %d %d",
+            this.source,
+            this.offset,
+            this.length
+        );
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.MissingTemplateException;
+import org.tendiwa.inflectible.Template;
+import org.tendiwa.inflectible.TemplateName;
+import org.tendiwa.inflectible.Templatuary;
+import org.tenidwa.collections.utils.Rethrowing;
+
+/**
+ * Templatuary that keeps templates of each namespace in a separate file and
+ * loads a file only on the first request for a template in its namespace.
+ * A namespace is a prefix of dotted template names: templates
+ * {@code log.get_damage} and {@code log.make_sound} are in namespace
+ * {@code log}. If several namespaces match a name, the longest one wins.
+ * <p/>
+ * Each file is loaded at most once even if many threads ask for its
+ * templates at the same time.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class NamespacedTemplatuary implements Templatuary {
+    /**
+     * Grammar of the language of templates.
+     */
+    private final transient Grammar grammar;
+
+    /**
+     * Files with markup of templates by namespaces.
+     */
+    private final transient ImmutableMap<String, Path> sources;
+
+    /**
+     * Templates of the namespaces that are already loaded.
+     */
+    private final transient Map<String, ParsedTemplatuary> loaded;
+
+    /**
+     * Ctor.
+     * @param grammemes Grammar of the language of templates
+     * @param files Files with markup of templates by namespaces
+     */
+    public NamespacedTemplatuary(
+        final Grammar grammemes,
+        final ImmutableMap<String, Path> files
+    ) {
+        this.grammar = grammemes;
+        this.sources = files;
+        this.loaded = new ConcurrentHashMap<>(files.size());
+    }
+
+    @Override
+    public Template template(final TemplateName name) throws Exception {
+        final Optional<String> namespace = this.namespace(name.string());
+        if (!namespace.isPresent()) {
+            throw new MissingTemplateException(name);
+        }
+        return this.templatuary(namespace.get()).template(name);
+    }
+
+    @Override
+    public boolean hasTemplate(final TemplateName name) throws Exception {
+        final Optional<String> namespace = this.namespace(name.string());
+        return namespace.isPresent()
+            && this.templatuary(namespace.get()).hasTemplate(name);
+    }
+
+    /**
+     * Enumerates names of the templates that are already loaded.
+     * @param prefix Prefix of the names
+     * @return Sorted names of loaded templates that start with the prefix
+     * @throws Exception If couldn't obtain the names
+     */
+    public ImmutableSortedSet<String> loadedNames(final String prefix)
+        throws Exception {
+        final ImmutableSortedSet.Builder<String> names =
+            ImmutableSortedSet.naturalOrder();
+        for (final ParsedTemplatuary templatuary : this.loaded.values()) {
+            templatuary.names()
+                .stream()
+                .filter(name -> name.startsWith(prefix))
+                .forEach(names::add);
+        }
+        return names.build();
+    }
+
+    /**
+     * Finds the longest namespace that a template name is in.
+     * @param name Template name
+     * @return Namespace, or nothing if the name is in none of the namespaces
+     */
+    private Optional<String> namespace(final String name) {
+        String prefix = name;
+        while (!this.sources.containsKey(prefix) && prefix.indexOf('.') > 0) {
+            prefix = prefix.substring(0, prefix.lastIndexOf('.'));
+        }
+        final Optional<String> namespace;
+        if (this.sources.containsKey(prefix)) {
+            namespace = Optional.of(prefix);
+        } else {
+            namespace = Optional.empty();
+        }
+        return namespace;
+    }
+
+    /**
+     * Obtains templates of a namespace, loading them if necessary.
+     * @param namespace Namespace
+     * @return Templates of the namespace
+     */
+    private ParsedTemplatuary templatuary(final String namespace) {
+        return this.loaded.computeIfAbsent(
+            namespace,
+            Rethrowing.rethrowFunction(this::load)
+        );
+    }
+
+    /**
+     * Loads templates of a namespace from its file.
+     * @param namespace Namespace
+     * @return Templates of the namespace
+     * @throws Exception If couldn't read or parse the file
+     */
+    private ParsedTemplatuary load(final String namespace) throws Exception {
+        try (final InputStream input =
+            Files.newInputStream(this.sources.get(namespace))) {
+            return new ParsedTemplatuary(
+                this.grammar,
+                ImmutableList.of(input)
+            );
+        }
+    }
+}
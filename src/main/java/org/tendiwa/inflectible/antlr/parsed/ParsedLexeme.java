@@ -25,6 +25,7 @@ package org.tendiwa.inflectible.antlr.parsed;
 
 import com.google.common.collect.ImmutableMap;
 import org.tendiwa.inflectible.BasicLexeme;
+import org.tendiwa.inflectible.Concept;
 import org.tendiwa.inflectible.GmEmpty;
 import org.tendiwa.inflectible.Grammar;
 import org.tendiwa.inflectible.GrammaticalMeaning;
@@ -33,6 +34,8 @@ import org.tendiwa.inflectible.PartOfSpeech;
 import org.tendiwa.inflectible.Spelling;
 import org.tendiwa.inflectible.antlr.LexemeParser;
 import org.tendiwa.inflectible.inflection.LxWithSuppletivism;
+import org.tendiwa.inflectible.inflection.ParadigmPool;
+import org.tendiwa.inflectible.offheap.OffHeapImage;
 
 /**
  * {@link Lexeme} constructed from an ANTLR parse tree.
@@ -82,6 +85,69 @@ final class ParsedLexeme implements Lexeme {
         return this.delegate().defaultSpelling();
     }
 
+    /**
+     * Creates a lexeme with all of its word forms computed in advance.
+     * @return Lexeme with an explicit table of word forms
+     * @throws Exception If fails
+     * @see LxWithSuppletivism#expanded()
+     */
+    Lexeme expanded() throws Exception {
+        final Lexeme answer;
+        if (this.ctx.ELLIPSIS() == null) {
+            answer = this.delegate();
+        } else {
+            answer = new LxWithSuppletivism(
+                this.partOfSpeech(),
+                this.grammemes(),
+                this.wordForms()
+            ).expanded();
+        }
+        return answer;
+    }
+
+    /**
+     * Creates a lexeme with all of its word forms computed in advance and
+     * stored as a stem and a paradigm shared with other lexemes of the pool.
+     * @param pool Pool of paradigms
+     * @return Lexeme with a shared paradigm
+     * @throws Exception If fails
+     * @see LxWithSuppletivism#expanded(ParadigmPool)
+     */
+    Lexeme expanded(final ParadigmPool pool) throws Exception {
+        final Lexeme answer;
+        if (this.ctx.ELLIPSIS() == null) {
+            answer = pool.lexeme(this.grammemes(), this.wordForms());
+        } else {
+            answer = new LxWithSuppletivism(
+                this.partOfSpeech(),
+                this.grammemes(),
+                this.wordForms()
+            ).expanded(pool);
+        }
+        return answer;
+    }
+
+    /**
+     * Adds this lexeme to an off-heap image. A lexeme whose word forms are
+     * generated is stored with a word form for each grammatical meaning of
+     * its part of speech.
+     * @param image Off-heap image
+     * @param concept Concept of this lexeme
+     * @throws Exception If fails
+     */
+    void addTo(final OffHeapImage image, final Concept concept)
+        throws Exception {
+        if (this.ctx.ELLIPSIS() == null) {
+            image.add(concept, this.grammemes(), this.wordForms());
+        } else {
+            image.add(
+                concept,
+                this.expanded(),
+                this.partOfSpeech().meaningVariations()
+            );
+        }
+    }
+
     /**
      * Creates a lexeme with word forms and persistent grammatical meaning
      * obtained from the {@link ParsedLexeme#ctx}.
@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.HashSet;
+import java.util.Set;
+import org.tendiwa.inflectible.BasicMultipartTemplate;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.MultipartTemplate;
+import org.tendiwa.inflectible.MultipartText;
+import org.tendiwa.inflectible.Template;
+import org.tendiwa.inflectible.Vocabulary;
+import org.tendiwa.inflectible.antlr.TemplateParser;
+
+/**
+ * {@link MultipartTemplate} parsed from an ANTLR parse tree. Parts are
+ * created once, with the template, and the body of each part is parsed only
+ * when the part is rendered.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class ParsedMultipartTemplate implements MultipartTemplate {
+    /**
+     * Template with the parts.
+     */
+    private final transient MultipartTemplate template;
+
+    /**
+     * Ctor.
+     * @param grammemes Grammar of the language of this text
+     * @param context ANTLR parse tree of a multipart text template
+     */
+    ParsedMultipartTemplate(
+        final Grammar grammemes,
+        final TemplateParser.TemplateContext context
+    ) {
+        this.template = ParsedMultipartTemplate.delegate(grammemes, context);
+    }
+
+    @Override
+    public String fillUp(
+        final ImmutableList<Lexeme> arguments,
+        final Vocabulary vocabulary
+    ) throws Exception {
+        return this.template.fillUp(arguments, vocabulary);
+    }
+
+    @Override
+    public MultipartText parts(
+        final ImmutableList<Lexeme> arguments,
+        final Vocabulary vocabulary
+    ) throws Exception {
+        return this.template.parts(arguments, vocabulary);
+    }
+
+    /**
+     * Creates a template with a part for each part of the markup.
+     * @param grammar Grammar of the language of the template
+     * @param context ANTLR parse tree of a multipart text template
+     * @return Template from markup
+     */
+    private static MultipartTemplate delegate(
+        final Grammar grammar,
+        final TemplateParser.TemplateContext context
+    ) {
+        final ImmutableMap.Builder<String, Template> parts =
+            ImmutableMap.builder();
+        final Set<String> names = new HashSet<>();
+        for (final TemplateParser.TemplatePartContext part
+            : context.templatePart()) {
+            final String name = part.partName().getText();
+            if (!names.add(name)) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Template \"%s\" has more than one part named \"%s\"",
+                        context.id().getText(),
+                        name
+                    )
+                );
+            }
+            parts.put(
+                name,
+                new ParsedTemplate(grammar, context, part.templateBody())
+            );
+        }
+        return new BasicMultipartTemplate(parts.build());
+    }
+}
@@ -28,6 +28,7 @@ import org.tendiwa.inflectible.GmEmpty;
 import org.tendiwa.inflectible.GrStatic;
 import org.tendiwa.inflectible.LrFromArgument;
 import org.tendiwa.inflectible.Placeholder;
+import org.tendiwa.inflectible.Spelling;
 import org.tendiwa.inflectible.TemplateBodyPiece;
 import org.tendiwa.inflectible.Vocabulary;
 import org.tendiwa.inflectible.antlr.TemplateParser;
@@ -61,6 +62,23 @@ public final class ParsedSinglePartPlaceholder implements TemplateBodyPiece {
         final ActualArguments arguments,
         final Vocabulary vocabulary
     ) throws Exception {
+        return this.delegate().fillUp(arguments, vocabulary);
+    }
+
+    @Override
+    public Spelling spelling(
+        final ActualArguments arguments,
+        final Vocabulary vocabulary
+    ) throws Exception {
+        return this.delegate().spelling(arguments, vocabulary);
+    }
+
+    /**
+     * Creates a placeholder that does what this placeholder is supposed to
+     * do.
+     * @return Placeholder
+     */
+    private TemplateBodyPiece delegate() {
         return new Placeholder(
             new LrFromArgument(
                 new AnParsedCapitalizable(
@@ -73,7 +91,6 @@ public final class ParsedSinglePartPlaceholder implements TemplateBodyPiece {
             new SrParsedArgumentCapitalization(
                 this.ctx.capitalizableArgumentName()
             )
-        )
-            .fillUp(arguments, vocabulary);
+        );
     }
 }
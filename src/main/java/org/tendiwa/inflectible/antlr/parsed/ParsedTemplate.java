@@ -24,11 +24,14 @@
 package org.tendiwa.inflectible.antlr.parsed;
 
 import com.google.common.collect.ImmutableList;
+import java.util.Optional;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.tendiwa.inflectible.ArgumentName;
 import org.tendiwa.inflectible.BasicTemplate;
 import org.tendiwa.inflectible.Grammar;
 import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.PiPhonetic;
 import org.tendiwa.inflectible.Template;
 import org.tendiwa.inflectible.TemplateBodyPiece;
 import org.tendiwa.inflectible.Vocabulary;
@@ -53,6 +56,11 @@ final class ParsedTemplate implements Template {
      */
     private final transient TemplateParser.TemplateContext ctx;
 
+    /**
+     * ANTLR parse tree of the body of this template.
+     */
+    private final transient ParseTree body;
+
     /**
      * Ctor.
      * @param grammemes Grammar of the language of this text
@@ -61,9 +69,25 @@ final class ParsedTemplate implements Template {
     ParsedTemplate(
         final Grammar grammemes,
         final TemplateParser.TemplateContext context
+    ) {
+        this(grammemes, context, context);
+    }
+
+    /**
+     * Ctor.
+     * @param grammemes Grammar of the language of this text
+     * @param context ANTLR parse tree of a text template
+     * @param markup ANTLR parse tree of the body of the text template, or of
+     *  one of its parts
+     */
+    ParsedTemplate(
+        final Grammar grammemes,
+        final TemplateParser.TemplateContext context,
+        final ParseTree markup
     ) {
         this.grammar = grammemes;
         this.ctx = context;
+        this.body = markup;
     }
 
     @Override
@@ -107,6 +131,17 @@ final class ParsedTemplate implements Template {
          */
         private transient ImmutableList.Builder<TemplateBodyPiece> pieces;
 
+        /**
+         * Basic variant of a word from a phonetic placeholder that waits for
+         * the word to agree with.
+         */
+        private transient Optional<String> phonetic;
+
+        /**
+         * Pieces after the pending phonetic placeholder.
+         */
+        private transient ImmutableList.Builder<TemplateBodyPiece> absorbed;
+
         /**
          * Argument names in the order as they appear in markup.
          */
@@ -125,11 +160,25 @@ final class ParsedTemplate implements Template {
         public void enterTwoPartPlaceholder(
             final TemplateParser.TwoPartPlaceholderContext context
         ) {
-            this.pieces.add(
+            this.add(
                 new ParsedTwoPartVariableConceptPlaceholder(
                     ParsedTemplate.this.grammar,
                     context
-                )
+                ),
+                false
+            );
+        }
+
+        @Override
+        public void enterVocabularyPlaceholder(
+            final TemplateParser.VocabularyPlaceholderContext context
+        ) {
+            this.add(
+                new ParsedVocabularyPlaceholder(
+                    ParsedTemplate.this.grammar,
+                    context
+                ),
+                false
             );
         }
 
@@ -137,8 +186,9 @@ final class ParsedTemplate implements Template {
         public void enterRawText(
             final TemplateParser.RawTextContext context
         ) {
-            this.pieces.add(
-                new PiParsedPlainText(context)
+            this.add(
+                new PiParsedPlainText(context),
+                context.getText().trim().isEmpty()
             );
         }
 
@@ -146,11 +196,56 @@ final class ParsedTemplate implements Template {
         public void enterSinglePartPlaceholder(
             final TemplateParser.SinglePartPlaceholderContext context
         ) {
-            this.pieces.add(
-                new ParsedSinglePartPlaceholder(context)
+            this.add(
+                new ParsedSinglePartPlaceholder(context),
+                false
             );
         }
 
+        @Override
+        public void enterPhoneticPlaceholder(
+            final TemplateParser.PhoneticPlaceholderContext context
+        ) {
+            this.flush();
+            this.phonetic = Optional.of(context.PHONETIC_WORD().getText());
+            this.absorbed = ImmutableList.builder();
+        }
+
+        /**
+         * Adds a piece to the template, or to the pending phonetic
+         * placeholder. The phonetic placeholder takes all the blank pieces
+         * after it and the first non-blank one.
+         * @param piece Piece
+         * @param blank Whether the piece is whitespace
+         */
+        private void add(final TemplateBodyPiece piece, final boolean blank) {
+            if (this.phonetic.isPresent()) {
+                this.absorbed.add(piece);
+                if (!blank) {
+                    this.flush();
+                }
+            } else {
+                this.pieces.add(piece);
+            }
+        }
+
+        /**
+         * Adds the pending phonetic placeholder to the template, if there is
+         * one.
+         */
+        private void flush() {
+            if (this.phonetic.isPresent()) {
+                this.pieces.add(
+                    new PiPhonetic(
+                        this.phonetic.get(),
+                        ParsedTemplate.this.grammar.phonetics(),
+                        this.absorbed.build()
+                    )
+                );
+                this.phonetic = Optional.empty();
+            }
+        }
+
         /**
          * Walk the ANTLR parse tree and construct a {@link Template} for
          * it.
@@ -158,7 +253,9 @@ final class ParsedTemplate implements Template {
          */
         private Template template() {
             this.pieces = ImmutableList.builder();
-            ParseTreeWalker.DEFAULT.walk(this, ParsedTemplate.this.ctx);
+            this.phonetic = Optional.empty();
+            ParseTreeWalker.DEFAULT.walk(this, ParsedTemplate.this.body);
+            this.flush();
             return new BasicTemplate(
                 this.arguments,
                 this.pieces.build()
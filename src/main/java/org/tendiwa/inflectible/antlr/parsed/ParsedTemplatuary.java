@@ -24,14 +24,21 @@
 package org.tendiwa.inflectible.antlr.parsed;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.tendiwa.inflectible.BasicTemplatuary;
 import org.tendiwa.inflectible.Grammar;
 import org.tendiwa.inflectible.Template;
 import org.tendiwa.inflectible.TemplateName;
 import org.tendiwa.inflectible.Templatuary;
+import org.tendiwa.inflectible.antlr.TemplateParser;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tendiwa.inflectible.metrics.Metrics;
+import org.tenidwa.collections.utils.Collectors;
 import org.tenidwa.collections.utils.Rethrowing;
 
 /**
@@ -51,6 +58,11 @@ public final class ParsedTemplatuary implements Templatuary {
      */
     private final transient Grammar grammar;
 
+    /**
+     * Parsed templates by their names.
+     */
+    private final transient ImmutableMap<TemplateName, Template> templates;
+
     /**
      * Resulting texts.
      */
@@ -68,7 +80,8 @@ public final class ParsedTemplatuary implements Templatuary {
     ) throws Exception {
         this.inputs = input;
         this.grammar = grammemes;
-        this.templatuary = this.parseTemplates();
+        this.templates = this.parseTemplates();
+        this.templatuary = new BasicTemplatuary(this.templates);
     }
 
     @Override
@@ -81,29 +94,76 @@ public final class ParsedTemplatuary implements Templatuary {
         return this.templatuary.hasTemplate(identifier);
     }
 
+    /**
+     * Returns names of all the templates.
+     * @return Names of the templates
+     * @throws Exception If couldn't obtain a name
+     */
+    ImmutableSet<String> names() throws Exception {
+        return this.templates.keySet()
+            .stream()
+            .map(Rethrowing.rethrowFunction(TemplateName::string))
+            .collect(Collectors.toImmutableSet());
+    }
+
     // To be refactored in #47
     /**
      * Parse templates.
-     * @return Templatuary with templates.
+     * @return Templates by their names.
      * @throws Exception If couldn't parse
      */
-    private Templatuary parseTemplates() throws Exception {
-        return new BasicTemplatuary(
-            ImmutableMap.copyOf(
-                this.inputs.stream()
-                    .map(
-                        Rethrowing.rethrowFunction(
-                            BasicTemplateParser::new
-                        )
+    private ImmutableMap<TemplateName, Template> parseTemplates()
+        throws Exception {
+        return ImmutableMap.copyOf(
+            IntStream.range(0, this.inputs.size())
+                .boxed()
+                .flatMap(Rethrowing.rethrowFunction(this::templates))
+                .collect(
+                    java.util.stream.Collectors.toMap(
+                        context -> new TnParsed(context.id()),
+                        this::parsed
                     )
-                    .flatMap(parser -> parser.templates().template().stream())
-                    .collect(
-                        Collectors.toMap(
-                            context -> new TnParsed(context.id()),
-                            context -> new ParsedTemplate(this.grammar, context)
-                        )
-                    )
-            )
+                )
+        );
+    }
+
+    /**
+     * Creates a template from its parse tree.
+     * @param context ANTLR parse tree of a template
+     * @return Template, either a plain or a multipart one
+     */
+    private Template parsed(final TemplateParser.TemplateContext context) {
+        final Template template;
+        if (context.templatePart().isEmpty()) {
+            template = new ParsedTemplate(this.grammar, context);
+        } else {
+            template = new ParsedMultipartTemplate(this.grammar, context);
+        }
+        return template;
+    }
+
+    /**
+     * Parses markup of templates from one of the input streams.
+     * @param source Index of the input stream
+     * @return Parsed templates
+     * @throws IOException If reading from the stream fails
+     */
+    private Stream<TemplateParser.TemplateContext> templates(final int source)
+        throws IOException {
+        final Metrics metrics = Instrumentation.INSTANCE.metrics();
+        final long start = metrics.clock();
+        final List<TemplateParser.TemplateContext> templates =
+            new BasicTemplateParser(this.inputs.get(source))
+                .templates()
+                .template();
+        metrics.load(
+            String.format(
+                "%s#%d",
+                ParsedTemplatuary.class.getSimpleName(),
+                source
+            ),
+            metrics.clock() - start
         );
+        return templates.stream();
     }
 }
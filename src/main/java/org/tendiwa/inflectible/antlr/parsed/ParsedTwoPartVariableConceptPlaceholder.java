@@ -28,6 +28,7 @@ import org.tendiwa.inflectible.ActualArguments;
 import org.tendiwa.inflectible.Grammar;
 import org.tendiwa.inflectible.LrFromArgument;
 import org.tendiwa.inflectible.Placeholder;
+import org.tendiwa.inflectible.Spelling;
 import org.tendiwa.inflectible.TemplateBodyPiece;
 import org.tendiwa.inflectible.Vocabulary;
 import org.tendiwa.inflectible.antlr.TemplateParser;
@@ -71,6 +72,23 @@ final class ParsedTwoPartVariableConceptPlaceholder
         final ActualArguments arguments,
         final Vocabulary vocabulary
     ) throws Exception {
+        return this.delegate().fillUp(arguments, vocabulary);
+    }
+
+    @Override
+    public Spelling spelling(
+        final ActualArguments arguments,
+        final Vocabulary vocabulary
+    ) throws Exception {
+        return this.delegate().spelling(arguments, vocabulary);
+    }
+
+    /**
+     * Creates a placeholder that does what this placeholder is supposed to
+     * do.
+     * @return Placeholder
+     */
+    private TemplateBodyPiece delegate() {
         return new Placeholder(
             new LrFromArgument(
                 new AnParsedCapitalizable(
@@ -80,12 +98,12 @@ final class ParsedTwoPartVariableConceptPlaceholder
             new GrParsedStaticOrAgreement(
                 this.grammar,
                 Optional.ofNullable(this.ctx.grammaticalMeaning().grammemes()),
-                Optional.ofNullable(this.ctx.grammaticalMeaning().agreement())
+                Optional.ofNullable(this.ctx.grammaticalMeaning().agreement()),
+                Optional.ofNullable(this.ctx.grammaticalMeaning().quantity())
             ),
             new SrParsedArgumentCapitalization(
                 this.ctx.capitalizableArgumentName()
             )
-        )
-            .fillUp(arguments, vocabulary);
+        );
     }
 }
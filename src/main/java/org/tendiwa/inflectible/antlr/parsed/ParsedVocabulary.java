@@ -26,13 +26,22 @@ package org.tendiwa.inflectible.antlr.parsed;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
-import org.tendiwa.inflectible.BasicVocabulary;
+import java.util.concurrent.Callable;
+import org.tendiwa.inflectible.ArrayVocabulary;
 import org.tendiwa.inflectible.Concept;
+import org.tendiwa.inflectible.ConceptRegistry;
 import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.InternedConcept;
 import org.tendiwa.inflectible.Lexeme;
 import org.tendiwa.inflectible.Vocabulary;
-import org.tenidwa.collections.utils.Rethrowing;
+import org.tendiwa.inflectible.antlr.LexemeParser;
+import org.tendiwa.inflectible.inflection.ExLazy;
+import org.tendiwa.inflectible.inflection.Expansion;
+import org.tendiwa.inflectible.inflection.ParadigmPool;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tendiwa.inflectible.metrics.Metrics;
 
 /**
  * A vocabulary of lexemes that identifies each lexeme by a unique string.
@@ -52,6 +61,21 @@ public final class ParsedVocabulary implements Vocabulary {
      */
     private final transient Grammar grammar;
 
+    /**
+     * Policy of expanding the lexemes into tables of word forms.
+     */
+    private final transient Expansion expansion;
+
+    /**
+     * Paradigms shared by the lexemes.
+     */
+    private final transient ParadigmPool paradigms;
+
+    /**
+     * Registry of concepts of the lexemes.
+     */
+    private final transient ConceptRegistry registry;
+
     // To be refactored in #47
     /**
      * Found lexemes.
@@ -59,7 +83,7 @@ public final class ParsedVocabulary implements Vocabulary {
     private final transient Vocabulary vocabulary;
 
     /**
-     * Ctor.
+     * Ctor. Expands each lexeme on its first use.
      * @param grammemes Grammar of the language of the lexemes
      * @param sources Input streams with lexemes' markup
      * @throws IOException If reading from any stream fails
@@ -67,10 +91,99 @@ public final class ParsedVocabulary implements Vocabulary {
     public ParsedVocabulary(
         final Grammar grammemes,
         final List<InputStream> sources
+    ) throws IOException {
+        this(grammemes, sources, new ExLazy());
+    }
+
+    /**
+     * Ctor. Lexemes of this vocabulary share paradigms only with each other.
+     * @param grammemes Grammar of the language of the lexemes
+     * @param sources Input streams with lexemes' markup
+     * @param policy Policy of expanding the lexemes into tables of word forms
+     * @throws IOException If reading from any stream or expanding lexemes
+     *  fails
+     */
+    public ParsedVocabulary(
+        final Grammar grammemes,
+        final List<InputStream> sources,
+        final Expansion policy
+    ) throws IOException {
+        this(
+            grammemes,
+            sources,
+            policy,
+            new ParadigmPool(grammemes.phonetics())
+        );
+    }
+
+    /**
+     * Ctor. Use the same pool for several vocabularies to share paradigms
+     * between their lexemes.
+     * @param grammemes Grammar of the language of the lexemes
+     * @param sources Input streams with lexemes' markup
+     * @param policy Policy of expanding the lexemes into tables of word forms
+     * @param pool Pool of paradigms shared by the lexemes
+     * @throws IOException If reading from any stream or expanding lexemes
+     *  fails
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ParsedVocabulary(
+        final Grammar grammemes,
+        final List<InputStream> sources,
+        final Expansion policy,
+        final ParadigmPool pool
+    ) throws IOException {
+        this(grammemes, sources, policy, pool, new ConceptRegistry());
+    }
+
+    /**
+     * Ctor. Expands each lexeme on its first use. Concepts of the lexemes are
+     * interned in the registry, so lexemes of {@link InternedConcept}s from
+     * the same registry, such as generated concept constants, are found by
+     * their ids.
+     * @param grammemes Grammar of the language of the lexemes
+     * @param sources Input streams with lexemes' markup
+     * @param ids Registry of concepts
+     * @throws IOException If reading from any stream fails
+     */
+    public ParsedVocabulary(
+        final Grammar grammemes,
+        final List<InputStream> sources,
+        final ConceptRegistry ids
+    ) throws IOException {
+        this(
+            grammemes,
+            sources,
+            new ExLazy(),
+            new ParadigmPool(grammemes.phonetics()),
+            ids
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param grammemes Grammar of the language of the lexemes
+     * @param sources Input streams with lexemes' markup
+     * @param policy Policy of expanding the lexemes into tables of word forms
+     * @param pool Pool of paradigms shared by the lexemes
+     * @param ids Registry of concepts
+     * @throws IOException If reading from any stream or expanding lexemes
+     *  fails
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ParsedVocabulary(
+        final Grammar grammemes,
+        final List<InputStream> sources,
+        final Expansion policy,
+        final ParadigmPool pool,
+        final ConceptRegistry ids
     ) throws IOException {
         super();
         this.input = sources;
         this.grammar = grammemes;
+        this.expansion = policy;
+        this.paradigms = pool;
+        this.registry = ids;
         this.vocabulary = this.delegate();
     }
 
@@ -87,26 +200,58 @@ public final class ParsedVocabulary implements Vocabulary {
     /**
      * Constructs lexemes from markup.
      * @return Lexemes constructed from the markup in the input stream
-     * @throws IOException If reading from any stream fails
+     * @throws IOException If reading from any stream or expanding lexemes
+     *  fails
      */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private Vocabulary delegate() throws IOException {
-        return new BasicVocabulary(
+        final List<LexemeParser.LexemeContext> lexemes = new ArrayList<>(0);
+        for (int source = 0; source < this.input.size(); ++source) {
+            lexemes.addAll(this.lexemes(source));
+        }
+        final ImmutableMap<Concept, Callable<Lexeme>> expansions =
             ImmutableMap.copyOf(
-                this.input
-                    .stream()
-                    .map(
-                        Rethrowing.rethrowFunction(
-                            BasicLexemeParser::new
-                        )
+                lexemes.stream().collect(
+                    java.util.stream.Collectors.toMap(
+                        ctx -> new ParsedConcept(ctx.conceptId()),
+                        ctx -> () -> new ParsedLexeme(this.grammar, ctx)
+                            .expanded(this.paradigms)
                     )
-                    .flatMap(parser -> parser.lexemes().lexeme().stream())
-                    .collect(
-                        java.util.stream.Collectors.toMap(
-                            ctx -> new ParsedConcept(ctx.conceptId()),
-                            ctx -> new ParsedLexeme(this.grammar, ctx)
-                        )
-                    )
-            )
+                )
+            );
+        final Vocabulary answer;
+        // @checkstyle IllegalCatchCheck (8 lines)
+        try {
+            answer = new ArrayVocabulary(
+                this.registry,
+                this.expansion.lexemes(expansions)
+            );
+        } catch (final Exception ex) {
+            throw new IOException("Could not expand lexemes", ex);
+        }
+        return answer;
+    }
+
+    /**
+     * Parses markup of lexemes from one of the input streams.
+     * @param source Index of the input stream
+     * @return Parsed lexemes
+     * @throws IOException If reading from the stream fails
+     */
+    private List<LexemeParser.LexemeContext> lexemes(final int source)
+        throws IOException {
+        final Metrics metrics = Instrumentation.INSTANCE.metrics();
+        final long start = metrics.clock();
+        final List<LexemeParser.LexemeContext> lexemes =
+            new BasicLexemeParser(this.input.get(source)).lexemes().lexeme();
+        metrics.load(
+            String.format(
+                "%s#%d",
+                ParsedVocabulary.class.getSimpleName(),
+                source
+            ),
+            metrics.clock() - start
         );
+        return lexemes;
     }
 }
@@ -28,6 +28,7 @@ import org.tendiwa.inflectible.ActualArguments;
 import org.tendiwa.inflectible.Grammar;
 import org.tendiwa.inflectible.LrFromVocabulary;
 import org.tendiwa.inflectible.Placeholder;
+import org.tendiwa.inflectible.Spelling;
 import org.tendiwa.inflectible.TemplateBodyPiece;
 import org.tendiwa.inflectible.Vocabulary;
 import org.tendiwa.inflectible.antlr.TemplateParser;
@@ -71,6 +72,23 @@ public final class ParsedVocabularyPlaceholder implements TemplateBodyPiece {
         final ActualArguments arguments,
         final Vocabulary vocabulary
     ) throws Exception {
+        return this.delegate().fillUp(arguments, vocabulary);
+    }
+
+    @Override
+    public Spelling spelling(
+        final ActualArguments arguments,
+        final Vocabulary vocabulary
+    ) throws Exception {
+        return this.delegate().spelling(arguments, vocabulary);
+    }
+
+    /**
+     * Creates a placeholder that does what this placeholder is supposed to
+     * do.
+     * @return Placeholder
+     */
+    private TemplateBodyPiece delegate() {
         return new Placeholder(
             new LrFromVocabulary(
                 new CpParsed(
@@ -80,12 +98,12 @@ public final class ParsedVocabularyPlaceholder implements TemplateBodyPiece {
             new GrParsedStaticOrAgreement(
                 this.grammar,
                 Optional.ofNullable(this.ctx.grammemes()),
-                Optional.of(this.ctx.agreement())
+                Optional.ofNullable(this.ctx.agreement()),
+                Optional.ofNullable(this.ctx.quantity())
             ),
             new SrParsedVocabularyCapitalization(
                 this.ctx.vocabularyPointer()
             )
-        )
-            .fillUp(arguments, vocabulary);
+        );
     }
 }
@@ -67,7 +67,7 @@ public final class PiParsedPlainText implements TemplateBodyPiece {
      * @return Plain text from the ANTLR parse tree, but without the backslash
      *  escaping.
      */
-    private String unescapedPlainText() {
+    String unescapedPlainText() {
         return this.ctx.getText()
             .replace("\\[", "[")
             .replace("\\\\", "\\");
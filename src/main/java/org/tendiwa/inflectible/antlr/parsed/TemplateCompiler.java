@@ -0,0 +1,232 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.collect.ImmutableList;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.tendiwa.inflectible.antlr.TemplateParser;
+import org.tendiwa.inflectible.antlr.TemplateParserBaseListener;
+import org.tendiwa.inflectible.compiled.TemplateImage;
+import org.tenidwa.collections.utils.Collectors;
+import org.tenidwa.collections.utils.Rethrowing;
+
+/**
+ * Compiles markup of templates into a {@link TemplateImage}, so they can be
+ * loaded by {@link org.tendiwa.inflectible.compiled.CompiledTemplatuary}
+ * without parsing the markup again.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class TemplateCompiler {
+    /**
+     * Input streams with templates' markup.
+     */
+    private final transient List<InputStream> inputs;
+
+    /**
+     * Ctor.
+     * @param sources Input streams with templates' markup
+     */
+    public TemplateCompiler(final List<InputStream> sources) {
+        this.inputs = sources;
+    }
+
+    /**
+     * Parses all the templates and adds them to an image.
+     * @return Image with the compiled templates
+     * @throws Exception If reading from any stream fails, or a template
+     *  refers to an argument it doesn't declare
+     */
+    public TemplateImage image() throws Exception {
+        final TemplateImage image = new TemplateImage();
+        final Compilation compilation = new Compilation(image);
+        for (final InputStream input : this.inputs) {
+            for (final TemplateParser.TemplateContext template
+                : new BasicTemplateParser(input).templates().template()) {
+                image.template(
+                    new TnParsed(template.id()).string(),
+                    template.declaredArguments()
+                        .argumentName()
+                        .stream()
+                        .map(Compilation::argument)
+                        .collect(Collectors.toImmutableList())
+                );
+                if (template.templatePart().isEmpty()) {
+                    ParseTreeWalker.DEFAULT.walk(compilation, template);
+                } else {
+                    for (final TemplateParser.TemplatePartContext part
+                        : template.templatePart()) {
+                        image.part(part.partName().getText());
+                        ParseTreeWalker.DEFAULT.walk(
+                            compilation,
+                            part.templateBody()
+                        );
+                    }
+                }
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Adds pieces of a template body to an image as they are walked.
+     */
+    private static final class Compilation
+        extends TemplateParserBaseListener {
+        /**
+         * Image.
+         */
+        private final transient TemplateImage image;
+
+        /**
+         * Ctor.
+         * @param target Image
+         */
+        Compilation(final TemplateImage target) {
+            super();
+            this.image = target;
+        }
+
+        @Override
+        public void enterRawText(
+            final TemplateParser.RawTextContext context
+        ) {
+            this.image.text(
+                new PiParsedPlainText(context).unescapedPlainText()
+            );
+        }
+
+        @Override
+        public void enterSinglePartPlaceholder(
+            final TemplateParser.SinglePartPlaceholderContext context
+        ) {
+            this.image.argument(
+                Compilation.capitalizable(context.capitalizableArgumentName()),
+                context.capitalizableArgumentName().capitalizedArgumentName()
+                    != null,
+                ImmutableList.of(),
+                Optional.empty(),
+                Optional.empty()
+            );
+        }
+
+        @Override
+        public void enterTwoPartPlaceholder(
+            final TemplateParser.TwoPartPlaceholderContext context
+        ) {
+            final TemplateParser.GrammaticalMeaningContext meaning =
+                context.grammaticalMeaning();
+            this.image.argument(
+                Compilation.capitalizable(context.capitalizableArgumentName()),
+                context.capitalizableArgumentName().capitalizedArgumentName()
+                    != null,
+                Compilation.grammemes(meaning.grammemes()),
+                Optional.ofNullable(meaning.agreement())
+                    .map(TemplateParser.AgreementContext::argumentName)
+                    .map(Compilation::argument),
+                Optional.ofNullable(meaning.quantity())
+                    .map(TemplateParser.QuantityContext::argumentName)
+                    .map(Compilation::argument)
+            );
+        }
+
+        @Override
+        public void enterVocabularyPlaceholder(
+            final TemplateParser.VocabularyPlaceholderContext context
+        ) {
+            this.image.lexeme(
+                context.vocabularyPointer().conceptId().getText(),
+                context.vocabularyPointer()
+                    .keywordLexeme()
+                    .CAPITALIZED_KEYWORD_LEXEME() != null,
+                Compilation.grammemes(context.grammemes()),
+                Optional.ofNullable(context.agreement())
+                    .map(TemplateParser.AgreementContext::argumentName)
+                    .map(Compilation::argument),
+                Optional.ofNullable(context.quantity())
+                    .map(TemplateParser.QuantityContext::argumentName)
+                    .map(Compilation::argument)
+            );
+        }
+
+        @Override
+        public void enterPhoneticPlaceholder(
+            final TemplateParser.PhoneticPlaceholderContext context
+        ) {
+            this.image.phonetic(context.PHONETIC_WORD().getText());
+        }
+
+        /**
+         * Obtains the name of an argument from markup.
+         * @param context ANTLR parse tree of an argument name
+         * @return Name of the argument
+         */
+        private static String argument(
+            final TemplateParser.ArgumentNameContext context
+        ) {
+            return Rethrowing.rethrowSupplier(new AnParsed(context)::string)
+                .get();
+        }
+
+        /**
+         * Obtains the name of a possibly capitalized argument from markup.
+         * @param context ANTLR parse tree of an argument name
+         * @return Name of the argument in lower case
+         */
+        private static String capitalizable(
+            final TemplateParser.CapitalizableArgumentNameContext context
+        ) {
+            return Rethrowing.rethrowSupplier(
+                new AnParsedCapitalizable(context)::string
+            )
+                .get();
+        }
+
+        /**
+         * Obtains names of grammemes from markup.
+         * @param context ANTLR parse tree of grammemes, or null if there are
+         *  no grammemes in the markup
+         * @return Names of grammemes
+         */
+        private static ImmutableList<String> grammemes(
+            final TemplateParser.GrammemesContext context
+        ) {
+            final ImmutableList<String> grammemes;
+            if (context == null) {
+                grammemes = ImmutableList.of();
+            } else {
+                grammemes = context.GRAMMEME()
+                    .stream()
+                    .map(TerminalNode::getText)
+                    .collect(Collectors.toImmutableList());
+            }
+            return grammemes;
+        }
+    }
+}
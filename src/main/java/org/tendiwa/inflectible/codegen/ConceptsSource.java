@@ -0,0 +1,134 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.codegen;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableSortedSet;
+
+/**
+ * Java source of a class with a constant for each concept of a vocabulary.
+ * Constants are named after concept identifiers, so a typo in a concept is
+ * caught by the compiler. Constants are interned in a registry of the
+ * generated class in the order of their identifiers, so their ids are known
+ * before any vocabulary is loaded. A vocabulary loaded with that registry,
+ * see {@link org.tendiwa.inflectible.antlr.parsed.ParsedVocabulary}, finds
+ * lexemes of the constants by their ids.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class ConceptsSource {
+    /**
+     * Package of the class.
+     */
+    private final transient String pkg;
+
+    /**
+     * Simple name of the class.
+     */
+    private final transient String name;
+
+    /**
+     * Concept identifiers.
+     */
+    private final transient ImmutableSortedSet<String> concepts;
+
+    /**
+     * Ctor.
+     * @param target Package of the class
+     * @param simple Simple name of the class
+     * @param identifiers Concept identifiers
+     */
+    ConceptsSource(
+        final String target,
+        final String simple,
+        final ImmutableSortedSet<String> identifiers
+    ) {
+        this.pkg = target;
+        this.name = simple;
+        this.concepts = identifiers;
+    }
+
+    /**
+     * Generates the source.
+     * @return Java source of the class
+     */
+    String java() {
+        final StringBuilder java = new StringBuilder(
+            String.format(
+                Joiner.on("%n").join(
+                    "package %s;",
+                    "",
+                    "import org.tendiwa.inflectible.ConceptRegistry;",
+                    "import org.tendiwa.inflectible.InternedConcept;",
+                    "",
+                    "// Generated by %s",
+                    "public final class %s {",
+                    "    // Load vocabularies with this registry to find",
+                    "    // lexemes of these constants by their ids",
+                    "    public static final ConceptRegistry REGISTRY =",
+                    "        new ConceptRegistry();",
+                    ""
+                ),
+                this.pkg,
+                FacadeProcessor.class.getName(),
+                this.name
+            )
+        );
+        for (final String concept : this.concepts) {
+            java.append(
+                String.format(
+                    "    public static final InternedConcept %s =%n"
+                        + "        %s.intern(\"%s\");%n",
+                    concept.replace('.', '_'),
+                    this.name,
+                    concept
+                )
+            );
+        }
+        java.append(
+            String.format(
+                Joiner.on("%n").join(
+                    "",
+                    "    private %s() {",
+                    "    }",
+                    "",
+                    "    private static InternedConcept intern(",
+                    "        final String id) {",
+                    "        try {",
+                    "            return %s.REGISTRY.concept(id);",
+                    "        } catch (final Exception ex) {",
+                    "            throw new IllegalStateException(ex);",
+                    "        }",
+                    "    }",
+                    "}",
+                    ""
+                ),
+                this.name,
+                this.name
+            )
+        );
+        return java.toString();
+    }
+}
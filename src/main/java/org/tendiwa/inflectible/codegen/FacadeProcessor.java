@@ -0,0 +1,179 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.codegen;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.tendiwa.inflectible.antlr.TemplateParser;
+import org.tendiwa.inflectible.antlr.parsed.BasicLexemeParser;
+import org.tendiwa.inflectible.antlr.parsed.BasicTemplateParser;
+
+/**
+ * Annotation processor that generates typed facades for templates and
+ * constants for concepts, as asked by {@link GenerateFacade}. It is not
+ * registered as a service, so it has to be named explicitly, e.g. in
+ * {@code annotationProcessors} of maven-compiler-plugin.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+@SupportedAnnotationTypes("org.tendiwa.inflectible.codegen.GenerateFacade")
+@SupportedSourceVersion(SourceVersion.RELEASE_8)
+public final class FacadeProcessor extends AbstractProcessor {
+    @Override
+    public boolean process(
+        final Set<? extends TypeElement> annotations,
+        final RoundEnvironment round
+    ) {
+        for (final Element element
+            : round.getElementsAnnotatedWith(GenerateFacade.class)) {
+            try {
+                this.generate(element);
+            } catch (final IOException | IllegalArgumentException
+                | ParseCancellationException ex) {
+                this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    ex.getMessage(),
+                    element
+                );
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generates a facade and concept constants for an annotated element.
+     * @param element Annotated element
+     * @throws IOException If couldn't read markup or write sources
+     */
+    private void generate(final Element element) throws IOException {
+        final GenerateFacade annotation =
+            element.getAnnotation(GenerateFacade.class);
+        final String pkg = this.processingEnv.getElementUtils()
+            .getPackageOf(element)
+            .getQualifiedName()
+            .toString();
+        final ImmutableList.Builder<TemplateSignature> templates =
+            ImmutableList.builder();
+        for (final String path : annotation.texts()) {
+            try (final InputStream input = this.resource(path)) {
+                for (final TemplateParser.TemplateContext template
+                    : new BasicTemplateParser(input).templates().template()) {
+                    templates.add(FacadeProcessor.signature(template));
+                }
+            }
+        }
+        final ImmutableSortedSet.Builder<String> concepts =
+            ImmutableSortedSet.naturalOrder();
+        for (final String path : annotation.words()) {
+            try (final InputStream input = this.resource(path)) {
+                new BasicLexemeParser(input).lexemes().lexeme().forEach(
+                    lexeme -> concepts.add(lexeme.conceptId().getText())
+                );
+            }
+        }
+        this.write(
+            element,
+            pkg,
+            annotation.facade(),
+            new FacadeSource(pkg, annotation.facade(), templates.build())
+                .java()
+        );
+        this.write(
+            element,
+            pkg,
+            annotation.concepts(),
+            new ConceptsSource(pkg, annotation.concepts(), concepts.build())
+                .java()
+        );
+    }
+
+    /**
+     * Opens a markup file from the class output directory.
+     * @param path Path of the file
+     * @return Input stream with the markup
+     * @throws IOException If couldn't open the file
+     */
+    private InputStream resource(final String path) throws IOException {
+        return this.processingEnv.getFiler()
+            .getResource(StandardLocation.CLASS_OUTPUT, "", path)
+            .openInputStream();
+    }
+
+    /**
+     * Writes a generated class.
+     * @param element Annotated element
+     * @param pkg Package of the class
+     * @param name Simple name of the class
+     * @param java Java source of the class
+     * @throws IOException If couldn't write the source
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private void write(
+        final Element element,
+        final String pkg,
+        final String name,
+        final String java
+    ) throws IOException {
+        try (final Writer writer = this.processingEnv.getFiler()
+            .createSourceFile(String.format("%s.%s", pkg, name), element)
+            .openWriter()) {
+            writer.write(java);
+        }
+    }
+
+    /**
+     * Creates a signature of a parsed template.
+     * @param template ANTLR parse tree of a template
+     * @return Signature of the template
+     */
+    private static TemplateSignature signature(
+        final TemplateParser.TemplateContext template
+    ) {
+        final ImmutableList.Builder<String> arguments =
+            ImmutableList.builder();
+        template.declaredArguments().argumentName().forEach(
+            argument -> arguments.add(argument.getText())
+        );
+        return new TemplateSignature(
+            template.id().getText(),
+            arguments.build(),
+            !template.templatePart().isEmpty()
+        );
+    }
+}
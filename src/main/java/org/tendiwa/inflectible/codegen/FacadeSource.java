@@ -0,0 +1,222 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.codegen;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Java source of a typed facade for templates. The facade has a method for
+ * each template, with a parameter for each of the template's arguments. It
+ * looks up all the templates once when it is created, so its methods don't
+ * look templates up by name.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class FacadeSource {
+    /**
+     * Package of the facade.
+     */
+    private final transient String pkg;
+
+    /**
+     * Simple name of the facade.
+     */
+    private final transient String name;
+
+    /**
+     * Templates of the facade.
+     */
+    private final transient ImmutableList<TemplateSignature> templates;
+
+    /**
+     * Ctor.
+     * @param target Package of the facade
+     * @param simple Simple name of the facade
+     * @param signatures Templates of the facade
+     */
+    FacadeSource(
+        final String target,
+        final String simple,
+        final ImmutableList<TemplateSignature> signatures
+    ) {
+        this.pkg = target;
+        this.name = simple;
+        this.templates = signatures;
+    }
+
+    /**
+     * Generates the source.
+     * @return Java source of the facade
+     */
+    String java() {
+        this.checkUniqueness();
+        final StringBuilder java = new StringBuilder(
+            String.format(
+                Joiner.on("%n").join(
+                    "package %s;",
+                    "",
+                    "import com.google.common.collect.ImmutableList;",
+                    "import org.tendiwa.inflectible.Concept;",
+                    "import org.tendiwa.inflectible.MultipartTemplate;",
+                    "import org.tendiwa.inflectible.MultipartText;",
+                    "import org.tendiwa.inflectible.Template;",
+                    "import org.tendiwa.inflectible.Templatuary;",
+                    "import org.tendiwa.inflectible.TnBasic;",
+                    "import org.tendiwa.inflectible.Vocabulary;",
+                    "",
+                    "// Generated by %s",
+                    "public final class %s {",
+                    "    private final Vocabulary vocabulary;",
+                    ""
+                ),
+                this.pkg,
+                FacadeProcessor.class.getName(),
+                this.name
+            )
+        );
+        for (final TemplateSignature template : this.templates) {
+            java.append(
+                String.format(
+                    "    private final %s %s;%n",
+                    FacadeSource.type(template),
+                    template.method()
+                )
+            );
+        }
+        java.append(
+            String.format(
+                Joiner.on("%n").join(
+                    "",
+                    "    public %s(final Templatuary templatuary,",
+                    "        final Vocabulary vocabulary) throws Exception {",
+                    "        this.vocabulary = vocabulary;",
+                    ""
+                ),
+                this.name
+            )
+        );
+        for (final TemplateSignature template : this.templates) {
+            java.append(
+                String.format(
+                    "        this.%s = (%s) templatuary.template(%n"
+                        + "            new TnBasic(\"%s\"));%n",
+                    template.method(),
+                    FacadeSource.type(template),
+                    template.identifier()
+                )
+            );
+        }
+        java.append(String.format("    }%n"));
+        for (final TemplateSignature template : this.templates) {
+            java.append(FacadeSource.method(template));
+        }
+        java.append(String.format("}%n"));
+        return java.toString();
+    }
+
+    /**
+     * Generates a facade method for a template.
+     * @param template Template
+     * @return Java source of the method
+     */
+    private static String method(final TemplateSignature template) {
+        final List<String> parameters = template.parameters();
+        final String result;
+        final String call;
+        if (template.isMultipart()) {
+            result = "MultipartText";
+            call = "parts";
+        } else {
+            result = "String";
+            call = "fillUp";
+        }
+        return String.format(
+            Joiner.on("%n").join(
+                "",
+                "    public %s %s(%s) throws Exception {",
+                "        return this.%s.%s(",
+                "            ImmutableList.of(%s),",
+                "            this.vocabulary",
+                "        );",
+                "    }",
+                ""
+            ),
+            result,
+            template.method(),
+            parameters.stream()
+                .map(parameter -> String.format("final Concept %s", parameter))
+                .collect(Collectors.joining(", ")),
+            template.method(),
+            call,
+            parameters.stream()
+                .map(
+                    parameter -> String.format(
+                        "%s.lexeme(this.vocabulary)",
+                        parameter
+                    )
+                )
+                .collect(Collectors.joining(", "))
+        );
+    }
+
+    /**
+     * Returns the type of a template's field in the facade.
+     * @param template Template
+     * @return Simple name of a template interface
+     */
+    private static String type(final TemplateSignature template) {
+        final String type;
+        if (template.isMultipart()) {
+            type = "MultipartTemplate";
+        } else {
+            type = "Template";
+        }
+        return type;
+    }
+
+    /**
+     * Checks that no two templates have the same facade method.
+     */
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    private void checkUniqueness() {
+        final Set<String> methods = new HashSet<>(this.templates.size());
+        methods.add("vocabulary");
+        for (final TemplateSignature template : this.templates) {
+            if (!methods.add(template.method())) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Template %s clashes with another template",
+                        template.identifier()
+                    )
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.codegen;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import javax.lang.model.SourceVersion;
+
+/**
+ * Identifier and argument names of a template, which is all a typed facade
+ * needs to know about the template.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class TemplateSignature {
+    /**
+     * Splits template identifiers to words.
+     */
+    private static final Splitter WORDS =
+        Splitter.on(CharMatcher.anyOf("._")).omitEmptyStrings();
+
+    /**
+     * Template identifier.
+     */
+    private final transient String identifier;
+
+    /**
+     * Argument names.
+     */
+    private final transient ImmutableList<String> arguments;
+
+    /**
+     * Whether the template consists of several parts.
+     */
+    private final transient boolean multipart;
+
+    /**
+     * Ctor.
+     * @param name Template identifier
+     * @param args Argument names
+     * @param parts Whether the template consists of several parts
+     */
+    TemplateSignature(
+        final String name,
+        final ImmutableList<String> args,
+        final boolean parts
+    ) {
+        this.identifier = name;
+        this.arguments = args;
+        this.multipart = parts;
+    }
+
+    /**
+     * Returns the template identifier.
+     * @return Template identifier
+     */
+    String identifier() {
+        return this.identifier;
+    }
+
+    /**
+     * Creates a Java identifier for the template's facade method.
+     * @return Template identifier in lower camel case
+     */
+    String method() {
+        final List<String> words =
+            TemplateSignature.WORDS.splitToList(this.identifier);
+        final StringBuilder method = new StringBuilder(words.get(0));
+        for (final String word : words.subList(1, words.size())) {
+            method
+                .append(Character.toUpperCase(word.charAt(0)))
+                .append(word.substring(1));
+        }
+        return TemplateSignature.safe(method.toString());
+    }
+
+    /**
+     * Creates Java identifiers for the template's arguments.
+     * @return Names of parameters of the facade method
+     */
+    ImmutableList<String> parameters() {
+        final ImmutableList.Builder<String> parameters =
+            ImmutableList.builder();
+        for (final String argument : this.arguments) {
+            parameters.add(TemplateSignature.safe(argument));
+        }
+        return parameters.build();
+    }
+
+    /**
+     * Tells if the template consists of several parts.
+     * @return True iff the template is a multipart one
+     */
+    boolean isMultipart() {
+        return this.multipart;
+    }
+
+    /**
+     * Makes a name a valid Java identifier if it is a keyword.
+     * @param name Name
+     * @return Name that is not a keyword
+     */
+    private static String safe(final String name) {
+        final String identifier;
+        if (SourceVersion.isKeyword(name)) {
+            identifier = String.format("%s_", name);
+        } else {
+            identifier = name;
+        }
+        return identifier;
+    }
+}
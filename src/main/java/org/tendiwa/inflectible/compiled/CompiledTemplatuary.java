@@ -0,0 +1,97 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.compiled;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.tendiwa.inflectible.BasicTemplatuary;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.Template;
+import org.tendiwa.inflectible.TemplateName;
+import org.tendiwa.inflectible.Templatuary;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tendiwa.inflectible.metrics.Metrics;
+
+/**
+ * {@link Templatuary} loaded from an image produced by
+ * {@link TemplateImage}. Loading an image doesn't involve lexing or parsing
+ * markup, so neither ANTLR runtime nor the generated lexers and parsers are
+ * loaded.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class CompiledTemplatuary implements Templatuary {
+    /**
+     * Templates from the image.
+     */
+    private final transient Templatuary templatuary;
+
+    /**
+     * Ctor.
+     * @param grammar Grammar of the language of the templates
+     * @param image Image created by {@link TemplateImage#bytes()}
+     * @throws Exception If the image is malformed or refers to grammemes
+     *  that are not in the grammar
+     */
+    public CompiledTemplatuary(
+        final Grammar grammar,
+        final ByteBuffer image
+    ) throws Exception {
+        final Metrics metrics = Instrumentation.INSTANCE.metrics();
+        final long start = metrics.clock();
+        this.templatuary = new BasicTemplatuary(
+            new TemplateDecoder(grammar, image).templates()
+        );
+        metrics.load(
+            CompiledTemplatuary.class.getSimpleName(),
+            metrics.clock() - start
+        );
+    }
+
+    /**
+     * Ctor. Reads an image file saved by {@link TemplateImage#save(Path)}.
+     * @param grammar Grammar of the language of the templates
+     * @param file File with an image
+     * @throws Exception If could not read the file, or the image is
+     *  malformed or refers to grammemes that are not in the grammar
+     */
+    public CompiledTemplatuary(
+        final Grammar grammar,
+        final Path file
+    ) throws Exception {
+        this(grammar, ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    @Override
+    public Template template(final TemplateName name) throws Exception {
+        return this.templatuary.template(name);
+    }
+
+    @Override
+    public boolean hasTemplate(final TemplateName name) throws Exception {
+        return this.templatuary.hasTemplate(name);
+    }
+}
@@ -0,0 +1,298 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.compiled;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+
+/**
+ * Content-addressed directory of images compiled from source files. An entry
+ * is keyed by a SHA-256 hash of the version of this library, a version
+ * supplied by the user of the cache (format of the images, grammar of the
+ * language) and the content of a source file, so an entry is reused only as
+ * long as none of those change.
+ * <p/>
+ * Each entry starts with a magic number, the key, the length and the CRC32
+ * checksum of the image. An entry whose header doesn't match its content is
+ * considered corrupt and is compiled and written anew. Entries are written
+ * to a temporary file first and then moved in place, so concurrent processes
+ * never see half-written entries.
+ * <p/>
+ * The cache only saves time: an entry that can't be read is compiled anew,
+ * and an entry that can't be written, e.g. because the directory is
+ * read-only, is simply compiled again next time.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class SourceCache {
+    /**
+     * Magic number that every entry starts with.
+     */
+    private static final int MAGIC = 0x494E4643;
+
+    /**
+     * Size of a key in bytes.
+     */
+    private static final int KEY = 32;
+
+    /**
+     * Size of an entry header in bytes.
+     */
+    private static final int HEADER =
+        Integer.BYTES + SourceCache.KEY + Integer.BYTES + Long.BYTES;
+
+    /**
+     * Name of the cache in metrics.
+     */
+    private static final String NAME = SourceCache.class.getSimpleName();
+
+    /**
+     * Directory with entries.
+     */
+    private final transient Path directory;
+
+    /**
+     * Version of the images and everything they depend on.
+     */
+    private final transient String version;
+
+    /**
+     * Ctor.
+     * @param dir Directory with entries, created if it doesn't exist
+     * @param ver Version of the images and everything they depend on
+     */
+    public SourceCache(final Path dir, final String ver) {
+        this.directory = dir;
+        this.version = ver;
+    }
+
+    /**
+     * Returns the image compiled from a source file, compiling it only if
+     * there is no valid entry for the file's current content.
+     * @param source Source file
+     * @param compiler Compiler of the source
+     * @return Compiled image
+     * @throws Exception If could not read the source, or compile it
+     */
+    public ByteBuffer compiled(
+        final Path source,
+        final SourceCompiler compiler
+    ) throws Exception {
+        final byte[] content = Files.readAllBytes(source);
+        final byte[] key = this.key(content);
+        final Path entry = this.directory.resolve(
+            String.format("%s.bin", SourceCache.hex(key))
+        );
+        final Optional<ByteBuffer> cached = SourceCache.read(entry, key);
+        Instrumentation.INSTANCE.metrics().cache(
+            SourceCache.NAME,
+            cached.isPresent()
+        );
+        final ByteBuffer image;
+        if (cached.isPresent()) {
+            image = cached.get();
+        } else {
+            image = compiler.compiled(content);
+            this.store(entry, key, image.duplicate());
+        }
+        return image;
+    }
+
+    /**
+     * Computes the key of a source file's content.
+     * @param content Content of a source file
+     * @return SHA-256 hash of the versions and the content
+     * @throws Exception If SHA-256 is not available
+     */
+    private byte[] key(final byte[] content) throws Exception {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(
+            Optional.ofNullable(
+                SourceCache.class.getPackage().getImplementationVersion()
+            )
+                .orElse("")
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        digest.update((byte) 0);
+        digest.update(this.version.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(content);
+        return digest.digest();
+    }
+
+    /**
+     * Writes an entry, if the directory allows it.
+     * @param entry File of the entry
+     * @param key Key of the entry
+     * @param image Compiled image
+     */
+    @SuppressWarnings("PMD.EmptyCatchBlock")
+    private void store(
+        final Path entry,
+        final byte[] key,
+        final ByteBuffer image
+    ) {
+        try {
+            this.write(entry, key, image);
+        } catch (final IOException ex) {
+            // The image is compiled again next time
+        }
+    }
+
+    /**
+     * Writes an entry.
+     * @param entry File of the entry
+     * @param key Key of the entry
+     * @param image Compiled image
+     * @throws IOException If could not write the entry
+     */
+    private void write(
+        final Path entry,
+        final byte[] key,
+        final ByteBuffer image
+    ) throws IOException {
+        Files.createDirectories(this.directory);
+        final ByteBuffer header = ByteBuffer.allocate(SourceCache.HEADER);
+        header.putInt(SourceCache.MAGIC);
+        header.put(key);
+        header.putInt(image.remaining());
+        header.putLong(SourceCache.checksum(image.duplicate()));
+        header.flip();
+        final Path temporary =
+            Files.createTempFile(this.directory, "entry", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.WRITE
+            )) {
+                while (header.hasRemaining() || image.hasRemaining()) {
+                    channel.write(new ByteBuffer[] {header, image});
+                }
+            }
+            Files.move(
+                temporary,
+                entry,
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING
+            );
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Reads an entry and checks that it is intact.
+     * @param entry File of the entry
+     * @param key Expected key of the entry
+     * @return Compiled image, or nothing if there is no entry, or it is
+     *  corrupt or can't be read
+     */
+    private static Optional<ByteBuffer> read(
+        final Path entry,
+        final byte[] key
+    ) {
+        Optional<ByteBuffer> image;
+        try {
+            image = SourceCache.intact(entry, key);
+        } catch (final IOException ex) {
+            image = Optional.empty();
+        }
+        return image;
+    }
+
+    /**
+     * Reads an entry and checks that it is intact, failing if it can't be
+     * read.
+     * @param entry File of the entry
+     * @param key Expected key of the entry
+     * @return Compiled image, or nothing if there is no entry or it is
+     *  corrupt
+     * @throws IOException If could not read an existing entry
+     */
+    private static Optional<ByteBuffer> intact(
+        final Path entry,
+        final byte[] key
+    ) throws IOException {
+        Optional<ByteBuffer> image = Optional.empty();
+        if (Files.isRegularFile(entry)) {
+            final byte[] bytes = Files.readAllBytes(entry);
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            final int length = bytes.length - SourceCache.HEADER;
+            final int start = Integer.BYTES + SourceCache.KEY;
+            if (length >= 0
+                && buffer.getInt(0) == SourceCache.MAGIC
+                && Arrays.equals(
+                    key,
+                    Arrays.copyOfRange(bytes, Integer.BYTES, start)
+                )
+                && buffer.getInt(start) == length
+                && buffer.getLong(start + Integer.BYTES)
+                == SourceCache.checksum(
+                    ByteBuffer.wrap(bytes, SourceCache.HEADER, length)
+                )) {
+                image = Optional.of(
+                    ByteBuffer.wrap(bytes, SourceCache.HEADER, length).slice()
+                );
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Computes a checksum of an image.
+     * @param image Image between the position and the limit of the buffer,
+     *  which are moved to the limit
+     * @return CRC32 checksum of the image
+     */
+    private static long checksum(final ByteBuffer image) {
+        final CRC32 crc = new CRC32();
+        crc.update(image);
+        return crc.getValue();
+    }
+
+    /**
+     * Formats a key as a hexadecimal string.
+     * @param key Key
+     * @return Hexadecimal string
+     */
+    private static String hex(final byte[] key) {
+        final StringBuilder hex = new StringBuilder(key.length * 2);
+        for (final byte octet : key) {
+            hex.append(String.format("%02x", octet));
+        }
+        return hex.toString();
+    }
+}
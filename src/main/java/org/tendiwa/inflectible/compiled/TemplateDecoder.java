@@ -0,0 +1,340 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.compiled;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.tendiwa.inflectible.AnBasic;
+import org.tendiwa.inflectible.AnyPartOfSpeech;
+import org.tendiwa.inflectible.ArgumentName;
+import org.tendiwa.inflectible.BasicMultipartTemplate;
+import org.tendiwa.inflectible.BasicTemplate;
+import org.tendiwa.inflectible.GmValidated;
+import org.tendiwa.inflectible.GrCombined;
+import org.tendiwa.inflectible.GrQuantity;
+import org.tendiwa.inflectible.GrStatic;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.GrammarRule;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.LexicalRule;
+import org.tendiwa.inflectible.LrFromArgument;
+import org.tendiwa.inflectible.LrFromVocabulary;
+import org.tendiwa.inflectible.PiPhonetic;
+import org.tendiwa.inflectible.PiPlainText;
+import org.tendiwa.inflectible.Placeholder;
+import org.tendiwa.inflectible.SrConditionalCapitalization;
+import org.tendiwa.inflectible.Template;
+import org.tendiwa.inflectible.TemplateBodyPiece;
+import org.tendiwa.inflectible.TemplateName;
+
+/**
+ * Reconstructs templates from an image laid out by {@link TemplateImage}.
+ * Reads the pool of constant strings and the grammeme table when created,
+ * and the instructions when asked for templates, so it may be used only
+ * once.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class TemplateDecoder {
+    /**
+     * Grammar of the language of the templates.
+     */
+    private final transient Grammar grammar;
+
+    /**
+     * Image.
+     */
+    private final transient ByteBuffer image;
+
+    /**
+     * Pool of constant strings.
+     */
+    private final transient String[] pool;
+
+    /**
+     * Grammeme table.
+     */
+    private final transient Grammeme[] table;
+
+    /**
+     * Ctor.
+     * @param grammemes Grammar of the language of the templates
+     * @param buffer Image
+     * @throws Exception If the image is malformed or refers to grammemes
+     *  that are not in the grammar
+     */
+    TemplateDecoder(
+        final Grammar grammemes,
+        final ByteBuffer buffer
+    ) throws Exception {
+        this.grammar = grammemes;
+        this.image = TemplateDecoder.checked(buffer.duplicate());
+        this.pool = TemplateDecoder.strings(this.image);
+        this.table = new Grammeme[this.image.getInt()];
+        for (int index = 0; index < this.table.length; ++index) {
+            this.table[index] = grammemes.grammemeByName(
+                this.pool[this.image.getInt()]
+            );
+        }
+    }
+
+    /**
+     * Reconstructs all the templates in the image.
+     * @return Templates by their names
+     */
+    ImmutableMap<TemplateName, Template> templates() {
+        final ImmutableMap.Builder<TemplateName, Template> templates =
+            ImmutableMap.builder();
+        byte opcode = this.image.get();
+        while (opcode == TemplateImage.TEMPLATE) {
+            final String name = this.pool[this.image.getInt()];
+            final ImmutableList.Builder<ArgumentName> builder =
+                ImmutableList.builder();
+            final int count = this.image.getInt();
+            for (int index = 0; index < count; ++index) {
+                builder.add(new AnBasic(this.pool[this.image.getInt()]));
+            }
+            templates.put(new TnCompiled(name), this.template(builder.build()));
+            opcode = this.image.get();
+        }
+        if (opcode != TemplateImage.END) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Unexpected opcode %d at %d",
+                    opcode,
+                    this.image.position() - 1
+                )
+            );
+        }
+        return templates.build();
+    }
+
+    /**
+     * Reconstructs a template from its body or parts.
+     * @param arguments Arguments of the template
+     * @return Template
+     */
+    private Template template(final ImmutableList<ArgumentName> arguments) {
+        final Template template;
+        if (this.next() == TemplateImage.PART) {
+            final ImmutableMap.Builder<String, Template> parts =
+                ImmutableMap.builder();
+            while (this.next() == TemplateImage.PART) {
+                this.image.get();
+                parts.put(
+                    this.pool[this.image.getInt()],
+                    new BasicTemplate(arguments, this.body(arguments))
+                );
+            }
+            template = new BasicMultipartTemplate(parts.build());
+        } else {
+            template = new BasicTemplate(arguments, this.body(arguments));
+        }
+        return template;
+    }
+
+    /**
+     * Reconstructs pieces of a template body.
+     * @param arguments Arguments of the template
+     * @return Pieces of the body
+     */
+    private ImmutableList<TemplateBodyPiece> body(
+        final ImmutableList<ArgumentName> arguments
+    ) {
+        final ImmutableList.Builder<TemplateBodyPiece> pieces =
+            ImmutableList.builder();
+        while (TemplateDecoder.isPiece(this.next())) {
+            if (this.next() == TemplateImage.PHONETIC) {
+                this.image.get();
+                final String word = this.pool[this.image.getInt()];
+                final ImmutableList.Builder<TemplateBodyPiece> absorbed =
+                    ImmutableList.builder();
+                boolean blank = true;
+                while (blank && TemplateDecoder.isPiece(this.next())
+                    && this.next() != TemplateImage.PHONETIC) {
+                    blank = this.next() == TemplateImage.SPACE;
+                    absorbed.add(this.piece(arguments));
+                }
+                pieces.add(
+                    new PiPhonetic(
+                        word,
+                        this.grammar.phonetics(),
+                        absorbed.build()
+                    )
+                );
+            } else {
+                pieces.add(this.piece(arguments));
+            }
+        }
+        return pieces.build();
+    }
+
+    /**
+     * Reconstructs plain text or a placeholder.
+     * @param arguments Arguments of the template
+     * @return Piece of a template body
+     */
+    private TemplateBodyPiece piece(
+        final ImmutableList<ArgumentName> arguments
+    ) {
+        final byte opcode = this.image.get();
+        final TemplateBodyPiece piece;
+        if (opcode == TemplateImage.ARGUMENT) {
+            piece = this.placeholder(
+                new LrFromArgument(arguments.get(this.image.getInt())),
+                arguments
+            );
+        } else if (opcode == TemplateImage.LEXEME) {
+            piece = this.placeholder(
+                new LrFromVocabulary(
+                    new CpCompiled(this.pool[this.image.getInt()])
+                ),
+                arguments
+            );
+        } else {
+            piece = new PiPlainText(this.pool[this.image.getInt()]);
+        }
+        return piece;
+    }
+
+    /**
+     * Reconstructs a placeholder.
+     * @param lexical Rule that picks the lexeme of the placeholder
+     * @param arguments Arguments of the template
+     * @return Placeholder
+     */
+    private TemplateBodyPiece placeholder(
+        final LexicalRule lexical,
+        final ImmutableList<ArgumentName> arguments
+    ) {
+        final boolean capitalized = this.image.get() != 0;
+        final long mask = this.image.getLong();
+        final ImmutableList.Builder<GrammarRule> rules =
+            ImmutableList.builder();
+        final int agreement = this.image.getInt();
+        if (agreement != TemplateImage.NONE) {
+            rules.add(new GrArgumentAgreement(arguments.get(agreement)));
+        }
+        if (mask != 0L) {
+            rules.add(
+                new GrStatic(
+                    new GmValidated(new AnyPartOfSpeech(), this.grammemes(mask))
+                )
+            );
+        }
+        final int quantity = this.image.getInt();
+        final GrammarRule grammatical;
+        if (quantity == TemplateImage.NONE) {
+            grammatical = new GrCombined(rules.build());
+        } else {
+            grammatical = new GrQuantity(
+                arguments.get(quantity),
+                this.grammar.numberAgreement(),
+                new GrCombined(rules.build())
+            );
+        }
+        return new Placeholder(
+            lexical,
+            grammatical,
+            new SrConditionalCapitalization(() -> capitalized)
+        );
+    }
+
+    /**
+     * Decodes a grammemes mask.
+     * @param mask Grammemes mask
+     * @return Grammemes whose bits are set in the mask
+     */
+    private ImmutableSet<Grammeme> grammemes(final long mask) {
+        final ImmutableSet.Builder<Grammeme> builder = ImmutableSet.builder();
+        long rest = mask;
+        while (rest != 0L) {
+            builder.add(this.table[Long.numberOfTrailingZeros(rest)]);
+            rest &= rest - 1L;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Peeks at the next opcode.
+     * @return Next opcode
+     */
+    private byte next() {
+        return this.image.get(this.image.position());
+    }
+
+    /**
+     * Checks if an opcode is an opcode of a piece of a template body.
+     * @param opcode Opcode
+     * @return True iff the opcode is an opcode of plain text or a
+     *  placeholder
+     */
+    private static boolean isPiece(final byte opcode) {
+        return opcode >= TemplateImage.TEXT
+            && opcode <= TemplateImage.PHONETIC;
+    }
+
+    /**
+     * Checks that an image has the expected magic number and version.
+     * @param buffer Image
+     * @return The same image positioned after the header
+     */
+    private static ByteBuffer checked(final ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES * 2
+            || buffer.getInt() != TemplateImage.MAGIC) {
+            throw new IllegalArgumentException(
+                "Buffer doesn't contain compiled templates"
+            );
+        }
+        final int version = buffer.getInt();
+        if (version != TemplateImage.VERSION) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Unsupported compiled templates version %d",
+                    version
+                )
+            );
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads the pool of constant strings.
+     * @param buffer Image positioned at the pool
+     * @return Constant strings
+     */
+    private static String[] strings(final ByteBuffer buffer) {
+        final String[] strings = new String[buffer.getInt()];
+        for (int index = 0; index < strings.length; ++index) {
+            final byte[] utf = new byte[buffer.getInt()];
+            buffer.get(utf);
+            strings[index] = new String(utf, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+}
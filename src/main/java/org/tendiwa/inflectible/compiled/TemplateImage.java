@@ -0,0 +1,397 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.compiled;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Accumulates templates and lays them out in a compiled image for
+ * {@link CompiledTemplatuary}. Instructions are serialized as soon as they
+ * are added. Not thread-safe.
+ * <p/>
+ * An image consists of:
+ * <ol>
+ *     <li>Header: magic number and version;</li>
+ *     <li>Pool of constant strings: number of strings followed by the
+ *     length and UTF-8 bytes of each string. Template names, argument
+ *     names, plain text, concept identifiers and grammeme names are all
+ *     stored in the pool once and referred to by their index;</li>
+ *     <li>Grammeme table: number of grammemes followed by the pool index of
+ *     each grammeme's name. Grammatical meanings of placeholders are bit
+ *     masks over this table;</li>
+ *     <li>Instructions, ended with {@link TemplateImage#END}.</li>
+ * </ol>
+ * Each instruction starts with its opcode:
+ * <ul>
+ *     <li>{@link TemplateImage#TEMPLATE}: name, number of arguments and names
+ *     of the arguments. Starts a template;</li>
+ *     <li>{@link TemplateImage#PART}: name. Starts a part of a multipart
+ *     template;</li>
+ *     <li>{@link TemplateImage#TEXT} and {@link TemplateImage#SPACE}: plain
+ *     text, and plain text of whitespace only;</li>
+ *     <li>{@link TemplateImage#ARGUMENT}: argument slot, capitalization flag,
+ *     grammemes mask, slot of the argument to agree with and slot of the
+ *     argument to agree in number with;</li>
+ *     <li>{@link TemplateImage#LEXEME}: same as {@link TemplateImage#ARGUMENT},
+ *     but starts with a concept identifier instead of an argument slot;</li>
+ *     <li>{@link TemplateImage#PHONETIC}: word that agrees phonetically with
+ *     the following pieces up to the first one that is not
+ *     {@link TemplateImage#SPACE}.</li>
+ * </ul>
+ * Argument slots are indices in the list of the template's arguments, or
+ * {@link TemplateImage#NONE}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class TemplateImage {
+    /**
+     * Version of the format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Magic number that every image starts with.
+     */
+    static final int MAGIC = 0x494E4654;
+
+    /**
+     * Absent argument slot or pool index.
+     */
+    static final int NONE = -1;
+
+    /**
+     * Maximum number of grammemes in the grammeme table.
+     */
+    static final int GRAMMEMES = Long.SIZE;
+
+    /**
+     * Opcode of the end of the image.
+     */
+    static final byte END = 0;
+
+    /**
+     * Opcode of a template.
+     */
+    static final byte TEMPLATE = 1;
+
+    /**
+     * Opcode of a part of a multipart template.
+     */
+    static final byte PART = 2;
+
+    /**
+     * Opcode of plain text.
+     */
+    static final byte TEXT = 3;
+
+    /**
+     * Opcode of plain text of whitespace only.
+     */
+    static final byte SPACE = 4;
+
+    /**
+     * Opcode of a placeholder for an argument.
+     */
+    static final byte ARGUMENT = 5;
+
+    /**
+     * Opcode of a placeholder for a lexeme from a vocabulary.
+     */
+    static final byte LEXEME = 6;
+
+    /**
+     * Opcode of a phonetic placeholder.
+     */
+    static final byte PHONETIC = 7;
+
+    /**
+     * Initial capacity of the pool of constant strings.
+     */
+    private static final int CAPACITY = 64;
+
+    /**
+     * Indices of constant strings in the pool.
+     */
+    private final transient Map<String, Integer> pool;
+
+    /**
+     * Indices of grammemes in the grammeme table.
+     */
+    private final transient Map<String, Integer> grammemes;
+
+    /**
+     * Serialized instructions.
+     */
+    private final transient ByteArrayDataOutput ops;
+
+    /**
+     * Arguments of the last added template.
+     */
+    private transient Optional<ImmutableList<String>> arguments;
+
+    /**
+     * Ctor.
+     */
+    public TemplateImage() {
+        this.pool = new LinkedHashMap<>(TemplateImage.CAPACITY);
+        this.grammemes = new LinkedHashMap<>(TemplateImage.GRAMMEMES);
+        this.ops = ByteStreams.newDataOutput();
+        this.arguments = Optional.empty();
+    }
+
+    /**
+     * Starts a template. Pieces added after it make up its body, unless
+     * the template is split into parts.
+     * @param name Name of the template
+     * @param args Names of the template's arguments
+     * @return This image
+     */
+    public TemplateImage template(final String name, final List<String> args) {
+        this.ops.writeByte(TemplateImage.TEMPLATE);
+        this.ops.writeInt(this.constant(name));
+        this.ops.writeInt(args.size());
+        for (final String argument : args) {
+            this.ops.writeInt(this.constant(argument));
+        }
+        this.arguments = Optional.of(ImmutableList.copyOf(args));
+        return this;
+    }
+
+    /**
+     * Starts a part of the last added template. Pieces added after it make
+     * up the body of the part.
+     * @param name Name of the part
+     * @return This image
+     */
+    public TemplateImage part(final String name) {
+        this.opcode(TemplateImage.PART);
+        this.ops.writeInt(this.constant(name));
+        return this;
+    }
+
+    /**
+     * Adds plain text.
+     * @param text Plain text, unescaped
+     * @return This image
+     */
+    public TemplateImage text(final String text) {
+        final byte opcode;
+        if (text.trim().isEmpty()) {
+            opcode = TemplateImage.SPACE;
+        } else {
+            opcode = TemplateImage.TEXT;
+        }
+        this.opcode(opcode);
+        this.ops.writeInt(this.constant(text));
+        return this;
+    }
+
+    /**
+     * Adds a placeholder for an argument.
+     * @param name Name of the argument
+     * @param capitalized Whether the word form should be capitalized
+     * @param grams Names of grammemes of the word form
+     * @param agreement Name of the argument to agree with
+     * @param quantity Name of the argument to agree in number with
+     * @return This image
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public TemplateImage argument(
+        final String name,
+        final boolean capitalized,
+        final Collection<String> grams,
+        final Optional<String> agreement,
+        final Optional<String> quantity
+    ) {
+        this.opcode(TemplateImage.ARGUMENT);
+        this.ops.writeInt(this.slot(name));
+        this.meaning(capitalized, grams, agreement, quantity);
+        return this;
+    }
+
+    /**
+     * Adds a placeholder for a lexeme from a vocabulary.
+     * @param concept Identifier of the lexeme's concept
+     * @param capitalized Whether the word form should be capitalized
+     * @param grams Names of grammemes of the word form
+     * @param agreement Name of the argument to agree with
+     * @param quantity Name of the argument to agree in number with
+     * @return This image
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public TemplateImage lexeme(
+        final String concept,
+        final boolean capitalized,
+        final Collection<String> grams,
+        final Optional<String> agreement,
+        final Optional<String> quantity
+    ) {
+        this.opcode(TemplateImage.LEXEME);
+        this.ops.writeInt(this.constant(concept));
+        this.meaning(capitalized, grams, agreement, quantity);
+        return this;
+    }
+
+    /**
+     * Adds a phonetic placeholder.
+     * @param word Word that agrees phonetically with the following pieces
+     * @return This image
+     */
+    public TemplateImage phonetic(final String word) {
+        this.opcode(TemplateImage.PHONETIC);
+        this.ops.writeInt(this.constant(word));
+        return this;
+    }
+
+    /**
+     * Lays out all the added templates in an image.
+     * @return Bytes of the image
+     */
+    public byte[] bytes() {
+        final ByteArrayDataOutput image = ByteStreams.newDataOutput();
+        image.writeInt(TemplateImage.MAGIC);
+        image.writeInt(TemplateImage.VERSION);
+        image.writeInt(this.pool.size());
+        for (final String constant : this.pool.keySet()) {
+            final byte[] utf = constant.getBytes(StandardCharsets.UTF_8);
+            image.writeInt(utf.length);
+            image.write(utf);
+        }
+        image.writeInt(this.grammemes.size());
+        for (final String grammeme : this.grammemes.keySet()) {
+            image.writeInt(this.pool.get(grammeme));
+        }
+        image.write(this.ops.toByteArray());
+        image.writeByte(TemplateImage.END);
+        return image.toByteArray();
+    }
+
+    /**
+     * Saves the image to a file that can later be loaded by
+     * {@link CompiledTemplatuary#CompiledTemplatuary(
+     * org.tendiwa.inflectible.Grammar, Path)}.
+     * @param file File to save the image to
+     * @throws IOException If could not write the file
+     */
+    public void save(final Path file) throws IOException {
+        Files.write(file, this.bytes());
+    }
+
+    /**
+     * Writes an opcode of a piece of a template.
+     * @param opcode Opcode
+     */
+    private void opcode(final byte opcode) {
+        if (!this.arguments.isPresent()) {
+            throw new IllegalStateException(
+                "Template body can't precede its template"
+            );
+        }
+        this.ops.writeByte(opcode);
+    }
+
+    /**
+     * Writes grammatical meaning and capitalization of a placeholder.
+     * @param capitalized Whether the word form should be capitalized
+     * @param grams Names of grammemes of the word form
+     * @param agreement Name of the argument to agree with
+     * @param quantity Name of the argument to agree in number with
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private void meaning(
+        final boolean capitalized,
+        final Collection<String> grams,
+        final Optional<String> agreement,
+        final Optional<String> quantity
+    ) {
+        this.ops.writeBoolean(capitalized);
+        long mask = 0L;
+        for (final String grammeme : grams) {
+            mask |= 1L << this.grammeme(grammeme);
+        }
+        this.ops.writeLong(mask);
+        this.ops.writeInt(agreement.map(this::slot).orElse(TemplateImage.NONE));
+        this.ops.writeInt(quantity.map(this::slot).orElse(TemplateImage.NONE));
+    }
+
+    /**
+     * Finds the slot of an argument of the last added template.
+     * @param name Name of the argument
+     * @return Index of the argument
+     */
+    private int slot(final String name) {
+        final int slot = this.arguments.get().indexOf(name);
+        if (slot == TemplateImage.NONE) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "No declared argument with name \"%s\"",
+                    name
+                )
+            );
+        }
+        return slot;
+    }
+
+    /**
+     * Puts a string to the pool of constant strings.
+     * @param constant String
+     * @return Index of the string in the pool
+     */
+    private int constant(final String constant) {
+        return this.pool.computeIfAbsent(constant, key -> this.pool.size());
+    }
+
+    /**
+     * Puts a grammeme to the grammeme table.
+     * @param name Name of the grammeme
+     * @return Index of the grammeme in the table
+     */
+    private int grammeme(final String name) {
+        if (!this.grammemes.containsKey(name)) {
+            if (this.grammemes.size() == TemplateImage.GRAMMEMES) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Can't encode more than %d grammemes in a mask",
+                        TemplateImage.GRAMMEMES
+                    )
+                );
+            }
+            this.constant(name);
+            this.grammemes.put(name, this.grammemes.size());
+        }
+        return this.grammemes.get(name);
+    }
+}
@@ -36,7 +36,12 @@ public final class English extends AbstractLanguage {
      * Ctor.
      */
     public English() {
-        super(EnglishGrammeme.class, EnglishPartOfSpeech.class);
+        super(
+            EnglishGrammeme.class,
+            EnglishPartOfSpeech.class,
+            new NaEnglish(),
+            new EnglishPhonetics()
+        );
     }
 
     @Override
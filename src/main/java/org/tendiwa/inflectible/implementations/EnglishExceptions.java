@@ -0,0 +1,134 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.base.Splitter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tables of English word forms that don't follow suffix rules. Each table
+ * is kept as two parallel arrays of base forms, sorted for binary search,
+ * and of their irregular forms.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+enum EnglishExceptions {
+    /**
+     * Irregular plural forms of nouns.
+     */
+    Plurals(
+        "child:children dwarf:dwarves elf:elves foot:feet goose:geese",
+        "half:halves hero:heroes knife:knives leaf:leaves life:lives",
+        "louse:lice man:men mouse:mice ox:oxen person:people",
+        "potato:potatoes thief:thieves tomato:tomatoes tooth:teeth",
+        "wife:wives wolf:wolves woman:women",
+        "deer:deer fish:fish sheep:sheep"
+    ),
+
+    /**
+     * Irregular third person singular present forms of verbs.
+     */
+    ThirdPerson(
+        "do:does echo:echoes go:goes have:has undo:undoes veto:vetoes"
+    ),
+
+    /**
+     * Irregular past forms of verbs.
+     */
+    Past(
+        "become:became begin:began bend:bent bind:bound bite:bit",
+        "bleed:bled blow:blew break:broke bring:brought build:built",
+        "buy:bought cast:cast catch:caught choose:chose cling:clung",
+        "come:came creep:crept cut:cut deal:dealt dig:dug do:did draw:drew",
+        "drink:drank drive:drove eat:ate fall:fell feed:fed feel:felt",
+        "fight:fought find:found flee:fled fling:flung fly:flew",
+        "forbid:forbade forget:forgot forgive:forgave freeze:froze get:got",
+        "give:gave go:went grow:grew hang:hung have:had hear:heard",
+        "hide:hid hit:hit hold:held hurt:hurt keep:kept kneel:knelt",
+        "know:knew lay:laid lead:led leave:left let:let light:lit",
+        "lose:lost make:made mean:meant meet:met pay:paid put:put",
+        "quit:quit read:read ride:rode ring:rang rise:rose run:ran",
+        "say:said see:saw seek:sought sell:sold send:sent set:set",
+        "shake:shook shed:shed shine:shone shoot:shot shrink:shrank",
+        "shut:shut sing:sang sink:sank sit:sat slay:slew sleep:slept",
+        "slide:slid sling:slung slit:slit smite:smote speak:spoke",
+        "spend:spent spin:spun spit:spat split:split spread:spread",
+        "spring:sprang stand:stood steal:stole stick:stuck sting:stung",
+        "stride:strode strike:struck strive:strove swear:swore",
+        "sweep:swept swim:swam swing:swung take:took teach:taught",
+        "tear:tore tell:told think:thought throw:threw tread:trod",
+        "wake:woke wear:wore weep:wept win:won withdraw:withdrew",
+        "write:wrote"
+    );
+
+    /**
+     * Base forms in alphabetical order.
+     */
+    private final transient String[] bases;
+
+    /**
+     * Irregular forms in the order of their base forms.
+     */
+    private final transient String[] forms;
+
+    /**
+     * Ctor.
+     * @param lines Pairs of a base form and an irregular form separated by a
+     *  colon, pairs being separated by spaces. A colon sorts before any
+     *  letter, so sorting the pairs sorts them by their base forms.
+     */
+    EnglishExceptions(final String... lines) {
+        final List<String> pairs = Splitter.on(' ')
+            .omitEmptyStrings()
+            .splitToList(String.join(" ", lines));
+        final String[] sorted = pairs.toArray(new String[pairs.size()]);
+        Arrays.sort(sorted);
+        this.bases = new String[sorted.length];
+        this.forms = new String[sorted.length];
+        for (int index = 0; index < sorted.length; ++index) {
+            final int colon = sorted[index].indexOf(':');
+            this.bases[index] = sorted[index].substring(0, colon);
+            this.forms[index] = sorted[index].substring(colon + 1);
+        }
+    }
+
+    /**
+     * Finds the irregular form of a word.
+     * @param base Base form of a word
+     * @return Irregular form, or empty if the word is regular
+     */
+    public Optional<String> form(final String base) {
+        final int index = Arrays.binarySearch(this.bases, base);
+        final Optional<String> answer;
+        if (index < 0) {
+            answer = Optional.empty();
+        } else {
+            answer = Optional.of(this.forms[index]);
+        }
+        return answer;
+    }
+}
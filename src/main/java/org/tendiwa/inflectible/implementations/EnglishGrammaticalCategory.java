@@ -23,11 +23,10 @@
  */
 package org.tendiwa.inflectible.implementations;
 
-import com.google.common.collect.ImmutableList;
-import org.tendiwa.inflectible.GrammaticalCategory;
+import org.tendiwa.inflectible.EnumGrammaticalCategory;
+import org.tendiwa.inflectible.GrammarTables;
 import org.tendiwa.inflectible.GrammaticalMeaning;
 import org.tendiwa.inflectible.Grammeme;
-import org.tenidwa.collections.utils.Collectors;
 
 /**
  * Grammatical categories of English language.
@@ -35,7 +34,7 @@ import org.tenidwa.collections.utils.Collectors;
  * @version $Id$
  * @since 0.2.0
  */
-public enum EnglishGrammaticalCategory implements GrammaticalCategory {
+public enum EnglishGrammaticalCategory implements EnumGrammaticalCategory {
     /**
      * Grammatical number.
      */
@@ -57,35 +56,16 @@ public enum EnglishGrammaticalCategory implements GrammaticalCategory {
     Form;
 
     @Override
-    public Grammeme defaultGrammeme() {
-        return this.grammemes().get(0);
-    }
-
-    @Override
-    public boolean containsGrammeme(final Grammeme grammeme) {
-        return this.grammemes().contains(grammeme);
+    public Class<? extends Grammeme> grammemes() {
+        return EnglishGrammeme.class;
     }
 
     @Override
     public Grammeme getGrammeme(
         final GrammaticalMeaning meaning
     ) throws Exception {
-        return meaning.grammemes()
-            .stream()
-            .filter(g->g.category() == this)
-            .findFirst()
+        return GrammarTables.of(EnglishGrammeme.class)
+            .grammeme(this, meaning)
             .get();
     }
-
-    /**
-     * Returns grammemes of this grammatical category.
-     * @return Grammemes of this grammatical category
-     */
-    private ImmutableList<Grammeme> grammemes() {
-        return ImmutableList
-            .copyOf(EnglishGrammeme.values())
-            .stream()
-            .filter(grammeme -> grammeme.category() == this)
-            .collect(Collectors.toImmutableList());
-    }
 }
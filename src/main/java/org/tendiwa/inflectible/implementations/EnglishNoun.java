@@ -0,0 +1,105 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import org.tendiwa.inflectible.GrammarTables;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.Spelling;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+
+/**
+ * An English noun whose plural form is generated from its headword.
+ * Nouns that are plural by their persistent grammemes, like scissors, are
+ * not inflected.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class EnglishNoun implements Lexeme {
+    /**
+     * Headword.
+     */
+    private final transient Spelling headword;
+
+    /**
+     * Persistent grammatical meaning.
+     */
+    private final transient GrammaticalMeaning persistent;
+
+    /**
+     * Ctor.
+     * @param hword Singular form of this noun
+     * @param meaning Persistent grammatical meaning of this noun
+     */
+    EnglishNoun(final Spelling hword, final GrammaticalMeaning meaning) {
+        this.headword = hword;
+        this.persistent = meaning;
+    }
+
+    @Override
+    public Spelling defaultSpelling() throws Exception {
+        return this.headword;
+    }
+
+    @Override
+    public Spelling wordForm(final GrammaticalMeaning target) throws Exception {
+        Instrumentation.INSTANCE.metrics().inference(
+            EnglishNoun.class.getSimpleName()
+        );
+        final Spelling answer;
+        if (EnglishNoun.number(target) == EnglishGrammeme.Plur
+            && EnglishNoun.number(this.persistent) != EnglishGrammeme.Plur) {
+            final String singular = this.headword.string();
+            answer = new SpBasic(
+                EnglishExceptions.Plurals.form(singular).orElseGet(
+                    () -> EnglishSuffix.S.attached(singular)
+                )
+            );
+        } else {
+            answer = this.headword;
+        }
+        return answer;
+    }
+
+    @Override
+    public GrammaticalMeaning persistentGrammemes() throws Exception {
+        return this.persistent;
+    }
+
+    /**
+     * Finds the grammatical number of a meaning.
+     * @param meaning Grammatical meaning
+     * @return Grammatical number, or singular if the meaning has none
+     * @throws Exception If could not obtain grammemes of the meaning
+     */
+    private static Grammeme number(final GrammaticalMeaning meaning)
+        throws Exception {
+        return GrammarTables.of(EnglishGrammeme.class)
+            .grammeme(EnglishGrammaticalCategory.Number, meaning)
+            .orElse(EnglishGrammaticalCategory.Number.defaultGrammeme());
+    }
+}
@@ -46,14 +46,17 @@ public enum EnglishPartOfSpeech implements PartOfSpeech {
         ImmutableSet.of(
             EnglishGrammaticalCategory.Number
         ),
-        ImmutableSet.<GrammaticalMeaning>of()
+        ImmutableSet.<GrammaticalMeaning>of(
+            new GmOfEnglishWord(EnglishGrammeme.Sing),
+            new GmOfEnglishWord(EnglishGrammeme.Plur)
+        )
     ) {
         @Override
         public Lexeme lexeme(
             final Spelling headword,
             final GrammaticalMeaning persistent
         ) throws Exception {
-            throw new UnsupportedOperationException();
+            return new EnglishNoun(headword, persistent);
         }
     },
 
@@ -67,14 +70,57 @@ public enum EnglishPartOfSpeech implements PartOfSpeech {
             EnglishGrammaticalCategory.Person,
             EnglishGrammaticalCategory.Tense
         ),
-        ImmutableSet.<GrammaticalMeaning>of()
+        ImmutableSet.<GrammaticalMeaning>of(
+            new GmOfEnglishWord(EnglishGrammeme.Inf),
+            new GmOfEnglishWord(
+                EnglishGrammeme.Present,
+                EnglishGrammeme.I,
+                EnglishGrammeme.Sing
+            ),
+            new GmOfEnglishWord(
+                EnglishGrammeme.Present,
+                EnglishGrammeme.I,
+                EnglishGrammeme.Plur
+            ),
+            new GmOfEnglishWord(
+                EnglishGrammeme.Present,
+                EnglishGrammeme.III,
+                EnglishGrammeme.Sing
+            ),
+            new GmOfEnglishWord(
+                EnglishGrammeme.Present,
+                EnglishGrammeme.III,
+                EnglishGrammeme.Plur
+            ),
+            new GmOfEnglishWord(
+                EnglishGrammeme.Past,
+                EnglishGrammeme.I,
+                EnglishGrammeme.Sing
+            ),
+            new GmOfEnglishWord(
+                EnglishGrammeme.Past,
+                EnglishGrammeme.I,
+                EnglishGrammeme.Plur
+            ),
+            new GmOfEnglishWord(
+                EnglishGrammeme.Past,
+                EnglishGrammeme.III,
+                EnglishGrammeme.Sing
+            ),
+            new GmOfEnglishWord(
+                EnglishGrammeme.Past,
+                EnglishGrammeme.III,
+                EnglishGrammeme.Plur
+            ),
+            new GmOfEnglishWord(EnglishGrammeme.Ger)
+        )
     ) {
         @Override
         public Lexeme lexeme(
             final Spelling headword,
             final GrammaticalMeaning persistent
         ) throws Exception {
-            throw new UnsupportedOperationException();
+            return new EnglishVerb(headword, persistent);
         }
     },
 
@@ -0,0 +1,109 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
+import java.util.Optional;
+import org.tendiwa.inflectible.PhTabular;
+import org.tendiwa.inflectible.PhoneticClass;
+import org.tendiwa.inflectible.Phonetics;
+
+/**
+ * English {@link Phonetics}: the indefinite article "a" becomes "an" before
+ * a vowel sound. Words starting with a vowel letter have a vowel sound, with
+ * exceptions like "unicorn" and "hour" listed in a table.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class EnglishPhonetics implements Phonetics {
+    /**
+     * Phonetic classes by beginnings of words.
+     */
+    private static final ImmutableMap<String, PhoneticClass> BEGINNINGS =
+        ImmutableMap.<String, PhoneticClass>builder()
+            .put("a", EnglishPhoneticClass.Vowel)
+            .put("e", EnglishPhoneticClass.Vowel)
+            .put("i", EnglishPhoneticClass.Vowel)
+            .put("o", EnglishPhoneticClass.Vowel)
+            .put("u", EnglishPhoneticClass.Vowel)
+            .put("8", EnglishPhoneticClass.Vowel)
+            .put("11", EnglishPhoneticClass.Vowel)
+            .put("18", EnglishPhoneticClass.Vowel)
+            .put("heir", EnglishPhoneticClass.Vowel)
+            .put("honest", EnglishPhoneticClass.Vowel)
+            .put("honor", EnglishPhoneticClass.Vowel)
+            .put("hour", EnglishPhoneticClass.Vowel)
+            .put("eu", EnglishPhoneticClass.Consonant)
+            .put("ewe", EnglishPhoneticClass.Consonant)
+            .put("one", EnglishPhoneticClass.Consonant)
+            .put("once", EnglishPhoneticClass.Consonant)
+            .put("ubiq", EnglishPhoneticClass.Consonant)
+            .put("uni", EnglishPhoneticClass.Consonant)
+            .put("unim", EnglishPhoneticClass.Vowel)
+            .put("unin", EnglishPhoneticClass.Vowel)
+            .put("use", EnglishPhoneticClass.Consonant)
+            .put("usu", EnglishPhoneticClass.Consonant)
+            .put("uti", EnglishPhoneticClass.Consonant)
+            .build();
+
+    /**
+     * Variants of words by their basic variants and phonetic classes of the
+     * next word.
+     */
+    private static final ImmutableTable<String, PhoneticClass, String>
+        VARIANTS = ImmutableTable.<String, PhoneticClass, String>builder()
+            .put("a", EnglishPhoneticClass.Vowel, "an")
+            .build();
+
+    /**
+     * Table-driven delegate.
+     */
+    private final transient Phonetics tables;
+
+    /**
+     * Ctor.
+     */
+    public EnglishPhonetics() {
+        this.tables = new PhTabular(
+            EnglishPhonetics.BEGINNINGS,
+            EnglishPhoneticClass.Consonant,
+            EnglishPhonetics.VARIANTS
+        );
+    }
+
+    @Override
+    public Optional<PhoneticClass> phoneticClass(final String spelling) {
+        return this.tables.phoneticClass(spelling);
+    }
+
+    @Override
+    public String variant(
+        final String word,
+        final Optional<PhoneticClass> following
+    ) {
+        return this.tables.variant(word, following);
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+/**
+ * Regular English inflectional suffixes and the spelling rules of attaching
+ * them to a word.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+enum EnglishSuffix {
+    /**
+     * Suffix of plural nouns and of third person singular present verbs:
+     * cats, boxes, flies.
+     */
+    S {
+        @Override
+        public String attached(final String word) {
+            final String answer;
+            if (EnglishSuffix.consonantY(word)) {
+                answer = EnglishSuffix.withoutLast(word) + "ies";
+            } else if (word.endsWith("s") || word.endsWith("x")
+                || word.endsWith("z") || word.endsWith("ch")
+                || word.endsWith("sh")) {
+                answer = word + "es";
+            } else {
+                answer = word + "s";
+            }
+            return answer;
+        }
+    },
+
+    /**
+     * Suffix of regular past forms: walked, liked, tried, stopped.
+     */
+    ED {
+        @Override
+        public String attached(final String word) {
+            final String answer;
+            if (word.endsWith("e")) {
+                answer = word + "d";
+            } else if (EnglishSuffix.consonantY(word)) {
+                answer = EnglishSuffix.withoutLast(word) + "ied";
+            } else if (EnglishSuffix.doubling(word)) {
+                answer = EnglishSuffix.doubled(word) + "ed";
+            } else {
+                answer = word + "ed";
+            }
+            return answer;
+        }
+    },
+
+    /**
+     * Suffix of gerunds: walking, liking, dying, stopping.
+     */
+    ING {
+        @Override
+        public String attached(final String word) {
+            final String answer;
+            if (word.endsWith("ie")) {
+                answer = word.substring(0, word.length() - 2) + "ying";
+            } else if (word.endsWith("e") && !word.endsWith("ee")
+                && !word.endsWith("ye") && !word.endsWith("oe")
+                && word.length() > 2) {
+                answer = EnglishSuffix.withoutLast(word) + "ing";
+            } else if (EnglishSuffix.doubling(word)) {
+                answer = EnglishSuffix.doubled(word) + "ing";
+            } else {
+                answer = word + "ing";
+            }
+            return answer;
+        }
+    };
+
+    /**
+     * Vowel letters.
+     */
+    private static final String VOWELS = "aeiou";
+
+    /**
+     * Consonants that are never doubled at the end of a word.
+     */
+    private static final String UNDOUBLED = "wxy";
+
+    /**
+     * Attaches this suffix to a word.
+     * @param word Base form of a word
+     * @return Word with this suffix
+     */
+    public abstract String attached(String word);
+
+    /**
+     * Checks if a word ends with a consonant followed by y.
+     * @param word Word
+     * @return True iff the word ends with a consonant and y
+     */
+    private static boolean consonantY(final String word) {
+        return word.length() > 1 && word.endsWith("y")
+            && !EnglishSuffix.vowel(word.charAt(word.length() - 2));
+    }
+
+    /**
+     * Checks if the last consonant of a word is doubled before a suffix
+     * that starts with a vowel. It is doubled in words of one syllable that
+     * end with a single vowel and a single consonant, like stop or swim.
+     * @param word Word
+     * @return True iff the last consonant is doubled
+     */
+    private static boolean doubling(final String word) {
+        final int length = word.length();
+        boolean answer = length > 2
+            && !EnglishSuffix.vowel(word.charAt(length - 1))
+            && EnglishSuffix.UNDOUBLED.indexOf(word.charAt(length - 1)) < 0
+            && EnglishSuffix.vowel(word.charAt(length - 2))
+            && !EnglishSuffix.vowel(word.charAt(length - 3));
+        for (int index = 0; answer && index < length - 2; ++index) {
+            answer = !EnglishSuffix.vowel(word.charAt(index));
+        }
+        return answer;
+    }
+
+    /**
+     * Doubles the last letter of a word.
+     * @param word Word
+     * @return Word with its last letter doubled
+     */
+    private static String doubled(final String word) {
+        return word + word.charAt(word.length() - 1);
+    }
+
+    /**
+     * Removes the last letter of a word.
+     * @param word Word
+     * @return Word without its last letter
+     */
+    private static String withoutLast(final String word) {
+        return word.substring(0, word.length() - 1);
+    }
+
+    /**
+     * Checks if a letter is a vowel.
+     * @param letter Letter
+     * @return True iff the letter is a vowel
+     */
+    private static boolean vowel(final char letter) {
+        return EnglishSuffix.VOWELS.indexOf(letter) >= 0;
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Optional;
+import org.tendiwa.inflectible.GmCombined;
+import org.tendiwa.inflectible.GrammarTables;
+import org.tendiwa.inflectible.GrammaticalCategory;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.Spelling;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+
+/**
+ * An English verb whose third person singular, past and gerund forms are
+ * generated from its headword, the infinitive. Verbs like <i>be</i> that
+ * have more forms than that need them written out in a vocabulary.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class EnglishVerb implements Lexeme {
+    /**
+     * Headword.
+     */
+    private final transient Spelling headword;
+
+    /**
+     * Persistent grammatical meaning.
+     */
+    private final transient GrammaticalMeaning persistent;
+
+    /**
+     * Ctor.
+     * @param hword Infinitive of this verb
+     * @param meaning Persistent grammatical meaning of this verb
+     */
+    EnglishVerb(final Spelling hword, final GrammaticalMeaning meaning) {
+        this.headword = hword;
+        this.persistent = meaning;
+    }
+
+    @Override
+    public Spelling defaultSpelling() throws Exception {
+        return this.headword;
+    }
+
+    @Override
+    public Spelling wordForm(final GrammaticalMeaning target) throws Exception {
+        Instrumentation.INSTANCE.metrics().inference(
+            EnglishVerb.class.getSimpleName()
+        );
+        final GrammaticalMeaning meaning = new GmCombined(
+            ImmutableList.of(this.persistent, target)
+        );
+        final String base = this.headword.string();
+        final Optional<Grammeme> form = GrammarTables
+            .of(EnglishGrammeme.class)
+            .grammeme(
+                EnglishGrammaticalCategory.Form,
+                meaning
+            );
+        final String answer;
+        if (form.isPresent()) {
+            if (form.get() == EnglishGrammeme.Ger) {
+                answer = EnglishSuffix.ING.attached(base);
+            } else {
+                answer = base;
+            }
+        } else if (EnglishVerb.past(meaning)) {
+            answer = EnglishExceptions.Past.form(base).orElseGet(
+                () -> EnglishSuffix.ED.attached(base)
+            );
+        } else if (EnglishVerb.thirdSingular(meaning)) {
+            answer = EnglishExceptions.ThirdPerson.form(base).orElseGet(
+                () -> EnglishSuffix.S.attached(base)
+            );
+        } else {
+            answer = base;
+        }
+        return new SpBasic(answer);
+    }
+
+    @Override
+    public GrammaticalMeaning persistentGrammemes() throws Exception {
+        return this.persistent;
+    }
+
+    /**
+     * Checks if a meaning is past tense.
+     * @param meaning Grammatical meaning
+     * @return True iff the meaning is past tense
+     * @throws Exception If could not obtain grammemes of the meaning
+     */
+    private static boolean past(final GrammaticalMeaning meaning)
+        throws Exception {
+        return EnglishVerb.grammeme(EnglishGrammaticalCategory.Tense, meaning)
+            == EnglishGrammeme.Past;
+    }
+
+    /**
+     * Checks if a meaning is third person singular.
+     * @param meaning Grammatical meaning
+     * @return True iff the meaning is third person and not plural
+     * @throws Exception If could not obtain grammemes of the meaning
+     */
+    private static boolean thirdSingular(final GrammaticalMeaning meaning)
+        throws Exception {
+        return EnglishVerb.grammeme(EnglishGrammaticalCategory.Person, meaning)
+            == EnglishGrammeme.III
+            && EnglishVerb.grammeme(EnglishGrammaticalCategory.Number, meaning)
+            != EnglishGrammeme.Plur;
+    }
+
+    /**
+     * Finds the grammeme of a category in a meaning.
+     * @param category Grammatical category
+     * @param meaning Grammatical meaning
+     * @return Grammeme of the category, or the default one if the meaning
+     *  has none
+     * @throws Exception If could not obtain grammemes of the meaning
+     */
+    private static Grammeme grammeme(
+        final GrammaticalCategory category,
+        final GrammaticalMeaning meaning
+    ) throws Exception {
+        return GrammarTables.of(EnglishGrammeme.class)
+            .grammeme(category, meaning)
+            .orElse(category.defaultGrammeme());
+    }
+}
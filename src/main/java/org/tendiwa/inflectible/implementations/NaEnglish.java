@@ -0,0 +1,64 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableSet;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.NumberAgreement;
+
+/**
+ * English {@link NumberAgreement}. A counted noun is singular only after one
+ * ("one horse", "two horses", "zero horses").
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class NaEnglish implements NumberAgreement {
+    /**
+     * Singular.
+     */
+    private static final ImmutableSet<Grammeme> SINGULAR =
+        ImmutableSet.of(EnglishGrammeme.Sing);
+
+    /**
+     * Plural.
+     */
+    private static final ImmutableSet<Grammeme> PLURAL =
+        ImmutableSet.of(EnglishGrammeme.Plur);
+
+    @Override
+    public GrammaticalMeaning meaning(
+        final long number,
+        final GrammaticalMeaning phrase
+    ) {
+        final GrammaticalMeaning answer;
+        if (number == 1 || number == -1) {
+            answer = () -> NaEnglish.SINGULAR;
+        } else {
+            answer = () -> NaEnglish.PLURAL;
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableSet;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.NumberAgreement;
+
+/**
+ * Russian {@link NumberAgreement}. The form of a counted noun depends on the
+ * last two digits of the number: numbers ending with 1 (but not 11) take the
+ * singular ("двадцать один конь"), numbers ending with 2, 3 and 4 (but not
+ * 12, 13 and 14) take the genitive singular ("два коня"), and all the others
+ * take the genitive plural ("пять коней", "одиннадцать коней"). In oblique
+ * cases the noun just takes the case of the phrase, in plural for anything
+ * but one ("двух коней", "пятью конями").
+ * <p>All the meanings are computed once when the class is loaded, so
+ * agreement only finds the case of the phrase and looks up two tables.
+ * Animacy is not taken into account, so the accusative is treated as for
+ * inanimate nouns.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class NaRussian implements NumberAgreement {
+    /**
+     * Number of distinct last two digits of a number.
+     */
+    private static final int HUNDRED = 100;
+
+    /**
+     * Base of the numeral system.
+     */
+    private static final int DECIMAL = 10;
+
+    /**
+     * Greatest last digit of a number that takes the genitive singular.
+     */
+    private static final int PAUCAL = 4;
+
+    /**
+     * Class of numbers that take the singular.
+     */
+    private static final int ONE = 0;
+
+    /**
+     * Class of numbers that take the genitive singular.
+     */
+    private static final int FEW = 1;
+
+    /**
+     * Class of numbers that take the genitive plural.
+     */
+    private static final int MANY = 2;
+
+    /**
+     * Cases in the order of their ordinals.
+     */
+    private static final RussianGrammeme[] CASES = {
+        RussianGrammeme.И,
+        RussianGrammeme.Р,
+        RussianGrammeme.Д,
+        RussianGrammeme.В,
+        RussianGrammeme.Т,
+        RussianGrammeme.П,
+    };
+
+    /**
+     * Class of a number by its last two digits.
+     */
+    private static final byte[] CLASSES = NaRussian.classesTable();
+
+    /**
+     * Meanings of a counted noun by class of a number and case of a phrase.
+     */
+    private static final GrammaticalMeaning[][] MEANINGS =
+        NaRussian.meaningsTable();
+
+    @Override
+    public GrammaticalMeaning meaning(
+        final long number,
+        final GrammaticalMeaning phrase
+    ) throws Exception {
+        final int digits = (int) Math.abs(number % NaRussian.HUNDRED);
+        return NaRussian.MEANINGS[NaRussian.CLASSES[digits]]
+            [NaRussian.caseOf(phrase)];
+    }
+
+    /**
+     * Finds the case of a phrase.
+     * @param phrase Grammatical meaning of a phrase
+     * @return Index of the case, nominative if the phrase has no case
+     * @throws Exception If could not obtain grammemes of the phrase
+     */
+    private static int caseOf(final GrammaticalMeaning phrase)
+        throws Exception {
+        int answer = 0;
+        for (final Grammeme grammeme : phrase.grammemes()) {
+            if (grammeme.category() == RussianGrammaticalCategory.Падеж) {
+                answer = ((RussianGrammeme) grammeme).ordinal()
+                    - RussianGrammeme.И.ordinal();
+                break;
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Computes classes of numbers by their last two digits.
+     * @return Classes of numbers
+     */
+    private static byte[] classesTable() {
+        final byte[] table = new byte[NaRussian.HUNDRED];
+        for (int digits = 0; digits < NaRussian.HUNDRED; ++digits) {
+            final int last = digits % NaRussian.DECIMAL;
+            final int klass;
+            if (digits / NaRussian.DECIMAL == 1) {
+                klass = NaRussian.MANY;
+            } else if (last == 1) {
+                klass = NaRussian.ONE;
+            } else if (last >= 2 && last <= NaRussian.PAUCAL) {
+                klass = NaRussian.FEW;
+            } else {
+                klass = NaRussian.MANY;
+            }
+            table[digits] = (byte) klass;
+        }
+        return table;
+    }
+
+    /**
+     * Computes meanings of a counted noun for all the classes of numbers and
+     * cases of a phrase.
+     * @return Meanings table
+     */
+    private static GrammaticalMeaning[][] meaningsTable() {
+        final GrammaticalMeaning[][] table =
+            new GrammaticalMeaning[NaRussian.MANY + 1][NaRussian.CASES.length];
+        for (int index = 0; index < NaRussian.CASES.length; ++index) {
+            final RussianGrammeme phrase = NaRussian.CASES[index];
+            final boolean direct = phrase == RussianGrammeme.И
+                || phrase == RussianGrammeme.В;
+            table[NaRussian.ONE][index] =
+                NaRussian.constant(RussianGrammeme.Ед, phrase);
+            if (direct) {
+                table[NaRussian.FEW][index] =
+                    NaRussian.constant(RussianGrammeme.Ед, RussianGrammeme.Р);
+                table[NaRussian.MANY][index] =
+                    NaRussian.constant(RussianGrammeme.Мн, RussianGrammeme.Р);
+            } else {
+                table[NaRussian.FEW][index] =
+                    NaRussian.constant(RussianGrammeme.Мн, phrase);
+                table[NaRussian.MANY][index] = table[NaRussian.FEW][index];
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Creates a grammatical meaning that always returns the same set.
+     * @param number Grammeme of number
+     * @param cas Grammeme of case
+     * @return Grammatical meaning
+     */
+    private static GrammaticalMeaning constant(
+        final RussianGrammeme number,
+        final RussianGrammeme cas
+    ) {
+        final ImmutableSet<Grammeme> grammemes = ImmutableSet.of(number, cas);
+        return () -> grammemes;
+    }
+}
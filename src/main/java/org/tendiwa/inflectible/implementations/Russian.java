@@ -36,7 +36,12 @@ public final class Russian extends AbstractLanguage {
      * Ctor.
      */
     public Russian() {
-        super(RussianGrammeme.class, RussianPartOfSpeech.class);
+        super(
+            RussianGrammeme.class,
+            RussianPartOfSpeech.class,
+            new NaRussian(),
+            new RussianPhonetics()
+        );
     }
 
     @Override
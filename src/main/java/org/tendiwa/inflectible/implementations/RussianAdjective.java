@@ -0,0 +1,225 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import org.tendiwa.inflectible.GrammarTables;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.Spelling;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+
+/**
+ * A Russian adjective whose forms are generated from its headword, the
+ * masculine singular nominative form.
+ * <p/>
+ * The adjective is assigned a {@link RussianAdjectiveDeclension} and its
+ * stem is computed once, when the adjective is created.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class RussianAdjective implements Lexeme {
+    /**
+     * Length of the ending of a headword.
+     */
+    private static final int ENDING = 2;
+
+    /**
+     * Last letters of stems that turn ы into и.
+     */
+    private static final Set<Character> VELARS = ImmutableSet.of(
+        'г', 'к', 'х'
+    );
+
+    /**
+     * Last letters of stems that turn ы into и and unstressed о into е.
+     */
+    private static final Set<Character> SIBILANTS = ImmutableSet.of(
+        'ж', 'ш', 'ч', 'щ'
+    );
+
+    /**
+     * Headword.
+     */
+    private final transient Spelling headword;
+
+    /**
+     * Persistent grammatical meaning.
+     */
+    private final transient GrammaticalMeaning persistent;
+
+    /**
+     * Declension.
+     */
+    private final transient RussianAdjectiveDeclension declension;
+
+    /**
+     * Stem.
+     */
+    private final transient String stem;
+
+    /**
+     * Index of the persistent number, or -1 if the number is not persistent.
+     */
+    private final transient int number;
+
+    /**
+     * Index of the persistent gender, or -1 if the gender is not persistent.
+     */
+    private final transient int gender;
+
+    /**
+     * Index of the persistent case, or -1 if the case is not persistent.
+     */
+    private final transient int gramcase;
+
+    /**
+     * Ctor.
+     * @param hword Masculine singular nominative form of this adjective
+     * @param meaning Persistent grammatical meaning of this adjective
+     * @throws Exception If could not obtain persistent grammemes
+     */
+    RussianAdjective(
+        final Spelling hword,
+        final GrammaticalMeaning meaning
+    ) throws Exception {
+        this.headword = hword;
+        this.persistent = meaning;
+        this.declension = RussianAdjective.declension(hword.string());
+        this.stem = hword.string().substring(
+            0,
+            hword.string().length() - RussianAdjective.ENDING
+        );
+        this.number = GrammarTables.of(RussianGrammeme.class).index(
+            RussianGrammaticalCategory.Число,
+            meaning
+        );
+        this.gender = GrammarTables.of(RussianGrammeme.class).index(
+            RussianGrammaticalCategory.Род,
+            meaning
+        );
+        this.gramcase = GrammarTables.of(RussianGrammeme.class).index(
+            RussianGrammaticalCategory.Падеж,
+            meaning
+        );
+    }
+
+    @Override
+    public Spelling defaultSpelling() throws Exception {
+        return this.headword;
+    }
+
+    @Override
+    public Spelling wordForm(final GrammaticalMeaning target) throws Exception {
+        Instrumentation.INSTANCE.metrics().inference(
+            RussianAdjective.class.getSimpleName()
+        );
+        final GrammarTables tables = GrammarTables.of(RussianGrammeme.class);
+        final int row;
+        if (tables.index(
+            this.number,
+            RussianGrammaticalCategory.Число,
+            target
+        ) == RussianGrammeme.Мн.index()) {
+            row = RussianAdjectiveDeclension.PLURAL;
+        } else {
+            row = tables.index(
+                this.gender,
+                RussianGrammaticalCategory.Род,
+                target
+            );
+        }
+        return new SpBasic(
+            this.stem + this.declension.ending(
+                row,
+                tables.index(
+                    this.gramcase,
+                    RussianGrammaticalCategory.Падеж,
+                    target
+                )
+            )
+        );
+    }
+
+    @Override
+    public GrammaticalMeaning persistentGrammemes() throws Exception {
+        return this.persistent;
+    }
+
+    /**
+     * Detects the declension of an adjective by the ending of its headword
+     * and the last letter of its stem.
+     * @param spelling Headword of the adjective
+     * @return Declension of the adjective
+     */
+    private static RussianAdjectiveDeclension declension(
+        final String spelling
+    ) {
+        if (spelling.length() <= RussianAdjective.ENDING) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Adjective \"%s\" is too short to have an ending",
+                    spelling
+                )
+            );
+        }
+        final String ending = spelling.substring(
+            spelling.length() - RussianAdjective.ENDING
+        );
+        final char last = spelling.charAt(
+            spelling.length() - RussianAdjective.ENDING - 1
+        );
+        final boolean mixed = RussianAdjective.VELARS.contains(last)
+            || RussianAdjective.SIBILANTS.contains(last);
+        final RussianAdjectiveDeclension declension;
+        if ("ый".equals(ending)) {
+            declension = RussianAdjectiveDeclension.Красный;
+        } else if ("ой".equals(ending)) {
+            if (mixed) {
+                declension = RussianAdjectiveDeclension.Большой;
+            } else {
+                declension = RussianAdjectiveDeclension.Молодой;
+            }
+        } else if ("ий".equals(ending)) {
+            if (RussianAdjective.VELARS.contains(last)) {
+                declension = RussianAdjectiveDeclension.Великий;
+            } else if (RussianAdjective.SIBILANTS.contains(last)) {
+                declension = RussianAdjectiveDeclension.Хороший;
+            } else {
+                declension = RussianAdjectiveDeclension.Синий;
+            }
+        } else {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Adjective \"%s\" doesn't end with -ый, -ой or -ий",
+                    spelling
+                )
+            );
+        }
+        return declension;
+    }
+}
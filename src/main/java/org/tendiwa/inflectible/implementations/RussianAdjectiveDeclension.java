@@ -0,0 +1,193 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.base.Splitter;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+
+/**
+ * Inflection rules for Russian adjectives.
+ * <p/>
+ * Each declension keeps its endings in a table with a row for each of
+ * masculine, feminine and neuter singular and for plural, and a column for
+ * each grammatical case. Adjectives have no grammeme of animacy, so
+ * masculine singular and plural accusative forms are the inanimate ones,
+ * same as nominative.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ * @checkstyle MultipleStringLiteralsCheck (100 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public enum RussianAdjectiveDeclension implements Declension {
+    /**
+     * Hard stem with unstressed ending, like красный, новый, старый.
+     */
+    Красный(
+        "ый ого ому ый ым ом",
+        "ая ой ой ую ой ой",
+        "ое ого ому ое ым ом",
+        "ые ых ым ые ыми ых"
+    ),
+
+    /**
+     * Hard stem with stressed ending, like молодой, злой, седой.
+     */
+    Молодой(
+        "ой ого ому ой ым ом",
+        "ая ой ой ую ой ой",
+        "ое ого ому ое ым ом",
+        "ые ых ым ые ыми ых"
+    ),
+
+    /**
+     * Soft stem, like синий, летний, древний.
+     */
+    Синий(
+        "ий его ему ий им ем",
+        "яя ей ей юю ей ей",
+        "ее его ему ее им ем",
+        "ие их им ие ими их"
+    ),
+
+    /**
+     * Mixed stem ending with г, к or х with unstressed ending, like великий,
+     * тихий, строгий.
+     */
+    Великий(
+        "ий ого ому ий им ом",
+        "ая ой ой ую ой ой",
+        "ое ого ому ое им ом",
+        "ие их им ие ими их"
+    ),
+
+    /**
+     * Mixed stem ending with ж, ш, ч or щ with unstressed ending, like
+     * хороший, свежий, горячий.
+     */
+    Хороший(
+        "ий его ему ий им ем",
+        "ая ей ей ую ей ей",
+        "ее его ему ее им ем",
+        "ие их им ие ими их"
+    ),
+
+    /**
+     * Mixed stem with stressed ending, like большой, другой, чужой.
+     */
+    Большой(
+        "ой ого ому ой им ом",
+        "ая ой ой ую ой ой",
+        "ое ого ому ое им ом",
+        "ие их им ие ими их"
+    );
+
+    /**
+     * Row of plural endings.
+     */
+    static final int PLURAL = 3;
+
+    /**
+     * Endings by rows of gender or plural and by indices of grammatical case.
+     */
+    private final transient String[][] endings;
+
+    /**
+     * Ctor.
+     * @param masculine Singular masculine endings from nominative to
+     *  prepositional, separated by spaces
+     * @param feminine Singular feminine endings
+     * @param neuter Singular neuter endings
+     * @param plural Plural endings
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    RussianAdjectiveDeclension(
+        final String masculine,
+        final String feminine,
+        final String neuter,
+        final String plural
+    ) {
+        this.endings = new String[][] {
+            RussianAdjectiveDeclension.split(masculine),
+            RussianAdjectiveDeclension.split(feminine),
+            RussianAdjectiveDeclension.split(neuter),
+            RussianAdjectiveDeclension.split(plural),
+        };
+    }
+
+    @Override
+    public String ending(final GrammaticalMeaning meaning) throws Exception {
+        return this.ending(
+            RussianAdjectiveDeclension.row(meaning),
+            RussianGrammeme.class.cast(
+                RussianGrammaticalCategory.Падеж.getGrammeme(meaning)
+            ).index()
+        );
+    }
+
+    /**
+     * Ending of a form defined by its row and by the index of its
+     * grammatical case, as returned by {@link RussianGrammeme#index()}.
+     * Rows 0 to 2 are masculine, feminine and neuter singular in the order
+     * of {@link RussianGrammeme#index()} of their gender, row 3 is plural.
+     * @param row Row of gender or plural
+     * @param gramcase Index of grammatical case
+     * @return An ending
+     */
+    public String ending(final int row, final int gramcase) {
+        return this.endings[row][gramcase];
+    }
+
+    /**
+     * Finds the row of endings for a grammatical meaning.
+     * @param meaning Grammatical meaning
+     * @return Row of endings
+     * @throws Exception If could not obtain grammemes of the meaning
+     */
+    private static int row(final GrammaticalMeaning meaning)
+        throws Exception {
+        final int row;
+        if (RussianGrammaticalCategory.Число.getGrammeme(meaning)
+            == RussianGrammeme.Мн) {
+            row = RussianAdjectiveDeclension.PLURAL;
+        } else {
+            final Grammeme gender =
+                RussianGrammaticalCategory.Род.getGrammeme(meaning);
+            row = RussianGrammeme.class.cast(gender).index();
+        }
+        return row;
+    }
+
+    /**
+     * Splits a row of endings.
+     * @param endings Endings separated by spaces
+     * @return Endings
+     */
+    private static String[] split(final String endings) {
+        return Splitter.on(' ')
+            .splitToList(endings)
+            .toArray(new String[0]);
+    }
+}
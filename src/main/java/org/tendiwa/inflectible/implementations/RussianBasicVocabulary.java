@@ -37,7 +37,8 @@ import org.tendiwa.inflectible.Spelling;
 import org.tendiwa.inflectible.Vocabulary;
 
 /**
- * Vocabulary with basic Russian words: pronouns and more to come.
+ * Vocabulary with basic Russian words: pronouns, cardinal numerals and more
+ * to come.
  * @author Georgy Vlasov (suseika@tendiwa.org)
  * @version $Id$
  * @since 0.3.0
@@ -603,6 +604,7 @@ public final class RussianBasicVocabulary implements Vocabulary {
                         .build()
                 )
             )
+            .putAll(new RussianNumeralWords().lexemes())
             .build();
 
     @Override
@@ -0,0 +1,360 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+
+/**
+ * Conjugation classes of Russian verbs. Each class knows how to get the
+ * present and past stems of a verb from its infinitive and keeps a table
+ * of endings shared by all the verbs of the class.
+ * <p/>
+ * Present endings are indexed by {@link RussianGrammeme#index()} of number
+ * and person as {@code number * 3 + person}. Past endings are indexed by
+ * {@link RussianGrammeme#index()} of gender for singular, with index 3 for
+ * plural. Endings are spelled with ё only in classes where they are
+ * always stressed; elsewhere stress depends on the verb, and ё is spelled
+ * as е.
+ * <p/>
+ * In second conjugation classes in -ить and -еть the last consonant of the
+ * stem changes in first person singular: д and з become ж, с becomes ш,
+ * т becomes ч, ст becomes щ, and л is added after б, п, в, ф and м, like
+ * вижу, прошу, лечу, свищу, люблю.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ * @checkstyle MultipleStringLiteralsCheck (100 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public enum RussianConjugation {
+    /**
+     * First conjugation with the present stem equal to the infinitive stem,
+     * like читать, гулять, уметь.
+     */
+    Читать("ть", "", "ю,ешь,ет,ем,ете,ют", "ть", "л,ла,ло,ли", false),
+
+    /**
+     * First conjugation with suffix -ова- turning into -у-, like рисовать,
+     * атаковать.
+     */
+    Рисовать(
+        "овать",
+        "у",
+        "ю,ешь,ет,ем,ете,ют",
+        "ть",
+        "л,ла,ло,ли",
+        false
+    ),
+
+    /**
+     * First conjugation with suffix -ева- turning into -у- after ц, ж, ш,
+     * ч or щ, like танцевать, жевать.
+     */
+    Танцевать(
+        "евать",
+        "у",
+        "ю,ешь,ет,ем,ете,ют",
+        "ть",
+        "л,ла,ло,ли",
+        false
+    ),
+
+    /**
+     * First conjugation with roots -бить, -пить, -лить, -шить and -вить,
+     * like бить, пить, убить, выпить. Prefixes of the verbs are handled by
+     * {@link RussianVerb}.
+     */
+    Бить("ить", "ь", "ю,ёшь,ёт,ём,ёте,ют", "ть", "л,ла,ло,ли", false),
+
+    /**
+     * First conjugation with suffix -ну-, like толкнуть, кивнуть, крикнуть.
+     */
+    Толкнуть("уть", "", "у,ешь,ет,ем,ете,ут", "ть", "л,ла,ло,ли", false),
+
+    /**
+     * First conjugation with infinitive in -ти, like ползти, нести.
+     */
+    Ползти("ти", "", "у,ёшь,ёт,ём,ёте,ут", "ти", ",ла,ло,ли", false),
+
+    /**
+     * First conjugation with infinitive in -чь and к in the present stem,
+     * like печь, течь, влечь.
+     */
+    Печь(
+        "чь",
+        "",
+        "ку,чёшь,чёт,чём,чёте,кут",
+        "чь",
+        "к,кла,кло,кли",
+        false
+    ),
+
+    /**
+     * First conjugation with infinitive in -чь and г in the present stem,
+     * like беречь, мочь, стричь.
+     */
+    Беречь(
+        "чь",
+        "",
+        "гу,жешь,жет,жем,жете,гут",
+        "чь",
+        "г,гла,гло,гли",
+        false
+    ),
+
+    /**
+     * First conjugation of жечь, whose root loses its vowel in most forms,
+     * like жгу and жгла, and of its verbs with prefixes ending in a vowel,
+     * like зажечь, выжечь.
+     */
+    Жечь(
+        "ечь",
+        "",
+        "гу,жёшь,жёт,жём,жёте,гут",
+        "ечь",
+        "ёг,гла,гло,гли",
+        false
+    ),
+
+    /**
+     * First conjugation with endings у and ут after a present stem listed
+     * in {@link RussianStems}, like писать, брать, жить.
+     */
+    Писать("ть", "", "у,ешь,ет,ем,ете,ут", "ть", "л,ла,ло,ли", false),
+
+    /**
+     * Second conjugation with infinitive in -ить, like говорить, ударить.
+     */
+    Говорить("ить", "", "ю,ишь,ит,им,ите,ят", "ть", "л,ла,ло,ли", true),
+
+    /**
+     * Second conjugation with infinitive in -ить after ж, ш, ч or щ, like
+     * учить, решить.
+     */
+    Учить("ить", "", "у,ишь,ит,им,ите,ат", "ть", "л,ла,ло,ли", false),
+
+    /**
+     * Second conjugation with infinitive in -еть, like смотреть, видеть.
+     */
+    Смотреть("еть", "", "ю,ишь,ит,им,ите,ят", "ть", "л,ла,ло,ли", true),
+
+    /**
+     * Second conjugation with infinitive in -ать after ж, ш, ч or щ, like
+     * кричать, держать.
+     */
+    Кричать("ать", "", "у,ишь,ит,им,ите,ат", "ть", "л,ла,ло,ли", false);
+
+    /**
+     * Number of grammatical persons.
+     */
+    private static final int PERSONS = 3;
+
+    /**
+     * Index of plural past endings.
+     */
+    private static final int PLURAL = 3;
+
+    /**
+     * Consonants after which л is added in first person singular.
+     */
+    private static final Set<Character> LABIALS = ImmutableSet.of(
+        'б', 'п', 'в', 'ф', 'м'
+    );
+
+    /**
+     * Letters after which ю of the first person singular ending is spelled
+     * as у.
+     */
+    private static final Set<Character> SIBILANTS = ImmutableSet.of(
+        'ж', 'ш', 'ч', 'щ'
+    );
+
+    /**
+     * Ending of the infinitive replaced to get the present stem.
+     */
+    private final transient String infinitive;
+
+    /**
+     * Suffix that replaces the ending of the infinitive in the present stem.
+     */
+    private final transient String suffix;
+
+    /**
+     * Present endings.
+     */
+    private final transient String[] present;
+
+    /**
+     * Ending of the infinitive removed to get the past stem.
+     */
+    private final transient String stem;
+
+    /**
+     * Past endings.
+     */
+    private final transient String[] past;
+
+    /**
+     * Whether the last consonant of the stem changes in first person
+     * singular.
+     */
+    private final transient boolean alternating;
+
+    /**
+     * Ctor.
+     * @param inf Ending of the infinitive replaced to get the present stem
+     * @param suff Suffix that replaces it in the present stem
+     * @param pres Present endings from first person singular to third
+     *  person plural, separated by commas
+     * @param base Ending of the infinitive removed to get the past stem
+     * @param pst Past endings for masculine, feminine and neuter singular
+     *  and for plural, separated by commas
+     * @param alt Whether the last consonant of the stem changes in first
+     *  person singular
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    RussianConjugation(
+        final String inf,
+        final String suff,
+        final String pres,
+        final String base,
+        final String pst,
+        final boolean alt
+    ) {
+        this.infinitive = inf;
+        this.suffix = suff;
+        this.present = RussianConjugation.split(pres);
+        this.stem = base;
+        this.past = RussianConjugation.split(pst);
+        this.alternating = alt;
+    }
+
+    /**
+     * Present stem of a verb.
+     * @param inf Infinitive without reflexive postfix
+     * @return Present stem
+     */
+    public String presentStem(final String inf) {
+        return inf.substring(0, inf.length() - this.infinitive.length())
+            + this.suffix;
+    }
+
+    /**
+     * Past stem of a verb.
+     * @param inf Infinitive without reflexive postfix
+     * @return Past stem
+     */
+    public String pastStem(final String inf) {
+        return inf.substring(0, inf.length() - this.stem.length());
+    }
+
+    /**
+     * Present ending.
+     * @param person Index of grammatical person
+     * @param number Index of grammatical number
+     * @return Ending
+     */
+    public String presentEnding(final int person, final int number) {
+        return this.present[number * RussianConjugation.PERSONS + person];
+    }
+
+    /**
+     * First person singular present form of a verb.
+     * @param present Present stem of the verb
+     * @return Form
+     */
+    public String firstPerson(final String present) {
+        final String answer;
+        if (this.alternating) {
+            final String stem = RussianConjugation.alternated(present);
+            if (RussianConjugation.SIBILANTS.contains(
+                stem.charAt(stem.length() - 1)
+            )) {
+                answer = stem + "у";
+            } else {
+                answer = stem + this.present[0];
+            }
+        } else {
+            answer = present + this.present[0];
+        }
+        return answer;
+    }
+
+    /**
+     * Past ending.
+     * @param gender Index of grammatical gender
+     * @param plural Whether the form is plural
+     * @return Ending
+     */
+    public String pastEnding(final int gender, final boolean plural) {
+        final String answer;
+        if (plural) {
+            answer = this.past[RussianConjugation.PLURAL];
+        } else {
+            answer = this.past[gender];
+        }
+        return answer;
+    }
+
+    /**
+     * Changes the last consonant of a present stem for the first person
+     * singular.
+     * @param stem Present stem
+     * @return Changed stem
+     */
+    private static String alternated(final String stem) {
+        final char last = stem.charAt(stem.length() - 1);
+        final String rest = stem.substring(0, stem.length() - 1);
+        final String answer;
+        if (stem.endsWith("зд")) {
+            answer = rest + "ж";
+        } else if (stem.endsWith("ст")) {
+            answer = stem.substring(0, stem.length() - 2) + "щ";
+        } else if (last == 'д' || last == 'з') {
+            answer = rest + "ж";
+        } else if (last == 'с') {
+            answer = rest + "ш";
+        } else if (last == 'т') {
+            answer = rest + "ч";
+        } else if (RussianConjugation.LABIALS.contains(last)) {
+            answer = stem + "л";
+        } else {
+            answer = stem;
+        }
+        return answer;
+    }
+
+    /**
+     * Splits a row of endings.
+     * @param endings Endings separated by commas
+     * @return Endings
+     */
+    private static String[] split(final String endings) {
+        return Splitter.on(',')
+            .splitToList(endings)
+            .toArray(new String[0]);
+    }
+}
@@ -25,7 +25,10 @@ package org.tendiwa.inflectible.implementations;
 // @checkstyle AvoidStaticImportCheck (11 lines)
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+import org.tenidwa.collections.utils.Rethrowing;
 import static org.tendiwa.inflectible.implementations.RussianGrammeme.В;
 import static org.tendiwa.inflectible.implementations.RussianGrammeme.Д;
 import static org.tendiwa.inflectible.implementations.RussianGrammeme.Ед;
@@ -40,6 +43,10 @@ import static org.tendiwa.inflectible.implementations.RussianGrammeme.Т;
  * <p/>
  * Inflection of nouns is called
  * <a href="https://en.wikipedia.org/wiki/Declension">declension</a>
+ * <p/>
+ * Each declension keeps its endings in a table indexed by
+ * {@link RussianGrammeme#index()} of grammatical number and case, so an
+ * ending is found without hashing or allocating a grammatical meaning.
  * @author Georgy Vlasov (suseika@tendiwa.org)
  * @version $Id$
  * @since 0.3.0
@@ -57,7 +64,7 @@ public enum RussianDeclension implements Declension {
      */
     МамаПапа(
         ImmutableMap.<GmOfRussianNoun, String>builder()
-            .put(new GmOfRussianNoun(Ед, И), "a")
+            .put(new GmOfRussianNoun(Ед, И), "а")
             .put(new GmOfRussianNoun(Ед, Р), "ы")
             .put(new GmOfRussianNoun(Ед, Д), "е")
             .put(new GmOfRussianNoun(Ед, В), "у")
@@ -142,7 +149,7 @@ public enum RussianDeclension implements Declension {
             .put(new GmOfRussianNoun(Ед, И), "")
             .put(new GmOfRussianNoun(Ед, Р), "а")
             .put(new GmOfRussianNoun(Ед, Д), "у")
-            .put(new GmOfRussianNoun(Ед, В), "a")
+            .put(new GmOfRussianNoun(Ед, В), "а")
             .put(new GmOfRussianNoun(Ед, Т), "ом")
             .put(new GmOfRussianNoun(Ед, П), "е")
             .put(new GmOfRussianNoun(Мн, И), "ы")
@@ -199,30 +206,76 @@ public enum RussianDeclension implements Declension {
      * usually go in this category if their headword has an ending that is
      * not common for their grammatical gender.
      */
-    Кофе(ImmutableMap.<GmOfRussianNoun, String>of()) {
-        @Override
-        public String ending(
-            final GrammaticalMeaning meaning
-        ) throws Exception {
-            return "";
-        }
-    };
+    Кофе(ImmutableMap.<GmOfRussianNoun, String>of());
+
+    /**
+     * Number of grammatical numbers of nouns.
+     */
+    private static final int NUMBERS = 2;
+
+    /**
+     * Number of grammatical cases of nouns.
+     */
+    private static final int CASES = 6;
 
     /**
-     * Map from grammatical meanings to endings.
+     * Endings by indices of grammatical number and case.
      */
-    private final transient ImmutableMap<GmOfRussianNoun, String> endings;
+    private final transient String[][] endings;
 
     /**
      * Ctor.
-     * @param ends Map from grammatical meanings to endings.
+     * @param ends Map from grammatical meanings to endings. Forms missing
+     *  from the map have an empty ending.
      */
     RussianDeclension(final ImmutableMap<GmOfRussianNoun, String> ends) {
-        this.endings = ends;
+        this.endings = new String[RussianDeclension.NUMBERS][];
+        for (int number = 0; number < RussianDeclension.NUMBERS; ++number) {
+            this.endings[number] = new String[RussianDeclension.CASES];
+            Arrays.fill(this.endings[number], "");
+        }
+        ends.entrySet().forEach(
+            Rethrowing.rethrowConsumer(
+                entry -> this.endings[
+                    RussianGrammeme.class.cast(
+                        RussianGrammaticalCategory.Число
+                            .getGrammeme(entry.getKey())
+                    ).index()
+                ][
+                    RussianGrammeme.class.cast(
+                        RussianGrammaticalCategory.Падеж
+                            .getGrammeme(entry.getKey())
+                    ).index()
+                ] = entry.getValue()
+            )
+        );
     }
 
     @Override
     public String ending(final GrammaticalMeaning meaning) throws Exception {
-        return this.endings.get(new GmOfRussianNoun(meaning));
+        int number = -1;
+        int gramcase = -1;
+        for (final Grammeme grammeme : meaning.grammemes()) {
+            if (number < 0
+                && grammeme.category() == RussianGrammaticalCategory.Число) {
+                number = RussianGrammeme.class.cast(grammeme).index();
+            } else if (gramcase < 0
+                && grammeme.category() == RussianGrammaticalCategory.Падеж) {
+                gramcase = RussianGrammeme.class.cast(grammeme).index();
+            }
+        }
+        return this.ending(Math.max(number, 0), Math.max(gramcase, 0));
+    }
+
+    /**
+     * Ending of a form defined by indices of its grammatical number and case,
+     * as returned by {@link RussianGrammeme#index()}. Callers that extract
+     * the indices once may look endings up without any allocation.
+     * @param number Index of grammatical number
+     * @param gramcase Index of grammatical case
+     * @return An ending
+     */
+    public String ending(final int number, final int gramcase) {
+        return this.endings[number][gramcase];
     }
 }
@@ -23,11 +23,8 @@
  */
 package org.tendiwa.inflectible.implementations;
 
-import com.google.common.collect.ImmutableList;
-import org.tendiwa.inflectible.GrammaticalCategory;
-import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.EnumGrammaticalCategory;
 import org.tendiwa.inflectible.Grammeme;
-import org.tenidwa.collections.utils.Collectors;
 
 /**
  * Grammatical categories of Russian language.
@@ -35,7 +32,7 @@ import org.tenidwa.collections.utils.Collectors;
  * @version $Id$
  * @since 0.2.0
  */
-public enum RussianGrammaticalCategory implements GrammaticalCategory {
+public enum RussianGrammaticalCategory implements EnumGrammaticalCategory {
     /**
      * Grammatical gender.
      * <p>Род.
@@ -73,36 +70,7 @@ public enum RussianGrammaticalCategory implements GrammaticalCategory {
     Форма;
 
     @Override
-    public Grammeme defaultGrammeme() {
-        return this.grammemes().get(0);
+    public Class<? extends Grammeme> grammemes() {
+        return RussianGrammeme.class;
     }
-
-    @Override
-    public boolean containsGrammeme(final Grammeme grammeme) {
-        return this.grammemes().contains(grammeme);
-    }
-
-    @Override
-    public Grammeme getGrammeme(
-        final GrammaticalMeaning meaning
-    ) throws Exception {
-        return meaning.grammemes()
-            .stream()
-            .filter(g->g.category() == this)
-            .findFirst()
-            .orElse(this.defaultGrammeme());
-    }
-
-    /**
-     * Returns grammemes of this grammatical category.
-     * @return Grammemes of this grammatical category
-     */
-    private ImmutableList<Grammeme> grammemes() {
-        return ImmutableList
-            .copyOf(RussianGrammeme.values())
-            .stream()
-            .filter(grammeme -> grammeme.category() == this)
-            .collect(Collectors.toImmutableList());
-    }
-
 }
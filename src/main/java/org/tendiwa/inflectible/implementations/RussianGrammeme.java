@@ -23,6 +23,7 @@
  */
 package org.tendiwa.inflectible.implementations;
 
+import org.tendiwa.inflectible.GrammarTables;
 import org.tendiwa.inflectible.GrammaticalCategory;
 import org.tendiwa.inflectible.Grammeme;
 
@@ -154,4 +155,15 @@ public enum RussianGrammeme implements Grammeme {
     public GrammaticalCategory category() {
         return this.category;
     }
+
+    /**
+     * Position of this grammeme among the grammemes of its category, in
+     * declaration order. For example, {@link RussianGrammeme#Ед} is 0 and
+     * {@link RussianGrammeme#Мн} is 1, {@link RussianGrammeme#И} is 0 and
+     * {@link RussianGrammeme#П} is 5.
+     * @return Index of this grammeme within its category
+     */
+    public int index() {
+        return GrammarTables.of(RussianGrammeme.class).index(this);
+    }
 }
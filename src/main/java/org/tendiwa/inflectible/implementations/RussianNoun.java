@@ -23,19 +23,22 @@
  */
 package org.tendiwa.inflectible.implementations;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.util.Set;
-import org.tendiwa.inflectible.GmCombined;
+import org.tendiwa.inflectible.GrammarTables;
 import org.tendiwa.inflectible.GrammaticalMeaning;
 import org.tendiwa.inflectible.Grammeme;
 import org.tendiwa.inflectible.Lexeme;
 import org.tendiwa.inflectible.SpBasic;
 import org.tendiwa.inflectible.Spelling;
-import org.tendiwa.inflectible.inflection.Stem;
+import org.tendiwa.inflectible.metrics.Instrumentation;
 
 /**
  * A Russian noun.
+ * <p/>
+ * The noun is assigned a {@link RussianDeclension} and its stem is computed
+ * once, when the noun is created, so a word form is found by indices of its
+ * number and case.
  * @author Georgy Vlasov (suseika@tendiwa.org)
  * @version $Id$
  * @since 0.3.0
@@ -60,14 +63,49 @@ public final class RussianNoun implements Lexeme {
      */
     private final transient GrammaticalMeaning persistent;
 
+    /**
+     * Declension.
+     */
+    private final transient RussianDeclension declension;
+
+    /**
+     * Stem.
+     */
+    private final transient String stem;
+
+    /**
+     * Index of the persistent number, or -1 if the number is not persistent.
+     */
+    private final transient int number;
+
+    /**
+     * Index of the persistent case, or -1 if the case is not persistent.
+     */
+    private final transient int gramcase;
+
     /**
      * Ctor.
      * @param hword Headword of this noun.
      * @param meaning Persistent grammatical meaning of this noun.
+     * @throws Exception If could not detect declension or stem
      */
-    RussianNoun(final Spelling hword, final GrammaticalMeaning meaning) {
+    RussianNoun(
+        final Spelling hword,
+        final GrammaticalMeaning meaning
+    ) throws Exception {
         this.headword = hword;
         this.persistent = meaning;
+        this.declension = this.detectedDeclension();
+        this.stem = new RussianNounStem(hword, meaning, this.declension)
+            .spelling();
+        this.number = GrammarTables.of(RussianGrammeme.class).index(
+            RussianGrammaticalCategory.Число,
+            meaning
+        );
+        this.gramcase = GrammarTables.of(RussianGrammeme.class).index(
+            RussianGrammaticalCategory.Падеж,
+            meaning
+        );
     }
 
     @Override
@@ -77,14 +115,21 @@ public final class RussianNoun implements Lexeme {
 
     @Override
     public Spelling wordForm(final GrammaticalMeaning target) throws Exception {
+        Instrumentation.INSTANCE.metrics().inference(
+            RussianNoun.class.getSimpleName()
+        );
+        final GrammarTables tables = GrammarTables.of(RussianGrammeme.class);
         return new SpBasic(
-            String.format(
-                "%s%s",
-                this.stem().spelling(),
-                this.declension().ending(
-                    new GmCombined(
-                        ImmutableList.of(this.persistent, target)
-                    )
+            this.stem + this.declension.ending(
+                tables.index(
+                    this.number,
+                    RussianGrammaticalCategory.Число,
+                    target
+                ),
+                tables.index(
+                    this.gramcase,
+                    RussianGrammaticalCategory.Падеж,
+                    target
                 )
             )
         );
@@ -95,28 +140,14 @@ public final class RussianNoun implements Lexeme {
         return this.persistent;
     }
 
-    // To be refactored in #47
-    /**
-     * Returns the stem of this noun.
-     * @return Stem of this noun.
-     * @throws Exception If could not construct stem
-     */
-    private Stem stem() throws Exception {
-        return new RussianNounStem(
-            this.headword,
-            this.persistent,
-            this.declension()
-        );
-    }
-
     /**
-     * Returns declension of this noun.
+     * Detects declension of this noun.
      * @return Declension of this noun.
      * @throws Exception If could not detect declension
      */
-    private Declension declension() throws Exception {
+    private RussianDeclension detectedDeclension() throws Exception {
         final Grammeme gender = this.gender();
-        final Declension declension;
+        final RussianDeclension declension;
         if (this.мамаПапа(gender)) {
             declension = RussianDeclension.МамаПапа;
         } else if (this.тётяДядя(gender)) {
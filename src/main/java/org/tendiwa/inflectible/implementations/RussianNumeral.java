@@ -0,0 +1,292 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.tendiwa.inflectible.GmEmpty;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.NumberAgreement;
+import org.tendiwa.inflectible.Numeral;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.Spelling;
+import org.tendiwa.inflectible.Vocabulary;
+
+/**
+ * {@link Numeral} spelled out with Russian words, like "двадцать один" or
+ * "двух тысяч пятисот". Words for digits are looked up in a vocabulary and
+ * take the case and the gender of the grammatical meaning; words for
+ * thousands, millions and billions agree with their counts the same way
+ * counted nouns do.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class RussianNumeral implements Numeral {
+    /**
+     * Number of units in a group of digits.
+     */
+    private static final int GROUP = 1000;
+
+    /**
+     * Number of units in the greatest scale.
+     */
+    private static final long BILLION = 1_000_000_000L;
+
+    /**
+     * Number of units in a ten.
+     */
+    private static final int TEN = 10;
+
+    /**
+     * Number of units in a hundred.
+     */
+    private static final int HUNDRED = 100;
+
+    /**
+     * Words for units.
+     */
+    private static final String[] UNITS = {
+        "НОЛЬ", "ОДИН", "ДВА", "ТРИ", "ЧЕТЫРЕ",
+        "ПЯТЬ", "ШЕСТЬ", "СЕМЬ", "ВОСЕМЬ", "ДЕВЯТЬ",
+    };
+
+    /**
+     * Words for numbers from ten to nineteen.
+     */
+    private static final String[] TEENS = {
+        "ДЕСЯТЬ", "ОДИННАДЦАТЬ", "ДВЕНАДЦАТЬ", "ТРИНАДЦАТЬ", "ЧЕТЫРНАДЦАТЬ",
+        "ПЯТНАДЦАТЬ", "ШЕСТНАДЦАТЬ", "СЕМНАДЦАТЬ", "ВОСЕМНАДЦАТЬ",
+        "ДЕВЯТНАДЦАТЬ",
+    };
+
+    /**
+     * Words for tens starting from twenty.
+     */
+    private static final String[] TENS = {
+        "", "", "ДВАДЦАТЬ", "ТРИДЦАТЬ", "СОРОК",
+        "ПЯТЬДЕСЯТ", "ШЕСТЬДЕСЯТ", "СЕМЬДЕСЯТ", "ВОСЕМЬДЕСЯТ", "ДЕВЯНОСТО",
+    };
+
+    /**
+     * Words for hundreds.
+     */
+    private static final String[] HUNDREDS = {
+        "", "СТО", "ДВЕСТИ", "ТРИСТА", "ЧЕТЫРЕСТА",
+        "ПЯТЬСОТ", "ШЕСТЬСОТ", "СЕМЬСОТ", "ВОСЕМЬСОТ", "ДЕВЯТЬСОТ",
+    };
+
+    /**
+     * Words for groups of digits starting from thousands.
+     */
+    private static final String[] SCALES = {
+        "", "ТЫСЯЧА", "МИЛЛИОН", "МИЛЛИАРД",
+    };
+
+    /**
+     * Number.
+     */
+    private final transient long number;
+
+    /**
+     * Vocabulary with words for numerals.
+     */
+    private final transient Vocabulary vocabulary;
+
+    /**
+     * Agreement of words for groups of digits with their counts.
+     */
+    private final transient NumberAgreement agreement;
+
+    /**
+     * Ctor.
+     * @param value Number
+     */
+    public RussianNumeral(final long value) {
+        this(value, new RussianBasicVocabulary());
+    }
+
+    /**
+     * Ctor.
+     * @param value Number
+     * @param words Vocabulary with words for numerals
+     */
+    public RussianNumeral(final long value, final Vocabulary words) {
+        this.number = value;
+        this.vocabulary = words;
+        this.agreement = new NaRussian();
+    }
+
+    @Override
+    public long value() {
+        return this.number;
+    }
+
+    @Override
+    public Spelling defaultSpelling() throws Exception {
+        return this.wordForm(new GmEmpty());
+    }
+
+    @Override
+    public Spelling wordForm(
+        final GrammaticalMeaning grammemes
+    ) throws Exception {
+        final long absolute = Math.abs(this.number);
+        final List<String> words = new ArrayList<>(RussianNumeral.TEN);
+        if (this.number < 0) {
+            words.add("минус");
+        }
+        if (this.number == 0) {
+            words.add(
+                this.word(RussianNumeral.UNITS[0], grammemes)
+            );
+        }
+        if (absolute < 0
+            || absolute / RussianNumeral.BILLION >= RussianNumeral.GROUP) {
+            throw new IllegalArgumentException(
+                String.format("Number %d is too big to spell out", this.number)
+            );
+        }
+        long scale = RussianNumeral.BILLION;
+        for (int index = RussianNumeral.SCALES.length - 1; index >= 0;
+            --index) {
+            final int group = (int) (absolute / scale % RussianNumeral.GROUP);
+            if (group != 0) {
+                this.spellGroup(group, index, grammemes, words);
+            }
+            scale /= RussianNumeral.GROUP;
+        }
+        return new SpBasic(Joiner.on(' ').join(words));
+    }
+
+    @Override
+    public GrammaticalMeaning persistentGrammemes() {
+        return new GmEmpty();
+    }
+
+    /**
+     * Spells out a group of three digits followed by the word for its scale.
+     * Thousands are feminine and the greater scales are masculine, as well
+     * as their words; one thousand or million is spelled without "один".
+     * @param group Number from 1 to 999
+     * @param index Index of the scale of the group
+     * @param grammemes Grammatical meaning of the whole numeral
+     * @param words Words to append to
+     * @throws Exception If could not spell out the group
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private void spellGroup(
+        final int group,
+        final int index,
+        final GrammaticalMeaning grammemes,
+        final List<String> words
+    ) throws Exception {
+        final GrammaticalMeaning meaning;
+        if (index == 0) {
+            meaning = grammemes;
+        } else {
+            final ImmutableSet<Grammeme> gendered =
+                ImmutableSet.of(
+                    RussianGrammaticalCategory.Падеж.getGrammeme(grammemes),
+                    this.genderOfScale(index)
+                );
+            meaning = () -> gendered;
+        }
+        if (index == 0 || group != 1) {
+            this.spellDigits(group, meaning, words);
+        }
+        if (index != 0) {
+            words.add(
+                this.word(
+                    RussianNumeral.SCALES[index],
+                    this.agreement.meaning(group, grammemes)
+                )
+            );
+        }
+    }
+
+    /**
+     * Spells out a number from 1 to 999.
+     * @param group Number
+     * @param meaning Grammatical meaning of the words
+     * @param words Words to append to
+     * @throws Exception If could not spell out the number
+     */
+    private void spellDigits(
+        final int group,
+        final GrammaticalMeaning meaning,
+        final List<String> words
+    ) throws Exception {
+        final int hundreds = group / RussianNumeral.HUNDRED;
+        final int tens = group % RussianNumeral.HUNDRED / RussianNumeral.TEN;
+        final int units = group % RussianNumeral.TEN;
+        if (hundreds != 0) {
+            words.add(this.word(RussianNumeral.HUNDREDS[hundreds], meaning));
+        }
+        if (tens == 1) {
+            words.add(this.word(RussianNumeral.TEENS[units], meaning));
+        } else {
+            if (tens != 0) {
+                words.add(this.word(RussianNumeral.TENS[tens], meaning));
+            }
+            if (units != 0) {
+                words.add(this.word(RussianNumeral.UNITS[units], meaning));
+            }
+        }
+    }
+
+    /**
+     * Returns the gender of words for a scale.
+     * @param index Index of the scale
+     * @return Feminine for thousands, masculine otherwise
+     */
+    private RussianGrammeme genderOfScale(final int index) {
+        final RussianGrammeme answer;
+        if (index == 1) {
+            answer = RussianGrammeme.Жен;
+        } else {
+            answer = RussianGrammeme.Муж;
+        }
+        return answer;
+    }
+
+    /**
+     * Inflects a word from the vocabulary.
+     * @param identifier Concept of the word
+     * @param meaning Grammatical meaning
+     * @return Spelling of the word
+     * @throws Exception If could not find or inflect the word
+     */
+    private String word(
+        final String identifier,
+        final GrammaticalMeaning meaning
+    ) throws Exception {
+        return this.vocabulary.lexeme(() -> identifier)
+            .wordForm(meaning)
+            .string();
+    }
+}
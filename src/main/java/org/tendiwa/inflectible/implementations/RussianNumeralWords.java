@@ -0,0 +1,209 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.tendiwa.inflectible.BasicLexeme;
+import org.tendiwa.inflectible.Concept;
+import org.tendiwa.inflectible.GmEmpty;
+import org.tendiwa.inflectible.GmValidated;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.Spelling;
+
+/**
+ * Lexemes of Russian cardinal numerals that {@link RussianNumeral} spells
+ * numbers with. Each row of the table holds a concept, a grammeme that
+ * distinguishes the row from other rows of the same concept (or "-") and six
+ * word forms in the order of cases: И, Р, Д, В, Т, П.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class RussianNumeralWords {
+    /**
+     * Table of word forms.
+     */
+    private static final ImmutableList<String> TABLE = ImmutableList.of(
+        "НОЛЬ - ноль ноля нолю ноль нолём ноле",
+        "ОДИН Муж один одного одному один одним одном",
+        "ОДИН Жен одна одной одной одну одной одной",
+        "ОДИН Средн одно одного одному одно одним одном",
+        "ДВА Муж два двух двум два двумя двух",
+        "ДВА Жен две двух двум две двумя двух",
+        "ДВА Средн два двух двум два двумя двух",
+        "ТРИ - три трёх трём три тремя трёх",
+        "ЧЕТЫРЕ - четыре четырёх четырём четыре четырьмя четырёх",
+        "ПЯТЬ - пять пяти пяти пять пятью пяти",
+        "ШЕСТЬ - шесть шести шести шесть шестью шести",
+        "СЕМЬ - семь семи семи семь семью семи",
+        "ВОСЕМЬ - восемь восьми восьми восемь восемью восьми",
+        "ДЕВЯТЬ - девять девяти девяти девять девятью девяти",
+        "ДЕСЯТЬ - десять десяти десяти десять десятью десяти",
+        "ОДИННАДЦАТЬ - одиннадцать одиннадцати одиннадцати "
+            + "одиннадцать одиннадцатью одиннадцати",
+        "ДВЕНАДЦАТЬ - двенадцать двенадцати двенадцати "
+            + "двенадцать двенадцатью двенадцати",
+        "ТРИНАДЦАТЬ - тринадцать тринадцати тринадцати "
+            + "тринадцать тринадцатью тринадцати",
+        "ЧЕТЫРНАДЦАТЬ - четырнадцать четырнадцати четырнадцати "
+            + "четырнадцать четырнадцатью четырнадцати",
+        "ПЯТНАДЦАТЬ - пятнадцать пятнадцати пятнадцати "
+            + "пятнадцать пятнадцатью пятнадцати",
+        "ШЕСТНАДЦАТЬ - шестнадцать шестнадцати шестнадцати "
+            + "шестнадцать шестнадцатью шестнадцати",
+        "СЕМНАДЦАТЬ - семнадцать семнадцати семнадцати "
+            + "семнадцать семнадцатью семнадцати",
+        "ВОСЕМНАДЦАТЬ - восемнадцать восемнадцати восемнадцати "
+            + "восемнадцать восемнадцатью восемнадцати",
+        "ДЕВЯТНАДЦАТЬ - девятнадцать девятнадцати девятнадцати "
+            + "девятнадцать девятнадцатью девятнадцати",
+        "ДВАДЦАТЬ - двадцать двадцати двадцати "
+            + "двадцать двадцатью двадцати",
+        "ТРИДЦАТЬ - тридцать тридцати тридцати "
+            + "тридцать тридцатью тридцати",
+        "СОРОК - сорок сорока сорока сорок сорока сорока",
+        "ПЯТЬДЕСЯТ - пятьдесят пятидесяти пятидесяти "
+            + "пятьдесят пятьюдесятью пятидесяти",
+        "ШЕСТЬДЕСЯТ - шестьдесят шестидесяти шестидесяти "
+            + "шестьдесят шестьюдесятью шестидесяти",
+        "СЕМЬДЕСЯТ - семьдесят семидесяти семидесяти "
+            + "семьдесят семьюдесятью семидесяти",
+        "ВОСЕМЬДЕСЯТ - восемьдесят восьмидесяти восьмидесяти "
+            + "восемьдесят восемьюдесятью восьмидесяти",
+        "ДЕВЯНОСТО - девяносто девяноста девяноста "
+            + "девяносто девяноста девяноста",
+        "СТО - сто ста ста сто ста ста",
+        "ДВЕСТИ - двести двухсот двумстам двести двумястами двухстах",
+        "ТРИСТА - триста трёхсот трёмстам триста тремястами трёхстах",
+        "ЧЕТЫРЕСТА - четыреста четырёхсот четырёмстам "
+            + "четыреста четырьмястами четырёхстах",
+        "ПЯТЬСОТ - пятьсот пятисот пятистам пятьсот пятьюстами пятистах",
+        "ШЕСТЬСОТ - шестьсот шестисот шестистам "
+            + "шестьсот шестьюстами шестистах",
+        "СЕМЬСОТ - семьсот семисот семистам семьсот семьюстами семистах",
+        "ВОСЕМЬСОТ - восемьсот восьмисот восьмистам "
+            + "восемьсот восемьюстами восьмистах",
+        "ДЕВЯТЬСОТ - девятьсот девятисот девятистам "
+            + "девятьсот девятьюстами девятистах",
+        "ТЫСЯЧА Ед тысяча тысячи тысяче тысячу тысячей тысяче",
+        "ТЫСЯЧА Мн тысячи тысяч тысячам тысячи тысячами тысячах",
+        "МИЛЛИОН Ед миллион миллиона миллиону миллион миллионом миллионе",
+        "МИЛЛИОН Мн миллионы миллионов миллионам "
+            + "миллионы миллионами миллионах",
+        "МИЛЛИАРД Ед миллиард миллиарда миллиарду "
+            + "миллиард миллиардом миллиарде",
+        "МИЛЛИАРД Мн миллиарды миллиардов миллиардам "
+            + "миллиарды миллиардами миллиардах"
+    );
+
+    /**
+     * Cases in the order of word forms in the table.
+     */
+    private static final ImmutableList<RussianGrammeme> CASES =
+        ImmutableList.of(
+            RussianGrammeme.И,
+            RussianGrammeme.Р,
+            RussianGrammeme.Д,
+            RussianGrammeme.В,
+            RussianGrammeme.Т,
+            RussianGrammeme.П
+        );
+
+    /**
+     * Marker of a row without a distinguishing grammeme.
+     */
+    private static final String NONE = "-";
+
+    /**
+     * Creates lexemes of all the numerals in the table.
+     * @return Lexemes by their concepts
+     */
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    public ImmutableMap<Concept, Lexeme> lexemes() {
+        final Map<String, ImmutableMap.Builder<GrammaticalMeaning, Spelling>>
+            forms = new LinkedHashMap<>(RussianNumeralWords.TABLE.size());
+        for (final String row : RussianNumeralWords.TABLE) {
+            final List<String> cells = Splitter.on(' ').splitToList(row);
+            if (!forms.containsKey(cells.get(0))) {
+                forms.put(cells.get(0), ImmutableMap.builder());
+            }
+            for (int index = 0; index < RussianNumeralWords.CASES.size();
+                ++index) {
+                forms.get(cells.get(0)).put(
+                    new GmValidated(
+                        RussianPartOfSpeech.Прил,
+                        RussianNumeralWords.meaning(
+                            cells.get(1),
+                            RussianNumeralWords.CASES.get(index)
+                        )
+                    ),
+                    new SpBasic(cells.get(index + 2))
+                );
+            }
+        }
+        final ImmutableMap.Builder<Concept, Lexeme> lexemes =
+            ImmutableMap.builder();
+        for (final Map.Entry<String, ImmutableMap.Builder<GrammaticalMeaning,
+            Spelling>> entry : forms.entrySet()) {
+            final String identifier = entry.getKey();
+            lexemes.put(
+                () -> identifier,
+                new BasicLexeme(new GmEmpty(), entry.getValue().build())
+            );
+        }
+        return lexemes.build();
+    }
+
+    /**
+     * Creates grammemes of a word form.
+     * @param distinction Name of a grammeme that distinguishes the row of the
+     *  table, or "-"
+     * @param cas Case of the word form
+     * @return Grammemes of the word form
+     */
+    private static ImmutableSet<Grammeme> meaning(
+        final String distinction,
+        final RussianGrammeme cas
+    ) {
+        final ImmutableSet<Grammeme> answer;
+        if (RussianNumeralWords.NONE.equals(distinction)) {
+            answer = ImmutableSet.of(cas);
+        } else {
+            answer = ImmutableSet.of(
+                RussianGrammeme.valueOf(distinction),
+                cas
+            );
+        }
+        return answer;
+    }
+}
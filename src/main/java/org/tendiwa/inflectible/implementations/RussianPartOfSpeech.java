@@ -80,16 +80,65 @@ public enum RussianPartOfSpeech implements PartOfSpeech {
             RussianGrammaticalCategory.Время,
             RussianGrammaticalCategory.Лицо,
             RussianGrammaticalCategory.Число,
-            RussianGrammaticalCategory.Форма
+            RussianGrammaticalCategory.Форма,
+            RussianGrammaticalCategory.Род
         ),
-        ImmutableSet.<GrammaticalMeaning>of()
+        ImmutableSet.<GrammaticalMeaning>of(
+            new GmOfRussianVerb(RussianGrammeme.Инф),
+            new GmOfRussianVerb(
+                RussianGrammeme.Наст,
+                RussianGrammeme.I,
+                RussianGrammeme.Ед
+            ),
+            new GmOfRussianVerb(
+                RussianGrammeme.Наст,
+                RussianGrammeme.II,
+                RussianGrammeme.Ед
+            ),
+            new GmOfRussianVerb(
+                RussianGrammeme.Наст,
+                RussianGrammeme.III,
+                RussianGrammeme.Ед
+            ),
+            new GmOfRussianVerb(
+                RussianGrammeme.Наст,
+                RussianGrammeme.I,
+                RussianGrammeme.Мн
+            ),
+            new GmOfRussianVerb(
+                RussianGrammeme.Наст,
+                RussianGrammeme.II,
+                RussianGrammeme.Мн
+            ),
+            new GmOfRussianVerb(
+                RussianGrammeme.Наст,
+                RussianGrammeme.III,
+                RussianGrammeme.Мн
+            ),
+            new GmOfRussianVerb(
+                RussianGrammeme.Прош,
+                RussianGrammeme.Ед,
+                RussianGrammeme.Муж
+            ),
+            new GmOfRussianVerb(
+                RussianGrammeme.Прош,
+                RussianGrammeme.Ед,
+                RussianGrammeme.Жен
+            ),
+            new GmOfRussianVerb(
+                RussianGrammeme.Прош,
+                RussianGrammeme.Ед,
+                RussianGrammeme.Средн
+            ),
+            new GmOfRussianVerb(RussianGrammeme.Прош, RussianGrammeme.Мн)
+        )
     ) {
         @Override
         public Lexeme lexeme(
             final Spelling headword,
             final GrammaticalMeaning persistent
         ) throws Exception {
-            throw new UnsupportedOperationException();
+            return new RussianVerb(headword, persistent);
         }
     },
 
@@ -103,14 +152,30 @@ public enum RussianPartOfSpeech implements PartOfSpeech {
             RussianGrammaticalCategory.Число,
             RussianGrammaticalCategory.Падеж
         ),
-        ImmutableSet.<GrammaticalMeaning>of()
+        new CartesianProduct<>(
+            ImmutableSet.of(
+                RussianGrammeme.Муж,
+                RussianGrammeme.Жен,
+                RussianGrammeme.Средн,
+                RussianGrammeme.Мн
+            ),
+            ImmutableSet.of(
+                RussianGrammeme.И,
+                RussianGrammeme.Р,
+                RussianGrammeme.Д,
+                RussianGrammeme.В,
+                RussianGrammeme.Т,
+                RussianGrammeme.П
+            ),
+            GmOfRussianAdjective::new
+        )
     ) {
         @Override
         public Lexeme lexeme(
             final Spelling headword,
             final GrammaticalMeaning persistent
         ) throws Exception {
-            throw new UnsupportedOperationException();
+            return new RussianAdjective(headword, persistent);
         }
     },
 
@@ -0,0 +1,67 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import org.tendiwa.inflectible.PhoneticClass;
+
+/**
+ * Phonetic classes of Russian words, as far as prepositions like "о"/"об"
+ * and "с"/"со" are concerned.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public enum RussianPhoneticClass implements PhoneticClass {
+    /**
+     * Word starting with а, и, о, у, ы or э: "об окне".
+     */
+    Гласный,
+
+    /**
+     * Word starting with с, з, ш, ж or щ followed by a consonant:
+     * "со стола".
+     */
+    СвистящийКластер,
+
+    /**
+     * Word starting with в or ф followed by a consonant, other than вс and
+     * вт: "во время", "во флоте", but "с флагом".
+     */
+    ГубнойКластер,
+
+    /**
+     * Word starting with вс or вт: "во всём", "со всеми", "со вторым".
+     */
+    КластерВсВт,
+
+    /**
+     * Word starting with мн: "обо мне", "со мной", "ко мне".
+     */
+    КластерМн,
+
+    /**
+     * Any other word.
+     */
+    Согласный
+}
@@ -0,0 +1,140 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableTable;
+import java.util.Optional;
+import org.tendiwa.inflectible.PhTabular;
+import org.tendiwa.inflectible.PhoneticClass;
+import org.tendiwa.inflectible.Phonetics;
+
+/**
+ * Russian {@link Phonetics}: prepositions "о", "с", "в" and "к" take a vowel
+ * before words that start with a vowel or certain consonant clusters ("об
+ * окне", "со стола", "со всеми", "во время", "ко мне").
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class RussianPhonetics implements Phonetics {
+    /**
+     * Consonants.
+     */
+    private static final String CONSONANTS = "бвгджзйклмнпрстфхцчшщ";
+
+    /**
+     * Beginnings of words after which "с" becomes "со".
+     */
+    private static final ImmutableSet<String> LABIAL =
+        ImmutableSet.of("вс", "вт");
+
+    /**
+     * Phonetic classes by beginnings of words.
+     */
+    private static final ImmutableMap<String, PhoneticClass> BEGINNINGS =
+        RussianPhonetics.beginnings();
+
+    /**
+     * Variants of words by their basic variants and phonetic classes of the
+     * next word.
+     */
+    private static final ImmutableTable<String, PhoneticClass, String>
+        VARIANTS = ImmutableTable.<String, PhoneticClass, String>builder()
+            .put("о", RussianPhoneticClass.Гласный, "об")
+            .put("о", RussianPhoneticClass.КластерМн, "обо")
+            .put("с", RussianPhoneticClass.СвистящийКластер, "со")
+            .put("с", RussianPhoneticClass.КластерВсВт, "со")
+            .put("с", RussianPhoneticClass.КластерМн, "со")
+            .put("в", RussianPhoneticClass.ГубнойКластер, "во")
+            .put("в", RussianPhoneticClass.КластерВсВт, "во")
+            .put("в", RussianPhoneticClass.КластерМн, "во")
+            .put("к", RussianPhoneticClass.КластерМн, "ко")
+            .build();
+
+    /**
+     * Table-driven delegate.
+     */
+    private final transient Phonetics tables;
+
+    /**
+     * Ctor.
+     */
+    public RussianPhonetics() {
+        this.tables = new PhTabular(
+            RussianPhonetics.BEGINNINGS,
+            RussianPhoneticClass.Согласный,
+            RussianPhonetics.VARIANTS
+        );
+    }
+
+    @Override
+    public Optional<PhoneticClass> phoneticClass(final String spelling) {
+        return this.tables.phoneticClass(spelling);
+    }
+
+    @Override
+    public String variant(
+        final String word,
+        final Optional<PhoneticClass> following
+    ) {
+        return this.tables.variant(word, following);
+    }
+
+    /**
+     * Fills up the table of beginnings of words.
+     * @return Phonetic classes by beginnings of words
+     */
+    private static ImmutableMap<String, PhoneticClass> beginnings() {
+        final ImmutableMap.Builder<String, PhoneticClass> builder =
+            ImmutableMap.builder();
+        for (final char vowel : "аиоуыэ".toCharArray()) {
+            builder.put(String.valueOf(vowel), RussianPhoneticClass.Гласный);
+        }
+        for (final char consonant : RussianPhonetics.CONSONANTS.toCharArray()) {
+            for (final char sibilant : "сзшжщ".toCharArray()) {
+                builder.put(
+                    new String(new char[] {sibilant, consonant}),
+                    RussianPhoneticClass.СвистящийКластер
+                );
+            }
+            for (final char labial : "вф".toCharArray()) {
+                final String beginning =
+                    new String(new char[] {labial, consonant});
+                if (!RussianPhonetics.LABIAL.contains(beginning)) {
+                    builder.put(
+                        beginning,
+                        RussianPhoneticClass.ГубнойКластер
+                    );
+                }
+            }
+        }
+        for (final String beginning : RussianPhonetics.LABIAL) {
+            builder.put(beginning, RussianPhoneticClass.КластерВсВт);
+        }
+        builder.put("мн", RussianPhoneticClass.КластерМн);
+        return builder.build();
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Tables of present stems of Russian verbs that can't be derived from their
+ * infinitives, one table for each conjugation class. Each table is kept as
+ * two parallel arrays of roots, sorted for binary search, and of their
+ * present stems. Verbs made of a known prefix and one of the roots, like
+ * написать or подождать, are found too.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+enum RussianStems {
+    /**
+     * Verbs with endings у and ут, like пишу and пишут.
+     */
+    Писать(
+        RussianConjugation.Писать,
+        "брать:бер быть:буд ждать:жд жить:жив звать:зов казать:каж",
+        "класть:клад красть:крад писать:пиш плыть:плыв рвать:рв",
+        "сесть:сяд сказать:скаж"
+    ),
+
+    /**
+     * Verbs with endings ю and ют, like мою and моют.
+     */
+    Читать(
+        RussianConjugation.Читать,
+        "колоть:кол крыть:кро лаять:ла мыть:мо надеять:наде ныть:но",
+        "полоть:пол рыть:ро сеять:се смеять:сме таять:та"
+    ),
+
+    /**
+     * Verbs of second conjugation, like сплю and спят.
+     */
+    Говорить(
+        RussianConjugation.Говорить,
+        "боять:бо гнать:гон спать:сп стоять:сто"
+    );
+
+    /**
+     * Prefixes that the roots take.
+     */
+    private static final Set<String> PREFIXES = ImmutableSet.of(
+        "", "в", "вз", "взо", "во", "вс", "вы", "до", "за", "из", "изо",
+        "ис", "на", "над", "надо", "о", "об", "обо", "от", "ото", "пере",
+        "по", "под", "подо", "пре", "при", "про", "раз", "разо", "рас",
+        "с", "со", "у"
+    );
+
+    /**
+     * Length of the longest prefix.
+     */
+    private static final int LONGEST = 4;
+
+    /**
+     * Conjugation class of the verbs.
+     */
+    private final transient RussianConjugation conjugation;
+
+    /**
+     * Roots of infinitives without reflexive postfix in alphabetical order.
+     */
+    private final transient String[] roots;
+
+    /**
+     * Present stems in the order of their roots.
+     */
+    private final transient String[] stems;
+
+    /**
+     * Ctor.
+     * @param klass Conjugation class of the verbs
+     * @param lines Pairs of a root and a present stem separated by a colon,
+     *  pairs being separated by spaces. A colon sorts before any letter, so
+     *  sorting the pairs sorts them by their roots.
+     */
+    RussianStems(final RussianConjugation klass, final String... lines) {
+        this.conjugation = klass;
+        final List<String> pairs = Splitter.on(' ')
+            .omitEmptyStrings()
+            .splitToList(String.join(" ", lines));
+        final String[] sorted = pairs.toArray(new String[pairs.size()]);
+        Arrays.sort(sorted);
+        this.roots = new String[sorted.length];
+        this.stems = new String[sorted.length];
+        for (int index = 0; index < sorted.length; ++index) {
+            final int colon = sorted[index].indexOf(':');
+            this.roots[index] = sorted[index].substring(0, colon);
+            this.stems[index] = sorted[index].substring(colon + 1);
+        }
+    }
+
+    /**
+     * Conjugation class of the verbs in this table.
+     * @return Conjugation class
+     */
+    public RussianConjugation conjugation() {
+        return this.conjugation;
+    }
+
+    /**
+     * Finds the present stem of a verb.
+     * @param infinitive Infinitive without reflexive postfix
+     * @return Present stem, or empty if the verb is not made of a known
+     *  prefix and one of the roots of this table
+     */
+    public Optional<String> presentStem(final String infinitive) {
+        Optional<String> answer = Optional.empty();
+        final int longest = Math.min(RussianStems.LONGEST, infinitive.length());
+        for (int length = 0; length <= longest && !answer.isPresent();
+            ++length) {
+            final String prefix = infinitive.substring(0, length);
+            final int index = Arrays.binarySearch(
+                this.roots,
+                infinitive.substring(length)
+            );
+            if (index >= 0 && RussianStems.PREFIXES.contains(prefix)) {
+                answer = Optional.of(prefix + this.stems[index]);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Finds the table containing a verb.
+     * @param infinitive Infinitive without reflexive postfix
+     * @return Table, or empty if the verb's present stem is regular
+     */
+    public static Optional<RussianStems> containing(final String infinitive) {
+        return Arrays.stream(RussianStems.values())
+            .filter(table -> table.presentStem(infinitive).isPresent())
+            .findFirst();
+    }
+}
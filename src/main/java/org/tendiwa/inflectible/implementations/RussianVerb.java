@@ -0,0 +1,398 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.tendiwa.inflectible.GrammarTables;
+import org.tendiwa.inflectible.GrammaticalCategory;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.Spelling;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+
+/**
+ * A Russian verb whose present and past forms are generated from its
+ * headword, the infinitive.
+ * <p/>
+ * The verb is assigned a {@link RussianConjugation} and its stems are
+ * computed once, when the verb is created. Present stems that can't be
+ * derived from the infinitive, like пиш- of писать, are taken from
+ * {@link RussianStems}. Irregular verbs like есть or идти need their forms
+ * written out in a vocabulary.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class RussianVerb implements Lexeme {
+    /**
+     * Verbs of second conjugation in -еть and -ать, matched by endings of
+     * infinitives so that prefixed verbs like посмотреть match too.
+     */
+    private static final Set<String> SECOND = ImmutableSet.of(
+        "блестеть", "вертеть", "видеть", "висеть", "гореть", "греметь",
+        "звенеть", "зависеть", "кипеть", "лететь", "обидеть", "свистеть",
+        "сидеть", "скрипеть", "смотреть", "терпеть", "хрипеть", "шуметь",
+        "визжать", "ворчать", "держать", "дрожать", "дышать", "звучать",
+        "кричать", "лежать", "молчать", "мычать", "пищать", "рычать",
+        "слышать", "стучать", "торчать"
+    );
+
+    /**
+     * Verbs in -чь with г in the present stem, matched by endings of
+     * infinitives so that prefixed verbs like помочь match too.
+     */
+    private static final Set<String> VELAR = ImmutableSet.of(
+        "беречь", "мочь", "небречь", "стеречь", "стричь"
+    );
+
+    /**
+     * Vowel letters.
+     */
+    private static final String VOWELS = "аеёиоуыэюя";
+
+    /**
+     * Letters after which ю and я of endings and suffixes are spelled as у
+     * and а.
+     */
+    private static final Set<Character> SIBILANTS = ImmutableSet.of(
+        'ж', 'ш', 'ч', 'щ', 'ц'
+    );
+
+    /**
+     * Roots of verbs of {@link RussianConjugation#Бить}.
+     */
+    private static final Set<String> ROOTS = ImmutableSet.of(
+        "бить", "пить", "лить", "шить", "вить"
+    );
+
+    /**
+     * Prefixes that verbs of {@link RussianConjugation#Бить} take, with
+     * their spelling in present forms, like разбить and разобьёт.
+     */
+    private static final Map<String, String> PREFIXES =
+        ImmutableMap.<String, String>builder()
+            .put("", "")
+            .put("в", "во")
+            .put("вз", "взо")
+            .put("вы", "вы")
+            .put("до", "до")
+            .put("за", "за")
+            .put("из", "изо")
+            .put("ис", "изо")
+            .put("на", "на")
+            .put("над", "надо")
+            .put("об", "обо")
+            .put("от", "ото")
+            .put("пере", "пере")
+            .put("по", "по")
+            .put("под", "подо")
+            .put("при", "при")
+            .put("про", "про")
+            .put("раз", "разо")
+            .put("рас", "разо")
+            .put("с", "со")
+            .put("у", "у")
+            .build();
+
+    /**
+     * Length of roots of verbs of {@link RussianConjugation#Бить}.
+     */
+    private static final int ROOT = 4;
+
+    /**
+     * Headword.
+     */
+    private final transient Spelling headword;
+
+    /**
+     * Persistent grammatical meaning.
+     */
+    private final transient GrammaticalMeaning persistent;
+
+    /**
+     * Whether this verb is reflexive.
+     */
+    private final transient boolean reflexive;
+
+    /**
+     * Conjugation class.
+     */
+    private final transient RussianConjugation conjugation;
+
+    /**
+     * Present stem.
+     */
+    private final transient String present;
+
+    /**
+     * First person singular present form without reflexive postfix.
+     */
+    private final transient String first;
+
+    /**
+     * Past stem.
+     */
+    private final transient String past;
+
+    /**
+     * Ctor.
+     * @param hword Infinitive of this verb
+     * @param meaning Persistent grammatical meaning of this verb
+     */
+    RussianVerb(final Spelling hword, final GrammaticalMeaning meaning) {
+        this.headword = hword;
+        this.persistent = meaning;
+        final String infinitive = hword.string();
+        this.reflexive = infinitive.endsWith("ся")
+            || infinitive.endsWith("сь");
+        final String base;
+        if (this.reflexive) {
+            base = infinitive.substring(0, infinitive.length() - 2);
+        } else {
+            base = infinitive;
+        }
+        final Optional<RussianStems> table = RussianStems.containing(base);
+        final Optional<String> prefix = RussianVerb.prefix(base);
+        if (table.isPresent()) {
+            this.conjugation = table.get().conjugation();
+            this.present = table.get().presentStem(base).get();
+        } else if (prefix.isPresent()) {
+            this.conjugation = RussianConjugation.Бить;
+            this.present = prefix.get()
+                + this.conjugation.presentStem(
+                    base.substring(base.length() - RussianVerb.ROOT)
+                );
+        } else {
+            this.conjugation = RussianVerb.conjugation(base);
+            this.present = this.conjugation.presentStem(base);
+        }
+        this.first = this.conjugation.firstPerson(this.present);
+        this.past = this.conjugation.pastStem(base);
+    }
+
+    @Override
+    public Spelling defaultSpelling() throws Exception {
+        return this.headword;
+    }
+
+    @Override
+    public Spelling wordForm(final GrammaticalMeaning target) throws Exception {
+        Instrumentation.INSTANCE.metrics().inference(
+            RussianVerb.class.getSimpleName()
+        );
+        final Spelling answer;
+        if (GrammarTables.of(RussianGrammeme.class)
+            .grammeme(RussianGrammaticalCategory.Форма, target)
+            .equals(Optional.of(RussianGrammeme.Инф))) {
+            answer = this.headword;
+        } else {
+            final boolean plural =
+                this.grammeme(RussianGrammaticalCategory.Число, target)
+                    == RussianGrammeme.Мн;
+            final int person =
+                this.index(RussianGrammaticalCategory.Лицо, target);
+            final String form;
+            if (this.grammeme(RussianGrammaticalCategory.Время, target)
+                == RussianGrammeme.Прош) {
+                form = this.past
+                    + this.conjugation.pastEnding(
+                        this.index(RussianGrammaticalCategory.Род, target),
+                        plural
+                    );
+            } else if (person == 0 && !plural) {
+                form = this.first;
+            } else {
+                form = this.present
+                    + this.conjugation.presentEnding(
+                        person,
+                        this.index(RussianGrammaticalCategory.Число, target)
+                    );
+            }
+            answer = new SpBasic(this.withPostfix(form));
+        }
+        return answer;
+    }
+
+    @Override
+    public GrammaticalMeaning persistentGrammemes() throws Exception {
+        return this.persistent;
+    }
+
+    /**
+     * Adds the reflexive postfix to a form of a reflexive verb.
+     * @param form Form without postfix
+     * @return Form with postfix
+     */
+    private String withPostfix(final String form) {
+        final String answer;
+        if (!this.reflexive) {
+            answer = form;
+        } else if (RussianVerb.VOWELS.indexOf(
+            form.charAt(form.length() - 1)
+        ) >= 0) {
+            answer = form + "сь";
+        } else {
+            answer = form + "ся";
+        }
+        return answer;
+    }
+
+    /**
+     * Finds the index of the grammeme of a category in a form.
+     * @param category Grammatical category
+     * @param target Grammatical meaning of the form
+     * @return Index of the grammeme within its category
+     * @throws Exception If could not obtain grammemes
+     */
+    private int index(
+        final GrammaticalCategory category,
+        final GrammaticalMeaning target
+    ) throws Exception {
+        return GrammarTables.of(RussianGrammeme.class)
+            .index(this.grammeme(category, target));
+    }
+
+    /**
+     * Finds the grammeme of a category in a form. Grammemes of the form
+     * take precedence over the persistent ones.
+     * @param category Grammatical category
+     * @param target Grammatical meaning of the form
+     * @return Grammeme of the category, or its default grammeme if neither
+     *  the form nor the verb have one
+     * @throws Exception If could not obtain grammemes
+     */
+    private Grammeme grammeme(
+        final GrammaticalCategory category,
+        final GrammaticalMeaning target
+    ) throws Exception {
+        final Optional<Grammeme> own =
+            GrammarTables.of(RussianGrammeme.class).grammeme(category, target);
+        final Grammeme answer;
+        if (own.isPresent()) {
+            answer = own.get();
+        } else {
+            answer = GrammarTables.of(RussianGrammeme.class)
+                .grammeme(category, this.persistent)
+                .orElse(category.defaultGrammeme());
+        }
+        return answer;
+    }
+
+    /**
+     * Detects the conjugation class of a verb.
+     * @param infinitive Infinitive without reflexive postfix
+     * @return Conjugation class
+     */
+    private static RussianConjugation conjugation(final String infinitive) {
+        final RussianConjugation answer;
+        if (infinitive.endsWith("ти")) {
+            answer = RussianConjugation.Ползти;
+        } else if (infinitive.endsWith("жечь")) {
+            answer = RussianConjugation.Жечь;
+        } else if (RussianVerb.VELAR.stream().anyMatch(infinitive::endsWith)) {
+            answer = RussianConjugation.Беречь;
+        } else if (infinitive.endsWith("чь")) {
+            answer = RussianConjugation.Печь;
+        } else if (RussianVerb.SECOND.stream().anyMatch(infinitive::endsWith)) {
+            if (infinitive.endsWith("еть")) {
+                answer = RussianConjugation.Смотреть;
+            } else {
+                answer = RussianConjugation.Кричать;
+            }
+        } else if (infinitive.endsWith("овать")) {
+            answer = RussianConjugation.Рисовать;
+        } else if (infinitive.endsWith("евать")
+            && RussianVerb.SIBILANTS.contains(
+                RussianVerb.beforeEnding(infinitive, "евать")
+            )) {
+            answer = RussianConjugation.Танцевать;
+        } else if (infinitive.endsWith("нуть")) {
+            answer = RussianConjugation.Толкнуть;
+        } else if (infinitive.endsWith("ить")) {
+            if (RussianVerb.SIBILANTS.contains(
+                RussianVerb.beforeEnding(infinitive, "ить")
+            )) {
+                answer = RussianConjugation.Учить;
+            } else {
+                answer = RussianConjugation.Говорить;
+            }
+        } else if (infinitive.endsWith("ть")) {
+            answer = RussianConjugation.Читать;
+        } else {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Verb \"%s\" doesn't end with -ть, -ти or -чь",
+                    infinitive
+                )
+            );
+        }
+        return answer;
+    }
+
+    /**
+     * Finds the prefix of a verb of {@link RussianConjugation#Бить}.
+     * @param infinitive Infinitive without reflexive postfix
+     * @return Spelling of the prefix in present forms, or nothing if the
+     *  verb is not made of a known prefix and one of the roots
+     */
+    private static Optional<String> prefix(final String infinitive) {
+        Optional<String> answer = Optional.empty();
+        if (infinitive.length() >= RussianVerb.ROOT
+            && RussianVerb.ROOTS.contains(
+                infinitive.substring(infinitive.length() - RussianVerb.ROOT)
+            )) {
+            answer = Optional.ofNullable(
+                RussianVerb.PREFIXES.get(
+                    infinitive.substring(
+                        0,
+                        infinitive.length() - RussianVerb.ROOT
+                    )
+                )
+            );
+        }
+        return answer;
+    }
+
+    /**
+     * Letter before an ending of a word.
+     * @param word Word
+     * @param ending Ending
+     * @return Letter before the ending, or a space if there is none
+     */
+    private static char beforeEnding(final String word, final String ending) {
+        final char answer;
+        if (word.length() > ending.length()) {
+            answer = word.charAt(word.length() - ending.length() - 1);
+        } else {
+            answer = ' ';
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.inflection;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import org.tendiwa.inflectible.Lexeme;
+
+/**
+ * Expansion that expands all lexemes at once, in parallel, in a fork-join
+ * pool that lives only while the lexemes are expanded.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class ExEager implements Expansion {
+    /**
+     * Number of threads that expand lexemes.
+     */
+    private final transient int parallelism;
+
+    /**
+     * Ctor. Uses as many threads as there are available processors.
+     */
+    public ExEager() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param threads Number of threads that expand lexemes
+     */
+    public ExEager(final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Parallelism must be positive, but it is %d",
+                    threads
+                )
+            );
+        }
+        this.parallelism = threads;
+    }
+
+    @Override
+    public <K> ImmutableMap<K, Lexeme> lexemes(
+        final ImmutableMap<K, Callable<Lexeme>> expansions
+    ) throws Exception {
+        final ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        final ImmutableMap.Builder<K, Lexeme> lexemes = ImmutableMap.builder();
+        try {
+            final List<Future<Lexeme>> futures =
+                pool.invokeAll(expansions.values());
+            final ImmutableList<K> keys = expansions.keySet().asList();
+            for (int index = 0; index < keys.size(); ++index) {
+                lexemes.put(keys.get(index), futures.get(index).get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return lexemes.build();
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.inflection;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.Callable;
+import org.tendiwa.inflectible.Lexeme;
+
+/**
+ * Policy of expanding lexemes of a vocabulary into explicit form tables.
+ * Expanding all lexemes while a vocabulary loads makes loading slower and
+ * the first use of each lexeme faster.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ * @see LxWithSuppletivism#expanded()
+ */
+public interface Expansion {
+    /**
+     * Applies this policy to lexemes.
+     * @param expansions Computations of expanded lexemes by their keys
+     * @param <K> Type of keys
+     * @return Lexemes by their keys
+     * @throws Exception If could not expand lexemes
+     */
+    <K> ImmutableMap<K, Lexeme> lexemes(
+        ImmutableMap<K, Callable<Lexeme>> expansions
+    ) throws Exception;
+}
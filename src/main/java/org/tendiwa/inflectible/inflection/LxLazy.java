@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.inflection;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.util.concurrent.Callable;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.Spelling;
+import org.tenidwa.collections.utils.Rethrowing;
+
+/**
+ * Lexeme that is computed on its first use and then reused.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class LxLazy implements Lexeme {
+    /**
+     * Computed lexeme.
+     */
+    private final transient Supplier<Lexeme> lexeme;
+
+    /**
+     * Ctor.
+     * @param computation Computation of the lexeme
+     */
+    LxLazy(final Callable<Lexeme> computation) {
+        this.lexeme = Suppliers.memoize(
+            Rethrowing.rethrowSupplier(computation::call)::get
+        );
+    }
+
+    @Override
+    public Spelling defaultSpelling() throws Exception {
+        return this.lexeme.get().defaultSpelling();
+    }
+
+    @Override
+    public Spelling wordForm(
+        final GrammaticalMeaning grammemes
+    ) throws Exception {
+        return this.lexeme.get().wordForm(grammemes);
+    }
+
+    @Override
+    public GrammaticalMeaning persistentGrammemes() throws Exception {
+        return this.lexeme.get().persistentGrammemes();
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.inflection;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import java.util.Optional;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.PhoneticClass;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.SpClassified;
+import org.tendiwa.inflectible.Spelling;
+
+/**
+ * Lexeme stored as a stem, a shared {@link Paradigm} and suppletive word
+ * forms that don't fit the paradigm. Word forms are reconstructed on
+ * demand. Like in {@link org.tendiwa.inflectible.BasicLexeme}, the word form
+ * whose grammatical meaning is the most similar to the requested one is
+ * chosen; of equally similar forms, those of the paradigm win over
+ * suppletive ones. Word forms carry phonetic classes found when the lexeme
+ * was created.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class LxParadigmatic implements Lexeme {
+    /**
+     * Persistent grammatical meaning.
+     */
+    private final transient GrammaticalMeaning persistent;
+
+    /**
+     * Stem.
+     */
+    private final transient String stem;
+
+    /**
+     * Endings.
+     */
+    private final transient Paradigm paradigm;
+
+    /**
+     * Phonetic classes of the word forms of the paradigm.
+     */
+    private final transient ImmutableList<Optional<PhoneticClass>> classes;
+
+    /**
+     * Suppletive word forms.
+     */
+    private final transient
+        ImmutableList<Map.Entry<ImmutableSet<Grammeme>, Spelling>> overrides;
+
+    /**
+     * Ctor.
+     * @param grammemes Persistent grammatical meaning
+     * @param base Stem
+     * @param endings Endings
+     * @param phonetic Phonetic classes of the word forms of the paradigm
+     * @param suppletive Suppletive word forms
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    LxParadigmatic(
+        final GrammaticalMeaning grammemes,
+        final String base,
+        final Paradigm endings,
+        final ImmutableList<Optional<PhoneticClass>> phonetic,
+        final ImmutableList<Map.Entry<ImmutableSet<Grammeme>, Spelling>>
+            suppletive
+    ) {
+        this.persistent = grammemes;
+        this.stem = base;
+        this.paradigm = endings;
+        this.classes = phonetic;
+        this.overrides = suppletive;
+    }
+
+    @Override
+    public Spelling defaultSpelling() throws Exception {
+        return this.form(0);
+    }
+
+    @Override
+    public Spelling wordForm(
+        final GrammaticalMeaning grammemes
+    ) throws Exception {
+        final ImmutableSet<Grammeme> target = grammemes.grammemes();
+        final int form = this.paradigm.closest(target);
+        int best = Paradigm.similarity(this.paradigm.meaning(form), target);
+        int suppletive = -1;
+        for (int index = 0; index < this.overrides.size(); ++index) {
+            final int score = Paradigm.similarity(
+                this.overrides.get(index).getKey(),
+                target
+            );
+            if (score > best) {
+                best = score;
+                suppletive = index;
+            }
+        }
+        final Spelling answer;
+        if (suppletive == -1) {
+            answer = this.form(form);
+        } else {
+            answer = this.overrides.get(suppletive).getValue();
+        }
+        return answer;
+    }
+
+    @Override
+    public GrammaticalMeaning persistentGrammemes() {
+        return this.persistent;
+    }
+
+    /**
+     * Reconstructs a word form of the paradigm.
+     * @param form Index of the word form
+     * @return Spelling of the word form with its phonetic class
+     */
+    private Spelling form(final int form) {
+        return new SpClassified(
+            new SpBasic(this.stem + this.paradigm.ending(form)),
+            this.classes.get(form)
+        );
+    }
+}
@@ -23,24 +23,31 @@
  */
 package org.tendiwa.inflectible.inflection;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import org.tendiwa.inflectible.BasicLexeme;
 import org.tendiwa.inflectible.GmCombined;
-import org.tendiwa.inflectible.GmWithSimilarity;
 import org.tendiwa.inflectible.GrammaticalMeaning;
 import org.tendiwa.inflectible.Grammeme;
 import org.tendiwa.inflectible.Lexeme;
 import org.tendiwa.inflectible.PartOfSpeech;
 import org.tendiwa.inflectible.Spelling;
+import org.tendiwa.inflectible.metrics.Instrumentation;
 import org.tenidwa.collections.utils.Collectors;
 import org.tenidwa.collections.utils.Rethrowing;
 
 /**
  * Lexeme with its forms derived automatically from a smaller set of forms
  * using inflection rules of a language.
+ * <p/>
+ * All the forms are generated at once, on first use, and kept in an
+ * explicit form table. Use {@link Expansion} to control when lexemes of a
+ * vocabulary are expanded.
  * @author Georgy Vlasov (suseika@tendiwa.org)
  * @version $Id$
  * @since 0.3.0
@@ -62,6 +69,11 @@ public final class LxWithSuppletivism implements Lexeme {
     private final transient
         ImmutableMap<GrammaticalMeaning, Spelling> headwords;
 
+    /**
+     * Explicit form table, generated on first use.
+     */
+    private final transient Supplier<Lexeme> table;
+
     /**
      * Ctor.
      * @param pos Part of speech of this lexeme
@@ -77,66 +89,98 @@ public final class LxWithSuppletivism implements Lexeme {
         this.part = pos;
         this.persistent = pers;
         this.headwords = forms;
+        this.table = Suppliers.memoize(
+            Rethrowing.rethrowSupplier(this::expanded)::get
+        );
     }
 
     @Override
     public Spelling defaultSpelling() throws Exception {
-        return this.delegate().defaultSpelling();
+        return this.table.get().defaultSpelling();
     }
 
     @Override
     public Spelling wordForm(
         final GrammaticalMeaning grammemes
     ) throws Exception {
-        return this.delegate().wordForm(grammemes);
+        return this.table.get().wordForm(grammemes);
     }
 
     @Override
     public GrammaticalMeaning persistentGrammemes() throws Exception {
-        return this.delegate().persistentGrammemes();
+        return this.persistent;
     }
 
     /**
-     * Creates a basic delegate.
-     * @return Basic delegate
-     * @throws Exception If fails
+     * Generates all word forms of this lexeme and puts them into an explicit
+     * form table. Unlike this lexeme, which expands itself only once, every
+     * call generates the forms anew.
+     * @return Lexeme with all the word forms
+     * @throws Exception If could not generate word forms
      */
-    private Lexeme delegate() throws Exception {
-        return new BasicLexeme(
-            this.persistent,
-            this.forms()
-        );
+    public Lexeme expanded() throws Exception {
+        return new BasicLexeme(this.persistent, this.forms());
     }
 
     /**
-     * Generates all word forms of this lexeme.
+     * Generates all word forms of this lexeme and stores them as a stem and
+     * a paradigm shared with other lexemes of the pool.
+     * @param pool Pool of paradigms
+     * @return Lexeme with all the word forms
+     * @throws Exception If could not generate word forms
+     */
+    public Lexeme expanded(final ParadigmPool pool) throws Exception {
+        return pool.lexeme(this.persistent, this.forms());
+    }
+
+    /**
+     * Generates all word forms of this lexeme. Each headword is turned into
+     * a lexeme of the part of speech at most once, however many forms are
+     * generated from it.
      * @return All word forms of this lexeme
      * @throws Exception If fails
      */
-    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    @SuppressWarnings(
+        {
+            "PMD.AvoidInstantiatingObjectsInLoops",
+            "PMD.UseConcurrentHashMap"
+        }
+        )
     private ImmutableMap<GrammaticalMeaning, Spelling> forms()
         throws Exception {
+        Instrumentation.INSTANCE.metrics().inference(
+            LxWithSuppletivism.class.getSimpleName()
+        );
         final ImmutableMap.Builder<GrammaticalMeaning, Spelling> builder =
             ImmutableMap.builder();
-        final ImmutableSet<ImmutableSet<Grammeme>> headwordMeanings =
-            this.headwords.keySet().stream()
+        final ImmutableList<GrammaticalMeaning> known =
+            this.headwords.keySet().asList();
+        final ImmutableList<ImmutableSet<Grammeme>> meanings =
+            known.stream()
                 .map(Rethrowing.rethrowFunction(GrammaticalMeaning::grammemes))
-                .collect(Collectors.toImmutableSet());
+                .collect(Collectors.toImmutableList());
+        final Map<GrammaticalMeaning, Lexeme> generators = new HashMap<>(
+            known.size()
+        );
         builder.putAll(this.headwords);
         for (final GrammaticalMeaning meaning : this.part.meaningVariations()) {
-            if (headwordMeanings.contains(meaning.grammemes())) {
+            final ImmutableSet<Grammeme> grammemes = meaning.grammemes();
+            if (meanings.contains(grammemes)) {
                 continue;
             }
-            final GrammaticalMeaning closest =
-                this.closestHeadwordMeaning(meaning);
+            final GrammaticalMeaning closest = known.get(
+                LxWithSuppletivism.closest(meanings, grammemes)
+            );
             builder.put(
                 meaning,
-                this.part.lexeme(
-                    this.headwords.get(closest),
-                    new GmCombined(
-                        ImmutableList.of(
-                            this.persistent,
-                            closest
+                generators.computeIfAbsent(
+                    closest,
+                    Rethrowing.rethrowFunction(
+                        headword -> this.part.lexeme(
+                            this.headwords.get(headword),
+                            new GmCombined(
+                                ImmutableList.of(this.persistent, headword)
+                            )
                         )
                     )
                 )
@@ -147,38 +191,30 @@ public final class LxWithSuppletivism implements Lexeme {
     }
 
     /**
-     * Returns the headword whose grammatical meaning is the closest to the
-     * given meaning.
-     * @param meaning Grammatical meaning
-     * @return Headword whose grammatical meaning is the closest to the given
-     *  meaning.
-     * @checkstyle IllegalCatchCheck (22 lines)
+     * Finds the headword meaning that shares the most grammemes with a
+     * meaning. Of equally close headword meanings, the first one wins.
+     * @param meanings Grammemes of headwords
+     * @param target Grammemes of the meaning
+     * @return Index of the closest headword meaning
      */
-    @SuppressWarnings(
-        {
-            "PMD.AvoidCatchingGenericException",
-            "PMD.OnlyOneReturn"
-        }
-        )
-    private GrammaticalMeaning closestHeadwordMeaning(
-        final GrammaticalMeaning meaning
+    private static int closest(
+        final ImmutableList<ImmutableSet<Grammeme>> meanings,
+        final ImmutableSet<Grammeme> target
     ) {
-        return Collections.max(
-            this.headwords.keySet(),
-            (one, another) -> {
-                final int compare;
-                try {
-                    compare = Integer.compare(
-                        new GmWithSimilarity(one)
-                            .similarity(meaning),
-                        new GmWithSimilarity(another)
-                            .similarity(meaning)
-                    );
-                } catch (final Exception ex) {
-                    throw new IllegalStateException(ex);
+        int answer = 0;
+        int best = -1;
+        for (int index = 0; index < meanings.size(); ++index) {
+            int shared = 0;
+            for (final Grammeme grammeme : target) {
+                if (meanings.get(index).contains(grammeme)) {
+                    shared += 1;
                 }
-                return compare;
             }
-        );
+            if (shared > best) {
+                best = shared;
+                answer = index;
+            }
+        }
+        return answer;
     }
 }
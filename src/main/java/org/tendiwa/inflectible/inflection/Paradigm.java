@@ -0,0 +1,125 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.inflection;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import java.util.Set;
+import org.tendiwa.inflectible.Grammeme;
+
+/**
+ * Table of endings shared by lexemes that inflect the same way. Paradigms
+ * are obtained from a {@link ParadigmPool}, which makes sure each distinct
+ * table is stored only once.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class Paradigm {
+    /**
+     * Grammatical meanings of word forms and their endings.
+     */
+    private final transient
+        ImmutableList<Map.Entry<ImmutableSet<Grammeme>, String>> endings;
+
+    /**
+     * Ctor.
+     * @param table Grammatical meanings of word forms and their endings
+     */
+    Paradigm(
+        final ImmutableList<Map.Entry<ImmutableSet<Grammeme>, String>> table
+    ) {
+        this.endings = table;
+    }
+
+    /**
+     * Number of word forms in this paradigm.
+     * @return Number of word forms
+     */
+    public int size() {
+        return this.endings.size();
+    }
+
+    /**
+     * Grammatical meaning of a word form.
+     * @param form Index of a word form
+     * @return Grammemes of the word form
+     */
+    public ImmutableSet<Grammeme> meaning(final int form) {
+        return this.endings.get(form).getKey();
+    }
+
+    /**
+     * Ending of a word form.
+     * @param form Index of a word form
+     * @return Ending of the word form
+     */
+    public String ending(final int form) {
+        return this.endings.get(form).getValue();
+    }
+
+    /**
+     * Finds the word form whose grammatical meaning has the most grammemes in
+     * common with the given ones. Of equally similar word forms the first
+     * one is chosen. If no word form has common grammemes, the first word
+     * form is chosen.
+     * @param grammemes Grammemes
+     * @return Index of the closest word form
+     */
+    public int closest(final Set<Grammeme> grammemes) {
+        int answer = 0;
+        int best = 0;
+        for (int form = 0; form < this.endings.size(); ++form) {
+            final int score = Paradigm.similarity(
+                this.endings.get(form).getKey(),
+                grammemes
+            );
+            if (score > best) {
+                best = score;
+                answer = form;
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Counts grammemes common to two sets without creating an intersection.
+     * @param meaning Grammemes of a word form
+     * @param grammemes Grammemes being looked up
+     * @return Number of common grammemes
+     */
+    static int similarity(
+        final Set<Grammeme> meaning,
+        final Set<Grammeme> grammemes
+    ) {
+        int answer = 0;
+        for (final Grammeme grammeme : meaning) {
+            if (grammemes.contains(grammeme)) {
+                answer += 1;
+            }
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,224 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.inflection;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.PhAbsent;
+import org.tendiwa.inflectible.PhoneticClass;
+import org.tendiwa.inflectible.Phonetics;
+import org.tendiwa.inflectible.SpClassified;
+import org.tendiwa.inflectible.Spelling;
+
+/**
+ * Detects paradigms of lexemes and shares equal paradigms between lexemes.
+ * <p/>
+ * A lexeme is split into a stem and a paradigm. The stem is the longest
+ * prefix of the lexeme's default spelling that starts at least half of its
+ * word forms. Word forms that don't start with the stem, such as
+ * <i>люди</i> of <i>человек</i>, are suppletive and are kept in the lexeme
+ * as overrides. Endings of the rest of the forms make up the paradigm.
+ * Phonetic classes of the word forms are found when the lexeme is created and
+ * are stored along with the forms, so lexemes don't analyze their spellings
+ * when they are rendered.
+ * <p/>
+ * The pool is meant to be shared by all the lexemes of a vocabulary while it
+ * is loaded. It is thread-safe.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class ParadigmPool {
+    /**
+     * Distinct paradigms.
+     */
+    private final transient ConcurrentMap<
+        ImmutableList<Map.Entry<ImmutableSet<Grammeme>, String>>,
+        Paradigm> paradigms;
+
+    /**
+     * Distinct grammatical meanings of word forms.
+     */
+    private final transient
+        ConcurrentMap<ImmutableSet<Grammeme>, ImmutableSet<Grammeme>> meanings;
+
+    /**
+     * Distinct lists of phonetic classes of word forms.
+     */
+    private final transient ConcurrentMap<
+        ImmutableList<Optional<PhoneticClass>>,
+        ImmutableList<Optional<PhoneticClass>>> classes;
+
+    /**
+     * Phonetics of the language of the lexemes.
+     */
+    private final transient Phonetics phonetics;
+
+    /**
+     * Ctor. Word forms of lexemes of this pool have no phonetic classes.
+     */
+    public ParadigmPool() {
+        this(new PhAbsent());
+    }
+
+    /**
+     * Ctor.
+     * @param rules Phonetics of the language of the lexemes
+     */
+    public ParadigmPool(final Phonetics rules) {
+        this.paradigms = new ConcurrentHashMap<>();
+        this.meanings = new ConcurrentHashMap<>();
+        this.classes = new ConcurrentHashMap<>();
+        this.phonetics = rules;
+    }
+
+    /**
+     * Creates a lexeme that stores its word forms as a stem and a shared
+     * paradigm.
+     * @param persistent Persistent grammatical meaning of the lexeme
+     * @param forms Word forms of the lexeme, the first one being its default
+     *  spelling
+     * @return Lexeme
+     * @throws Exception If could not obtain grammemes or spellings
+     * @throws IllegalStateException If two word forms have the same
+     *  grammatical meaning
+     */
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    public Lexeme lexeme(
+        final GrammaticalMeaning persistent,
+        final ImmutableMap<GrammaticalMeaning, Spelling> forms
+    ) throws Exception {
+        if (forms.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Lexeme must have at least one word form"
+            );
+        }
+        final String stem = ParadigmPool.stem(forms.values().asList());
+        final ImmutableList.Builder<Map.Entry<ImmutableSet<Grammeme>, String>>
+            table = ImmutableList.builder();
+        final ImmutableList.Builder<Map.Entry<ImmutableSet<Grammeme>, Spelling>>
+            overrides = ImmutableList.builder();
+        final ImmutableList.Builder<Optional<PhoneticClass>> phonetic =
+            ImmutableList.builder();
+        final Map<ImmutableSet<Grammeme>, Spelling> seen =
+            new HashMap<>(forms.size());
+        for (final Map.Entry<GrammaticalMeaning, Spelling> form
+            : forms.entrySet()) {
+            final String spelling = form.getValue().string();
+            final ImmutableSet<Grammeme> meaning =
+                this.meanings.computeIfAbsent(
+                    form.getKey().grammemes(),
+                    grammemes -> grammemes
+                );
+            final Spelling same = seen.put(meaning, form.getValue());
+            if (same != null) {
+                throw new IllegalStateException(
+                    String.format(
+                        Joiner.on("").join(
+                            "Lexeme contains word forms ",
+                            "with same grammatical meaning: ",
+                            "%s <%s>, %s <%s>"
+                        ),
+                        same.string(),
+                        meaning,
+                        spelling,
+                        meaning
+                    )
+                );
+            }
+            final Optional<PhoneticClass> klass =
+                this.phonetics.phoneticClass(spelling);
+            if (spelling.startsWith(stem)) {
+                table.add(
+                    Maps.immutableEntry(
+                        meaning,
+                        spelling.substring(stem.length()).intern()
+                    )
+                );
+                phonetic.add(klass);
+            } else {
+                overrides.add(
+                    Maps.immutableEntry(
+                        meaning,
+                        new SpClassified(form.getValue(), klass)
+                    )
+                );
+            }
+        }
+        final ImmutableList<Optional<PhoneticClass>> known = phonetic.build();
+        return new LxParadigmatic(
+            persistent,
+            stem,
+            this.paradigms.computeIfAbsent(table.build(), Paradigm::new),
+            this.classes.computeIfAbsent(known, any -> known),
+            overrides.build()
+        );
+    }
+
+    /**
+     * Number of distinct paradigms detected so far.
+     * @return Number of paradigms
+     */
+    public int size() {
+        return this.paradigms.size();
+    }
+
+    /**
+     * Finds the stem of word forms.
+     * @param spellings Spellings of word forms, the first one being the
+     *  default spelling
+     * @return Stem
+     * @throws Exception If could not obtain spellings
+     */
+    private static String stem(final ImmutableList<Spelling> spellings)
+        throws Exception {
+        final String headword = spellings.get(0).string();
+        int length = headword.length();
+        while (length > 0) {
+            final String prefix = headword.substring(0, length);
+            int matching = 0;
+            for (final Spelling spelling : spellings) {
+                if (spelling.string().startsWith(prefix)) {
+                    matching += 1;
+                }
+            }
+            if (matching * 2 >= spellings.size()) {
+                break;
+            }
+            length -= 1;
+        }
+        return headword.substring(0, length);
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.metrics;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Holder of the {@link Metrics} the engine reports to. Initially it holds
+ * the first implementation found by {@link ServiceLoader}, or {@link MtNoop}
+ * if there is none, and it can be replaced at runtime.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public enum Instrumentation {
+    /**
+     * The only instance.
+     */
+    INSTANCE;
+
+    /**
+     * Current metrics.
+     */
+    private volatile Metrics current = Instrumentation.discovered();
+
+    /**
+     * Returns the metrics to report to.
+     * @return Current metrics
+     */
+    public Metrics metrics() {
+        return this.current;
+    }
+
+    /**
+     * Replaces the metrics to report to.
+     * @param metrics New metrics
+     * @return Previous metrics
+     */
+    public Metrics install(final Metrics metrics) {
+        final Metrics previous = this.current;
+        this.current = metrics;
+        return previous;
+    }
+
+    /**
+     * Finds a metrics provider.
+     * @return First provider found, or no-op metrics if there are none
+     */
+    private static Metrics discovered() {
+        final Iterator<Metrics> providers =
+            ServiceLoader.load(Metrics.class).iterator();
+        final Metrics answer;
+        if (providers.hasNext()) {
+            answer = providers.next();
+        } else {
+            answer = new MtNoop();
+        }
+        return answer;
+    }
+}
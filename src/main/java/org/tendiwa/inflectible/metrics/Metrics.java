@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.metrics;
+
+/**
+ * Receiver of events happening inside the engine. Implementations are
+ * called from rendering threads, so they must be thread-safe and cheap.
+ * <p/>
+ * This is a service provider interface: an implementation listed in
+ * {@code META-INF/services/org.tendiwa.inflectible.metrics.Metrics} is
+ * picked up by {@link Instrumentation} automatically.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public interface Metrics {
+    /**
+     * A template was rendered.
+     * @param template Identifier of the template
+     * @param nanos Duration of rendering in nanoseconds
+     */
+    void render(String template, long nanos);
+
+    /**
+     * A vocabulary was asked for a lexeme.
+     * @param hit Whether the vocabulary had the lexeme
+     */
+    void lookup(boolean hit);
+
+    /**
+     * A missing lexeme was substituted with a
+     * {@link org.tendiwa.inflectible.MissingLexeme}.
+     */
+    void fallback();
+
+    /**
+     * Word forms were inferred by an inflection engine.
+     * @param engine Name of the inflection engine
+     */
+    void inference(String engine);
+
+    /**
+     * A cache was queried.
+     * @param cache Name of the cache
+     * @param hit Whether the cache had the value
+     */
+    void cache(String cache, boolean hit);
+
+    /**
+     * A source of lexemes or templates was parsed and loaded.
+     * @param source Name of the source
+     * @param nanos Duration of loading in nanoseconds
+     */
+    void load(String source, long nanos);
+
+    /**
+     * Reads the clock that durations of renders and loads are measured
+     * with. Metrics that don't record durations may return a constant, so
+     * the engine doesn't read the system clock for them at all.
+     * @return Time in nanoseconds
+     */
+    default long clock() {
+        return System.nanoTime();
+    }
+}
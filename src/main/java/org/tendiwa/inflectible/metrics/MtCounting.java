@@ -0,0 +1,254 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics that sum up events in striped counters, so threads reporting
+ * events at the same time don't contend for a single memory location.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class MtCounting implements Metrics {
+    /**
+     * Numbers of renders by template.
+     */
+    private final transient ConcurrentMap<String, LongAdder> renders;
+
+    /**
+     * Total rendering nanoseconds by template.
+     */
+    private final transient ConcurrentMap<String, LongAdder> latencies;
+
+    /**
+     * Numbers of inferences by inflection engine.
+     */
+    private final transient ConcurrentMap<String, LongAdder> inferences;
+
+    /**
+     * Numbers of cache hits by cache.
+     */
+    private final transient ConcurrentMap<String, LongAdder> cached;
+
+    /**
+     * Numbers of cache misses by cache.
+     */
+    private final transient ConcurrentMap<String, LongAdder> uncached;
+
+    /**
+     * Total loading nanoseconds by source.
+     */
+    private final transient ConcurrentMap<String, LongAdder> loads;
+
+    /**
+     * Number of found lexemes.
+     */
+    private final transient LongAdder found;
+
+    /**
+     * Number of lexemes not found.
+     */
+    private final transient LongAdder missing;
+
+    /**
+     * Number of substituted lexemes.
+     */
+    private final transient LongAdder substituted;
+
+    /**
+     * Ctor.
+     */
+    public MtCounting() {
+        this.renders = new ConcurrentHashMap<>();
+        this.latencies = new ConcurrentHashMap<>();
+        this.inferences = new ConcurrentHashMap<>();
+        this.cached = new ConcurrentHashMap<>();
+        this.uncached = new ConcurrentHashMap<>();
+        this.loads = new ConcurrentHashMap<>();
+        this.found = new LongAdder();
+        this.missing = new LongAdder();
+        this.substituted = new LongAdder();
+    }
+
+    @Override
+    public void render(final String template, final long nanos) {
+        MtCounting.counter(this.renders, template).increment();
+        MtCounting.counter(this.latencies, template).add(nanos);
+    }
+
+    @Override
+    public void lookup(final boolean hit) {
+        if (hit) {
+            this.found.increment();
+        } else {
+            this.missing.increment();
+        }
+    }
+
+    @Override
+    public void fallback() {
+        this.substituted.increment();
+    }
+
+    @Override
+    public void inference(final String engine) {
+        MtCounting.counter(this.inferences, engine).increment();
+    }
+
+    @Override
+    public void cache(final String cache, final boolean hit) {
+        if (hit) {
+            MtCounting.counter(this.cached, cache).increment();
+        } else {
+            MtCounting.counter(this.uncached, cache).increment();
+        }
+    }
+
+    @Override
+    public void load(final String source, final long nanos) {
+        MtCounting.counter(this.loads, source).add(nanos);
+    }
+
+    /**
+     * Number of times a template was rendered.
+     * @param template Identifier of the template
+     * @return Number of renders
+     */
+    public long renders(final String template) {
+        return MtCounting.sum(this.renders, template);
+    }
+
+    /**
+     * Total time spent rendering a template.
+     * @param template Identifier of the template
+     * @return Nanoseconds
+     */
+    public long renderNanos(final String template) {
+        return MtCounting.sum(this.latencies, template);
+    }
+
+    /**
+     * Number of lexemes found in vocabularies.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.found.sum();
+    }
+
+    /**
+     * Number of lexemes not found in vocabularies.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.missing.sum();
+    }
+
+    /**
+     * Number of missing lexemes substituted with placeholder lexemes.
+     * @return Number of fallbacks
+     */
+    public long fallbacks() {
+        return this.substituted.sum();
+    }
+
+    /**
+     * Number of inferences made by an inflection engine.
+     * @param engine Name of the inflection engine
+     * @return Number of inferences
+     */
+    public long inferences(final String engine) {
+        return MtCounting.sum(this.inferences, engine);
+    }
+
+    /**
+     * Share of hits among all the queries of a cache.
+     * @param cache Name of the cache
+     * @return Hit rate from 0 to 1, or 0 if the cache was never queried
+     */
+    public double hitRate(final String cache) {
+        final long hits = MtCounting.sum(this.cached, cache);
+        final long total = hits + MtCounting.sum(this.uncached, cache);
+        final double rate;
+        if (total == 0L) {
+            rate = 0.;
+        } else {
+            rate = (double) hits / total;
+        }
+        return rate;
+    }
+
+    /**
+     * Total time spent loading a source.
+     * @param source Name of the source
+     * @return Nanoseconds
+     */
+    public long loadNanos(final String source) {
+        return MtCounting.sum(this.loads, source);
+    }
+
+    /**
+     * Finds or creates the counter for a key.
+     * @param counters Counters by keys
+     * @param key Key
+     * @return Counter
+     */
+    private static LongAdder counter(
+        final ConcurrentMap<String, LongAdder> counters,
+        final String key
+    ) {
+        final LongAdder counter = counters.get(key);
+        final LongAdder answer;
+        if (counter == null) {
+            answer = counters.computeIfAbsent(key, any -> new LongAdder());
+        } else {
+            answer = counter;
+        }
+        return answer;
+    }
+
+    /**
+     * Sums up the counter for a key.
+     * @param counters Counters by keys
+     * @param key Key
+     * @return Sum of the counter, or 0 if there is no counter for the key
+     */
+    private static long sum(
+        final ConcurrentMap<String, LongAdder> counters,
+        final String key
+    ) {
+        final LongAdder counter = counters.get(key);
+        final long answer;
+        if (counter == null) {
+            answer = 0L;
+        } else {
+            answer = counter.sum();
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.offheap;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Identifier of a concept as it is stored in an off-heap image.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class ConceptKey {
+    /**
+     * UTF-8 bytes of the identifier.
+     */
+    private final transient byte[] utf;
+
+    /**
+     * Hash of the identifier.
+     */
+    private final transient int hash;
+
+    /**
+     * Ctor.
+     * @param identifier Identifier of a concept
+     */
+    ConceptKey(final String identifier) {
+        this.utf = identifier.getBytes(StandardCharsets.UTF_8);
+        this.hash = identifier.hashCode() ^ identifier.hashCode() >>> 16;
+    }
+
+    /**
+     * Returns UTF-8 bytes of the identifier.
+     * @return UTF-8 bytes of the identifier
+     */
+    byte[] bytes() {
+        return this.utf.clone();
+    }
+
+    /**
+     * Returns the first slot of an index with a given number of slots where
+     * this key should be probed.
+     * @param slots Number of slots in the index, a power of two
+     * @return Slot number
+     */
+    int slot(final int slots) {
+        return this.hash & slots - 1;
+    }
+
+    /**
+     * Checks if a lexeme record in an image is stored under this key.
+     * @param image Off-heap image
+     * @param record Offset of the lexeme record in the image
+     * @return True iff the record is stored under this key
+     */
+    boolean matches(final ImageLayout image, final int record) {
+        boolean matches = image.identifierLength(record) == this.utf.length;
+        final int start = image.identifierStart(record);
+        for (int index = 0; matches && index < this.utf.length; ++index) {
+            matches = image.byteAt(start + index) == this.utf[index];
+        }
+        return matches;
+    }
+}
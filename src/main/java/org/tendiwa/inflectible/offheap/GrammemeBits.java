@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.offheap;
+
+import com.google.common.collect.ImmutableSet;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+
+/**
+ * Encoding of grammatical meanings as bit masks. Each grammeme of a
+ * language's grammeme enum occupies the bit with the number of its ordinal.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class GrammemeBits {
+    /**
+     * Maximum number of grammemes that fit into a mask.
+     */
+    private static final int CAPACITY = Long.SIZE;
+
+    /**
+     * Grammemes in order of their ordinals.
+     */
+    private final transient Grammeme[] grammemes;
+
+    /**
+     * Ctor.
+     * @param grams Enum with grammemes of a language
+     */
+    public GrammemeBits(final Class<? extends Grammeme> grams) {
+        if (!grams.isEnum()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "%s: Grammemes class must be an enum",
+                    grams.getCanonicalName()
+                )
+            );
+        }
+        if (grams.getEnumConstants().length > GrammemeBits.CAPACITY) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "%s: Can't encode more than %d grammemes in a mask",
+                    grams.getCanonicalName(),
+                    GrammemeBits.CAPACITY
+                )
+            );
+        }
+        this.grammemes = grams.getEnumConstants();
+    }
+
+    /**
+     * Encodes a grammatical meaning as a bit mask.
+     * @param meaning Grammatical meaning
+     * @return Bit mask with a bit set for each grammeme of the meaning
+     * @throws Exception If could not obtain grammemes of the meaning
+     */
+    public long mask(final GrammaticalMeaning meaning) throws Exception {
+        long mask = 0L;
+        for (final Grammeme grammeme : meaning.grammemes()) {
+            mask |= 1L << this.ordinal(grammeme);
+        }
+        return mask;
+    }
+
+    /**
+     * Decodes a bit mask into grammemes.
+     * @param mask Bit mask
+     * @return Grammemes whose bits are set in the mask
+     */
+    public ImmutableSet<Grammeme> grammemes(final long mask) {
+        final ImmutableSet.Builder<Grammeme> builder = ImmutableSet.builder();
+        long rest = mask;
+        while (rest != 0L) {
+            final int ordinal = Long.numberOfTrailingZeros(rest);
+            builder.add(this.grammemes[ordinal]);
+            rest &= rest - 1L;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Finds the ordinal of a grammeme in the grammeme enum.
+     * @param grammeme Grammeme
+     * @return Ordinal of the grammeme
+     */
+    private int ordinal(final Grammeme grammeme) {
+        final int ordinal = ((Enum<?>) grammeme).ordinal();
+        if (ordinal >= this.grammemes.length
+            || this.grammemes[ordinal] != grammeme) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Grammeme %s doesn't belong to this grammar",
+                    grammeme
+                )
+            );
+        }
+        return ordinal;
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.offheap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Direct buffer that doubles its capacity when it runs out of space, so
+ * bytes written to it never stay on the Java heap. Not thread-safe.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class GrowingBuffer {
+    /**
+     * Initial capacity in bytes.
+     */
+    private static final int CAPACITY = 4096;
+
+    /**
+     * Buffer with the written bytes before its position.
+     */
+    private transient ByteBuffer buffer;
+
+    /**
+     * Ctor.
+     */
+    GrowingBuffer() {
+        this.buffer = ByteBuffer.allocateDirect(GrowingBuffer.CAPACITY);
+    }
+
+    /**
+     * Number of written bytes.
+     * @return Number of bytes
+     */
+    public int size() {
+        return this.buffer.position();
+    }
+
+    /**
+     * Writes an int.
+     * @param value Int
+     */
+    public void putInt(final int value) {
+        this.reserve(Integer.BYTES);
+        this.buffer.putInt(value);
+    }
+
+    /**
+     * Writes a long.
+     * @param value Long
+     */
+    public void putLong(final long value) {
+        this.reserve(Long.BYTES);
+        this.buffer.putLong(value);
+    }
+
+    /**
+     * Writes bytes.
+     * @param bytes Bytes
+     */
+    public void put(final byte[] bytes) {
+        this.reserve(bytes.length);
+        this.buffer.put(bytes);
+    }
+
+    /**
+     * Copies the written bytes to another buffer at its position.
+     * @param target Buffer to copy to
+     */
+    public void copyTo(final ByteBuffer target) {
+        final ByteBuffer written = this.buffer.duplicate();
+        written.flip();
+        target.put(written);
+    }
+
+    /**
+     * Makes sure there is space for more bytes, moving the written ones to
+     * a buffer of twice the capacity if there isn't.
+     * @param bytes Number of bytes to be written
+     */
+    private void reserve(final int bytes) {
+        if (this.buffer.remaining() < bytes) {
+            final long needed = (long) this.buffer.position() + bytes;
+            if (needed > Integer.MAX_VALUE) {
+                throw new IllegalStateException(
+                    String.format(
+                        "%d bytes don't fit into a single buffer",
+                        needed
+                    )
+                );
+            }
+            final ByteBuffer grown = ByteBuffer.allocateDirect(
+                (int) Math.min(
+                    Math.max((long) this.buffer.capacity() * 2, needed),
+                    Integer.MAX_VALUE
+                )
+            );
+            this.copyTo(grown);
+            this.buffer = grown;
+        }
+    }
+}
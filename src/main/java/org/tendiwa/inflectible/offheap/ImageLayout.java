@@ -0,0 +1,328 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary layout of an off-heap vocabulary image. An image consists of four
+ * consecutive sections:
+ * <ol>
+ *     <li>Header: magic number, version, number of index slots, number of
+ *     lexemes and the offset of the string pool;</li>
+ *     <li>Open-addressing index: one int per slot with the offset of a
+ *     lexeme record, or -1 for an empty slot;</li>
+ *     <li>Lexeme records: pool offset and length of the concept identifier,
+ *     persistent grammemes mask, number of word forms followed by the word
+ *     forms themselves (grammemes mask, pool offset and length of the
+ *     spelling);</li>
+ *     <li>String pool with UTF-8 bytes of identifiers and spellings.</li>
+ * </ol>
+ * All the reads are absolute, so a single image may be read from many
+ * threads at once.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class ImageLayout {
+    /**
+     * Magic number that every image starts with.
+     */
+    static final int MAGIC = 0x494E464C;
+
+    /**
+     * Version of the layout.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Size of the header in bytes.
+     */
+    static final int HEADER = 20;
+
+    /**
+     * Size of a lexeme record without its word forms in bytes.
+     */
+    static final int RECORD = 20;
+
+    /**
+     * Size of a word form in a lexeme record in bytes.
+     */
+    static final int FORM = 16;
+
+    /**
+     * Value of an empty index slot.
+     */
+    static final int EMPTY = -1;
+
+    /**
+     * Offset of the number of index slots in the header.
+     */
+    private static final int SLOTS = 8;
+
+    /**
+     * Offset of the string pool offset in the header.
+     */
+    private static final int POOL = 16;
+
+    /**
+     * Offset of the persistent grammemes in a lexeme record.
+     */
+    private static final int PERSISTENT = 8;
+
+    /**
+     * Offset of the number of word forms in a lexeme record.
+     */
+    private static final int FORMS = 16;
+
+    /**
+     * Offset of the spelling offset in a word form.
+     */
+    private static final int SPELLING = 8;
+
+    /**
+     * Size of an int in bytes.
+     */
+    private static final int INT = 4;
+
+    /**
+     * Image.
+     */
+    private final transient ByteBuffer image;
+
+    /**
+     * Ctor.
+     * @param buffer Image
+     */
+    ImageLayout(final ByteBuffer buffer) {
+        this.image = buffer;
+    }
+
+    /**
+     * Checks that the image has the expected magic number and version.
+     * @return This layout
+     */
+    ImageLayout checked() {
+        if (this.image.capacity() < ImageLayout.HEADER
+            || this.image.getInt(0) != ImageLayout.MAGIC) {
+            throw new IllegalArgumentException(
+                "Buffer doesn't contain an off-heap vocabulary image"
+            );
+        }
+        if (this.image.getInt(ImageLayout.INT) != ImageLayout.VERSION) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Unsupported off-heap vocabulary image version %d",
+                    this.image.getInt(ImageLayout.INT)
+                )
+            );
+        }
+        return this;
+    }
+
+    /**
+     * Writes the header of the image and clears its index.
+     * @param slots Number of index slots, a power of two
+     * @param lexemes Number of lexemes
+     * @param pool Offset of the string pool
+     * @return This layout
+     */
+    ImageLayout initialized(
+        final int slots,
+        final int lexemes,
+        final int pool
+    ) {
+        this.image.putInt(0, ImageLayout.MAGIC);
+        this.image.putInt(ImageLayout.INT, ImageLayout.VERSION);
+        this.image.putInt(ImageLayout.SLOTS, slots);
+        this.image.putInt(ImageLayout.SLOTS + ImageLayout.INT, lexemes);
+        this.image.putInt(ImageLayout.POOL, pool);
+        for (int slot = 0; slot < slots; ++slot) {
+            this.image.putInt(this.slotOffset(slot), ImageLayout.EMPTY);
+        }
+        return this;
+    }
+
+    /**
+     * Finds a lexeme record by its concept.
+     * @param key Concept key
+     * @return Offset of the lexeme record, or {@link ImageLayout#EMPTY} if
+     *  there is no such record
+     */
+    int find(final ConceptKey key) {
+        final int slots = this.slots();
+        int slot = key.slot(slots);
+        int record = this.image.getInt(this.slotOffset(slot));
+        while (record != ImageLayout.EMPTY && !key.matches(this, record)) {
+            slot = slot + 1 & slots - 1;
+            record = this.image.getInt(this.slotOffset(slot));
+        }
+        return record;
+    }
+
+    /**
+     * Puts a lexeme record to the index.
+     * @param key Concept key of the record
+     * @param record Offset of the record
+     */
+    void insert(final ConceptKey key, final int record) {
+        final int slots = this.slots();
+        int slot = key.slot(slots);
+        int occupant = this.image.getInt(this.slotOffset(slot));
+        while (occupant != ImageLayout.EMPTY) {
+            if (key.matches(this, occupant)) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Duplicate lexeme \"%s\"",
+                        this.string(
+                            this.identifierStart(record),
+                            this.identifierLength(record)
+                        )
+                    )
+                );
+            }
+            slot = slot + 1 & slots - 1;
+            occupant = this.image.getInt(this.slotOffset(slot));
+        }
+        this.image.putInt(this.slotOffset(slot), record);
+    }
+
+    /**
+     * Returns the offset of the first byte of a concept identifier.
+     * @param record Offset of a lexeme record
+     * @return Offset of the identifier
+     */
+    int identifierStart(final int record) {
+        return this.pool() + this.image.getInt(record);
+    }
+
+    /**
+     * Returns the number of bytes in a concept identifier.
+     * @param record Offset of a lexeme record
+     * @return Length of the identifier
+     */
+    int identifierLength(final int record) {
+        return this.image.getInt(record + ImageLayout.INT);
+    }
+
+    /**
+     * Returns a byte of the image.
+     * @param offset Offset of the byte
+     * @return Byte at the offset
+     */
+    byte byteAt(final int offset) {
+        return this.image.get(offset);
+    }
+
+    /**
+     * Returns the mask of persistent grammemes of a lexeme.
+     * @param record Offset of a lexeme record
+     * @return Grammemes mask
+     */
+    long persistent(final int record) {
+        return this.image.getLong(record + ImageLayout.PERSISTENT);
+    }
+
+    /**
+     * Returns the number of word forms of a lexeme.
+     * @param record Offset of a lexeme record
+     * @return Number of word forms
+     */
+    int forms(final int record) {
+        return this.image.getInt(record + ImageLayout.FORMS);
+    }
+
+    /**
+     * Returns the mask of grammemes of a word form.
+     * @param record Offset of a lexeme record
+     * @param form Index of a word form
+     * @return Grammemes mask
+     */
+    long meaning(final int record, final int form) {
+        return this.image.getLong(this.formOffset(record, form));
+    }
+
+    /**
+     * Decodes the spelling of a word form.
+     * @param record Offset of a lexeme record
+     * @param form Index of a word form
+     * @return Spelling of the word form
+     */
+    String spelling(final int record, final int form) {
+        final int offset = this.formOffset(record, form) + ImageLayout.SPELLING;
+        return this.string(
+            this.pool() + this.image.getInt(offset),
+            this.image.getInt(offset + ImageLayout.INT)
+        );
+    }
+
+    /**
+     * Decodes a UTF-8 string from the image.
+     * @param start Offset of the first byte
+     * @param length Number of bytes
+     * @return Decoded string
+     */
+    private String string(final int start, final int length) {
+        final ByteBuffer slice = this.image.duplicate();
+        slice.limit(start + length);
+        slice.position(start);
+        return StandardCharsets.UTF_8.decode(slice).toString();
+    }
+
+    /**
+     * Returns the offset of a word form in the image.
+     * @param record Offset of a lexeme record
+     * @param form Index of a word form
+     * @return Offset of the word form
+     */
+    private int formOffset(final int record, final int form) {
+        return record + ImageLayout.RECORD + form * ImageLayout.FORM;
+    }
+
+    /**
+     * Returns the offset of an index slot in the image.
+     * @param slot Number of a slot
+     * @return Offset of the slot
+     */
+    private int slotOffset(final int slot) {
+        return ImageLayout.HEADER + slot * ImageLayout.INT;
+    }
+
+    /**
+     * Returns the number of index slots.
+     * @return Number of index slots
+     */
+    private int slots() {
+        return this.image.getInt(ImageLayout.SLOTS);
+    }
+
+    /**
+     * Returns the offset of the string pool.
+     * @return Offset of the string pool
+     */
+    private int pool() {
+        return this.image.getInt(ImageLayout.POOL);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.offheap;
+
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.Spelling;
+
+/**
+ * {@link Lexeme} stored in an off-heap image. Chooses word forms the same way
+ * {@link org.tendiwa.inflectible.BasicLexeme} does, but compares grammatical
+ * meanings as bit masks.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class LxOffHeap implements Lexeme {
+    /**
+     * Image with the lexeme.
+     */
+    private final transient ImageLayout image;
+
+    /**
+     * Offset of the lexeme record.
+     */
+    private final transient int record;
+
+    /**
+     * Encoding of grammemes.
+     */
+    private final transient GrammemeBits bits;
+
+    /**
+     * Ctor.
+     * @param layout Image with the lexeme
+     * @param offset Offset of the lexeme record
+     * @param encoding Encoding of grammemes
+     */
+    LxOffHeap(
+        final ImageLayout layout,
+        final int offset,
+        final GrammemeBits encoding
+    ) {
+        this.image = layout;
+        this.record = offset;
+        this.bits = encoding;
+    }
+
+    @Override
+    public Spelling defaultSpelling() {
+        if (this.image.forms(this.record) == 0) {
+            throw new IllegalStateException("Lexeme has no word forms");
+        }
+        return new SpOffHeap(this.image, this.record, 0);
+    }
+
+    @Override
+    public Spelling wordForm(
+        final GrammaticalMeaning grammemes
+    ) throws Exception {
+        final long target = this.bits.mask(grammemes);
+        final int forms = this.image.forms(this.record);
+        int best = 0;
+        int score = 0;
+        for (int form = 0; form < forms; ++form) {
+            final int similarity = Long.bitCount(
+                this.image.meaning(this.record, form) & target
+            );
+            if (similarity > score) {
+                score = similarity;
+                best = form;
+            }
+        }
+        final Spelling spelling;
+        if (score == 0) {
+            spelling = this.defaultSpelling();
+        } else {
+            spelling = new SpOffHeap(this.image, this.record, best);
+        }
+        return spelling;
+    }
+
+    @Override
+    public GrammaticalMeaning persistentGrammemes() {
+        return new GmOfMask(this.bits, this.image.persistent(this.record));
+    }
+}
@@ -0,0 +1,252 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.offheap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import org.tendiwa.inflectible.Concept;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.Spelling;
+
+/**
+ * Accumulates lexemes and lays them out in an image for
+ * {@link OffHeapVocabulary}. Lexemes are serialized as soon as they are
+ * added, so the image doesn't hold any lexeme objects, and records and
+ * strings are kept in direct buffers, so only identifiers of lexemes stay
+ * on the Java heap while the image is built. Not thread-safe.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class OffHeapImage {
+    /**
+     * Version of the layout of images.
+     */
+    public static final int VERSION = ImageLayout.VERSION;
+
+    /**
+     * Initial capacity of the list of lexemes.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Encoding of grammemes.
+     */
+    private final transient GrammemeBits bits;
+
+    /**
+     * Serialized lexeme records.
+     */
+    private final transient GrowingBuffer records;
+
+    /**
+     * UTF-8 bytes of identifiers and spellings.
+     */
+    private final transient GrowingBuffer pool;
+
+    /**
+     * Identifiers of added lexemes.
+     */
+    private transient String[] identifiers;
+
+    /**
+     * Offsets of added lexemes in {@link OffHeapImage#records}.
+     */
+    private transient int[] offsets;
+
+    /**
+     * Number of added lexemes.
+     */
+    private transient int size;
+
+    /**
+     * Ctor.
+     * @param grammemes Enum with grammemes of the language of the lexemes
+     */
+    public OffHeapImage(final Class<? extends Grammeme> grammemes) {
+        this.bits = new GrammemeBits(grammemes);
+        this.records = new GrowingBuffer();
+        this.pool = new GrowingBuffer();
+        this.identifiers = new String[OffHeapImage.CAPACITY];
+        this.offsets = new int[OffHeapImage.CAPACITY];
+    }
+
+    /**
+     * Adds a lexeme defined by its word forms. The first word form becomes
+     * the default spelling of the lexeme.
+     * @param concept Concept of the lexeme
+     * @param persistent Persistent grammatical meaning of the lexeme
+     * @param forms Map from grammatical meanings to spellings
+     * @return This image
+     * @throws Exception If could not obtain grammemes or identifier
+     */
+    public OffHeapImage add(
+        final Concept concept,
+        final GrammaticalMeaning persistent,
+        final Map<? extends GrammaticalMeaning, ? extends Spelling> forms
+    ) throws Exception {
+        this.record(concept, persistent);
+        this.records.putInt(forms.size());
+        for (final Map.Entry<? extends GrammaticalMeaning, ? extends Spelling>
+            form : forms.entrySet()) {
+            this.form(this.bits.mask(form.getKey()), form.getValue());
+        }
+        return this;
+    }
+
+    /**
+     * Adds a lexeme by materializing its word forms for each of the given
+     * grammatical meanings. Default spelling of the lexeme stays its default
+     * spelling in the image.
+     * @param concept Concept of the lexeme
+     * @param lexeme Lexeme
+     * @param meanings Grammatical meanings for which word forms are stored,
+     *  usually {@link org.tendiwa.inflectible.PartOfSpeech#meaningVariations()}
+     * @return This image
+     * @throws Exception If could not obtain word forms
+     */
+    public OffHeapImage add(
+        final Concept concept,
+        final Lexeme lexeme,
+        final Set<? extends GrammaticalMeaning> meanings
+    ) throws Exception {
+        this.record(concept, lexeme.persistentGrammemes());
+        this.records.putInt(meanings.size() + 1);
+        this.form(0L, lexeme.defaultSpelling());
+        for (final GrammaticalMeaning meaning : meanings) {
+            this.form(this.bits.mask(meaning), lexeme.wordForm(meaning));
+        }
+        return this;
+    }
+
+    /**
+     * Lays out all the added lexemes in a direct buffer.
+     * @return Direct buffer with the image
+     */
+    public ByteBuffer buffer() {
+        final int slots = Integer.highestOneBit(
+            Math.max(this.size, 1) * 2 - 1
+        ) << 1;
+        final long start = ImageLayout.HEADER + (long) slots * Integer.BYTES;
+        final long total = start + this.records.size() + this.pool.size();
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalStateException(
+                String.format(
+                    "Image of %d bytes doesn't fit into a single buffer",
+                    total
+                )
+            );
+        }
+        final ByteBuffer buffer = ByteBuffer.allocateDirect((int) total);
+        final ImageLayout layout = new ImageLayout(buffer).initialized(
+            slots,
+            this.size,
+            (int) start + this.records.size()
+        );
+        buffer.position((int) start);
+        this.records.copyTo(buffer);
+        this.pool.copyTo(buffer);
+        for (int index = 0; index < this.size; ++index) {
+            layout.insert(
+                new ConceptKey(this.identifiers[index]),
+                (int) start + this.offsets[index]
+            );
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Saves the image to a file that can later be mapped by
+     * {@link OffHeapVocabulary#OffHeapVocabulary(Class, Path)}.
+     * @param file File to save the image to
+     * @throws IOException If could not write the file
+     */
+    public void save(final Path file) throws IOException {
+        final ByteBuffer buffer = this.buffer();
+        try (FileChannel channel = FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Starts a new lexeme record.
+     * @param concept Concept of the lexeme
+     * @param persistent Persistent grammatical meaning of the lexeme
+     * @throws Exception If could not obtain grammemes or identifier
+     */
+    private void record(
+        final Concept concept,
+        final GrammaticalMeaning persistent
+    ) throws Exception {
+        if (this.size == this.offsets.length) {
+            this.offsets = Arrays.copyOf(this.offsets, this.size * 2);
+            this.identifiers = Arrays.copyOf(this.identifiers, this.size * 2);
+        }
+        final String identifier = concept.identifier();
+        this.identifiers[this.size] = identifier;
+        this.offsets[this.size] = this.records.size();
+        this.size += 1;
+        this.string(identifier);
+        this.records.putLong(this.bits.mask(persistent));
+    }
+
+    /**
+     * Writes a word form to the current lexeme record.
+     * @param mask Grammemes mask of the word form
+     * @param spelling Spelling of the word form
+     */
+    private void form(final long mask, final Spelling spelling) {
+        this.records.putLong(mask);
+        this.string(spelling.string());
+    }
+
+    /**
+     * Puts a string to the pool and writes its pool offset and length to the
+     * current lexeme record.
+     * @param string String
+     */
+    private void string(final String string) {
+        final byte[] utf = string.getBytes(StandardCharsets.UTF_8);
+        this.records.putInt(this.pool.size());
+        this.records.putInt(utf.length);
+        this.pool.put(utf);
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.offheap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.tendiwa.inflectible.Concept;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.MissingLexemeException;
+import org.tendiwa.inflectible.Vocabulary;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+
+/**
+ * {@link Vocabulary} whose lexemes live in a direct or memory-mapped
+ * {@link ByteBuffer} produced by {@link OffHeapImage}. The heap footprint of
+ * this vocabulary doesn't depend on the number of lexemes in it: lexemes and
+ * spellings are only views of the image, and spellings are decoded only when
+ * they are rendered.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class OffHeapVocabulary implements Vocabulary {
+    /**
+     * Image with lexemes.
+     */
+    private final transient ImageLayout image;
+
+    /**
+     * Encoding of grammemes.
+     */
+    private final transient GrammemeBits bits;
+
+    /**
+     * Ctor.
+     * @param grammemes Enum with grammemes of the language of the lexemes
+     * @param buffer Image created by {@link OffHeapImage}
+     */
+    public OffHeapVocabulary(
+        final Class<? extends Grammeme> grammemes,
+        final ByteBuffer buffer
+    ) {
+        this.image = new ImageLayout(buffer).checked();
+        this.bits = new GrammemeBits(grammemes);
+    }
+
+    /**
+     * Ctor. Maps an image file saved by {@link OffHeapImage#save(Path)} to
+     * memory.
+     * @param grammemes Enum with grammemes of the language of the lexemes
+     * @param file File with an image
+     * @throws IOException If could not map the file
+     */
+    public OffHeapVocabulary(
+        final Class<? extends Grammeme> grammemes,
+        final Path file
+    ) throws IOException {
+        this(grammemes, OffHeapVocabulary.mapped(file));
+    }
+
+    @Override
+    public Lexeme lexeme(final Concept concept) throws Exception {
+        final int record = this.image.find(
+            new ConceptKey(concept.identifier())
+        );
+        final boolean hit = record != ImageLayout.EMPTY;
+        Instrumentation.INSTANCE.metrics().lookup(hit);
+        if (!hit) {
+            throw new MissingLexemeException(concept.identifier());
+        }
+        return new LxOffHeap(this.image, record, this.bits);
+    }
+
+    @Override
+    public boolean hasLexeme(final Concept concept) throws Exception {
+        return this.image.find(new ConceptKey(concept.identifier()))
+            != ImageLayout.EMPTY;
+    }
+
+    /**
+     * Maps a file to memory.
+     * @param file File
+     * @return Read-only buffer with the file's content
+     * @throws IOException If could not map the file
+     */
+    private static ByteBuffer mapped(final Path file) throws IOException {
+        try (FileChannel channel =
+            FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                0L,
+                channel.size()
+            );
+        }
+    }
+}
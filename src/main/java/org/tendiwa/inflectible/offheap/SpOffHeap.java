@@ -0,0 +1,67 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.offheap;
+
+import org.tendiwa.inflectible.Spelling;
+
+/**
+ * {@link Spelling} stored in an off-heap image. It is decoded from UTF-8 only
+ * when its string value is requested.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class SpOffHeap implements Spelling {
+    /**
+     * Image with the spelling.
+     */
+    private final transient ImageLayout image;
+
+    /**
+     * Offset of the lexeme record.
+     */
+    private final transient int record;
+
+    /**
+     * Index of the word form in the lexeme record.
+     */
+    private final transient int form;
+
+    /**
+     * Ctor.
+     * @param layout Image with the spelling
+     * @param lexeme Offset of the lexeme record
+     * @param index Index of the word form in the lexeme record
+     */
+    SpOffHeap(final ImageLayout layout, final int lexeme, final int index) {
+        this.image = layout;
+        this.record = lexeme;
+        this.form = index;
+    }
+
+    @Override
+    public String string() {
+        return this.image.spelling(this.record, this.form);
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.opencorpora;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Locale;
+import org.tendiwa.inflectible.Concept;
+
+/**
+ * Concept of an imported lexeme. Its identifier is the transliterated lemma
+ * followed by the lemma number spelled in letters, so homonyms get distinct
+ * concepts, e.g. lemma "ёж" number 28 becomes "EZH.BC".
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class CpTransliterated implements Concept {
+    /**
+     * Latin letters for Cyrillic letters.
+     */
+    private static final ImmutableMap<Character, String> LATIN =
+        ImmutableMap.<Character, String>builder()
+            .put('А', "A").put('Б', "B").put('В', "V").put('Г', "G")
+            .put('Д', "D").put('Е', "E").put('Ё', "E").put('Ж', "ZH")
+            .put('З', "Z").put('И', "I").put('Й', "J").put('К', "K")
+            .put('Л', "L").put('М', "M").put('Н', "N").put('О', "O")
+            .put('П', "P").put('Р', "R").put('С', "S").put('Т', "T")
+            .put('У', "U").put('Ф', "F").put('Х', "KH").put('Ц', "TS")
+            .put('Ч', "CH").put('Ш', "SH").put('Щ', "SHCH").put('Ъ', "")
+            .put('Ы', "Y").put('Ь', "").put('Э', "E").put('Ю', "YU")
+            .put('Я', "YA")
+            .build();
+
+    /**
+     * Number of letters in the alphabet of lemma numbers.
+     */
+    private static final int LETTERS = 26;
+
+    /**
+     * Lemma.
+     */
+    private final transient String lemma;
+
+    /**
+     * Number of the lemma in the dictionary.
+     */
+    private final transient long number;
+
+    /**
+     * Ctor.
+     * @param text Lemma
+     * @param index Number of the lemma in the dictionary
+     */
+    public CpTransliterated(final String text, final long index) {
+        this.lemma = text;
+        this.number = index;
+    }
+
+    @Override
+    public String identifier() throws Exception {
+        final StringBuilder builder = new StringBuilder(
+            this.lemma.length() + CpTransliterated.LETTERS / 2
+        );
+        for (final char character
+            : this.lemma.toUpperCase(Locale.ROOT).toCharArray()) {
+            if (character >= 'A' && character <= 'Z') {
+                builder.append(character);
+            } else if (CpTransliterated.LATIN.containsKey(character)) {
+                builder.append(CpTransliterated.LATIN.get(character));
+            } else if (builder.length() > 0
+                && builder.charAt(builder.length() - 1) != '.') {
+                builder.append('.');
+            }
+        }
+        if (builder.length() == 0) {
+            builder.append("LEMMA");
+        }
+        if (builder.charAt(builder.length() - 1) != '.') {
+            builder.append('.');
+        }
+        return builder.append(this.letters()).toString();
+    }
+
+    /**
+     * Spells the number of the lemma in letters: 0 is "A", 25 is "Z", 26 is
+     * "BA" and so on.
+     * @return Number of the lemma in letters
+     */
+    private String letters() {
+        final StringBuilder builder = new StringBuilder();
+        long rest = this.number;
+        do {
+            builder.append((char) ('A' + rest % CpTransliterated.LETTERS));
+            rest /= CpTransliterated.LETTERS;
+        } while (rest > 0);
+        return builder.reverse().toString();
+    }
+}
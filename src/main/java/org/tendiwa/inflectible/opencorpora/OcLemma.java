@@ -0,0 +1,168 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.opencorpora;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.Spelling;
+import org.tendiwa.inflectible.implementations.RussianGrammaticalCategory;
+import org.tendiwa.inflectible.implementations.RussianPartOfSpeech;
+
+/**
+ * Lemma of an OpenCorpora dictionary that is being read. Tags of the lemma
+ * itself become persistent grammemes of the lexeme, except for the verb
+ * form tags (infinitive, participle, gerund) which are added to every word
+ * form. Word forms whose grammemes coincide after mapping are merged, the
+ * first one wins.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class OcLemma {
+    /**
+     * Correspondence of tags to grammemes.
+     */
+    private final transient OcTagset tagset;
+
+    /**
+     * Number of the lemma in the dictionary.
+     */
+    private final transient long number;
+
+    /**
+     * Tags of the lemma.
+     */
+    private final transient List<String> tags;
+
+    /**
+     * Spellings of word forms.
+     */
+    private final transient List<String> spellings;
+
+    /**
+     * Tags of word forms.
+     */
+    private final transient List<List<String>> forms;
+
+    /**
+     * Lemma.
+     */
+    private transient String headword;
+
+    /**
+     * Ctor.
+     * @param grammemes Correspondence of tags to grammemes
+     * @param index Number of the lemma in the dictionary
+     */
+    OcLemma(final OcTagset grammemes, final long index) {
+        this.tagset = grammemes;
+        this.number = index;
+        this.tags = new ArrayList<>(2);
+        this.spellings = new ArrayList<>(2);
+        this.forms = new ArrayList<>(2);
+        this.headword = "";
+    }
+
+    /**
+     * Sets the lemma.
+     * @param text Lemma
+     * @return Tags of the lemma to be filled
+     */
+    List<String> lemma(final String text) {
+        this.headword = text;
+        return this.tags;
+    }
+
+    /**
+     * Adds a word form.
+     * @param text Spelling of the word form
+     * @return Tags of the word form to be filled
+     */
+    List<String> form(final String text) {
+        final List<String> form = new ArrayList<>(2);
+        this.spellings.add(text);
+        this.forms.add(form);
+        return form;
+    }
+
+    /**
+     * Passes the lemma to a sink as a lexeme, unless it is of an unsupported
+     * part of speech or has no word forms.
+     * @param sink Sink
+     * @return Whether the lemma was passed to the sink
+     * @throws Exception If the sink could not accept the lexeme
+     */
+    boolean export(final LexemeSink sink) throws Exception {
+        final Optional<RussianPartOfSpeech> part =
+            this.tagset.partOfSpeech(this.tags);
+        if (!part.isPresent() || this.spellings.isEmpty()) {
+            return false;
+        }
+        final ImmutableSet.Builder<Grammeme> persistent =
+            ImmutableSet.builder();
+        final ImmutableSet.Builder<Grammeme> shared = ImmutableSet.builder();
+        for (final Grammeme grammeme : this.tagset.grammemes(this.tags)) {
+            if (grammeme.category() == RussianGrammaticalCategory.Форма) {
+                shared.add(grammeme);
+            } else {
+                persistent.add(grammeme);
+            }
+        }
+        final ImmutableSet<Grammeme> form = shared.build();
+        final Map<ImmutableSet<Grammeme>, Spelling> merged =
+            new LinkedHashMap<>(this.spellings.size() * 2);
+        for (int index = 0; index < this.spellings.size(); ++index) {
+            merged.putIfAbsent(
+                ImmutableSet.<Grammeme>builder()
+                    .addAll(form)
+                    .addAll(this.tagset.grammemes(this.forms.get(index)))
+                    .build(),
+                new SpBasic(this.spellings.get(index))
+            );
+        }
+        final ImmutableMap.Builder<GrammaticalMeaning, Spelling> builder =
+            ImmutableMap.builder();
+        for (final Map.Entry<ImmutableSet<Grammeme>, Spelling> entry
+            : merged.entrySet()) {
+            final ImmutableSet<Grammeme> grammemes = entry.getKey();
+            builder.put(() -> grammemes, entry.getValue());
+        }
+        final ImmutableSet<Grammeme> lemma = persistent.build();
+        sink.add(
+            new CpTransliterated(this.headword, this.number),
+            part.get(),
+            () -> lemma,
+            builder.build()
+        );
+        return true;
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.opencorpora;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.Optional;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.implementations.RussianGrammeme;
+import org.tendiwa.inflectible.implementations.RussianPartOfSpeech;
+
+/**
+ * Correspondence between OpenCorpora tags and grammemes and parts of speech
+ * of {@link org.tendiwa.inflectible.implementations.Russian}. Tags that
+ * have no counterpart, such as animacy or aspect, are ignored.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+final class OcTagset {
+    /**
+     * Tag of infinitive.
+     */
+    private static final String INFINITIVE = "INFN";
+
+    /**
+     * Tag of full participle.
+     */
+    private static final String PARTICIPLE = "PRTF";
+
+    /**
+     * Tag of short participle.
+     */
+    private static final String SHORT_PARTICIPLE = "PRTS";
+
+    /**
+     * Tag of adverbial participle.
+     */
+    private static final String GERUND = "GRND";
+
+    /**
+     * Grammemes by tags.
+     */
+    private final transient ImmutableMap<String, RussianGrammeme> grammemes;
+
+    /**
+     * Parts of speech by tags.
+     */
+    private final transient ImmutableMap<String, RussianPartOfSpeech> parts;
+
+    /**
+     * Ctor.
+     */
+    OcTagset() {
+        this.grammemes = ImmutableMap.<String, RussianGrammeme>builder()
+            .put("masc", RussianGrammeme.Муж)
+            .put("femn", RussianGrammeme.Жен)
+            .put("neut", RussianGrammeme.Средн)
+            .put("nomn", RussianGrammeme.И)
+            .put("gent", RussianGrammeme.Р)
+            .put("gen2", RussianGrammeme.Р)
+            .put("datv", RussianGrammeme.Д)
+            .put("accs", RussianGrammeme.В)
+            .put("acc2", RussianGrammeme.В)
+            .put("ablt", RussianGrammeme.Т)
+            .put("loct", RussianGrammeme.П)
+            .put("loc2", RussianGrammeme.П)
+            .put("1per", RussianGrammeme.I)
+            .put("2per", RussianGrammeme.II)
+            .put("3per", RussianGrammeme.III)
+            .put("sing", RussianGrammeme.Ед)
+            .put("plur", RussianGrammeme.Мн)
+            .put("pres", RussianGrammeme.Наст)
+            .put("past", RussianGrammeme.Прош)
+            .put(OcTagset.INFINITIVE, RussianGrammeme.Инф)
+            .put(OcTagset.PARTICIPLE, RussianGrammeme.Прич)
+            .put(OcTagset.SHORT_PARTICIPLE, RussianGrammeme.Прич)
+            .put(OcTagset.GERUND, RussianGrammeme.Дееприч)
+            .build();
+        this.parts = ImmutableMap.<String, RussianPartOfSpeech>builder()
+            .put("NOUN", RussianPartOfSpeech.Сущ)
+            .put("ADJF", RussianPartOfSpeech.Прил)
+            .put("ADJS", RussianPartOfSpeech.Прил)
+            .put("COMP", RussianPartOfSpeech.Прил)
+            .put("VERB", RussianPartOfSpeech.Глаг)
+            .put(OcTagset.INFINITIVE, RussianPartOfSpeech.Глаг)
+            .put(OcTagset.PARTICIPLE, RussianPartOfSpeech.Глаг)
+            .put(OcTagset.SHORT_PARTICIPLE, RussianPartOfSpeech.Глаг)
+            .put(OcTagset.GERUND, RussianPartOfSpeech.Глаг)
+            .put("ADVB", RussianPartOfSpeech.Нареч)
+            .put("NPRO", RussianPartOfSpeech.Местоим)
+            .build();
+    }
+
+    /**
+     * Finds the part of speech among tags.
+     * @param tags OpenCorpora tags
+     * @return Part of speech, or nothing if tags don't contain any
+     *  supported part of speech
+     */
+    Optional<RussianPartOfSpeech> partOfSpeech(final Collection<String> tags) {
+        return tags.stream()
+            .filter(this.parts::containsKey)
+            .map(this.parts::get)
+            .findFirst();
+    }
+
+    /**
+     * Maps tags to grammemes.
+     * @param tags OpenCorpora tags
+     * @return Grammemes for the tags that have a counterpart
+     */
+    ImmutableSet<Grammeme> grammemes(final Collection<String> tags) {
+        final ImmutableSet.Builder<Grammeme> builder = ImmutableSet.builder();
+        for (final String tag : tags) {
+            final RussianGrammeme grammeme = this.grammemes.get(tag);
+            if (grammeme != null) {
+                builder.add(grammeme);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.opencorpora;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tendiwa.inflectible.metrics.Metrics;
+
+/**
+ * Dictionary dump in OpenCorpora XML format
+ * (<a href="http://opencorpora.org/?page=downloads">opencorpora.org</a>).
+ * The dump is streamed with StAX, so only one lemma at a time is kept in
+ * memory regardless of the size of the dump. Lemmas of parts of speech that
+ * {@link org.tendiwa.inflectible.implementations.RussianPartOfSpeech}
+ * doesn't have, such as prepositions or conjunctions, are skipped.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class OpenCorporaDictionary {
+    /**
+     * Size of the read buffer.
+     */
+    private static final int BUFFER = 1 << 16;
+
+    /**
+     * Element of a lemma.
+     */
+    private static final String LEMMA = "lemma";
+
+    /**
+     * Dump file.
+     */
+    private final transient Path file;
+
+    /**
+     * Ctor.
+     * @param dump Dump file
+     */
+    public OpenCorporaDictionary(final Path dump) {
+        this.file = dump;
+    }
+
+    /**
+     * Passes all the supported lemmas of the dictionary to a sink.
+     * @param sink Sink
+     * @return Number of lexemes passed to the sink
+     * @throws Exception If could not read the dump or the sink could not
+     *  accept a lexeme
+     */
+    public int export(final LexemeSink sink) throws Exception {
+        final Metrics metrics = Instrumentation.INSTANCE.metrics();
+        final long start = metrics.clock();
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(
+            XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+            false
+        );
+        try (InputStream stream = new BufferedInputStream(
+            Files.newInputStream(this.file),
+            OpenCorporaDictionary.BUFFER
+        )) {
+            final XMLStreamReader reader =
+                factory.createXMLStreamReader(stream);
+            try {
+                final int exported = OpenCorporaDictionary.export(reader, sink);
+                metrics.load(
+                    this.file.toString(),
+                    metrics.clock() - start
+                );
+                return exported;
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Passes lemmas from a stream to a sink.
+     * @param reader Stream reader positioned before the first lemma
+     * @param sink Sink
+     * @return Number of lexemes passed to the sink
+     * @throws Exception If could not read the stream or the sink could not
+     *  accept a lexeme
+     */
+    private static int export(
+        final XMLStreamReader reader,
+        final LexemeSink sink
+    ) throws Exception {
+        final OcTagset tagset = new OcTagset();
+        int exported = 0;
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT
+                && OpenCorporaDictionary.LEMMA.equals(reader.getLocalName())
+                && OpenCorporaDictionary.lemma(reader, tagset).export(sink)) {
+                exported += 1;
+            }
+        }
+        return exported;
+    }
+
+    /**
+     * Reads a lemma.
+     * @param reader Stream reader positioned at the start of a lemma
+     * @param tagset Correspondence of tags to grammemes
+     * @return Lemma
+     * @throws Exception If could not read the stream
+     */
+    private static OcLemma lemma(
+        final XMLStreamReader reader,
+        final OcTagset tagset
+    ) throws Exception {
+        final OcLemma lemma = new OcLemma(
+            tagset,
+            Long.parseLong(reader.getAttributeValue(null, "id"))
+        );
+        List<String> tags = new ArrayList<>(0);
+        int event = reader.next();
+        while (event != XMLStreamConstants.END_ELEMENT
+            || !OpenCorporaDictionary.LEMMA.equals(reader.getLocalName())) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final String name = reader.getLocalName();
+                if ("l".equals(name)) {
+                    tags = lemma.lemma(reader.getAttributeValue(null, "t"));
+                } else if ("f".equals(name)) {
+                    tags = lemma.form(reader.getAttributeValue(null, "t"));
+                } else if ("g".equals(name)) {
+                    tags.add(reader.getAttributeValue(null, "v"));
+                }
+            }
+            event = reader.next();
+        }
+        return lemma;
+    }
+}
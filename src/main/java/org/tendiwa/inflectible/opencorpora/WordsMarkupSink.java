@@ -0,0 +1,154 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.opencorpora;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import org.tendiwa.inflectible.Concept;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.PartOfSpeech;
+import org.tendiwa.inflectible.Spelling;
+import org.tenidwa.collections.utils.Collectors;
+
+/**
+ * Sink that writes lexemes as markup of {@code .words} files, which can be
+ * read by {@link org.tendiwa.inflectible.antlr.parsed.ParsedVocabulary}.
+ * A word form without grammemes can only be written as the headword, so
+ * such forms are skipped anywhere but in the first position. Spellings in
+ * the markup can't contain whitespace, dots or angle brackets, so forms with
+ * such spellings, like abbreviations, are skipped too, and so are lexemes
+ * without any other forms.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class WordsMarkupSink implements LexemeSink {
+    /**
+     * Characters that the markup doesn't allow in spellings.
+     */
+    private static final CharMatcher RESERVED =
+        CharMatcher.WHITESPACE.or(CharMatcher.anyOf(".<>"));
+
+    /**
+     * Where to write the markup.
+     */
+    private final transient Writer writer;
+
+    /**
+     * Ctor.
+     * @param output Where to write the markup
+     */
+    public WordsMarkupSink(final Writer output) {
+        this.writer = output;
+    }
+
+    @Override
+    public void add(
+        final Concept concept,
+        final PartOfSpeech part,
+        final GrammaticalMeaning persistent,
+        final ImmutableMap<GrammaticalMeaning, Spelling> forms
+    ) throws Exception {
+        final ImmutableList<Map.Entry<GrammaticalMeaning, Spelling>> written =
+            forms.entrySet()
+                .stream()
+                .filter(
+                    form -> !form.getValue().string().isEmpty()
+                        && WordsMarkupSink.RESERVED.matchesNoneOf(
+                            form.getValue().string()
+                        )
+                )
+                .collect(Collectors.toImmutableList());
+        if (!written.isEmpty()) {
+            this.write(concept, part, persistent, written);
+        }
+    }
+
+    /**
+     * Writes a lexeme.
+     * @param concept Concept of the lexeme
+     * @param part Part of speech of the lexeme
+     * @param persistent Persistent grammatical meaning of the lexeme
+     * @param forms Word forms that the markup allows
+     * @throws Exception If could not write
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private void write(
+        final Concept concept,
+        final PartOfSpeech part,
+        final GrammaticalMeaning persistent,
+        final ImmutableList<Map.Entry<GrammaticalMeaning, Spelling>> forms
+    ) throws Exception {
+        this.writer
+            .append(concept.identifier())
+            .append(" (")
+            .append(part.toString())
+            .append(')');
+        final ImmutableSet<Grammeme> grammemes = persistent.grammemes();
+        if (!grammemes.isEmpty()) {
+            this.writer.append(' ');
+            this.grammemes(grammemes);
+        }
+        this.writer.append(" {\n");
+        boolean first = true;
+        for (final Map.Entry<GrammaticalMeaning, Spelling> form : forms) {
+            final ImmutableSet<Grammeme> meaning = form.getKey().grammemes();
+            if (first || !meaning.isEmpty()) {
+                this.writer.append('\t').append(form.getValue().string());
+                if (!meaning.isEmpty()) {
+                    this.writer.append(' ');
+                    this.grammemes(meaning);
+                }
+                this.writer.append('\n');
+            }
+            first = false;
+        }
+        this.writer.append("}\n");
+    }
+
+    /**
+     * Writes grammemes in angle brackets.
+     * @param grammemes Grammemes
+     * @throws IOException If could not write
+     */
+    private void grammemes(final ImmutableSet<Grammeme> grammemes)
+        throws IOException {
+        this.writer.append('<');
+        boolean first = true;
+        for (final Grammeme grammeme : grammemes) {
+            if (!first) {
+                this.writer.append(' ');
+            }
+            this.writer.append(grammeme.toString());
+            first = false;
+        }
+        this.writer.append('>');
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableMap;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link ArrayVocabulary}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class ArrayVocabularyTest {
+    /**
+     * ArrayVocabulary can find a lexeme of an interned concept.
+     * @throws Exception If fails
+     */
+    @Test
+    public void findsLexemeOfInternedConcept() throws Exception {
+        final ConceptRegistry registry = new ConceptRegistry();
+        final Lexeme lexeme = Mockito.mock(Lexeme.class);
+        final Vocabulary vocabulary = new ArrayVocabulary(
+            registry,
+            ImmutableMap.of(new ValidatedConcept("DRAGON"), lexeme)
+        );
+        MatcherAssert.assertThat(
+            vocabulary.lexeme(registry.concept("DRAGON")),
+            CoreMatchers.is(lexeme)
+        );
+    }
+
+    /**
+     * ArrayVocabulary can find a lexeme of a concept that isn't interned.
+     * @throws Exception If fails
+     */
+    @Test
+    public void findsLexemeByIdentifier() throws Exception {
+        final Lexeme lexeme = Mockito.mock(Lexeme.class);
+        MatcherAssert.assertThat(
+            new ArrayVocabulary(
+                new ConceptRegistry(),
+                ImmutableMap.of(
+                    new ValidatedConcept("BEE"),
+                    Mockito.mock(Lexeme.class),
+                    new ValidatedConcept("DRAGON"),
+                    lexeme
+                )
+            ).lexeme(new ValidatedConcept("DRAGON")),
+            CoreMatchers.is(lexeme)
+        );
+    }
+
+    /**
+     * ArrayVocabulary can tell it doesn't have a lexeme of a concept that is
+     * interned in the same registry by another vocabulary.
+     * @throws Exception If fails
+     */
+    @Test
+    public void hasNoLexemesOfOtherVocabularies() throws Exception {
+        final ConceptRegistry registry = new ConceptRegistry();
+        final Vocabulary vocabulary = new ArrayVocabulary(
+            registry,
+            ImmutableMap.of(
+                new ValidatedConcept("DRAGON"),
+                Mockito.mock(Lexeme.class)
+            )
+        );
+        new ArrayVocabulary(
+            registry,
+            ImmutableMap.of(
+                new ValidatedConcept("BEE"),
+                Mockito.mock(Lexeme.class)
+            )
+        );
+        MatcherAssert.assertThat(
+            vocabulary.hasLexeme(registry.concept("BEE")),
+            CoreMatchers.is(false)
+        );
+    }
+}
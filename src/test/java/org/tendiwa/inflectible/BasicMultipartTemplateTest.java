@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link BasicMultipartTemplate}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class BasicMultipartTemplateTest {
+    /**
+     * BasicMultipartTemplate can fill up all its parts at once.
+     * @throws Exception If fails
+     */
+    @Test
+    public void fillsUpAllParts() throws Exception {
+        MatcherAssert.assertThat(
+            new BasicMultipartTemplate(
+                ImmutableMap.of(
+                    "title",
+                    (arguments, vocabulary) -> "Quest",
+                    "body",
+                    (arguments, vocabulary) -> "Find the sword"
+                )
+            )
+                .fillUp(
+                    ImmutableList.of(),
+                    Mockito.mock(Vocabulary.class)
+                ),
+            CoreMatchers.equalTo("Quest\nFind the sword")
+        );
+    }
+
+    /**
+     * BasicMultipartTemplate can fill up only the part that is asked for.
+     * @throws Exception If fails
+     */
+    @Test
+    public void fillsUpOnlyRequestedPart() throws Exception {
+        final Template title = Mockito.mock(Template.class);
+        Mockito.when(title.fillUp(Mockito.any(), Mockito.any()))
+            .thenReturn("Quest");
+        final Template body = Mockito.mock(Template.class);
+        MatcherAssert.assertThat(
+            new BasicMultipartTemplate(
+                ImmutableMap.of("title", title, "body", body)
+            )
+                .parts(
+                    ImmutableList.of(),
+                    Mockito.mock(Vocabulary.class)
+                )
+                .part("title"),
+            CoreMatchers.equalTo("Quest")
+        );
+        Mockito.verify(body, Mockito.never())
+            .fillUp(Mockito.any(), Mockito.any());
+    }
+}
@@ -23,10 +23,15 @@
  */
 package org.tendiwa.inflectible;
 
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tendiwa.inflectible.metrics.Metrics;
+import org.tendiwa.inflectible.metrics.MtCounting;
 
 /**
  * Unit tests for {@link BasicNativeSpeaker}.
@@ -55,4 +60,167 @@ public final class BasicNativeSpeakerTest {
             CoreMatchers.equalTo(hello)
         );
     }
+
+    /**
+     * BasicNativeSpeaker can fill out a part of a multipart text.
+     * @throws Exception If fails
+     */
+    @Test
+    public void fillsOutPartOfText() throws Exception {
+        final Templatuary templatuary = Mockito.mock(Templatuary.class);
+        Mockito.when(templatuary.template(Mockito.anyObject()))
+            .thenReturn(
+                new BasicMultipartTemplate(
+                    ImmutableMap.of(
+                        "title",
+                        (arguments, vocabulary) -> "Greeting"
+                    )
+                )
+            );
+        MatcherAssert.assertThat(
+            new BasicNativeSpeaker(
+                Mockito.mock(Vocabulary.class),
+                templatuary
+            )
+                .multipartText("greeting")
+                .part("title"),
+            CoreMatchers.equalTo("Greeting")
+        );
+    }
+
+    /**
+     * BasicNativeSpeaker can report renders of parts of a multipart text.
+     * @throws Exception If fails
+     */
+    @Test
+    public void reportsRendersOfParts() throws Exception {
+        final Templatuary templatuary = Mockito.mock(Templatuary.class);
+        Mockito.when(templatuary.template(Mockito.anyObject()))
+            .thenReturn(
+                new BasicMultipartTemplate(
+                    ImmutableMap.of(
+                        "title",
+                        (arguments, vocabulary) -> "Greeting"
+                    )
+                )
+            );
+        final MtCounting metrics = new MtCounting();
+        final Metrics previous = Instrumentation.INSTANCE.install(metrics);
+        try {
+            new BasicNativeSpeaker(
+                Mockito.mock(Vocabulary.class),
+                templatuary
+            )
+                .multipartText("greeting")
+                .part("title");
+        } finally {
+            Instrumentation.INSTANCE.install(previous);
+        }
+        MatcherAssert.assertThat(
+            metrics.renders("greeting#title"),
+            CoreMatchers.equalTo(1L)
+        );
+    }
+
+    /**
+     * BasicNativeSpeaker can fail to fill out a plain template as a multipart
+     * one.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void failsWithPlainTemplateAsMultipart() throws Exception {
+        final Templatuary templatuary = Mockito.mock(Templatuary.class);
+        Mockito.when(templatuary.template(Mockito.anyObject()))
+            .thenReturn((arguments, vocabulary) -> "Hello");
+        new BasicNativeSpeaker(
+            Mockito.mock(Vocabulary.class),
+            templatuary
+        ).multipartText("greeting");
+    }
+
+    /**
+     * BasicNativeSpeaker can measure renders with the clock of the metrics.
+     * @throws Exception If fails
+     */
+    @Test
+    public void measuresRendersWithClockOfMetrics() throws Exception {
+        final Templatuary templatuary = Mockito.mock(Templatuary.class);
+        Mockito.when(templatuary.template(Mockito.anyObject()))
+            .thenReturn((arguments, vocabulary) -> "Hello");
+        final MtCounting counting = new MtCounting();
+        final Metrics previous = Instrumentation.INSTANCE.install(
+            new BasicNativeSpeakerTest.Ticking(counting)
+        );
+        try {
+            new BasicNativeSpeaker(
+                Mockito.mock(Vocabulary.class),
+                templatuary
+            ).text("greeting");
+        } finally {
+            Instrumentation.INSTANCE.install(previous);
+        }
+        MatcherAssert.assertThat(
+            counting.renderNanos("greeting"),
+            CoreMatchers.equalTo(1L)
+        );
+    }
+
+    /**
+     * Metrics whose clock advances by a nanosecond each time it is read.
+     */
+    private static final class Ticking implements Metrics {
+        /**
+         * Metrics to report events to.
+         */
+        private final transient Metrics origin;
+
+        /**
+         * Current time.
+         */
+        private final transient AtomicLong time;
+
+        /**
+         * Ctor.
+         * @param metrics Metrics to report events to
+         */
+        Ticking(final Metrics metrics) {
+            this.origin = metrics;
+            this.time = new AtomicLong();
+        }
+
+        @Override
+        public void render(final String template, final long nanos) {
+            this.origin.render(template, nanos);
+        }
+
+        @Override
+        public void lookup(final boolean hit) {
+            this.origin.lookup(hit);
+        }
+
+        @Override
+        public void fallback() {
+            this.origin.fallback();
+        }
+
+        @Override
+        public void inference(final String engine) {
+            this.origin.inference(engine);
+        }
+
+        @Override
+        public void cache(final String cache, final boolean hit) {
+            this.origin.cache(cache, hit);
+        }
+
+        @Override
+        public void load(final String source, final long nanos) {
+            this.origin.load(source, nanos);
+        }
+
+        @Override
+        public long clock() {
+            return this.time.incrementAndGet();
+        }
+    }
 }
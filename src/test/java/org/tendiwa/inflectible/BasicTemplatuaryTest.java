@@ -54,6 +54,23 @@ public final class BasicTemplatuaryTest {
         );
     }
 
+    /**
+     * {@link BasicTemplatuary} can return a template by a different instance
+     * of the same name.
+     * @throws Exception If fails
+     */
+    @Test
+    public void returnsTemplateByEqualName() throws Exception {
+        final Template template = Mockito.mock(Template.class);
+        MatcherAssert.assertThat(
+            new BasicTemplatuary(
+                ImmutableMap.of(() -> "message", template)
+            )
+                .template(new TnBasic("message")),
+            CoreMatchers.is(template)
+        );
+    }
+
     /**
      * {@link BasicTemplatuary} can fail if it doesn't have a template with the
      * specified name.
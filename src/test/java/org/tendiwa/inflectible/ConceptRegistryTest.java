@@ -0,0 +1,106 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ConceptRegistry}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class ConceptRegistryTest {
+    /**
+     * ConceptRegistry can give dense ids to identifiers.
+     * @throws Exception If fails
+     */
+    @Test
+    public void givesDenseIds() throws Exception {
+        final ConceptRegistry registry = new ConceptRegistry();
+        registry.concept("DRAGON");
+        registry.concept("BEE");
+        MatcherAssert.assertThat(
+            registry.concept("DRAGON").index()
+                + registry.concept("BEE").index(),
+            CoreMatchers.equalTo(1)
+        );
+    }
+
+    /**
+     * ConceptRegistry can return the same concept for the same identifier.
+     * @throws Exception If fails
+     */
+    @Test
+    public void internsIdentifiers() throws Exception {
+        final ConceptRegistry registry = new ConceptRegistry();
+        MatcherAssert.assertThat(
+            registry.concept("DRAGON"),
+            CoreMatchers.sameInstance(registry.concept("DRAGON"))
+        );
+    }
+
+    /**
+     * ConceptRegistry can tell an identifier isn't interned.
+     */
+    @Test
+    public void findsNoAbsentIdentifier() {
+        MatcherAssert.assertThat(
+            new ConceptRegistry().index("DRAGON"),
+            CoreMatchers.equalTo(ConceptRegistry.ABSENT)
+        );
+    }
+
+    /**
+     * ConceptRegistry can fail to intern an invalid identifier.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void failsWithInvalidIdentifier() throws Exception {
+        new ConceptRegistry().concept("dragon");
+    }
+
+    /**
+     * ConceptRegistry can intern a dotted identifier.
+     * @throws Exception If fails
+     */
+    @Test
+    public void internsDottedIdentifier() throws Exception {
+        MatcherAssert.assertThat(
+            new ConceptRegistry().concept("FIRE.BALL").identifier(),
+            CoreMatchers.equalTo("FIRE.BALL")
+        );
+    }
+
+    /**
+     * ConceptRegistry can fail to intern an identifier that ends with a dot.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void failsWithTrailingDot() throws Exception {
+        new ConceptRegistry().concept("FIRE.");
+    }
+}
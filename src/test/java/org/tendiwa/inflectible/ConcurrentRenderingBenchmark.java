@@ -0,0 +1,764 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.compiled.CompiledTemplatuary;
+import org.tendiwa.inflectible.compiled.TemplateImage;
+import org.tendiwa.inflectible.implementations.English;
+import org.tendiwa.inflectible.implementations.EnglishGrammeme;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tendiwa.inflectible.metrics.Metrics;
+import org.tendiwa.inflectible.metrics.MtCounting;
+
+/**
+ * Scaling benchmark rendering a mix of templates through one shared
+ * {@link MultipartSpeaker} from 1, 2, 4 and so on up to N threads. For each
+ * number of threads it reports throughput, p50, p99 and p99.9 latency of a
+ * render, scaling efficiency relative to one thread, time the threads spent
+ * blocked or waiting, and the locks and frames they were most often sampled
+ * blocked at. A number of threads with efficiency below
+ * {@link ConcurrentRenderingBenchmark#EFFICIENCY} is flagged as sub-linear.
+ * Speakers are benchmarked with counting metrics installed, once with a
+ * plain vocabulary and once with a layered one, and any other speaker may be
+ * passed to {@link ConcurrentRenderingBenchmark#scaling(String,
+ * MultipartSpeaker)} the same way.
+ * <p/>
+ * Runs only in the {@code benchmarks} Maven profile. N is set by the
+ * {@code benchmark.threads} system property and defaults to the number of
+ * processors, renders per thread by {@code benchmark.renders}. Results are
+ * logged and written as JSON to the file set by
+ * {@code benchmark.scaling.report}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (3 lines)
+ */
+public final class ConcurrentRenderingBenchmark {
+    /**
+     * Default number of measured renders per thread.
+     */
+    private static final int RENDERS = 20_000;
+
+    /**
+     * Number of renders per thread before measuring.
+     */
+    private static final int WARMUP = 5_000;
+
+    /**
+     * Scaling efficiency below which scaling is considered sub-linear.
+     */
+    private static final double EFFICIENCY = 0.7;
+
+    /**
+     * Milliseconds between samples of threads' states.
+     */
+    private static final long SAMPLING = 5L;
+
+    /**
+     * Depth of sampled stack traces.
+     */
+    private static final int DEPTH = 32;
+
+    /**
+     * Number of reported hot spots.
+     */
+    private static final int HOTSPOTS = 3;
+
+    /**
+     * Number of templates in the mix.
+     */
+    private static final int MIX = 4;
+
+    /**
+     * Nanoseconds in a microsecond.
+     */
+    private static final double MICROSECOND = 1_000.0;
+
+    /**
+     * Owl.
+     */
+    private static final Concept OWL = new ValidatedConcept("OWL");
+
+    /**
+     * Bear.
+     */
+    private static final Concept BEAR = new ValidatedConcept("BEAR");
+
+    /**
+     * Dragon.
+     */
+    private static final Concept DRAGON = new ValidatedConcept("DRAGON");
+
+    /**
+     * Elf.
+     */
+    private static final Concept ELF = new ValidatedConcept("ELF");
+
+    /**
+     * Speakers shared by many threads render the same texts as with one
+     * thread.
+     * @throws Exception If fails
+     */
+    @Test
+    public void reportsScaling() throws Exception {
+        final Grammar grammar = new English().grammar();
+        final Vocabulary vocabulary = new BasicVocabulary(
+            ImmutableMap.of(
+                ConcurrentRenderingBenchmark.OWL,
+                ConcurrentRenderingBenchmark.noun(grammar, "owl", "owls"),
+                ConcurrentRenderingBenchmark.BEAR,
+                ConcurrentRenderingBenchmark.noun(grammar, "bear", "bears"),
+                ConcurrentRenderingBenchmark.DRAGON,
+                ConcurrentRenderingBenchmark.noun(grammar, "dragon", "dragons"),
+                ConcurrentRenderingBenchmark.ELF,
+                ConcurrentRenderingBenchmark.noun(grammar, "elf", "elfs")
+            )
+        );
+        final Templatuary templatuary = new CompiledTemplatuary(
+            grammar,
+            ByteBuffer.wrap(ConcurrentRenderingBenchmark.templates())
+        );
+        final List<String> results = new ArrayList<>();
+        final Metrics previous =
+            Instrumentation.INSTANCE.install(new MtCounting());
+        try {
+            results.addAll(
+                ConcurrentRenderingBenchmark.scaling(
+                    "basic",
+                    new BasicNativeSpeaker(vocabulary, templatuary)
+                )
+            );
+            results.addAll(
+                ConcurrentRenderingBenchmark.scaling(
+                    "layered",
+                    new BasicNativeSpeaker(
+                        new LayeredVocabulary(
+                            ImmutableList.of(
+                                new VocabularyLayer(
+                                    new BasicVocabulary(
+                                        ImmutableMap.of(
+                                            ConcurrentRenderingBenchmark.ELF,
+                                            ConcurrentRenderingBenchmark.noun(
+                                                grammar,
+                                                "elf",
+                                                "elves"
+                                            )
+                                        )
+                                    ),
+                                    ImmutableList.of("ELF")
+                                ),
+                                new VocabularyLayer(
+                                    vocabulary,
+                                    ImmutableList.of(
+                                        "OWL", "BEAR", "DRAGON", "ELF"
+                                    )
+                                )
+                            )
+                        ),
+                        templatuary
+                    )
+                )
+            );
+        } finally {
+            Instrumentation.INSTANCE.install(previous);
+        }
+        final Path report = Paths.get(
+            System.getProperty(
+                "benchmark.scaling.report",
+                "target/scaling.json"
+            )
+        );
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        try (Writer writer =
+            Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            writer.write(
+                String.format(
+                    "{\"benchmark\":\"scaling\",\"results\":[%n%s%n]}%n",
+                    Joiner.on(String.format(",%n")).join(results)
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            results.size(),
+            CoreMatchers.equalTo(
+                ConcurrentRenderingBenchmark.counts().size() * 2
+            )
+        );
+    }
+
+    /**
+     * Renders the mix of templates with a speaker from increasing numbers of
+     * threads.
+     * @param name Name of the speaker in the report
+     * @param speaker Speaker shared by all the threads
+     * @return JSON object with the results for each number of threads
+     * @throws Exception If a render failed or rendered a wrong text
+     */
+    private static List<String> scaling(
+        final String name,
+        final MultipartSpeaker speaker
+    ) throws Exception {
+        final ImmutableList.Builder<String> builder = ImmutableList.builder();
+        for (int index = 0; index < ConcurrentRenderingBenchmark.MIX;
+            ++index) {
+            builder.add(ConcurrentRenderingBenchmark.render(speaker, index));
+        }
+        final ImmutableList<String> expected = builder.build();
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads.isThreadContentionMonitoringSupported()) {
+            threads.setThreadContentionMonitoringEnabled(true);
+        }
+        final Logger logger =
+            Logger.getLogger(ConcurrentRenderingBenchmark.class.getName());
+        final List<String> results = new ArrayList<>();
+        double single = 0.0;
+        for (final int count : ConcurrentRenderingBenchmark.counts()) {
+            final Round round = new Round(speaker, expected, count).measured();
+            if (count == 1) {
+                single = round.throughput();
+            }
+            final double efficiency = round.throughput() / (single * count);
+            final boolean sublinear =
+                efficiency < ConcurrentRenderingBenchmark.EFFICIENCY;
+            logger.info(
+                String.format(
+                    "%s, %d threads: %.0f renders/s, %s, %s, %s",
+                    name,
+                    count,
+                    round.throughput(),
+                    String.format(
+                        "p50 %.1f us, p99 %.1f us, p99.9 %.1f us",
+                        round.percentile(0.5),
+                        round.percentile(0.99),
+                        round.percentile(0.999)
+                    ),
+                    String.format(
+                        "%.0f%% efficiency%s",
+                        efficiency * 100.0,
+                        ConcurrentRenderingBenchmark.flag(sublinear)
+                    ),
+                    String.format(
+                        "blocked %d ms, waited %d ms, hot spots: %s",
+                        round.blocked(),
+                        round.waited(),
+                        Joiner.on("; ").join(round.hotspots())
+                    )
+                )
+            );
+            results.add(
+                String.format(
+                    "{%s,%s,%s,%s,%s,%s,\"hotspots\":[%s]}",
+                    String.format(
+                        "\"speaker\":\"%s\",\"threads\":%d",
+                        name,
+                        count
+                    ),
+                    String.format(
+                        "\"renders_per_second\":%.1f",
+                        round.throughput()
+                    ),
+                    String.format(
+                        "\"p50_us\":%.2f,\"p99_us\":%.2f,\"p999_us\":%.2f",
+                        round.percentile(0.5),
+                        round.percentile(0.99),
+                        round.percentile(0.999)
+                    ),
+                    String.format("\"efficiency\":%.3f", efficiency),
+                    String.format("\"sublinear\":%b", sublinear),
+                    String.format(
+                        "\"blocked_ms\":%d,\"waited_ms\":%d",
+                        round.blocked(),
+                        round.waited()
+                    ),
+                    round.hotspots()
+                        .stream()
+                        .map(hotspot -> String.format("\"%s\"", hotspot))
+                        .collect(Collectors.joining(","))
+                )
+            );
+        }
+        return results;
+    }
+
+    /**
+     * Renders one of the templates of the mix.
+     * @param speaker Speaker
+     * @param index Index of a render
+     * @return Rendered text
+     * @throws Exception If could not render the text
+     */
+    private static String render(
+        final MultipartSpeaker speaker,
+        final int index
+    ) throws Exception {
+        final int template = index % ConcurrentRenderingBenchmark.MIX;
+        final String text;
+        if (template == 0) {
+            text = speaker.text(
+                "texts.greeting",
+                ConcurrentRenderingBenchmark.OWL
+            );
+        } else if (template == 1) {
+            text = speaker.text(
+                "texts.count",
+                new CpNumber(3L),
+                ConcurrentRenderingBenchmark.BEAR
+            );
+        } else if (template == 2) {
+            text = speaker.text(
+                "texts.meeting",
+                ConcurrentRenderingBenchmark.OWL,
+                ConcurrentRenderingBenchmark.DRAGON
+            );
+        } else {
+            text = speaker
+                .multipartText(
+                    "texts.letter",
+                    ConcurrentRenderingBenchmark.ELF
+                )
+                .part("body");
+        }
+        return text;
+    }
+
+    /**
+     * Numbers of threads to render from: powers of two up to N, and N.
+     * @return Numbers of threads
+     */
+    private static List<Integer> counts() {
+        final int max = Integer.getInteger(
+            "benchmark.threads",
+            Runtime.getRuntime().availableProcessors()
+        );
+        final List<Integer> counts = new ArrayList<>();
+        for (int count = 1; count < max; count *= 2) {
+            counts.add(count);
+        }
+        counts.add(max);
+        return counts;
+    }
+
+    /**
+     * Marks sub-linear scaling in the log.
+     * @param sublinear Whether scaling is sub-linear
+     * @return Mark
+     */
+    private static String flag(final boolean sublinear) {
+        final String flag;
+        if (sublinear) {
+            flag = " (SUB-LINEAR)";
+        } else {
+            flag = "";
+        }
+        return flag;
+    }
+
+    /**
+     * Creates an English noun.
+     * @param grammar English grammar
+     * @param singular Singular form
+     * @param plural Plural form
+     * @return Lexeme
+     */
+    private static Lexeme noun(
+        final Grammar grammar,
+        final String singular,
+        final String plural
+    ) {
+        return new BasicLexeme(
+            new GmEmpty(),
+            ImmutableMap.of(
+                new GmEmpty(),
+                new SpClassified(
+                    new SpBasic(singular),
+                    grammar.phonetics().phoneticClass(singular)
+                ),
+                () -> ImmutableSet.of(EnglishGrammeme.Plur),
+                new SpClassified(
+                    new SpBasic(plural),
+                    grammar.phonetics().phoneticClass(plural)
+                )
+            )
+        );
+    }
+
+    /**
+     * Compiles the mix of templates: a greeting, a number agreement, a
+     * phonetic agreement with a grammeme and a multipart letter.
+     * @return Compiled image
+     */
+    private static byte[] templates() {
+        final Optional<String> none = Optional.empty();
+        return new TemplateImage()
+            .template("texts.greeting", ImmutableList.of("who"))
+            .text("Hello, ")
+            .argument("who", true, ImmutableList.of(), none, none)
+            .text("!")
+            .template("texts.count", ImmutableList.of("count", "who"))
+            .argument("count", false, ImmutableList.of(), none, none)
+            .text(" ")
+            .argument(
+                "who",
+                false,
+                ImmutableList.of(),
+                none,
+                Optional.of("count")
+            )
+            .template("texts.meeting", ImmutableList.of("a", "b"))
+            .phonetic("A")
+            .text(" ")
+            .argument("a", false, ImmutableList.of(), none, none)
+            .text(" meets ")
+            .argument("b", false, ImmutableList.of("Plur"), none, none)
+            .text(".")
+            .template("texts.letter", ImmutableList.of("who"))
+            .part("subject")
+            .text("Hi")
+            .part("body")
+            .text("Dear ")
+            .argument("who", true, ImmutableList.of(), none, none)
+            .text(", the ")
+            .lexeme("DRAGON", false, ImmutableList.of(), none, none)
+            .text(" is near.")
+            .bytes();
+    }
+
+    /**
+     * Renders from a number of threads at once.
+     */
+    private static final class Round {
+        /**
+         * Speaker shared by the threads.
+         */
+        private final transient MultipartSpeaker speaker;
+
+        /**
+         * Texts each template of the mix must render.
+         */
+        private final transient ImmutableList<String> expected;
+
+        /**
+         * Latencies of renders of each thread in nanoseconds.
+         */
+        private final transient long[][] latencies;
+
+        /**
+         * Times each hot spot was sampled.
+         */
+        private final transient Map<String, Integer> samples;
+
+        /**
+         * Total number of samples of threads' states.
+         */
+        private final transient AtomicInteger sampled;
+
+        /**
+         * First exception a thread failed with.
+         */
+        private final transient AtomicReference<Exception> failure;
+
+        /**
+         * Wall time of the measurement in nanoseconds.
+         */
+        private final transient AtomicLong wall;
+
+        /**
+         * Milliseconds threads spent blocked on monitors.
+         */
+        private final transient AtomicLong blocking;
+
+        /**
+         * Milliseconds threads spent waiting.
+         */
+        private final transient AtomicLong waiting;
+
+        /**
+         * Ctor.
+         * @param shared Speaker shared by the threads
+         * @param texts Texts each template of the mix must render
+         * @param threads Number of threads
+         */
+        Round(
+            final MultipartSpeaker shared,
+            final ImmutableList<String> texts,
+            final int threads
+        ) {
+            this.speaker = shared;
+            this.expected = texts;
+            this.latencies = new long[threads][Integer.getInteger(
+                "benchmark.renders",
+                ConcurrentRenderingBenchmark.RENDERS
+            )];
+            this.samples = new HashMap<>();
+            this.sampled = new AtomicInteger();
+            this.failure = new AtomicReference<>();
+            this.wall = new AtomicLong();
+            this.blocking = new AtomicLong();
+            this.waiting = new AtomicLong();
+        }
+
+        /**
+         * Runs the threads and samples their states until they finish.
+         * @return This round
+         * @throws Exception If a thread failed
+         */
+        public Round measured() throws Exception {
+            final CountDownLatch ready =
+                new CountDownLatch(this.latencies.length);
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Thread> workers = new ArrayList<>();
+            for (int index = 0; index < this.latencies.length; ++index) {
+                final int thread = index;
+                final Thread worker = new Thread(
+                    () -> this.work(thread, ready, start),
+                    String.format("render-%d", thread)
+                );
+                worker.start();
+                workers.add(worker);
+            }
+            ready.await();
+            final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            final long[] ids = workers.stream()
+                .mapToLong(Thread::getId)
+                .toArray();
+            final long begin = System.nanoTime();
+            start.countDown();
+            while (workers.stream().anyMatch(Thread::isAlive)) {
+                TimeUnit.MILLISECONDS.sleep(
+                    ConcurrentRenderingBenchmark.SAMPLING
+                );
+                this.sample(
+                    threads.getThreadInfo(
+                        ids,
+                        ConcurrentRenderingBenchmark.DEPTH
+                    )
+                );
+            }
+            for (final Thread worker : workers) {
+                worker.join();
+            }
+            this.wall.set(System.nanoTime() - begin);
+            if (this.failure.get() != null) {
+                throw this.failure.get();
+            }
+            return this;
+        }
+
+        /**
+         * Computes throughput of all the threads together.
+         * @return Renders per second
+         */
+        public double throughput() {
+            return (double) this.latencies.length * this.latencies[0].length
+                * TimeUnit.SECONDS.toNanos(1) / this.wall.get();
+        }
+
+        /**
+         * Computes a percentile of render latency.
+         * @param quantile Quantile between 0 and 1
+         * @return Latency in microseconds
+         */
+        public double percentile(final double quantile) {
+            final long[] all = Arrays.stream(this.latencies)
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+            return all[(int) Math.ceil(quantile * all.length) - 1]
+                / ConcurrentRenderingBenchmark.MICROSECOND;
+        }
+
+        /**
+         * Returns time the threads spent blocked on monitors.
+         * @return Milliseconds, or zero if contention monitoring is not
+         *  supported
+         */
+        public long blocked() {
+            return this.blocking.get();
+        }
+
+        /**
+         * Returns time the threads spent waiting.
+         * @return Milliseconds, or zero if contention monitoring is not
+         *  supported
+         */
+        public long waited() {
+            return this.waiting.get();
+        }
+
+        /**
+         * Describes places where threads were most often sampled blocked or
+         * waiting.
+         * @return Hot spots with their shares of all the samples
+         */
+        public List<String> hotspots() {
+            return this.samples.entrySet()
+                .stream()
+                .sorted(
+                    (first, second) ->
+                        second.getValue().compareTo(first.getValue())
+                )
+                .limit(ConcurrentRenderingBenchmark.HOTSPOTS)
+                .map(
+                    entry -> String.format(
+                        "%s (%.1f%%)",
+                        entry.getKey(),
+                        entry.getValue() * 100.0 / this.sampled.get()
+                    )
+                )
+                .collect(Collectors.toList());
+        }
+
+        /**
+         * Renders the mix of templates in one thread.
+         * @param thread Number of the thread
+         * @param ready Latch counted down after warm-up
+         * @param start Latch that starts the measurement
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private void work(
+            final int thread,
+            final CountDownLatch ready,
+            final CountDownLatch start
+        ) {
+            try {
+                for (int index = 0; index < ConcurrentRenderingBenchmark.WARMUP;
+                    ++index) {
+                    ConcurrentRenderingBenchmark.render(this.speaker, index);
+                }
+                ready.countDown();
+                start.await();
+                final ThreadMXBean threads =
+                    ManagementFactory.getThreadMXBean();
+                final ThreadInfo before =
+                    threads.getThreadInfo(Thread.currentThread().getId());
+                final long[] latency = this.latencies[thread];
+                for (int index = 0; index < latency.length; ++index) {
+                    final long begin = System.nanoTime();
+                    final String text = ConcurrentRenderingBenchmark.render(
+                        this.speaker,
+                        thread + index
+                    );
+                    latency[index] = System.nanoTime() - begin;
+                    if (!text.equals(this.expected.get(
+                        (thread + index) % ConcurrentRenderingBenchmark.MIX
+                    ))) {
+                        throw new IllegalStateException(
+                            String.format("Rendered a wrong text: %s", text)
+                        );
+                    }
+                }
+                final ThreadInfo after =
+                    threads.getThreadInfo(Thread.currentThread().getId());
+                this.blocking.addAndGet(
+                    after.getBlockedTime() - before.getBlockedTime()
+                );
+                this.waiting.addAndGet(
+                    after.getWaitedTime() - before.getWaitedTime()
+                );
+            // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                this.failure.compareAndSet(null, ex);
+                ready.countDown();
+            }
+        }
+
+        /**
+         * Counts threads that are blocked or waiting on a lock inside this
+         * library by the lock and the innermost frame of the library.
+         * Threads waiting in the benchmark itself are not counted as hot
+         * spots.
+         * @param infos States of the threads
+         */
+        private void sample(final ThreadInfo... infos) {
+            for (final ThreadInfo info : infos) {
+                if (info != null) {
+                    this.sampled.incrementAndGet();
+                    final Optional<StackTraceElement> frame =
+                        Round.frame(info.getStackTrace());
+                    if (info.getLockName() != null && frame.isPresent()) {
+                        this.samples.merge(
+                            String.format(
+                                "%s on %s at %s.%s",
+                                info.getThreadState(),
+                                info.getLockName().replaceFirst("@.*", ""),
+                                frame.get().getClassName(),
+                                frame.get().getMethodName()
+                            ),
+                            1,
+                            Integer::sum
+                        );
+                    }
+                }
+            }
+        }
+
+        /**
+         * Finds the innermost frame of this library in a stack trace.
+         * @param trace Stack trace
+         * @return Frame of this library, or nothing if the thread is not
+         *  inside the library
+         */
+        private static Optional<StackTraceElement> frame(
+            final StackTraceElement... trace
+        ) {
+            return Arrays.stream(trace)
+                .filter(
+                    element -> element.getClassName().startsWith("org.tendiwa")
+                        && !element.getClassName().startsWith(
+                            ConcurrentRenderingBenchmark.class.getName()
+                        )
+                )
+                .findFirst();
+        }
+    }
+}
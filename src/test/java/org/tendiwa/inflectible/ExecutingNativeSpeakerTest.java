@@ -0,0 +1,132 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link ExecutingNativeSpeaker}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class ExecutingNativeSpeakerTest {
+    /**
+     * ExecutingNativeSpeaker can produce a text on an executor.
+     * @throws Exception If fails
+     */
+    @Test
+    public void producesTextOnExecutor() throws Exception {
+        final NativeSpeaker speaker = Mockito.mock(NativeSpeaker.class);
+        Mockito.when(speaker.text("greeting")).thenReturn("Hello");
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MatcherAssert.assertThat(
+                new ExecutingNativeSpeaker(speaker, executor)
+                    .text("greeting")
+                    .get(),
+                CoreMatchers.equalTo("Hello")
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * ExecutingNativeSpeaker can produce several texts in order.
+     * @throws Exception If fails
+     */
+    @Test
+    public void producesTextsInOrder() throws Exception {
+        final NativeSpeaker speaker = Mockito.mock(NativeSpeaker.class);
+        Mockito.when(speaker.text("greeting")).thenReturn("Hello");
+        Mockito.when(speaker.text("farewell")).thenReturn("Bye");
+        MatcherAssert.assertThat(
+            new ExecutingNativeSpeaker(speaker, Runnable::run)
+                .texts(
+                    ImmutableList.of(
+                        new Utterance("farewell"),
+                        new Utterance("greeting")
+                    )
+                )
+                .get(),
+            CoreMatchers.equalTo(ImmutableList.of("Bye", "Hello"))
+        );
+    }
+
+    /**
+     * ExecutingNativeSpeaker can complete a text exceptionally if the
+     * synchronous speaker fails.
+     * @throws Exception If fails
+     */
+    @Test(expected = ExecutionException.class)
+    public void failsWhenSpeakerFails() throws Exception {
+        final NativeSpeaker speaker = Mockito.mock(NativeSpeaker.class);
+        Mockito.when(speaker.text("greeting"))
+            .thenThrow(new MissingTemplateException(new TnBasic("greeting")));
+        new ExecutingNativeSpeaker(speaker, Runnable::run)
+            .text("greeting")
+            .get();
+    }
+
+    /**
+     * ExecutingNativeSpeaker can complete a text exceptionally if the
+     * synchronous speaker fails with an error.
+     * @throws Exception If fails
+     */
+    @Test(expected = ExecutionException.class)
+    public void failsWhenSpeakerThrowsError() throws Exception {
+        final NativeSpeaker speaker = Mockito.mock(NativeSpeaker.class);
+        Mockito.when(speaker.text("greeting"))
+            .thenThrow(new AssertionError("Speaker is broken"));
+        new ExecutingNativeSpeaker(speaker, Runnable::run)
+            .text("greeting")
+            .get(1L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * ExecutingNativeSpeaker can complete a text exceptionally if the
+     * executor rejects it.
+     * @throws Exception If fails
+     */
+    @Test(expected = ExecutionException.class)
+    public void failsWhenExecutorRejects() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        new ExecutingNativeSpeaker(
+            Mockito.mock(NativeSpeaker.class),
+            executor
+        )
+            .text("greeting")
+            .get(1L, TimeUnit.SECONDS);
+    }
+}
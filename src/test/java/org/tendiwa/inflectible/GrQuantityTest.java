@@ -0,0 +1,83 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.tendiwa.inflectible.implementations.NaRussian;
+import org.tendiwa.inflectible.implementations.RussianGrammeme;
+
+/**
+ * Unit tests for {@link GrQuantity}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class GrQuantityTest {
+    /**
+     * {@link GrQuantity} can make a word agree with a number from an
+     * argument.
+     * @throws Exception If fails
+     */
+    @Test
+    public void agreesWithNumber() throws Exception {
+        MatcherAssert.assertThat(
+            new GrQuantity(
+                new AnBasic("count"),
+                new NaRussian(),
+                new GrStatic(new GmEmpty())
+            )
+                .grammaticalMeaning(
+                    new BasicActualArguments(
+                        ImmutableList.of(new AnBasic("count")),
+                        ImmutableList.of(new LxNumber(3L))
+                    )
+                )
+                .grammemes(),
+            Matchers.containsInAnyOrder(RussianGrammeme.Ед, RussianGrammeme.Р)
+        );
+    }
+
+    /**
+     * {@link GrQuantity} can't make a word agree with an argument that is not
+     * a number.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void failsOnNonNumbers() throws Exception {
+        new GrQuantity(
+            new AnBasic("count"),
+            new NaRussian(),
+            new GrStatic(new GmEmpty())
+        )
+            .grammaticalMeaning(
+                new BasicActualArguments(
+                    ImmutableList.of(new AnBasic("count")),
+                    ImmutableList.of(new SingleFormLexeme("много"))
+                )
+            );
+    }
+}
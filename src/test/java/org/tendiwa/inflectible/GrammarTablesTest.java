@@ -0,0 +1,225 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableSet;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.implementations.EnglishGrammeme;
+import org.tendiwa.inflectible.implementations.RussianGrammaticalCategory;
+import org.tendiwa.inflectible.implementations.RussianGrammeme;
+import org.tendiwa.inflectible.implementations.RussianPartOfSpeech;
+
+/**
+ * Unit tests for {@link GrammarTables}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class GrammarTablesTest {
+    /**
+     * {@link GrammarTables} can list grammemes of a category in declaration
+     * order.
+     * @throws Exception If fails
+     */
+    @Test
+    public void listsGrammemesOfCategory() throws Exception {
+        MatcherAssert.assertThat(
+            GrammarTablesTest.russian()
+                .grammemes(RussianGrammaticalCategory.Число),
+            CoreMatchers.hasItems(RussianGrammeme.Ед, RussianGrammeme.Мн)
+        );
+        MatcherAssert.assertThat(
+            GrammarTablesTest.russian()
+                .grammemes(RussianGrammaticalCategory.Падеж)
+                .size(),
+            CoreMatchers.is(6)
+        );
+    }
+
+    /**
+     * {@link GrammarTables} can use the first grammeme of a category as its
+     * default grammeme.
+     * @throws Exception If fails
+     */
+    @Test
+    public void usesFirstGrammemeAsDefault() throws Exception {
+        MatcherAssert.assertThat(
+            GrammarTablesTest.russian()
+                .defaultGrammeme(RussianGrammaticalCategory.Падеж),
+            CoreMatchers.is(RussianGrammeme.И)
+        );
+    }
+
+    /**
+     * {@link GrammarTables} can tell whether a category contains a
+     * grammeme.
+     * @throws Exception If fails
+     */
+    @Test
+    public void checksMembership() throws Exception {
+        final GrammarTables tables = GrammarTablesTest.russian();
+        MatcherAssert.assertThat(
+            tables.contains(
+                RussianGrammaticalCategory.Род,
+                RussianGrammeme.Жен
+            ),
+            CoreMatchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            tables.contains(RussianGrammaticalCategory.Род, RussianGrammeme.Р),
+            CoreMatchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            tables.contains(RussianGrammaticalCategory.Род, EnglishGrammeme.I),
+            CoreMatchers.is(false)
+        );
+    }
+
+    /**
+     * {@link GrammarTables} can tell the position of a grammeme within its
+     * category.
+     * @throws Exception If fails
+     */
+    @Test
+    public void findsIndexWithinCategory() throws Exception {
+        MatcherAssert.assertThat(
+            GrammarTablesTest.russian().index(RussianGrammeme.Т),
+            CoreMatchers.is(4)
+        );
+    }
+
+    /**
+     * {@link GrammarTables} can extract the grammeme of a category from a
+     * grammatical meaning.
+     * @throws Exception If fails
+     */
+    @Test
+    public void extractsGrammemeOfCategory() throws Exception {
+        final GrammarTables tables = GrammarTablesTest.russian();
+        final GrammaticalMeaning meaning = () -> ImmutableSet.of(
+            RussianGrammeme.Мн,
+            RussianGrammeme.Д
+        );
+        MatcherAssert.assertThat(
+            tables.grammeme(RussianGrammaticalCategory.Падеж, meaning).get(),
+            CoreMatchers.is(RussianGrammeme.Д)
+        );
+        MatcherAssert.assertThat(
+            tables.grammeme(RussianGrammaticalCategory.Род, meaning)
+                .isPresent(),
+            CoreMatchers.is(false)
+        );
+    }
+
+    /**
+     * {@link GrammarTables} can find the index of the grammeme of a category
+     * in a grammatical meaning.
+     * @throws Exception If fails
+     */
+    @Test
+    public void findsIndexOfCategoryInMeaning() throws Exception {
+        final GrammarTables tables = GrammarTablesTest.russian();
+        final GrammaticalMeaning meaning = () -> ImmutableSet.of(
+            RussianGrammeme.Мн,
+            RussianGrammeme.Т
+        );
+        MatcherAssert.assertThat(
+            tables.index(RussianGrammaticalCategory.Падеж, meaning),
+            CoreMatchers.is(4)
+        );
+        MatcherAssert.assertThat(
+            tables.index(RussianGrammaticalCategory.Род, meaning),
+            CoreMatchers.is(-1)
+        );
+    }
+
+    /**
+     * {@link GrammarTables} can prefer the persistent grammeme of a lexeme to
+     * the one of its word form.
+     * @throws Exception If fails
+     */
+    @Test
+    public void prefersPersistentIndex() throws Exception {
+        final GrammarTables tables = GrammarTablesTest.russian();
+        final GrammaticalMeaning meaning = () -> ImmutableSet.of(
+            RussianGrammeme.Мн,
+            RussianGrammeme.Т
+        );
+        MatcherAssert.assertThat(
+            tables.index(0, RussianGrammaticalCategory.Число, meaning),
+            CoreMatchers.is(0)
+        );
+        MatcherAssert.assertThat(
+            tables.index(-1, RussianGrammaticalCategory.Число, meaning),
+            CoreMatchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            tables.index(-1, RussianGrammaticalCategory.Род, meaning),
+            CoreMatchers.is(0)
+        );
+    }
+
+    /**
+     * {@link GrammarTables} can build tables once for each grammeme enum and
+     * share them with its grammar.
+     * @throws Exception If fails
+     */
+    @Test
+    public void buildsTablesOncePerEnum() throws Exception {
+        final GrammarTables tables = GrammarTables.of(RussianGrammeme.class);
+        MatcherAssert.assertThat(
+            new EnumBasedGrammar(
+                RussianGrammeme.class,
+                RussianPartOfSpeech.class
+            ).tables(),
+            CoreMatchers.sameInstance(tables)
+        );
+        MatcherAssert.assertThat(
+            tables.defaultGrammeme(RussianGrammaticalCategory.Падеж),
+            CoreMatchers.is(RussianGrammeme.И)
+        );
+    }
+
+    /**
+     * {@link GrammarTables} can refuse grammemes that are not enums.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesNonEnumGrammemes() throws Exception {
+        new GrammarTables(Grammeme.class, RussianGrammaticalCategory.class);
+    }
+
+    /**
+     * Creates tables of Russian grammar.
+     * @return Tables of Russian grammar
+     */
+    private static GrammarTables russian() {
+        return new GrammarTables(
+            RussianGrammeme.class,
+            RussianGrammaticalCategory.class
+        );
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link LayeredVocabulary}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class LayeredVocabularyTest {
+    /**
+     * LayeredVocabulary can take a lexeme from the topmost layer that has it.
+     * @throws Exception If fails
+     */
+    @Test
+    public void overridesLowerLayers() throws Exception {
+        final Lexeme top = Mockito.mock(Lexeme.class);
+        final Concept dragon = new ValidatedConcept("DRAGON");
+        MatcherAssert.assertThat(
+            new LayeredVocabulary(
+                ImmutableList.of(
+                    LayeredVocabularyTest.layer(dragon, top),
+                    LayeredVocabularyTest.layer(
+                        dragon,
+                        Mockito.mock(Lexeme.class)
+                    )
+                )
+            ).lexeme(dragon),
+            CoreMatchers.is(top)
+        );
+    }
+
+    /**
+     * LayeredVocabulary can take a lexeme from a lower layer if upper ones
+     * don't have it.
+     * @throws Exception If fails
+     */
+    @Test
+    public void fallsThroughToLowerLayers() throws Exception {
+        final Lexeme bottom = Mockito.mock(Lexeme.class);
+        final Concept bee = new ValidatedConcept("BEE");
+        MatcherAssert.assertThat(
+            new LayeredVocabulary(
+                ImmutableList.of(
+                    LayeredVocabularyTest.layer(
+                        new ValidatedConcept("DRAGON"),
+                        Mockito.mock(Lexeme.class)
+                    ),
+                    LayeredVocabularyTest.layer(bee, bottom)
+                )
+            ).lexeme(bee),
+            CoreMatchers.is(bottom)
+        );
+    }
+
+    /**
+     * LayeredVocabulary can fail if no layer has a lexeme.
+     * @throws Exception If fails
+     */
+    @Test(expected = MissingLexemeException.class)
+    public void failsIfNoLayerHasLexeme() throws Exception {
+        new LayeredVocabulary(
+            ImmutableList.of(
+                LayeredVocabularyTest.layer(
+                    new ValidatedConcept("DRAGON"),
+                    Mockito.mock(Lexeme.class)
+                )
+            )
+        ).lexeme(new ValidatedConcept("BEE"));
+    }
+
+    /**
+     * Creates a layer with a single lexeme.
+     * @param concept Concept of the lexeme
+     * @param lexeme Lexeme
+     * @return Layer
+     * @throws Exception If fails
+     */
+    private static VocabularyLayer layer(
+        final Concept concept,
+        final Lexeme lexeme
+    ) throws Exception {
+        return new VocabularyLayer(
+            new BasicVocabulary(ImmutableMap.of(concept, lexeme)),
+            ImmutableList.of(concept.identifier())
+        );
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link LazyMultipartText}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class LazyMultipartTextTest {
+    /**
+     * LazyMultipartText can render each part only once.
+     * @throws Exception If fails
+     */
+    @Test
+    public void rendersPartOnce() throws Exception {
+        final Template body = Mockito.mock(Template.class);
+        Mockito.when(body.fillUp(Mockito.any(), Mockito.any()))
+            .thenReturn("Find the sword");
+        final MultipartText text = new LazyMultipartText(
+            ImmutableMap.of("body", body),
+            ImmutableList.of(),
+            Mockito.mock(Vocabulary.class)
+        );
+        text.part("body");
+        MatcherAssert.assertThat(
+            text.part("body"),
+            CoreMatchers.equalTo("Find the sword")
+        );
+        Mockito.verify(body, Mockito.times(1))
+            .fillUp(Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * LazyMultipartText can render a part only once when several threads ask
+     * for it at the same time.
+     * @throws Exception If fails
+     */
+    @Test
+    public void rendersPartOnceForConcurrentReaders() throws Exception {
+        final int threads = 4;
+        final AtomicInteger renders = new AtomicInteger();
+        final CountDownLatch asked = new CountDownLatch(threads);
+        final Template body = (arguments, vocabulary) -> {
+            renders.incrementAndGet();
+            asked.await(1L, TimeUnit.SECONDS);
+            return "Find the sword";
+        };
+        final MultipartText text = new LazyMultipartText(
+            ImmutableMap.of("body", body),
+            ImmutableList.of(),
+            Mockito.mock(Vocabulary.class)
+        );
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final Collection<Callable<String>> readers =
+                new ArrayList<>(threads);
+            for (int reader = 0; reader < threads; ++reader) {
+                readers.add(
+                    () -> {
+                        asked.countDown();
+                        return text.part("body");
+                    }
+                );
+            }
+            for (final Future<String> part : executor.invokeAll(readers)) {
+                MatcherAssert.assertThat(
+                    part.get(),
+                    CoreMatchers.equalTo("Find the sword")
+                );
+            }
+        } finally {
+            executor.shutdown();
+        }
+        MatcherAssert.assertThat(renders.get(), CoreMatchers.equalTo(1));
+    }
+
+    /**
+     * LazyMultipartText can list names of its parts in their order.
+     * @throws Exception If fails
+     */
+    @Test
+    public void listsNames() throws Exception {
+        MatcherAssert.assertThat(
+            new LazyMultipartText(
+                ImmutableMap.of(
+                    "title",
+                    Mockito.mock(Template.class),
+                    "body",
+                    Mockito.mock(Template.class)
+                ),
+                ImmutableList.of(),
+                Mockito.mock(Vocabulary.class)
+            ).names(),
+            CoreMatchers.equalTo(ImmutableList.of("title", "body"))
+        );
+    }
+
+    /**
+     * LazyMultipartText can fail if there is no such part.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void failsWithUnknownPart() throws Exception {
+        new LazyMultipartText(
+            ImmutableMap.of(),
+            ImmutableList.of(),
+            Mockito.mock(Vocabulary.class)
+        ).part("tooltip");
+    }
+}
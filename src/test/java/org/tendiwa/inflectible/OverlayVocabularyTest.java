@@ -0,0 +1,93 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableMap;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link OverlayVocabulary}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class OverlayVocabularyTest {
+    /**
+     * OverlayVocabulary can override a lexeme of the base vocabulary.
+     * @throws Exception If fails
+     */
+    @Test
+    public void overridesBaseLexeme() throws Exception {
+        final Concept dragon = new ValidatedConcept("DRAGON");
+        final Lexeme own = Mockito.mock(Lexeme.class);
+        MatcherAssert.assertThat(
+            new OverlayVocabulary(
+                new BasicVocabulary(
+                    ImmutableMap.of(dragon, Mockito.mock(Lexeme.class))
+                )
+            )
+                .with(ImmutableMap.of("DRAGON", own))
+                .lexeme(dragon),
+            CoreMatchers.is(own)
+        );
+    }
+
+    /**
+     * OverlayVocabulary can take lexemes it doesn't have from the base
+     * vocabulary.
+     * @throws Exception If fails
+     */
+    @Test
+    public void fallsBackToBase() throws Exception {
+        final Concept bee = new ValidatedConcept("BEE");
+        final Lexeme shared = Mockito.mock(Lexeme.class);
+        MatcherAssert.assertThat(
+            new OverlayVocabulary(
+                new BasicVocabulary(ImmutableMap.of(bee, shared)),
+                ImmutableMap.of("DRAGON", Mockito.mock(Lexeme.class))
+            ).lexeme(bee),
+            CoreMatchers.is(shared)
+        );
+    }
+
+    /**
+     * OverlayVocabulary can leave the overlay it was created from unchanged.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsOriginalOverlay() throws Exception {
+        final OverlayVocabulary original = new OverlayVocabulary(
+            Mockito.mock(Vocabulary.class),
+            ImmutableMap.of("DRAGON", Mockito.mock(Lexeme.class))
+        );
+        original.with(ImmutableMap.of("BEE", Mockito.mock(Lexeme.class)));
+        MatcherAssert.assertThat(
+            original.size(),
+            CoreMatchers.equalTo(1)
+        );
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
+import java.util.Optional;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.implementations.EnglishPhoneticClass;
+
+/**
+ * Unit tests for {@link PhTabular}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class PhTabularTest {
+    /**
+     * {@link PhTabular} can prefer the longest matching beginning of a word.
+     * @throws Exception If fails
+     */
+    @Test
+    public void prefersLongestBeginning() throws Exception {
+        MatcherAssert.assertThat(
+            this.phonetics().phoneticClass("Hour").get(),
+            CoreMatchers.<PhoneticClass>is(EnglishPhoneticClass.Vowel)
+        );
+    }
+
+    /**
+     * {@link PhTabular} can fall back to the default phonetic class.
+     * @throws Exception If fails
+     */
+    @Test
+    public void fallsBack() throws Exception {
+        MatcherAssert.assertThat(
+            this.phonetics().phoneticClass("house").get(),
+            CoreMatchers.<PhoneticClass>is(EnglishPhoneticClass.Consonant)
+        );
+    }
+
+    /**
+     * {@link PhTabular} can choose a variant keeping its capitalization.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsCapitalization() throws Exception {
+        MatcherAssert.assertThat(
+            this.phonetics().variant(
+                "A",
+                Optional.of(EnglishPhoneticClass.Vowel)
+            ),
+            CoreMatchers.is("An")
+        );
+    }
+
+    /**
+     * Creates phonetics for tests.
+     * @return Phonetics
+     */
+    private Phonetics phonetics() {
+        return new PhTabular(
+            ImmutableMap.of(
+                "h", EnglishPhoneticClass.Consonant,
+                "hour", EnglishPhoneticClass.Vowel
+            ),
+            EnglishPhoneticClass.Consonant,
+            ImmutableTable.of("a", EnglishPhoneticClass.Vowel, "an")
+        );
+    }
+}
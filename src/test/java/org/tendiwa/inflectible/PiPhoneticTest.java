@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.implementations.EnglishPhonetics;
+
+/**
+ * Unit tests for {@link PiPhonetic}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class PiPhoneticTest {
+    /**
+     * {@link PiPhonetic} can agree with the word after whitespace.
+     * @throws Exception If fails
+     */
+    @Test
+    public void agreesWithFollowingWord() throws Exception {
+        MatcherAssert.assertThat(
+            new PiPhonetic(
+                "a",
+                new EnglishPhonetics(),
+                ImmutableList.of(
+                    new PiPlainText(" "),
+                    new Placeholder(
+                        new LrFromArgument(new AnBasic("item")),
+                        new GrStatic(new GmEmpty()),
+                        spelling -> spelling
+                    )
+                )
+            )
+                .fillUp(
+                    new BasicActualArguments(
+                        ImmutableList.of(new AnBasic("item")),
+                        ImmutableList.of(
+                            new SingleFormLexeme("honest man")
+                        )
+                    ),
+                    new BasicVocabulary(ImmutableMap.of())
+                ),
+            CoreMatchers.is("an honest man")
+        );
+    }
+
+    /**
+     * {@link PiPhonetic} can leave the word as is if nothing follows it.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsWordAtTheEnd() throws Exception {
+        MatcherAssert.assertThat(
+            new PiPhonetic("a", new EnglishPhonetics(), ImmutableList.of())
+                .fillUp(
+                    new BasicActualArguments(
+                        ImmutableList.of(),
+                        ImmutableList.of()
+                    ),
+                    new BasicVocabulary(ImmutableMap.of())
+                ),
+            CoreMatchers.is("a")
+        );
+    }
+}
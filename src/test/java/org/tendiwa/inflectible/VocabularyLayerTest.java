@@ -0,0 +1,74 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible;
+
+import com.google.common.collect.ImmutableList;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link VocabularyLayer}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class VocabularyLayerTest {
+    /**
+     * VocabularyLayer can reject a concept without asking its vocabulary.
+     * @throws Exception If fails
+     */
+    @Test
+    public void rejectsUnknownConceptWithoutProbing() throws Exception {
+        final Vocabulary vocabulary = Mockito.mock(Vocabulary.class);
+        Mockito.when(vocabulary.hasLexeme(Mockito.anyObject()))
+            .thenThrow(new IllegalStateException("Probed"));
+        MatcherAssert.assertThat(
+            new VocabularyLayer(vocabulary, ImmutableList.of("DRAGON"))
+                .lexeme("BEE", () -> "BEE")
+                .isPresent(),
+            CoreMatchers.is(false)
+        );
+    }
+
+    /**
+     * VocabularyLayer can find a lexeme in its vocabulary.
+     * @throws Exception If fails
+     */
+    @Test
+    public void findsLexeme() throws Exception {
+        final Lexeme lexeme = Mockito.mock(Lexeme.class);
+        final Concept dragon = () -> "DRAGON";
+        final Vocabulary vocabulary = Mockito.mock(Vocabulary.class);
+        Mockito.when(vocabulary.hasLexeme(dragon)).thenReturn(true);
+        Mockito.when(vocabulary.lexeme(dragon)).thenReturn(lexeme);
+        MatcherAssert.assertThat(
+            new VocabularyLayer(vocabulary, ImmutableList.of("DRAGON"))
+                .lexeme("DRAGON", dragon)
+                .get(),
+            CoreMatchers.is(lexeme)
+        );
+    }
+}
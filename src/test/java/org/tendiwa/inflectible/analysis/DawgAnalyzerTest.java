@@ -0,0 +1,183 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.analysis;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.SingleFormLexeme;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.ValidatedConcept;
+import org.tendiwa.inflectible.implementations.RussianGrammeme;
+import org.tendiwa.inflectible.implementations.RussianPartOfSpeech;
+
+/**
+ * Unit tests for {@link DawgAnalyzer}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class DawgAnalyzerTest {
+    /**
+     * {@link DawgAnalyzer} can analyze word forms inferred by inflection
+     * rules.
+     * @throws Exception If fails
+     */
+    @Test
+    public void analyzesInferredWordForms() throws Exception {
+        final ImmutableList<Analysis> analyses =
+            DawgAnalyzerTest.builder().analyzer().analyses("ножами");
+        MatcherAssert.assertThat(analyses.size(), CoreMatchers.equalTo(1));
+        MatcherAssert.assertThat(
+            analyses.get(0).concept().identifier(),
+            CoreMatchers.equalTo("KNIFE")
+        );
+        MatcherAssert.assertThat(
+            analyses.get(0).meaning().grammemes(),
+            CoreMatchers.equalTo(
+                ImmutableSet.<Grammeme>of(RussianGrammeme.Мн, RussianGrammeme.Т)
+            )
+        );
+    }
+
+    /**
+     * {@link DawgAnalyzer} can return all the analyses of an ambiguous word
+     * form.
+     * @throws Exception If fails
+     */
+    @Test
+    public void analyzesAmbiguousWordForms() throws Exception {
+        MatcherAssert.assertThat(
+            DawgAnalyzerTest.builder().analyzer().analyses("ножов").size(),
+            CoreMatchers.equalTo(2)
+        );
+    }
+
+    /**
+     * {@link DawgAnalyzer} can return no analyses for unknown words.
+     * @throws Exception If fails
+     */
+    @Test
+    public void returnsNothingForUnknownWords() throws Exception {
+        final DawgAnalyzer analyzer = DawgAnalyzerTest.builder().analyzer();
+        MatcherAssert.assertThat(
+            analyzer.analyses("ножницы"),
+            Matchers.empty()
+        );
+        MatcherAssert.assertThat(analyzer.analyses("но"), Matchers.empty());
+    }
+
+    /**
+     * {@link DawgAnalyzer} can be read from a saved automaton.
+     * @throws Exception If fails
+     */
+    @Test
+    public void readsSavedAutomaton() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DawgAnalyzerTest.builder().save(bytes);
+        MatcherAssert.assertThat(
+            new DawgAnalyzer(
+                RussianGrammeme.class,
+                new ByteArrayInputStream(bytes.toByteArray())
+            )
+                .analyses("ножу")
+                .get(0)
+                .meaning()
+                .grammemes(),
+            CoreMatchers.equalTo(
+                ImmutableSet.<Grammeme>of(RussianGrammeme.Ед, RussianGrammeme.Д)
+            )
+        );
+    }
+
+    /**
+     * {@link DawgAnalyzer} can merge equivalent suffixes.
+     * @throws Exception If fails
+     */
+    @Test
+    public void mergesEquivalentSuffixes() throws Exception {
+        final ValidatedConcept cat = new ValidatedConcept("CAT");
+        final ValidatedConcept bat = new ValidatedConcept("BAT");
+        final DawgAnalyzer analyzer = new DawgBuilder(RussianGrammeme.class)
+            .add("cat", cat, () -> ImmutableSet.of(RussianGrammeme.Ед))
+            .add("cats", cat, () -> ImmutableSet.of(RussianGrammeme.Мн))
+            .add("bat", bat, () -> ImmutableSet.of(RussianGrammeme.Ед))
+            .add("bats", bat, () -> ImmutableSet.of(RussianGrammeme.Мн))
+            .analyzer();
+        MatcherAssert.assertThat(analyzer.states(), CoreMatchers.equalTo(5));
+        MatcherAssert.assertThat(
+            analyzer.analyses("bats").get(0).concept().identifier(),
+            CoreMatchers.equalTo("BAT")
+        );
+        MatcherAssert.assertThat(
+            analyzer.analyses("cats").get(0).concept().identifier(),
+            CoreMatchers.equalTo("CAT")
+        );
+    }
+
+    /**
+     * {@link DawgAnalyzer} can index a lexeme that only has its default
+     * spelling once, without grammemes.
+     * @throws Exception If fails
+     */
+    @Test
+    public void indexesFallbackSpellingOnce() throws Exception {
+        final ImmutableList<Analysis> analyses =
+            new DawgBuilder(RussianGrammeme.class)
+                .add(
+                    new ValidatedConcept("KIWI"),
+                    new SingleFormLexeme("киви"),
+                    RussianPartOfSpeech.Сущ.meaningVariations()
+                )
+                .analyzer()
+                .analyses("киви");
+        MatcherAssert.assertThat(analyses.size(), CoreMatchers.equalTo(1));
+        MatcherAssert.assertThat(
+            analyses.get(0).meaning().grammemes(),
+            Matchers.empty()
+        );
+    }
+
+    /**
+     * Creates a builder with all the forms of a noun.
+     * @return Builder
+     * @throws Exception If could not obtain word forms
+     */
+    private static DawgBuilder builder() throws Exception {
+        return new DawgBuilder(RussianGrammeme.class).add(
+            new ValidatedConcept("KNIFE"),
+            RussianPartOfSpeech.Сущ.lexeme(
+                new SpBasic("нож"),
+                () -> ImmutableSet.of(RussianGrammeme.Муж)
+            ),
+            RussianPartOfSpeech.Сущ.meaningVariations()
+        );
+    }
+}
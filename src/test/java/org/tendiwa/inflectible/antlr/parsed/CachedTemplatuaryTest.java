@@ -0,0 +1,181 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.Templatuary;
+import org.tendiwa.inflectible.TnBasic;
+import org.tendiwa.inflectible.ValidatedConcept;
+import org.tendiwa.inflectible.Vocabulary;
+import org.tendiwa.inflectible.implementations.English;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tendiwa.inflectible.metrics.Metrics;
+import org.tendiwa.inflectible.metrics.MtCounting;
+
+/**
+ * Unit tests for {@link CachedTemplatuary}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class CachedTemplatuaryTest {
+    /**
+     * Markup of templates.
+     */
+    private static final String TEMPLATES = Joiner.on('\n').join(
+        "meeting(who) {",
+        "  [Who] meets [who][Plur].",
+        "}"
+    );
+
+    /**
+     * {@link CachedTemplatuary} can compile a source file once and render
+     * the same texts from the cache as {@link ParsedTemplatuary} does.
+     * @throws Exception If fails
+     */
+    @Test
+    public void rendersFromCache() throws Exception {
+        final Grammar grammar = new English().grammar();
+        final Path source = CachedTemplatuaryTest.source(
+            CachedTemplatuaryTest.TEMPLATES
+        );
+        final Path directory = Files.createTempDirectory("cache");
+        final MtCounting metrics = new MtCounting();
+        final Metrics previous = Instrumentation.INSTANCE.install(metrics);
+        try {
+            new CachedTemplatuary(grammar, ImmutableList.of(source), directory);
+            MatcherAssert.assertThat(
+                CachedTemplatuaryTest.text(
+                    new CachedTemplatuary(
+                        grammar,
+                        ImmutableList.of(source),
+                        directory
+                    )
+                ),
+                CoreMatchers.equalTo(
+                    CachedTemplatuaryTest.text(
+                        new ParsedTemplatuary(
+                            grammar,
+                            ImmutableList.of(
+                                IOUtils.toInputStream(
+                                    CachedTemplatuaryTest.TEMPLATES
+                                )
+                            )
+                        )
+                    )
+                )
+            );
+            MatcherAssert.assertThat(
+                metrics.hitRate("SourceCache"),
+                CoreMatchers.equalTo(0.5)
+            );
+        } finally {
+            Instrumentation.INSTANCE.install(previous);
+        }
+    }
+
+    /**
+     * {@link CachedTemplatuary} can compile a source file again after it
+     * changes.
+     * @throws Exception If fails
+     */
+    @Test
+    public void rebuildsChangedSources() throws Exception {
+        final Grammar grammar = new English().grammar();
+        final Path source = CachedTemplatuaryTest.source(
+            CachedTemplatuaryTest.TEMPLATES
+        );
+        final Path directory = Files.createTempDirectory("cache");
+        new CachedTemplatuary(grammar, ImmutableList.of(source), directory);
+        Files.write(
+            source,
+            Joiner.on('\n').join(
+                "meeting(who) {",
+                "  [Who] flees from [who][Plur].",
+                "}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            CachedTemplatuaryTest.text(
+                new CachedTemplatuary(
+                    grammar,
+                    ImmutableList.of(source),
+                    directory
+                )
+            ),
+            CoreMatchers.equalTo("Dragon flees from dragons.")
+        );
+    }
+
+    /**
+     * Creates a source file.
+     * @param content Content of the file
+     * @return Path to the file
+     * @throws Exception If fails
+     */
+    private static Path source(final String content) throws Exception {
+        final Path file = Files.createTempFile("source", ".texts");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Renders the meeting template with a dragon.
+     * @param templates Templates
+     * @return Rendered text
+     * @throws Exception If fails
+     */
+    private static String text(final Templatuary templates) throws Exception {
+        final Vocabulary vocabulary = new ParsedVocabulary(
+            new English().grammar(),
+            ImmutableList.of(
+                IOUtils.toInputStream(
+                    Joiner.on('\n').join(
+                        "DRAGON (Noun) {",
+                        "   dragon  <Sing>",
+                        "   dragons <Plur>",
+                        "}"
+                    )
+                )
+            )
+        );
+        return templates
+            .template(new TnBasic("meeting"))
+            .fillUp(
+                ImmutableList.of(
+                    vocabulary.lexeme(new ValidatedConcept("DRAGON"))
+                ),
+                vocabulary
+            );
+    }
+}
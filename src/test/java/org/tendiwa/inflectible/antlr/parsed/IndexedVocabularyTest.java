@@ -0,0 +1,158 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.MissingLexemeException;
+import org.tendiwa.inflectible.ValidatedConcept;
+import org.tendiwa.inflectible.implementations.English;
+import org.tendiwa.inflectible.implementations.EnglishGrammeme;
+import org.tendiwa.inflectible.metrics.Instrumentation;
+import org.tendiwa.inflectible.metrics.Metrics;
+import org.tendiwa.inflectible.metrics.MtCounting;
+
+/**
+ * Unit tests for {@link IndexedVocabulary}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class IndexedVocabularyTest {
+    /**
+     * IndexedVocabulary can parse a lexeme when it is asked for.
+     * @throws Exception If fails
+     */
+    @Test
+    public void parsesLexemeOnDemand() throws Exception {
+        final Path source = IndexedVocabularyTest.source();
+        final Path index = Files.createTempFile("lexemes", ".index");
+        try {
+            MatcherAssert.assertThat(
+                new IndexedVocabulary(
+                    new English().grammar(),
+                    ImmutableList.of(source),
+                    index
+                )
+                    .lexeme(new ValidatedConcept("BEE"))
+                    .wordForm(() -> ImmutableSet.of(EnglishGrammeme.Plur))
+                    .string(),
+                CoreMatchers.equalTo("bees")
+            );
+        } finally {
+            Files.delete(source);
+            Files.delete(index);
+        }
+    }
+
+    /**
+     * IndexedVocabulary can generate word forms of a lexeme only once.
+     * @throws Exception If fails
+     */
+    @Test
+    public void infersWordFormsOnce() throws Exception {
+        final Path source = IndexedVocabularyTest.source();
+        final Path index = Files.createTempFile("lexemes", ".index");
+        final MtCounting metrics = new MtCounting();
+        final Metrics previous = Instrumentation.INSTANCE.install(metrics);
+        try {
+            final Lexeme lexeme = new IndexedVocabulary(
+                new English().grammar(),
+                ImmutableList.of(source),
+                index
+            ).lexeme(new ValidatedConcept("FOX"));
+            for (int attempt = 0; attempt < 3; ++attempt) {
+                MatcherAssert.assertThat(
+                    lexeme
+                        .wordForm(() -> ImmutableSet.of(EnglishGrammeme.Plur))
+                        .string(),
+                    CoreMatchers.equalTo("foxes")
+                );
+            }
+            MatcherAssert.assertThat(
+                metrics.inferences("LxWithSuppletivism"),
+                CoreMatchers.equalTo(1L)
+            );
+        } finally {
+            Instrumentation.INSTANCE.install(previous);
+            Files.delete(source);
+            Files.delete(index);
+        }
+    }
+
+    /**
+     * IndexedVocabulary can fail if there is no lexeme for a concept.
+     * @throws Exception If fails
+     */
+    @Test(expected = MissingLexemeException.class)
+    public void failsWithMissingLexeme() throws Exception {
+        final Path source = IndexedVocabularyTest.source();
+        final Path index = Files.createTempFile("lexemes", ".index");
+        try {
+            new IndexedVocabulary(
+                new English().grammar(),
+                ImmutableList.of(source),
+                index
+            ).lexeme(new ValidatedConcept("WASP"));
+        } finally {
+            Files.delete(source);
+            Files.delete(index);
+        }
+    }
+
+    /**
+     * Creates a source file with three lexemes.
+     * @return Path to the source file
+     * @throws Exception If fails
+     */
+    private static Path source() throws Exception {
+        final Path source = Files.createTempFile("lexemes", ".words");
+        Files.write(
+            source,
+            Joiner.on('\n').join(
+                "DRAGON (Noun) {",
+                "   dragon  <Sing>",
+                "   dragons <Plur>",
+                "}",
+                "BEE (Noun) {",
+                "   bee  <Sing>",
+                "   bees <Plur>",
+                "}",
+                "FOX (Noun) {",
+                "   fox",
+                "   ...",
+                "}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        return source;
+    }
+}
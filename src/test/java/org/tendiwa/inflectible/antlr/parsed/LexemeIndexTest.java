@@ -0,0 +1,168 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LexemeIndex}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class LexemeIndexTest {
+    /**
+     * LexemeIndex can find the markup of a lexeme in a source.
+     * @throws Exception If fails
+     */
+    @Test
+    public void findsMarkup() throws Exception {
+        final Path source = LexemeIndexTest.source();
+        final Path index = Files.createTempFile("lexemes", ".index");
+        Files.delete(index);
+        try {
+            MatcherAssert.assertThat(
+                new LexemeIndex(ImmutableList.of(source), index)
+                    .locations()
+                    .get("BEE")
+                    .markup(ImmutableList.of(source)),
+                CoreMatchers.equalTo(
+                    "BEE (Noun) {\n   пчела  <Sing>\n   bees <Plur>\n}"
+                )
+            );
+        } finally {
+            Files.delete(source);
+            Files.deleteIfExists(index);
+        }
+    }
+
+    /**
+     * LexemeIndex can persist itself and read itself back.
+     * @throws Exception If fails
+     */
+    @Test
+    public void readsPersistedIndex() throws Exception {
+        final Path source = LexemeIndexTest.source();
+        final Path index = Files.createTempFile("lexemes", ".index");
+        Files.delete(index);
+        try {
+            new LexemeIndex(ImmutableList.of(source), index).locations();
+            MatcherAssert.assertThat(
+                new LexemeIndex(ImmutableList.of(source), index)
+                    .locations()
+                    .get("DRAGON")
+                    .markup(ImmutableList.of(source)),
+                CoreMatchers.equalTo(
+                    "DRAGON (Noun) {\n   dragon  <Sing>\n   dragons <Plur>\n}"
+                )
+            );
+        } finally {
+            Files.delete(source);
+            Files.delete(index);
+        }
+    }
+
+    /**
+     * LexemeIndex can scan the sources again if the persisted index doesn't
+     * describe them.
+     * @throws Exception If fails
+     */
+    @Test
+    public void rescansChangedSources() throws Exception {
+        final Path source = LexemeIndexTest.source();
+        final Path index = Files.createTempFile("lexemes", ".index");
+        try {
+            Files.write(
+                index,
+                ImmutableList.of("inflectible-lexeme-index 1", "0 0 nowhere"),
+                StandardCharsets.UTF_8
+            );
+            MatcherAssert.assertThat(
+                new LexemeIndex(ImmutableList.of(source), index)
+                    .locations()
+                    .keySet(),
+                CoreMatchers.hasItems("DRAGON", "BEE")
+            );
+        } finally {
+            Files.delete(source);
+            Files.delete(index);
+        }
+    }
+
+    /**
+     * LexemeIndex can keep the scanned index if it can't persist it.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsIndexThatCantBePersisted() throws Exception {
+        final Path source = LexemeIndexTest.source();
+        final Path index = source.resolveSibling(
+            String.format("%s.missing", source.getFileName())
+        ).resolve("lexemes.index");
+        try {
+            MatcherAssert.assertThat(
+                new LexemeIndex(ImmutableList.of(source), index)
+                    .locations()
+                    .keySet(),
+                CoreMatchers.hasItems("DRAGON", "BEE")
+            );
+            MatcherAssert.assertThat(
+                Files.exists(index),
+                CoreMatchers.is(false)
+            );
+        } finally {
+            Files.delete(source);
+        }
+    }
+
+    /**
+     * Creates a source file with two lexemes.
+     * @return Path to the source file
+     * @throws Exception If fails
+     */
+    private static Path source() throws Exception {
+        final Path source = Files.createTempFile("lexemes", ".words");
+        Files.write(
+            source,
+            Joiner.on('\n').join(
+                "DRAGON (Noun) {",
+                "   dragon  <Sing>",
+                "   dragons <Plur>",
+                "}",
+                "BEE (Noun) {",
+                "   пчела  <Sing>",
+                "   bees <Plur>",
+                "} "
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        return source;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.TnBasic;
+
+/**
+ * Unit tests for {@link NamespacedTemplatuary}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class NamespacedTemplatuaryTest {
+    /**
+     * NamespacedTemplatuary can load only the namespace of a requested
+     * template.
+     * @throws Exception If fails
+     */
+    @Test
+    public void loadsOnlyRequestedNamespace() throws Exception {
+        final Path log = NamespacedTemplatuaryTest.log();
+        try {
+            final NamespacedTemplatuary templatuary =
+                new NamespacedTemplatuary(
+                    Mockito.mock(Grammar.class),
+                    ImmutableMap.of(
+                        "log",
+                        log,
+                        "actions",
+                        Paths.get("nonexistent.texts")
+                    )
+                );
+            templatuary.template(new TnBasic("log.make_sound"));
+            MatcherAssert.assertThat(
+                templatuary.loadedNames("log.m"),
+                CoreMatchers.equalTo(
+                    ImmutableSortedSet.of("log.make_sound", "log.miss")
+                )
+            );
+        } finally {
+            Files.delete(log);
+        }
+    }
+
+    /**
+     * NamespacedTemplatuary can tell it doesn't have templates outside its
+     * namespaces.
+     * @throws Exception If fails
+     */
+    @Test
+    public void hasNoTemplatesOutsideNamespaces() throws Exception {
+        MatcherAssert.assertThat(
+            new NamespacedTemplatuary(
+                Mockito.mock(Grammar.class),
+                ImmutableMap.of("log", Paths.get("nonexistent.texts"))
+            ).hasTemplate(new TnBasic("actions.bite")),
+            CoreMatchers.is(false)
+        );
+    }
+
+    /**
+     * Creates a file with templates of namespace {@code log}.
+     * @return Path to the file
+     * @throws Exception If fails
+     */
+    private static Path log() throws Exception {
+        final Path file = Files.createTempFile("log", ".texts");
+        Files.write(
+            file,
+            Joiner.on('\n').join(
+                "log.make_sound(shouter) {",
+                "  [Shouter] shouts",
+                "}",
+                "log.miss(attacker) {",
+                "  [Attacker] misses",
+                "}",
+                "log.get_damage(aim) {",
+                "  [Aim] is hit",
+                "}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        return file;
+    }
+}
@@ -30,6 +30,8 @@ import org.hamcrest.MatcherAssert;
 import org.junit.Test;
 import org.tendiwa.inflectible.BasicVocabulary;
 import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.LxNumber;
+import org.tendiwa.inflectible.SingleFormLexeme;
 import org.tendiwa.inflectible.ValidatedConcept;
 import org.tendiwa.inflectible.Vocabulary;
 import org.tendiwa.inflectible.antlr.TemplateLexer;
@@ -80,4 +82,68 @@ public final class ParsedTemplateTest {
             )
         );
     }
+
+    /**
+     * ParsedTextTemplate can make words agree with numbers.
+     * @throws Exception If fails
+     */
+    @Test
+    public void agreesWithNumbers() throws Exception {
+        final Grammar grammar = new English().grammar();
+        final Vocabulary vocabulary = new ParsedVocabulary(
+            grammar,
+            ImmutableList.of(
+                ParsedTemplateTest.class.getResourceAsStream(
+                    "characters.en_US.words"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            new ParsedTemplate(
+                grammar,
+                new BasicTemplateParser(
+                    TemplateLexer.DEFAULT_MODE,
+                    "texts.text(a,b) {",
+                    "  [A] meets [b] [a]<#b>.",
+                    "}"
+                )
+                    .templates()
+                    .template(0)
+            ).fillUp(
+                ImmutableList.of(
+                    vocabulary.lexeme(new ValidatedConcept("BEAR")),
+                    new LxNumber(2L)
+                ),
+                new BasicVocabulary(ImmutableMap.of())
+            ),
+            CoreMatchers.equalTo("Bear meets 2 bears.")
+        );
+    }
+
+    /**
+     * ParsedTextTemplate can make words agree phonetically with the
+     * following word.
+     * @throws Exception If fails
+     */
+    @Test
+    public void agreesPhonetically() throws Exception {
+        final Grammar grammar = new English().grammar();
+        MatcherAssert.assertThat(
+            new ParsedTemplate(
+                grammar,
+                new BasicTemplateParser(
+                    TemplateLexer.DEFAULT_MODE,
+                    "texts.text(a) {",
+                    "  [~A] [a] and [~a] owl.",
+                    "}"
+                )
+                    .templates()
+                    .template(0)
+            ).fillUp(
+                ImmutableList.of(new SingleFormLexeme("elf")),
+                new BasicVocabulary(ImmutableMap.of())
+            ),
+            CoreMatchers.equalTo("An elf and an owl.")
+        );
+    }
 }
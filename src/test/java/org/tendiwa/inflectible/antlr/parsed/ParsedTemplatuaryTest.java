@@ -33,6 +33,8 @@ import org.hamcrest.MatcherAssert;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.MultipartTemplate;
+import org.tendiwa.inflectible.Vocabulary;
 import org.tendiwa.inflectible.TnBasic;
 
 /**
@@ -68,6 +70,57 @@ public final class ParsedTemplatuaryTest {
         );
     }
 
+    /**
+     * ParsedTextuary can load templates that consist of several parts.
+     * @throws Exception If fails
+     */
+    @Test
+    public void loadsMultipartTexts() throws Exception {
+        MatcherAssert.assertThat(
+            MultipartTemplate.class.cast(
+                new ParsedTemplatuary(
+                    Mockito.mock(Grammar.class),
+                    ImmutableList.of(
+                        IOUtils.toInputStream(
+                            Joiner.on('\n').join(
+                                "quest(hero) title {",
+                                "  Quest",
+                                "} body {",
+                                "  Find the sword",
+                                "}"
+                            )
+                        )
+                    )
+                ).template(new TnBasic("quest"))
+            )
+                .parts(ImmutableList.of(), Mockito.mock(Vocabulary.class))
+                .part("body"),
+            CoreMatchers.equalTo("Find the sword")
+        );
+    }
+
+    /**
+     * ParsedTextuary can refuse a template with two parts of the same name.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesDuplicatePartNames() throws Exception {
+        new ParsedTemplatuary(
+            Mockito.mock(Grammar.class),
+            ImmutableList.of(
+                IOUtils.toInputStream(
+                    Joiner.on('\n').join(
+                        "quest(hero) title {",
+                        "  Quest",
+                        "} title {",
+                        "  Another quest",
+                        "}"
+                    )
+                )
+            )
+        );
+    }
+
     /**
      * ParsedTextuary can fail if it can't read from its input stream.
      * @throws Exception If fails
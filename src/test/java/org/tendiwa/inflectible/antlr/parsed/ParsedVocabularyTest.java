@@ -24,14 +24,28 @@
 package org.tendiwa.inflectible.antlr.parsed;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.concurrent.Callable;
 import org.apache.commons.io.IOUtils;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.Test;
+import org.tendiwa.inflectible.ConceptRegistry;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.InternedConcept;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.TnBasic;
 import org.tendiwa.inflectible.ValidatedConcept;
+import org.tendiwa.inflectible.Vocabulary;
 import org.tendiwa.inflectible.implementations.English;
+import org.tendiwa.inflectible.implementations.EnglishGrammeme;
+import org.tendiwa.inflectible.inflection.ExEager;
+import org.tendiwa.inflectible.inflection.Expansion;
+import org.tendiwa.inflectible.inflection.ParadigmPool;
 
 /**
  * Unit tests for {@link ParsedVocabulary}.
@@ -53,6 +67,144 @@ public final class ParsedVocabularyTest {
         );
     }
 
+    /**
+     * ParsedVocabulary can share paradigms between the lexemes it loads.
+     * @throws Exception If fails
+     */
+    @Test
+    public void sharesParadigms() throws Exception {
+        final ParadigmPool pool = new ParadigmPool();
+        final ParsedVocabulary vocabulary = new ParsedVocabulary(
+            new English().grammar(),
+            Collections.singletonList(
+                IOUtils.toInputStream(
+                    Joiner.on('\n').join(
+                        "DRAGON (Noun) {",
+                        "   dragon  <Sing>",
+                        "   dragons <Plur>",
+                        "}",
+                        "BEE (Noun) {",
+                        "   bee  <Sing>",
+                        "   bees <Plur>",
+                        "} "
+                    )
+                )
+            ),
+            new ExEager(),
+            pool
+        );
+        MatcherAssert.assertThat(pool.size(), CoreMatchers.equalTo(1));
+        MatcherAssert.assertThat(
+            vocabulary
+                .lexeme(new ValidatedConcept("BEE"))
+                .wordForm(() -> ImmutableSet.of(EnglishGrammeme.Plur))
+                .string(),
+            CoreMatchers.equalTo("bees")
+        );
+    }
+
+    /**
+     * ParsedVocabulary can render a template with concepts interned in
+     * advance, the way generated concept constants are.
+     * @throws Exception If fails
+     */
+    @Test
+    public void rendersInternedConcepts() throws Exception {
+        final ConceptRegistry registry = new ConceptRegistry();
+        final InternedConcept dragon = registry.concept("DRAGON");
+        final Grammar grammar = new English().grammar();
+        final Vocabulary vocabulary = new ParsedVocabulary(
+            grammar,
+            Collections.singletonList(
+                IOUtils.toInputStream(
+                    Joiner.on('\n').join(
+                        "BEE (Noun) {",
+                        "   bee  <Sing>",
+                        "   bees <Plur>",
+                        "}",
+                        "DRAGON (Noun) {",
+                        "   dragon  <Sing>",
+                        "   dragons <Plur>",
+                        "} "
+                    )
+                )
+            ),
+            registry
+        );
+        MatcherAssert.assertThat(
+            new ParsedTemplatuary(
+                grammar,
+                ImmutableList.of(
+                    IOUtils.toInputStream(
+                        Joiner.on('\n').join(
+                            "meeting(who) {",
+                            "  [Who] meets [who][Plur].",
+                            "}"
+                        )
+                    )
+                )
+            )
+                .template(new TnBasic("meeting"))
+                .fillUp(
+                    ImmutableList.of(dragon.lexeme(vocabulary)),
+                    vocabulary
+                ),
+            CoreMatchers.equalTo("Dragon meets dragons.")
+        );
+        MatcherAssert.assertThat(
+            registry.concept("DRAGON"),
+            CoreMatchers.sameInstance(dragon)
+        );
+    }
+
+    /**
+     * ParsedVocabulary can refuse a lexeme with two word forms of the same
+     * grammatical meaning.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalStateException.class)
+    public void refusesSameGrammaticalMeaning() throws Exception {
+        new ParsedVocabulary(
+            new English().grammar(),
+            Collections.singletonList(
+                IOUtils.toInputStream(
+                    Joiner.on('\n').join(
+                        "BEE (Noun) {",
+                        "   bee  <Sing>",
+                        "   bees <Plur>",
+                        "   been <Plur>",
+                        "} "
+                    )
+                )
+            )
+        )
+            .lexeme(new ValidatedConcept("BEE"))
+            .defaultSpelling();
+    }
+
+    /**
+     * ParsedVocabulary can report a failure to expand lexemes as an
+     * {@link IOException}.
+     * @throws Exception If fails
+     */
+    @Test(expected = IOException.class)
+    public void reportsFailedExpansion() throws Exception {
+        new ParsedVocabulary(
+            new English().grammar(),
+            Collections.singletonList(
+                IOUtils.toInputStream("BEE (Noun) {\n   bee <Sing>\n} ")
+            ),
+            new Expansion() {
+                @Override
+                public <K> ImmutableMap<K, Lexeme> lexemes(
+                    final ImmutableMap<K, Callable<Lexeme>> expansions
+                ) {
+                    throw new IllegalStateException("Can't expand");
+                }
+            }
+        );
+    }
+
     /**
      * Creates a small vocabulary for {@link English} language.
      * @return Vocabulary for {@link English}
@@ -0,0 +1,423 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.sun.management.ThreadMXBean;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.BasicVocabulary;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.SingleFormLexeme;
+import org.tendiwa.inflectible.TnBasic;
+import org.tendiwa.inflectible.ValidatedConcept;
+import org.tendiwa.inflectible.Vocabulary;
+import org.tendiwa.inflectible.implementations.English;
+import org.tendiwa.inflectible.implementations.RussianBasicVocabulary;
+
+/**
+ * Startup benchmark measuring time and allocation to the first rendered text
+ * in fresh JVMs. Each scenario runs in several forked JVMs, so class
+ * loading, static initialization and JIT warm-up are measured as a user of
+ * the library sees them:
+ * <ul>
+ *     <li>{@code vocabulary}: loading a {@link ParsedVocabulary} and
+ *     rendering a template with one of its lexemes;</li>
+ *     <li>{@code templatuary}: loading a {@link ParsedTemplatuary} and
+ *     rendering one of its templates;</li>
+ *     <li>{@code russian}: static initialization of
+ *     {@link RussianBasicVocabulary} and looking up one of its lexemes.</li>
+ * </ul>
+ * Runs only in the {@code benchmarks} Maven profile. Number of forks per
+ * scenario is set by the {@code benchmark.forks} system property, heap of
+ * forked JVMs by {@code benchmark.heap}. Results of each fork are written
+ * as JSON to the file set by {@code benchmark.report}, so loading strategies
+ * may be compared between runs.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class StartupBenchmark {
+    /**
+     * Numbers of lexemes and templates to load.
+     */
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+
+    /**
+     * Default number of forks per scenario.
+     */
+    private static final int FORKS = 3;
+
+    /**
+     * Number of letters in generated identifiers.
+     */
+    private static final int LETTERS = 26;
+
+    /**
+     * Name of the scenario loading a vocabulary.
+     */
+    private static final String VOCABULARY = "vocabulary";
+
+    /**
+     * Name of the scenario loading a templatuary.
+     */
+    private static final String TEMPLATUARY = "templatuary";
+
+    /**
+     * Name of the scenario initializing Russian basic vocabulary.
+     */
+    private static final String RUSSIAN = "russian";
+
+    /**
+     * Template rendered in the vocabulary scenario.
+     */
+    private static final String FIRST = "texts.first";
+
+    /**
+     * Forked JVMs can render the first text of each scenario.
+     * @throws Exception If fails
+     */
+    @Test
+    public void reportsStartup() throws Exception {
+        final List<String> results = new ArrayList<>();
+        for (final int size : StartupBenchmark.SIZES) {
+            final Path words = StartupBenchmark.words(size);
+            final Path texts = StartupBenchmark.texts(size);
+            try {
+                results.addAll(
+                    StartupBenchmark.forked(
+                        StartupBenchmark.VOCABULARY,
+                        size,
+                        words
+                    )
+                );
+                results.addAll(
+                    StartupBenchmark.forked(
+                        StartupBenchmark.TEMPLATUARY,
+                        size,
+                        texts
+                    )
+                );
+            } finally {
+                Files.delete(words);
+                Files.delete(texts);
+            }
+        }
+        results.addAll(
+            StartupBenchmark.forked(
+                StartupBenchmark.RUSSIAN,
+                1,
+                Paths.get("")
+            )
+        );
+        final Path report = Paths.get(
+            System.getProperty("benchmark.report", "target/startup.json")
+        );
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        try (Writer writer =
+            Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            writer.write(
+                String.format(
+                    "{\"benchmark\":\"startup\",\"results\":[%n%s%n]}%n",
+                    Joiner.on(String.format(",%n")).join(results)
+                )
+            );
+        }
+        Logger.getLogger(this.getClass().getName()).info(
+            String.format(
+                "%d forks reported to %s",
+                results.size(),
+                report.toAbsolutePath()
+            )
+        );
+        MatcherAssert.assertThat(
+            results.size(),
+            CoreMatchers.equalTo(
+                (StartupBenchmark.SIZES.length * 2 + 1)
+                    * Integer.getInteger(
+                        "benchmark.forks",
+                        StartupBenchmark.FORKS
+                    )
+            )
+        );
+    }
+
+    /**
+     * Runs a scenario in a forked JVM. Prints time since the JVM started,
+     * bytes allocated by the main thread and number of loaded classes at the
+     * moment the first text is rendered.
+     * @param args Name of the scenario, number of lexemes or templates and
+     *  the file to load them from
+     * @throws Exception If could not render the first text
+     */
+    public static void main(final String... args) throws Exception {
+        final int size = Integer.parseInt(args[1]);
+        final Path source = Paths.get(args[2]);
+        final String text;
+        if (StartupBenchmark.VOCABULARY.equals(args[0])) {
+            text = StartupBenchmark.vocabulary(source, size);
+        } else if (StartupBenchmark.TEMPLATUARY.equals(args[0])) {
+            text = StartupBenchmark.templatuary(source, size);
+        } else {
+            text = StartupBenchmark.russian();
+        }
+        final long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        if (text.isEmpty()) {
+            throw new IllegalStateException("Rendered an empty text");
+        }
+        System.out.println(
+            String.format(
+                "%d %d %d",
+                uptime,
+                ((ThreadMXBean) ManagementFactory.getThreadMXBean())
+                    .getThreadAllocatedBytes(Thread.currentThread().getId()),
+                ManagementFactory.getClassLoadingMXBean().getLoadedClassCount()
+            )
+        );
+    }
+
+    /**
+     * Runs a scenario in fresh JVMs.
+     * @param scenario Name of the scenario
+     * @param size Number of lexemes or templates
+     * @param source File to load lexemes or templates from
+     * @return JSON object with the results of each fork
+     * @throws Exception If a forked JVM failed
+     */
+    private static List<String> forked(
+        final String scenario,
+        final int size,
+        final Path source
+    ) throws Exception {
+        final int forks =
+            Integer.getInteger("benchmark.forks", StartupBenchmark.FORKS);
+        final List<String> results = new ArrayList<>(forks);
+        for (int fork = 0; fork < forks; ++fork) {
+            final Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java")
+                    .toString(),
+                String.format(
+                    "-Xmx%s",
+                    System.getProperty("benchmark.heap", "2g")
+                ),
+                "-cp",
+                System.getProperty("java.class.path"),
+                StartupBenchmark.class.getName(),
+                scenario,
+                String.valueOf(size),
+                source.toString()
+            )
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+            final String output;
+            try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(
+                    process.getInputStream(),
+                    StandardCharsets.UTF_8
+                )
+            )) {
+                output = reader.readLine();
+            }
+            MatcherAssert.assertThat(
+                String.format("%s of %d failed", scenario, size),
+                process.waitFor(),
+                CoreMatchers.equalTo(0)
+            );
+            final String[] values = output.split(" ");
+            results.add(
+                String.format(
+                    "{%s,%s,\"fork\":%d,%s,%s,%s}",
+                    String.format("\"scenario\":\"%s\"", scenario),
+                    String.format("\"size\":%d", size),
+                    fork,
+                    String.format("\"first_render_ms\":%s", values[0]),
+                    String.format("\"allocated_bytes\":%s", values[1]),
+                    String.format("\"loaded_classes\":%s", values[2])
+                )
+            );
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Loads a vocabulary and renders a template with its last lexeme.
+     * @param source File with lexemes' markup
+     * @param size Number of lexemes in the file
+     * @return Rendered text
+     * @throws Exception If could not render the text
+     */
+    private static String vocabulary(final Path source, final int size)
+        throws Exception {
+        final Grammar grammar = new English().grammar();
+        final Vocabulary vocabulary = new ParsedVocabulary(
+            grammar,
+            ImmutableList.of(Files.newInputStream(source))
+        );
+        return new ParsedTemplatuary(
+            grammar,
+            ImmutableList.of(
+                IOUtils.toInputStream(
+                    Joiner.on('\n').join(
+                        "texts.first(who) {",
+                        "  [Who] meets [who][Plur].",
+                        "}"
+                    )
+                )
+            )
+        )
+            .template(new TnBasic(StartupBenchmark.FIRST))
+            .fillUp(
+                ImmutableList.of(
+                    vocabulary.lexeme(
+                        new ValidatedConcept(
+                            StartupBenchmark.identifier(size - 1)
+                                .toUpperCase(Locale.ENGLISH)
+                        )
+                    )
+                ),
+                vocabulary
+            );
+    }
+
+    /**
+     * Loads a templatuary and renders its last template.
+     * @param source File with templates' markup
+     * @param size Number of templates in the file
+     * @return Rendered text
+     * @throws Exception If could not render the text
+     */
+    private static String templatuary(final Path source, final int size)
+        throws Exception {
+        return new ParsedTemplatuary(
+            new English().grammar(),
+            ImmutableList.of(Files.newInputStream(source))
+        )
+            .template(
+                new TnBasic(
+                    String.format(
+                        "texts.%s",
+                        StartupBenchmark.identifier(size - 1)
+                    )
+                )
+            )
+            .fillUp(
+                ImmutableList.of(new SingleFormLexeme("bear")),
+                new BasicVocabulary(ImmutableMap.of())
+            );
+    }
+
+    /**
+     * Initializes Russian basic vocabulary and looks up a lexeme.
+     * @return Default spelling of the lexeme
+     * @throws Exception If could not find the lexeme
+     */
+    private static String russian() throws Exception {
+        return new RussianBasicVocabulary()
+            .lexeme(() -> "МЕСТОИМЕНИЕ")
+            .defaultSpelling()
+            .string();
+    }
+
+    /**
+     * Generates a file with nouns.
+     * @param size Number of nouns
+     * @return Path to the file
+     * @throws Exception If could not write the file
+     */
+    private static Path words(final int size) throws Exception {
+        final Path file = Files.createTempFile("startup", ".words");
+        try (Writer writer =
+            Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int index = 0; index < size; ++index) {
+                final String noun = StartupBenchmark.identifier(index);
+                writer.write(
+                    String.format(
+                        "%s (Noun) {\n    %s\n    %ss <Plur>\n}\n\n",
+                        noun.toUpperCase(Locale.ENGLISH),
+                        noun,
+                        noun
+                    )
+                );
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Generates a file with templates.
+     * @param size Number of templates
+     * @return Path to the file
+     * @throws Exception If could not write the file
+     */
+    private static Path texts(final int size) throws Exception {
+        final Path file = Files.createTempFile("startup", ".texts");
+        try (Writer writer =
+            Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int index = 0; index < size; ++index) {
+                writer.write(
+                    String.format(
+                        "texts.%s(who) {\n  [Who] meets number %d.\n}\n",
+                        StartupBenchmark.identifier(index),
+                        index
+                    )
+                );
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Generates a distinct identifier of lowercase letters for a number.
+     * @param number Number
+     * @return Identifier
+     */
+    private static String identifier(final int number) {
+        final StringBuilder builder = new StringBuilder("w");
+        int rest = number;
+        do {
+            builder.append(
+                (char) ('a' + rest % StartupBenchmark.LETTERS)
+            );
+            rest /= StartupBenchmark.LETTERS;
+        } while (rest > 0);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.antlr.parsed;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.nio.ByteBuffer;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.BasicVocabulary;
+import org.tendiwa.inflectible.Grammar;
+import org.tendiwa.inflectible.LxNumber;
+import org.tendiwa.inflectible.MultipartTemplate;
+import org.tendiwa.inflectible.SingleFormLexeme;
+import org.tendiwa.inflectible.TnBasic;
+import org.tendiwa.inflectible.ValidatedConcept;
+import org.tendiwa.inflectible.Vocabulary;
+import org.tendiwa.inflectible.compiled.CompiledTemplatuary;
+import org.tendiwa.inflectible.implementations.English;
+
+/**
+ * Unit tests for {@link TemplateCompiler}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class TemplateCompilerTest {
+    /**
+     * {@link TemplateCompiler} can compile templates that render the same
+     * text as the parsed ones.
+     * @throws Exception If fails
+     */
+    @Test
+    public void compilesPlaceholders() throws Exception {
+        final Grammar grammar = new English().grammar();
+        final Vocabulary vocabulary = new ParsedVocabulary(
+            grammar,
+            ImmutableList.of(
+                TemplateCompilerTest.class.getResourceAsStream(
+                    "characters.en_US.words"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            new CompiledTemplatuary(
+                grammar,
+                ByteBuffer.wrap(
+                    new TemplateCompiler(
+                        ImmutableList.of(
+                            IOUtils.toInputStream(
+                                Joiner.on('\n').join(
+                                    "texts.text(a,b) {",
+                                    "  [A] meets [b] [a]<#b> and [~a] owl.",
+                                    "}"
+                                )
+                            )
+                        )
+                    )
+                        .image()
+                        .bytes()
+                )
+            )
+                .template(new TnBasic("texts.text"))
+                .fillUp(
+                    ImmutableList.of(
+                        vocabulary.lexeme(new ValidatedConcept("BEAR")),
+                        new LxNumber(2L)
+                    ),
+                    new BasicVocabulary(ImmutableMap.of())
+                ),
+            CoreMatchers.equalTo("Bear meets 2 bears and an owl.")
+        );
+    }
+
+    /**
+     * {@link TemplateCompiler} can compile multipart templates and escaped
+     * text.
+     * @throws Exception If fails
+     */
+    @Test
+    public void compilesParts() throws Exception {
+        MatcherAssert.assertThat(
+            MultipartTemplate.class.cast(
+                new CompiledTemplatuary(
+                    new English().grammar(),
+                    ByteBuffer.wrap(
+                        new TemplateCompiler(
+                            ImmutableList.of(
+                                IOUtils.toInputStream(
+                                    Joiner.on('\n').join(
+                                        "texts.letter(who) subject {",
+                                        "  Hi",
+                                        "} body {",
+                                        "  Dear [Who] \\[sic]",
+                                        "}"
+                                    )
+                                )
+                            )
+                        )
+                            .image()
+                            .bytes()
+                    )
+                ).template(new TnBasic("texts.letter"))
+            )
+                .parts(
+                    ImmutableList.of(new SingleFormLexeme("bob")),
+                    new BasicVocabulary(ImmutableMap.of())
+                )
+                .part("body"),
+            CoreMatchers.equalTo("Dear Bob [sic]")
+        );
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.codegen;
+
+import com.google.common.collect.ImmutableList;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FacadeSource}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class FacadeSourceTest {
+    /**
+     * FacadeSource can generate a typed method for a template.
+     */
+    @Test
+    public void generatesTypedMethod() {
+        MatcherAssert.assertThat(
+            new FacadeSource(
+                "com.example",
+                "Texts",
+                ImmutableList.of(
+                    new TemplateSignature(
+                        "actions.bite",
+                        ImmutableList.of("subject", "object"),
+                        false
+                    )
+                )
+            ).java(),
+            CoreMatchers.containsString(
+                "public String actionsBite(final Concept subject, "
+                    + "final Concept object) throws Exception {"
+            )
+        );
+    }
+
+    /**
+     * FacadeSource can fail if two templates have the same method.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void failsOnClashingTemplates() {
+        new FacadeSource(
+            "com.example",
+            "Texts",
+            ImmutableList.of(
+                new TemplateSignature("log.hit", ImmutableList.of(), false),
+                new TemplateSignature("log_hit", ImmutableList.of(), false)
+            )
+        ).java();
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.codegen;
+
+import com.google.common.collect.ImmutableList;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TemplateSignature}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class TemplateSignatureTest {
+    /**
+     * TemplateSignature can name a facade method after a template.
+     */
+    @Test
+    public void namesMethodInCamelCase() {
+        MatcherAssert.assertThat(
+            new TemplateSignature(
+                "log.get_damage",
+                ImmutableList.of(),
+                false
+            ).method(),
+            CoreMatchers.equalTo("logGetDamage")
+        );
+    }
+
+    /**
+     * TemplateSignature can avoid Java keywords in parameters.
+     */
+    @Test
+    public void avoidsKeywords() {
+        MatcherAssert.assertThat(
+            new TemplateSignature(
+                "actions.use",
+                ImmutableList.of("subject", "new"),
+                false
+            ).parameters(),
+            CoreMatchers.equalTo(ImmutableList.of("subject", "new_"))
+        );
+    }
+}
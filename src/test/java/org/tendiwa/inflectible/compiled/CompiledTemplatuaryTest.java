@@ -0,0 +1,228 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.compiled;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.BasicLexeme;
+import org.tendiwa.inflectible.BasicVocabulary;
+import org.tendiwa.inflectible.GmEmpty;
+import org.tendiwa.inflectible.LxNumber;
+import org.tendiwa.inflectible.MultipartTemplate;
+import org.tendiwa.inflectible.SingleFormLexeme;
+import org.tendiwa.inflectible.TnBasic;
+import org.tendiwa.inflectible.ValidatedConcept;
+import org.tendiwa.inflectible.Vocabulary;
+import org.tendiwa.inflectible.implementations.English;
+import org.tendiwa.inflectible.implementations.EnglishGrammeme;
+
+/**
+ * Unit tests for {@link CompiledTemplatuary}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class CompiledTemplatuaryTest {
+    /**
+     * {@link CompiledTemplatuary} can fill up templates with arguments.
+     * @throws Exception If fails
+     */
+    @Test
+    public void fillsUpArguments() throws Exception {
+        MatcherAssert.assertThat(
+            new CompiledTemplatuary(
+                new English().grammar(),
+                ByteBuffer.wrap(
+                    new TemplateImage()
+                        .template("texts.greeting", ImmutableList.of("who"))
+                        .text("Hello, ")
+                        .argument(
+                            "who",
+                            true,
+                            ImmutableList.of(),
+                            Optional.empty(),
+                            Optional.empty()
+                        )
+                        .text("!")
+                        .bytes()
+                )
+            )
+                .template(new TnBasic("texts.greeting"))
+                .fillUp(
+                    ImmutableList.of(new SingleFormLexeme("world")),
+                    new BasicVocabulary(ImmutableMap.of())
+                ),
+            CoreMatchers.equalTo("Hello, World!")
+        );
+    }
+
+    /**
+     * {@link CompiledTemplatuary} can take lexemes from a vocabulary and make
+     * them agree with numbers.
+     * @throws Exception If fails
+     */
+    @Test
+    public void agreesWithNumbers() throws Exception {
+        final Vocabulary vocabulary = new BasicVocabulary(
+            ImmutableMap.of(
+                new ValidatedConcept("BEAR"),
+                new BasicLexeme(
+                    new GmEmpty(),
+                    ImmutableMap.of(
+                        new GmEmpty(),
+                        () -> "bear",
+                        () -> ImmutableSet.of(EnglishGrammeme.Plur),
+                        () -> "bears"
+                    )
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            new CompiledTemplatuary(
+                new English().grammar(),
+                ByteBuffer.wrap(
+                    new TemplateImage()
+                        .template("texts.bears", ImmutableList.of("count"))
+                        .argument(
+                            "count",
+                            false,
+                            ImmutableList.of(),
+                            Optional.empty(),
+                            Optional.empty()
+                        )
+                        .text(" ")
+                        .lexeme(
+                            "BEAR",
+                            true,
+                            ImmutableList.of(),
+                            Optional.empty(),
+                            Optional.of("count")
+                        )
+                        .bytes()
+                )
+            )
+                .template(new TnBasic("texts.bears"))
+                .fillUp(ImmutableList.of(new LxNumber(2L)), vocabulary),
+            CoreMatchers.equalTo("2 Bears")
+        );
+    }
+
+    /**
+     * {@link CompiledTemplatuary} can make words agree phonetically with the
+     * following word.
+     * @throws Exception If fails
+     */
+    @Test
+    public void agreesPhonetically() throws Exception {
+        MatcherAssert.assertThat(
+            new CompiledTemplatuary(
+                new English().grammar(),
+                ByteBuffer.wrap(
+                    new TemplateImage()
+                        .template("texts.elf", ImmutableList.of("a"))
+                        .phonetic("A")
+                        .text(" ")
+                        .argument(
+                            "a",
+                            false,
+                            ImmutableList.of(),
+                            Optional.empty(),
+                            Optional.empty()
+                        )
+                        .text(" and ")
+                        .phonetic("a")
+                        .text(" owl.")
+                        .bytes()
+                )
+            )
+                .template(new TnBasic("texts.elf"))
+                .fillUp(
+                    ImmutableList.of(new SingleFormLexeme("elf")),
+                    new BasicVocabulary(ImmutableMap.of())
+                ),
+            CoreMatchers.equalTo("An elf and an owl.")
+        );
+    }
+
+    /**
+     * {@link CompiledTemplatuary} can load multipart templates from a file.
+     * @throws Exception If fails
+     */
+    @Test
+    public void loadsMultipartTemplatesFromFile() throws Exception {
+        final Path file = Files.createTempFile("templates", ".bin");
+        try {
+            new TemplateImage()
+                .template("texts.letter", ImmutableList.of("who"))
+                .part("subject")
+                .text("Hi")
+                .part("body")
+                .text("Dear ")
+                .argument(
+                    "who",
+                    true,
+                    ImmutableList.of(),
+                    Optional.empty(),
+                    Optional.empty()
+                )
+                .save(file);
+            MatcherAssert.assertThat(
+                ((MultipartTemplate) new CompiledTemplatuary(
+                    new English().grammar(),
+                    file
+                )
+                    .template(new TnBasic("texts.letter")))
+                    .parts(
+                        ImmutableList.of(new SingleFormLexeme("bob")),
+                        new BasicVocabulary(ImmutableMap.of())
+                    )
+                    .part("body"),
+                CoreMatchers.equalTo("Dear Bob")
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * {@link CompiledTemplatuary} can't be loaded from something that is
+     * not an image of compiled templates.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsForeignBuffers() throws Exception {
+        new CompiledTemplatuary(
+            new English().grammar(),
+            ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8})
+        );
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.compiled;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SourceCache}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class SourceCacheTest {
+    /**
+     * {@link SourceCache} can reuse an image compiled from the same source.
+     * @throws Exception If fails
+     */
+    @Test
+    public void reusesCompiledImages() throws Exception {
+        final Path source = SourceCacheTest.source("dragon");
+        final Path directory = Files.createTempDirectory("cache");
+        final AtomicInteger compilations = new AtomicInteger();
+        final SourceCompiler compiler = SourceCacheTest.counting(compilations);
+        new SourceCache(directory, "1").compiled(source, compiler);
+        MatcherAssert.assertThat(
+            SourceCacheTest.string(
+                new SourceCache(directory, "1").compiled(source, compiler)
+            ),
+            CoreMatchers.equalTo("DRAGON")
+        );
+        MatcherAssert.assertThat(
+            compilations.get(),
+            CoreMatchers.equalTo(1)
+        );
+    }
+
+    /**
+     * {@link SourceCache} can compile a source again after it changes, or
+     * after the version of images changes.
+     * @throws Exception If fails
+     */
+    @Test
+    public void recompilesChangedSources() throws Exception {
+        final Path source = SourceCacheTest.source("dragon");
+        final Path directory = Files.createTempDirectory("cache");
+        final AtomicInteger compilations = new AtomicInteger();
+        final SourceCompiler compiler = SourceCacheTest.counting(compilations);
+        new SourceCache(directory, "1").compiled(source, compiler);
+        new SourceCache(directory, "2").compiled(source, compiler);
+        Files.write(source, "bear".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            SourceCacheTest.string(
+                new SourceCache(directory, "2").compiled(source, compiler)
+            ),
+            CoreMatchers.equalTo("BEAR")
+        );
+        MatcherAssert.assertThat(
+            compilations.get(),
+            CoreMatchers.equalTo(2 + 1)
+        );
+    }
+
+    /**
+     * {@link SourceCache} can compile a source again if its entry is
+     * corrupt.
+     * @throws Exception If fails
+     */
+    @Test
+    public void rebuildsCorruptEntries() throws Exception {
+        final Path source = SourceCacheTest.source("dragon");
+        final Path directory = Files.createTempDirectory("cache");
+        final AtomicInteger compilations = new AtomicInteger();
+        final SourceCompiler compiler = SourceCacheTest.counting(compilations);
+        new SourceCache(directory, "1").compiled(source, compiler);
+        try (DirectoryStream<Path> entries =
+            Files.newDirectoryStream(directory)) {
+            for (final Path entry : entries) {
+                final byte[] bytes = Files.readAllBytes(entry);
+                bytes[bytes.length - 1] = (byte) '?';
+                Files.write(entry, bytes);
+            }
+        }
+        MatcherAssert.assertThat(
+            SourceCacheTest.string(
+                new SourceCache(directory, "1").compiled(source, compiler)
+            ),
+            CoreMatchers.equalTo("DRAGON")
+        );
+        MatcherAssert.assertThat(
+            compilations.get(),
+            CoreMatchers.equalTo(2)
+        );
+    }
+
+    /**
+     * {@link SourceCache} can compile a source if its directory can't be
+     * written to.
+     * @throws Exception If fails
+     */
+    @Test
+    public void compilesWithoutWritableDirectory() throws Exception {
+        final Path source = SourceCacheTest.source("dragon");
+        final Path directory = Files.createTempFile("cache", ".file");
+        final AtomicInteger compilations = new AtomicInteger();
+        final SourceCompiler compiler = SourceCacheTest.counting(compilations);
+        new SourceCache(directory, "1").compiled(source, compiler);
+        MatcherAssert.assertThat(
+            SourceCacheTest.string(
+                new SourceCache(directory, "1").compiled(source, compiler)
+            ),
+            CoreMatchers.equalTo("DRAGON")
+        );
+        MatcherAssert.assertThat(
+            compilations.get(),
+            CoreMatchers.equalTo(2)
+        );
+    }
+
+    /**
+     * Creates a source file.
+     * @param content Content of the file
+     * @return Path to the file
+     * @throws Exception If fails
+     */
+    private static Path source(final String content) throws Exception {
+        final Path file = Files.createTempFile("source", ".texts");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Creates a compiler that converts sources to upper case and counts
+     * its invocations.
+     * @param counter Counter of invocations
+     * @return Compiler
+     */
+    private static SourceCompiler counting(final AtomicInteger counter) {
+        return source -> {
+            counter.incrementAndGet();
+            return ByteBuffer.wrap(
+                new String(source, StandardCharsets.UTF_8)
+                    .toUpperCase(Locale.ENGLISH)
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+        };
+    }
+
+    /**
+     * Decodes an image as a string.
+     * @param image Image
+     * @return Decoded string
+     */
+    private static String string(final ByteBuffer image) {
+        return StandardCharsets.UTF_8.decode(image).toString();
+    }
+}
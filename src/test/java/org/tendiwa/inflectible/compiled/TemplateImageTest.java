@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.compiled;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Optional;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TemplateImage}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class TemplateImageTest {
+    /**
+     * {@link TemplateImage} can store each constant string only once.
+     */
+    @Test
+    public void poolsConstantStrings() {
+        MatcherAssert.assertThat(
+            new TemplateImage()
+                .template("texts.one", ImmutableList.of())
+                .text("Lorem ipsum dolor sit amet")
+                .template("texts.two", ImmutableList.of())
+                .text("Lorem ipsum dolor sit amet")
+                .bytes()
+                .length,
+            CoreMatchers.equalTo(
+                new TemplateImage()
+                    .template("texts.one", ImmutableList.of())
+                    .text("Lorem ipsum dolor sit amet")
+                    .template("texts.two", ImmutableList.of())
+                    .bytes()
+                    .length + Byte.BYTES + Integer.BYTES
+            )
+        );
+    }
+
+    /**
+     * {@link TemplateImage} can't refer to arguments that the template
+     * doesn't declare.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUndeclaredArguments() {
+        new TemplateImage()
+            .template("texts.text", ImmutableList.of("a"))
+            .argument(
+                "b",
+                false,
+                ImmutableList.of(),
+                Optional.empty(),
+                Optional.empty()
+            );
+    }
+
+    /**
+     * {@link TemplateImage} can't add template body before a template.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void rejectsBodyWithoutTemplate() {
+        new TemplateImage().text("orphan");
+    }
+}
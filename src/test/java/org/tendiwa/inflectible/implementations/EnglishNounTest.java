@@ -0,0 +1,122 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableSet;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.GmEmpty;
+import org.tendiwa.inflectible.SpBasic;
+
+/**
+ * Unit tests for {@link EnglishNoun}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class EnglishNounTest {
+    /**
+     * {@link EnglishNoun} can produce regular plural forms.
+     * @throws Exception If fails
+     */
+    @Test
+    public void producesRegularPlurals() throws Exception {
+        MatcherAssert.assertThat(
+            EnglishNounTest.plural("bear"),
+            CoreMatchers.equalTo("bears")
+        );
+        MatcherAssert.assertThat(
+            EnglishNounTest.plural("box"),
+            CoreMatchers.equalTo("boxes")
+        );
+        MatcherAssert.assertThat(
+            EnglishNounTest.plural("fly"),
+            CoreMatchers.equalTo("flies")
+        );
+        MatcherAssert.assertThat(
+            EnglishNounTest.plural("day"),
+            CoreMatchers.equalTo("days")
+        );
+    }
+
+    /**
+     * {@link EnglishNoun} can produce irregular plural forms.
+     * @throws Exception If fails
+     */
+    @Test
+    public void producesIrregularPlurals() throws Exception {
+        MatcherAssert.assertThat(
+            EnglishNounTest.plural("man"),
+            CoreMatchers.equalTo("men")
+        );
+        MatcherAssert.assertThat(
+            EnglishNounTest.plural("sheep"),
+            CoreMatchers.equalTo("sheep")
+        );
+    }
+
+    /**
+     * {@link EnglishNoun} can leave singular forms as they are.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsSingular() throws Exception {
+        MatcherAssert.assertThat(
+            new EnglishNoun(new SpBasic("dad"), new GmEmpty())
+                .wordForm(() -> ImmutableSet.of(EnglishGrammeme.Sing))
+                .string(),
+            CoreMatchers.equalTo("dad")
+        );
+    }
+
+    /**
+     * {@link EnglishNoun} can leave plural-only nouns uninflected.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsPluraliaTantum() throws Exception {
+        MatcherAssert.assertThat(
+            new EnglishNoun(
+                new SpBasic("scissors"),
+                () -> ImmutableSet.of(EnglishGrammeme.Plur)
+            )
+                .wordForm(() -> ImmutableSet.of(EnglishGrammeme.Plur))
+                .string(),
+            CoreMatchers.equalTo("scissors")
+        );
+    }
+
+    /**
+     * Produces the plural form of a noun.
+     * @param singular Singular form
+     * @return Plural form
+     * @throws Exception If fails
+     */
+    private static String plural(final String singular) throws Exception {
+        return new EnglishNoun(new SpBasic(singular), new GmEmpty())
+            .wordForm(() -> ImmutableSet.of(EnglishGrammeme.Plur))
+            .string();
+    }
+}
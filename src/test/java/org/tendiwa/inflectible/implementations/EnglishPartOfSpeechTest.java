@@ -23,9 +23,14 @@
  */
 package org.tendiwa.inflectible.implementations;
 
+import com.google.common.collect.ImmutableSet;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.tendiwa.inflectible.GmEmpty;
 import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.SpBasic;
 import org.tendiwa.inflectible.Spelling;
 
 /**
@@ -36,26 +41,43 @@ import org.tendiwa.inflectible.Spelling;
  */
 public final class EnglishPartOfSpeechTest {
     /**
-     * {@link EnglishPartOfSpeech#Noun} can not do anything sensible yet.
+     * {@link EnglishPartOfSpeech} can generate spellings for English nouns.
      * @throws Exception If fails
      */
-    @Test(expected = UnsupportedOperationException.class)
-    public void nounUnsupported() throws Exception {
-        EnglishPartOfSpeech.Noun.lexeme(
-            Mockito.mock(Spelling.class),
-            Mockito.mock(GrammaticalMeaning.class)
+    @Test
+    public void canGenerateNouns() throws Exception {
+        MatcherAssert.assertThat(
+            EnglishPartOfSpeech.Noun.lexeme(new SpBasic("wolf"), new GmEmpty())
+                .wordForm(() -> ImmutableSet.of(EnglishGrammeme.Plur))
+                .string(),
+            CoreMatchers.equalTo("wolves")
         );
     }
 
     /**
-     * {@link EnglishPartOfSpeech#Verb} can not do anything sensible yet.
+     * {@link EnglishPartOfSpeech} can generate spellings for English verbs.
      * @throws Exception If fails
      */
-    @Test(expected = UnsupportedOperationException.class)
-    public void verbUnsupported() throws Exception {
-        EnglishPartOfSpeech.Verb.lexeme(
-            Mockito.mock(Spelling.class),
-            Mockito.mock(GrammaticalMeaning.class)
+    @Test
+    public void canGenerateVerbs() throws Exception {
+        MatcherAssert.assertThat(
+            EnglishPartOfSpeech.Verb.lexeme(new SpBasic("bite"), new GmEmpty())
+                .wordForm(() -> ImmutableSet.of(EnglishGrammeme.III))
+                .string(),
+            CoreMatchers.equalTo("bites")
+        );
+    }
+
+    /**
+     * {@link EnglishPartOfSpeech#Verb} can list its finite and non-finite
+     * forms.
+     * @throws Exception If fails
+     */
+    @Test
+    public void listsVerbMeanings() throws Exception {
+        MatcherAssert.assertThat(
+            EnglishPartOfSpeech.Verb.meaningVariations().size(),
+            CoreMatchers.is(10)
         );
     }
 
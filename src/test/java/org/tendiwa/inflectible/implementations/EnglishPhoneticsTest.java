@@ -0,0 +1,70 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link EnglishPhonetics}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class EnglishPhoneticsTest {
+    /**
+     * {@link EnglishPhonetics} can choose "an" before vowel sounds.
+     * @throws Exception If fails
+     */
+    @Test
+    public void choosesAnBeforeVowelSounds() throws Exception {
+        final EnglishPhonetics phonetics = new EnglishPhonetics();
+        MatcherAssert.assertThat(
+            phonetics.variant("a", phonetics.phoneticClass("hour")),
+            CoreMatchers.is("an")
+        );
+        MatcherAssert.assertThat(
+            phonetics.variant("a", phonetics.phoneticClass("apple")),
+            CoreMatchers.is("an")
+        );
+    }
+
+    /**
+     * {@link EnglishPhonetics} can keep "a" before consonant sounds.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsABeforeConsonantSounds() throws Exception {
+        final EnglishPhonetics phonetics = new EnglishPhonetics();
+        MatcherAssert.assertThat(
+            phonetics.variant("a", phonetics.phoneticClass("unicorn")),
+            CoreMatchers.is("a")
+        );
+        MatcherAssert.assertThat(
+            phonetics.variant("a", phonetics.phoneticClass("horse")),
+            CoreMatchers.is("a")
+        );
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableSet;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.GmEmpty;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.SpBasic;
+
+/**
+ * Unit tests for {@link EnglishVerb}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class EnglishVerbTest {
+    /**
+     * {@link EnglishVerb} can produce third person singular forms.
+     * @throws Exception If fails
+     */
+    @Test
+    public void producesThirdPersonSingular() throws Exception {
+        MatcherAssert.assertThat(
+            EnglishVerbTest.form("claw", EnglishGrammeme.III),
+            CoreMatchers.equalTo("claws")
+        );
+        MatcherAssert.assertThat(
+            EnglishVerbTest.form("catch", EnglishGrammeme.III),
+            CoreMatchers.equalTo("catches")
+        );
+        MatcherAssert.assertThat(
+            EnglishVerbTest.form("go", EnglishGrammeme.III),
+            CoreMatchers.equalTo("goes")
+        );
+        MatcherAssert.assertThat(
+            EnglishVerbTest.form(
+                "claw",
+                EnglishGrammeme.III,
+                EnglishGrammeme.Plur
+            ),
+            CoreMatchers.equalTo("claw")
+        );
+    }
+
+    /**
+     * {@link EnglishVerb} can produce regular and irregular past forms.
+     * @throws Exception If fails
+     */
+    @Test
+    public void producesPast() throws Exception {
+        MatcherAssert.assertThat(
+            EnglishVerbTest.form("stop", EnglishGrammeme.Past),
+            CoreMatchers.equalTo("stopped")
+        );
+        MatcherAssert.assertThat(
+            EnglishVerbTest.form("try", EnglishGrammeme.Past),
+            CoreMatchers.equalTo("tried")
+        );
+        MatcherAssert.assertThat(
+            EnglishVerbTest.form("bite", EnglishGrammeme.Past),
+            CoreMatchers.equalTo("bit")
+        );
+    }
+
+    /**
+     * {@link EnglishVerb} can produce gerunds.
+     * @throws Exception If fails
+     */
+    @Test
+    public void producesGerund() throws Exception {
+        MatcherAssert.assertThat(
+            EnglishVerbTest.form("bite", EnglishGrammeme.Ger),
+            CoreMatchers.equalTo("biting")
+        );
+        MatcherAssert.assertThat(
+            EnglishVerbTest.form("swim", EnglishGrammeme.Ger),
+            CoreMatchers.equalTo("swimming")
+        );
+        MatcherAssert.assertThat(
+            EnglishVerbTest.form("die", EnglishGrammeme.Ger),
+            CoreMatchers.equalTo("dying")
+        );
+    }
+
+    /**
+     * {@link EnglishVerb} can use the infinitive when no other form fits.
+     * @throws Exception If fails
+     */
+    @Test
+    public void usesInfinitive() throws Exception {
+        MatcherAssert.assertThat(
+            EnglishVerbTest.form("visit", EnglishGrammeme.I),
+            CoreMatchers.equalTo("visit")
+        );
+    }
+
+    /**
+     * Produces a form of a verb.
+     * @param infinitive Infinitive
+     * @param grammemes Grammemes of the form
+     * @return Form of the verb
+     * @throws Exception If fails
+     */
+    private static String form(
+        final String infinitive,
+        final Grammeme... grammemes
+    ) throws Exception {
+        return new EnglishVerb(new SpBasic(infinitive), new GmEmpty())
+            .wordForm(() -> ImmutableSet.copyOf(grammemes))
+            .string();
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link GmOfRussianAdjective}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class GmOfRussianAdjectiveTest {
+    /**
+     * {@link GmOfRussianAdjective} can be checked for equality against
+     * instances of its class.
+     * @throws Exception If fails
+     */
+    @Test
+    public void obeysEqualsContract() throws Exception {
+        EqualsVerifier.forClass(GmOfRussianAdjective.class)
+            .suppress(Warning.TRANSIENT_FIELDS)
+            .verify();
+    }
+
+    /**
+     * {@link GmOfRussianAdjective} can add singular number to a gender.
+     * @throws Exception If fails
+     */
+    @Test
+    public void addsSingularToGender() throws Exception {
+        MatcherAssert.assertThat(
+            new GmOfRussianAdjective(RussianGrammeme.Жен, RussianGrammeme.Д)
+                .grammemes(),
+            Matchers.contains(
+                RussianGrammeme.Жен,
+                RussianGrammeme.Ед,
+                RussianGrammeme.Д
+            )
+        );
+    }
+
+    /**
+     * {@link GmOfRussianAdjective} can omit gender in plural.
+     * @throws Exception If fails
+     */
+    @Test
+    public void omitsGenderInPlural() throws Exception {
+        MatcherAssert.assertThat(
+            new GmOfRussianAdjective(RussianGrammeme.Мн, RussianGrammeme.Т)
+                .grammemes(),
+            Matchers.contains(RussianGrammeme.Мн, RussianGrammeme.Т)
+        );
+    }
+}
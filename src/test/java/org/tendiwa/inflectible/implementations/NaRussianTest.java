@@ -0,0 +1,112 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableSet;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.tendiwa.inflectible.GmEmpty;
+
+/**
+ * Unit tests for {@link NaRussian}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class NaRussianTest {
+    /**
+     * {@link NaRussian} can make a noun singular after numbers ending with
+     * one.
+     * @throws Exception If fails
+     */
+    @Test
+    public void takesSingularAfterOne() throws Exception {
+        MatcherAssert.assertThat(
+            new NaRussian().meaning(1_000_021L, new GmEmpty()).grammemes(),
+            Matchers.containsInAnyOrder(RussianGrammeme.Ед, RussianGrammeme.И)
+        );
+    }
+
+    /**
+     * {@link NaRussian} can make a noun genitive singular after numbers
+     * ending with two, three and four.
+     * @throws Exception If fails
+     */
+    @Test
+    public void takesGenitiveSingularAfterFew() throws Exception {
+        MatcherAssert.assertThat(
+            new NaRussian().meaning(
+                -34L,
+                () -> ImmutableSet.of(RussianGrammeme.В)
+            )
+                .grammemes(),
+            Matchers.containsInAnyOrder(RussianGrammeme.Ед, RussianGrammeme.Р)
+        );
+    }
+
+    /**
+     * {@link NaRussian} can make a noun genitive plural after numbers from
+     * eleven to fourteen.
+     * @throws Exception If fails
+     */
+    @Test
+    public void takesGenitivePluralAfterTeens() throws Exception {
+        MatcherAssert.assertThat(
+            new NaRussian().meaning(112L, new GmEmpty()).grammemes(),
+            Matchers.containsInAnyOrder(RussianGrammeme.Мн, RussianGrammeme.Р)
+        );
+    }
+
+    /**
+     * {@link NaRussian} can make a noun plural in the case of the phrase in
+     * oblique cases.
+     * @throws Exception If fails
+     */
+    @Test
+    public void takesCaseOfObliquePhrase() throws Exception {
+        MatcherAssert.assertThat(
+            new NaRussian().meaning(
+                2L,
+                () -> ImmutableSet.of(RussianGrammeme.Т)
+            )
+                .grammemes(),
+            Matchers.containsInAnyOrder(RussianGrammeme.Мн, RussianGrammeme.Т)
+        );
+    }
+
+    /**
+     * {@link NaRussian} can return the same meaning for numbers with the
+     * same last two digits.
+     * @throws Exception If fails
+     */
+    @Test
+    public void reusesMeanings() throws Exception {
+        final NaRussian agreement = new NaRussian();
+        MatcherAssert.assertThat(
+            agreement.meaning(5L, new GmEmpty()),
+            Matchers.sameInstance(agreement.meaning(1_005L, new GmEmpty()))
+        );
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableSet;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.SpBasic;
+
+/**
+ * Unit tests for {@link RussianAdjective}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class RussianAdjectiveTest {
+    /**
+     * {@link RussianAdjective} can produce forms of adjectives with a hard
+     * stem.
+     * @throws Exception If fails
+     */
+    @Test
+    public void producesFormKrasny() throws Exception {
+        MatcherAssert.assertThat(
+            new RussianAdjective(new SpBasic("красный"), ImmutableSet::of)
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Муж,
+                        RussianGrammeme.Р
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("красного")
+        );
+    }
+
+    /**
+     * {@link RussianAdjective} can produce forms of adjectives with a
+     * stressed ending.
+     * @throws Exception If fails
+     */
+    @Test
+    public void producesFormMolodoy() throws Exception {
+        MatcherAssert.assertThat(
+            new RussianAdjective(new SpBasic("молодой"), ImmutableSet::of)
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Мн,
+                        RussianGrammeme.Д
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("молодым")
+        );
+    }
+
+    /**
+     * {@link RussianAdjective} can produce forms of adjectives with a mixed
+     * stem.
+     * @throws Exception If fails
+     */
+    @Test
+    public void producesMixedForms() throws Exception {
+        MatcherAssert.assertThat(
+            new RussianAdjective(new SpBasic("великий"), ImmutableSet::of)
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Средн,
+                        RussianGrammeme.И
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("великое")
+        );
+        MatcherAssert.assertThat(
+            new RussianAdjective(new SpBasic("большой"), ImmutableSet::of)
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Мн,
+                        RussianGrammeme.И
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("большие")
+        );
+    }
+
+    /**
+     * {@link RussianAdjective} can use its persistent grammemes when the
+     * target meaning has no gender.
+     * @throws Exception If fails
+     */
+    @Test
+    public void usesPersistentGender() throws Exception {
+        MatcherAssert.assertThat(
+            new RussianAdjective(
+                new SpBasic("свежий"),
+                () -> ImmutableSet.of(RussianGrammeme.Жен)
+            )
+                .wordForm(() -> ImmutableSet.of(RussianGrammeme.Т))
+                .string(),
+            CoreMatchers.equalTo("свежей")
+        );
+    }
+
+    /**
+     * {@link RussianAdjective} can refuse headwords without an adjective
+     * ending.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesUnknownEnding() throws Exception {
+        new RussianAdjective(new SpBasic("кофе"), ImmutableSet::of)
+            .wordForm(() -> ImmutableSet.of(RussianGrammeme.Р));
+    }
+}
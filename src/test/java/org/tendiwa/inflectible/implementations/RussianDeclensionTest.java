@@ -0,0 +1,96 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableSet;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RussianDeclension}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class RussianDeclensionTest {
+    /**
+     * {@link RussianDeclension} can look an ending up by a grammatical
+     * meaning.
+     * @throws Exception If fails
+     */
+    @Test
+    public void findsEndingByMeaning() throws Exception {
+        MatcherAssert.assertThat(
+            RussianDeclension.МамаПапа.ending(
+                () -> ImmutableSet.of(RussianGrammeme.Мн, RussianGrammeme.Т)
+            ),
+            CoreMatchers.equalTo("ами")
+        );
+    }
+
+    /**
+     * {@link RussianDeclension} can look an ending up by indices of
+     * grammemes.
+     * @throws Exception If fails
+     */
+    @Test
+    public void findsEndingByIndices() throws Exception {
+        MatcherAssert.assertThat(
+            RussianDeclension.МамаПапа.ending(
+                RussianGrammeme.Ед.index(),
+                RussianGrammeme.И.index()
+            ),
+            CoreMatchers.equalTo("а")
+        );
+    }
+
+    /**
+     * {@link RussianDeclension} can use default grammemes for a meaning
+     * without number and case.
+     * @throws Exception If fails
+     */
+    @Test
+    public void usesDefaultGrammemes() throws Exception {
+        MatcherAssert.assertThat(
+            RussianDeclension.МамаПапа.ending(ImmutableSet::of),
+            CoreMatchers.equalTo("а")
+        );
+    }
+
+    /**
+     * {@link RussianDeclension} can give empty endings to non-inflected
+     * words.
+     * @throws Exception If fails
+     */
+    @Test
+    public void doesNotInflectNonInflectedWords() throws Exception {
+        MatcherAssert.assertThat(
+            RussianDeclension.Кофе.ending(
+                () -> ImmutableSet.of(RussianGrammeme.Мн, RussianGrammeme.Р)
+            ),
+            CoreMatchers.equalTo("")
+        );
+    }
+}
@@ -46,4 +46,19 @@ public final class RussianGrammemeTest {
         );
     }
 
+    /**
+     * {@link RussianGrammeme} can tell its position within its category.
+     * @throws Exception If fails
+     */
+    @Test
+    public void hasIndexWithinCategory() throws Exception {
+        MatcherAssert.assertThat(
+            RussianGrammeme.Мн.index(),
+            CoreMatchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            RussianGrammeme.П.index(),
+            CoreMatchers.is(5)
+        );
+    }
 }
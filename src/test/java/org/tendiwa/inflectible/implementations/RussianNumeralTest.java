@@ -0,0 +1,94 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableSet;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RussianNumeral}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class RussianNumeralTest {
+    /**
+     * {@link RussianNumeral} can spell out a compound number.
+     * @throws Exception If fails
+     */
+    @Test
+    public void spellsOutCompoundNumber() throws Exception {
+        MatcherAssert.assertThat(
+            new RussianNumeral(1_000_021L).defaultSpelling().string(),
+            CoreMatchers.is("миллион двадцать один")
+        );
+    }
+
+    /**
+     * {@link RussianNumeral} can inflect all its words and make the word for
+     * thousands agree with its count.
+     * @throws Exception If fails
+     */
+    @Test
+    public void inflectsInObliqueCase() throws Exception {
+        MatcherAssert.assertThat(
+            new RussianNumeral(2_500L)
+                .wordForm(() -> ImmutableSet.of(RussianGrammeme.Р))
+                .string(),
+            CoreMatchers.is("двух тысяч пятисот")
+        );
+    }
+
+    /**
+     * {@link RussianNumeral} can take the gender of the counted noun.
+     * @throws Exception If fails
+     */
+    @Test
+    public void takesGender() throws Exception {
+        MatcherAssert.assertThat(
+            new RussianNumeral(52_002L)
+                .wordForm(() -> ImmutableSet.of(RussianGrammeme.Жен))
+                .string(),
+            CoreMatchers.is("пятьдесят две тысячи две")
+        );
+    }
+
+    /**
+     * {@link RussianNumeral} can spell out zero and negative numbers.
+     * @throws Exception If fails
+     */
+    @Test
+    public void spellsOutZeroAndNegatives() throws Exception {
+        MatcherAssert.assertThat(
+            new RussianNumeral(-13L).defaultSpelling().string(),
+            CoreMatchers.is("минус тринадцать")
+        );
+        MatcherAssert.assertThat(
+            new RussianNumeral(0L).defaultSpelling().string(),
+            CoreMatchers.is("ноль")
+        );
+    }
+}
@@ -79,26 +79,68 @@ public final class RussianPartOfSpeechTest {
     }
 
     /**
-     * {@link RussianPartOfSpeech#Глаг} can not do anything sensible yet.
+     * {@link RussianPartOfSpeech} can generate spellings for Russian verbs.
      * @throws Exception If fails
      */
-    @Test(expected = UnsupportedOperationException.class)
-    public void verbUnsupported() throws Exception {
-        RussianPartOfSpeech.Глаг.lexeme(
-            Mockito.mock(Spelling.class),
-            Mockito.mock(GrammaticalMeaning.class)
+    @Test
+    public void canGenerateVerbs() throws Exception {
+        MatcherAssert.assertThat(
+            RussianPartOfSpeech.Глаг.lexeme(
+                new SpBasic("кусать"),
+                ImmutableSet::of
+            )
+                .wordForm(() -> ImmutableSet.of(RussianGrammeme.III))
+                .string(),
+            CoreMatchers.equalTo("кусает")
         );
     }
 
     /**
-     * {@link RussianPartOfSpeech#Прил} can not do anything sensible yet.
+     * {@link RussianPartOfSpeech#Глаг} can list infinitive, present and
+     * past forms.
      * @throws Exception If fails
      */
-    @Test(expected = UnsupportedOperationException.class)
-    public void adjectiveUnsupported() throws Exception {
-        RussianPartOfSpeech.Прил.lexeme(
-            Mockito.mock(Spelling.class),
-            Mockito.mock(GrammaticalMeaning.class)
+    @Test
+    public void listsVerbMeanings() throws Exception {
+        MatcherAssert.assertThat(
+            RussianPartOfSpeech.Глаг.meaningVariations().size(),
+            CoreMatchers.is(11)
+        );
+    }
+
+    /**
+     * {@link RussianPartOfSpeech} can generate spellings for Russian
+     * adjectives.
+     * @throws Exception If fails
+     */
+    @Test
+    public void canGenerateAdjectives() throws Exception {
+        MatcherAssert.assertThat(
+            RussianPartOfSpeech.Прил.lexeme(
+                new SpBasic("синий"),
+                ImmutableSet::of
+            )
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Жен,
+                        RussianGrammeme.В
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("синюю")
+        );
+    }
+
+    /**
+     * {@link RussianPartOfSpeech#Прил} can list a form for each gender of
+     * singular and for plural in each case.
+     * @throws Exception If fails
+     */
+    @Test
+    public void listsAdjectiveMeanings() throws Exception {
+        MatcherAssert.assertThat(
+            RussianPartOfSpeech.Прил.meaningVariations().size(),
+            CoreMatchers.is(24)
         );
     }
 
@@ -0,0 +1,118 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RussianPhonetics}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class RussianPhoneticsTest {
+    /**
+     * {@link RussianPhonetics} can choose "об" before vowels.
+     * @throws Exception If fails
+     */
+    @Test
+    public void choosesObBeforeVowels() throws Exception {
+        final RussianPhonetics phonetics = new RussianPhonetics();
+        MatcherAssert.assertThat(
+            phonetics.variant("о", phonetics.phoneticClass("Окне")),
+            CoreMatchers.is("об")
+        );
+        MatcherAssert.assertThat(
+            phonetics.variant("о", phonetics.phoneticClass("ёлке")),
+            CoreMatchers.is("о")
+        );
+    }
+
+    /**
+     * {@link RussianPhonetics} can choose "со" before consonant clusters.
+     * @throws Exception If fails
+     */
+    @Test
+    public void choosesSoBeforeClusters() throws Exception {
+        final RussianPhonetics phonetics = new RussianPhonetics();
+        MatcherAssert.assertThat(
+            phonetics.variant("С", phonetics.phoneticClass("стола")),
+            CoreMatchers.is("Со")
+        );
+        MatcherAssert.assertThat(
+            phonetics.variant("с", phonetics.phoneticClass("сыром")),
+            CoreMatchers.is("с")
+        );
+    }
+
+    /**
+     * {@link RussianPhonetics} can choose "со" only before вс and вт of
+     * words starting with в and a consonant.
+     * @throws Exception If fails
+     */
+    @Test
+    public void choosesSoBeforeVsAndVt() throws Exception {
+        final RussianPhonetics phonetics = new RussianPhonetics();
+        MatcherAssert.assertThat(
+            phonetics.variant("с", phonetics.phoneticClass("всеми")),
+            CoreMatchers.is("со")
+        );
+        MatcherAssert.assertThat(
+            phonetics.variant("с", phonetics.phoneticClass("вторым")),
+            CoreMatchers.is("со")
+        );
+        MatcherAssert.assertThat(
+            phonetics.variant("в", phonetics.phoneticClass("всём")),
+            CoreMatchers.is("во")
+        );
+    }
+
+    /**
+     * {@link RussianPhonetics} can keep "с" before other words starting with
+     * в or ф and a consonant.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsSBeforeOtherLabialClusters() throws Exception {
+        final RussianPhonetics phonetics = new RussianPhonetics();
+        MatcherAssert.assertThat(
+            phonetics.variant("с", phonetics.phoneticClass("флагом")),
+            CoreMatchers.is("с")
+        );
+        MatcherAssert.assertThat(
+            phonetics.variant("с", phonetics.phoneticClass("фразой")),
+            CoreMatchers.is("с")
+        );
+        MatcherAssert.assertThat(
+            phonetics.variant("с", phonetics.phoneticClass("врачом")),
+            CoreMatchers.is("с")
+        );
+        MatcherAssert.assertThat(
+            phonetics.variant("в", phonetics.phoneticClass("Франции")),
+            CoreMatchers.is("во")
+        );
+    }
+}
@@ -0,0 +1,331 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.implementations;
+
+import com.google.common.collect.ImmutableSet;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.SpBasic;
+
+/**
+ * Unit tests for {@link RussianVerb}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class RussianVerbTest {
+    /**
+     * {@link RussianVerb} can conjugate verbs of first conjugation.
+     * @throws Exception If fails
+     */
+    @Test
+    public void conjugatesFirstConjugation() throws Exception {
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("царапать", RussianGrammeme.III),
+            CoreMatchers.equalTo("царапает")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "атаковать",
+                RussianGrammeme.III,
+                RussianGrammeme.Мн
+            ),
+            CoreMatchers.equalTo("атакуют")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("бить", RussianGrammeme.III),
+            CoreMatchers.equalTo("бьёт")
+        );
+    }
+
+    /**
+     * {@link RussianVerb} can conjugate verbs of second conjugation.
+     * @throws Exception If fails
+     */
+    @Test
+    public void conjugatesSecondConjugation() throws Exception {
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "рычать",
+                RussianGrammeme.III,
+                RussianGrammeme.Мн
+            ),
+            CoreMatchers.equalTo("рычат")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("ударить", RussianGrammeme.II),
+            CoreMatchers.equalTo("ударишь")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("посмотреть", RussianGrammeme.I),
+            CoreMatchers.equalTo("посмотрю")
+        );
+    }
+
+    /**
+     * {@link RussianVerb} can change the last consonant of the stem in first
+     * person singular of second conjugation verbs.
+     * @throws Exception If fails
+     */
+    @Test
+    public void changesConsonantsInFirstPerson() throws Exception {
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("видеть", RussianGrammeme.I),
+            CoreMatchers.equalTo("вижу")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("любить", RussianGrammeme.I),
+            CoreMatchers.equalTo("люблю")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("свистеть", RussianGrammeme.I),
+            CoreMatchers.equalTo("свищу")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("ходить", RussianGrammeme.II),
+            CoreMatchers.equalTo("ходишь")
+        );
+    }
+
+    /**
+     * {@link RussianVerb} can conjugate prefixed verbs with roots like -бить
+     * and -пить.
+     * @throws Exception If fails
+     */
+    @Test
+    public void conjugatesPrefixedRoots() throws Exception {
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("убить", RussianGrammeme.I),
+            CoreMatchers.equalTo("убью")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("убить", RussianGrammeme.II),
+            CoreMatchers.equalTo("убьёшь")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("разбить", RussianGrammeme.III),
+            CoreMatchers.equalTo("разобьёт")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "выпить",
+                RussianGrammeme.Прош,
+                RussianGrammeme.Жен
+            ),
+            CoreMatchers.equalTo("выпила")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("любить", RussianGrammeme.III),
+            CoreMatchers.equalTo("любит")
+        );
+    }
+
+    /**
+     * {@link RussianVerb} can produce past forms that agree in gender and
+     * number.
+     * @throws Exception If fails
+     */
+    @Test
+    public void producesPast() throws Exception {
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "кусать",
+                RussianGrammeme.Прош,
+                RussianGrammeme.Жен
+            ),
+            CoreMatchers.equalTo("кусала")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "ползти",
+                RussianGrammeme.Прош,
+                RussianGrammeme.Муж
+            ),
+            CoreMatchers.equalTo("полз")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "толкнуть",
+                RussianGrammeme.Прош,
+                RussianGrammeme.Мн
+            ),
+            CoreMatchers.equalTo("толкнули")
+        );
+    }
+
+    /**
+     * {@link RussianVerb} can add reflexive postfix.
+     * @throws Exception If fails
+     */
+    @Test
+    public void addsReflexivePostfix() throws Exception {
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("промахнуться", RussianGrammeme.III),
+            CoreMatchers.equalTo("промахнется")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "промахнуться",
+                RussianGrammeme.Прош,
+                RussianGrammeme.Жен
+            ),
+            CoreMatchers.equalTo("промахнулась")
+        );
+    }
+
+    /**
+     * {@link RussianVerb} can conjugate verbs in -чь.
+     * @throws Exception If fails
+     */
+    @Test
+    public void conjugatesVerbsInCh() throws Exception {
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("печь", RussianGrammeme.III),
+            CoreMatchers.equalTo("печёт")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "печь",
+                RussianGrammeme.III,
+                RussianGrammeme.Мн
+            ),
+            CoreMatchers.equalTo("пекут")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("мочь", RussianGrammeme.I),
+            CoreMatchers.equalTo("могу")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("помочь", RussianGrammeme.III),
+            CoreMatchers.equalTo("поможет")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "беречь",
+                RussianGrammeme.Прош,
+                RussianGrammeme.Жен
+            ),
+            CoreMatchers.equalTo("берегла")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("жечь", RussianGrammeme.III),
+            CoreMatchers.equalTo("жжёт")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "жечь",
+                RussianGrammeme.Прош,
+                RussianGrammeme.Муж
+            ),
+            CoreMatchers.equalTo("жёг")
+        );
+    }
+
+    /**
+     * {@link RussianVerb} can conjugate verbs with irregular present stems.
+     * @throws Exception If fails
+     */
+    @Test
+    public void conjugatesIrregularPresentStems() throws Exception {
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("писать", RussianGrammeme.I),
+            CoreMatchers.equalTo("пишу")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("написать", RussianGrammeme.III),
+            CoreMatchers.equalTo("напишет")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("спать", RussianGrammeme.I),
+            CoreMatchers.equalTo("сплю")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "брать",
+                RussianGrammeme.III,
+                RussianGrammeme.Мн
+            ),
+            CoreMatchers.equalTo("берут")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("ждать", RussianGrammeme.I),
+            CoreMatchers.equalTo("жду")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("мыть", RussianGrammeme.I),
+            CoreMatchers.equalTo("мою")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("жить", RussianGrammeme.II),
+            CoreMatchers.equalTo("живешь")
+        );
+        MatcherAssert.assertThat(
+            RussianVerbTest.form(
+                "жить",
+                RussianGrammeme.Прош,
+                RussianGrammeme.Жен
+            ),
+            CoreMatchers.equalTo("жила")
+        );
+    }
+
+    /**
+     * {@link RussianVerb} can return its infinitive.
+     * @throws Exception If fails
+     */
+    @Test
+    public void returnsInfinitive() throws Exception {
+        MatcherAssert.assertThat(
+            RussianVerbTest.form("кричать", RussianGrammeme.Инф),
+            CoreMatchers.equalTo("кричать")
+        );
+    }
+
+    /**
+     * {@link RussianVerb} can refuse headwords that are not infinitives.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesNonInfinitives() throws Exception {
+        RussianVerbTest.form("бьёт", RussianGrammeme.III);
+    }
+
+    /**
+     * Produces a form of a verb.
+     * @param infinitive Infinitive
+     * @param grammemes Grammemes of the form
+     * @return Form of the verb
+     * @throws Exception If fails
+     */
+    private static String form(
+        final String infinitive,
+        final Grammeme... grammemes
+    ) throws Exception {
+        return new RussianVerb(new SpBasic(infinitive), ImmutableSet::of)
+            .wordForm(() -> ImmutableSet.copyOf(grammemes))
+            .string();
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.inflection;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.BasicLexeme;
+import org.tendiwa.inflectible.GmEmpty;
+import org.tendiwa.inflectible.Lexeme;
+
+/**
+ * Unit tests for {@link ExEager}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class ExEagerTest {
+    /**
+     * {@link ExEager} can expand all lexemes before they are used.
+     * @throws Exception If fails
+     */
+    @Test
+    public void expandsAllLexemesAtOnce() throws Exception {
+        final AtomicInteger expanded = new AtomicInteger();
+        final Callable<Lexeme> expansion = () -> {
+            expanded.incrementAndGet();
+            return new BasicLexeme(
+                new GmEmpty(),
+                ImmutableMap.of(new GmEmpty(), () -> "word")
+            );
+        };
+        new ExEager(2).lexemes(
+            ImmutableMap.of("a", expansion, "b", expansion, "c", expansion)
+        );
+        MatcherAssert.assertThat(
+            expanded.get(),
+            CoreMatchers.equalTo(3)
+        );
+    }
+
+    /**
+     * {@link ExEager} can keep each lexeme under its own key.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsLexemesUnderTheirKeys() throws Exception {
+        MatcherAssert.assertThat(
+            new ExEager(2)
+                .lexemes(
+                    ImmutableMap.<String, Callable<Lexeme>>of(
+                        "one",
+                        () -> new BasicLexeme(
+                            new GmEmpty(),
+                            ImmutableMap.of(new GmEmpty(), () -> "один")
+                        ),
+                        "two",
+                        () -> new BasicLexeme(
+                            new GmEmpty(),
+                            ImmutableMap.of(new GmEmpty(), () -> "два")
+                        )
+                    )
+                )
+                .get("two")
+                .defaultSpelling()
+                .string(),
+            CoreMatchers.equalTo("два")
+        );
+    }
+
+    /**
+     * {@link ExEager} can't be created without threads.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void needsAtLeastOneThread() {
+        new ExEager(0);
+    }
+}
@@ -76,6 +76,31 @@ public final class LxWithSuppletivismTest {
         );
     }
 
+    /**
+     * {@link LxWithSuppletivism} can generate all forms of an adjective from
+     * its headword.
+     * @throws Exception If fails
+     */
+    @Test
+    public void generatesAdjectiveForms() throws Exception {
+        MatcherAssert.assertThat(
+            new LxWithSuppletivism(
+                RussianPartOfSpeech.Прил,
+                new GmEmpty(),
+                ImmutableMap.of(new GmEmpty(), () -> "тихий")
+            )
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Жен,
+                        RussianGrammeme.Ед,
+                        RussianGrammeme.В
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("тихую")
+        );
+    }
+
     /**
      * {@link LxWithSuppletivism} can returns its persistent grammatical
      * meaning, and it is the same grammatical meaning that is passed to the
@@ -99,4 +124,27 @@ public final class LxWithSuppletivismTest {
             CoreMatchers.is(meaning)
         );
     }
+
+    /**
+     * {@link LxWithSuppletivism} can be expanded into a lexeme with the same
+     * word forms.
+     * @throws Exception If fails
+     */
+    @Test
+    public void expandsIntoTableOfWordForms() throws Exception {
+        final GrammaticalMeaning meaning = () -> ImmutableSet.of(
+            RussianGrammeme.Средн,
+            RussianGrammeme.Ед,
+            RussianGrammeme.Т
+        );
+        final LxWithSuppletivism lexeme = new LxWithSuppletivism(
+            RussianPartOfSpeech.Прил,
+            new GmEmpty(),
+            ImmutableMap.of(new GmEmpty(), () -> "синий")
+        );
+        MatcherAssert.assertThat(
+            lexeme.expanded().wordForm(meaning).string(),
+            CoreMatchers.equalTo(lexeme.wordForm(meaning).string())
+        );
+    }
 }
@@ -0,0 +1,171 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.inflection;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.tendiwa.inflectible.BasicLexeme;
+import org.tendiwa.inflectible.GmEmpty;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.Spelling;
+import org.tendiwa.inflectible.implementations.RussianDeclension;
+import org.tendiwa.inflectible.implementations.RussianPartOfSpeech;
+
+/**
+ * Footprint report comparing lexemes that store every word form with
+ * lexemes created by {@link ParadigmPool}. Runs only in the
+ * {@code benchmarks} Maven profile. Number of generated nouns is set by the
+ * {@code benchmark.nouns} system property.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class ParadigmFootprintBenchmark {
+    /**
+     * Default number of generated nouns.
+     */
+    private static final int NOUNS = 50_000;
+
+    /**
+     * Number of letters in generated stems.
+     */
+    private static final int LETTERS = 32;
+
+    /**
+     * Number of garbage collections before measuring the heap.
+     */
+    private static final int COLLECTIONS = 4;
+
+    /**
+     * {@link ParadigmPool} can store nouns in less memory than
+     * {@link BasicLexeme}.
+     * @throws Exception If fails
+     */
+    @Test
+    public void reportsFootprint() throws Exception {
+        final int nouns = Integer.getInteger(
+            "benchmark.nouns",
+            ParadigmFootprintBenchmark.NOUNS
+        );
+        final List<Lexeme> lexemes = new ArrayList<>(nouns);
+        long before = ParadigmFootprintBenchmark.heap();
+        for (int index = 0; index < nouns; ++index) {
+            lexemes.add(
+                new BasicLexeme(
+                    new GmEmpty(),
+                    ParadigmFootprintBenchmark.forms(index)
+                )
+            );
+        }
+        final long full = ParadigmFootprintBenchmark.heap() - before;
+        lexemes.clear();
+        final ParadigmPool pool = new ParadigmPool();
+        before = ParadigmFootprintBenchmark.heap();
+        for (int index = 0; index < nouns; ++index) {
+            lexemes.add(
+                pool.lexeme(
+                    new GmEmpty(),
+                    ParadigmFootprintBenchmark.forms(index)
+                )
+            );
+        }
+        final long compact = ParadigmFootprintBenchmark.heap() - before;
+        Logger.getLogger(this.getClass().getName()).info(
+            String.format(
+                "%d nouns: %d bytes/lexeme with all forms, %s, %s",
+                lexemes.size(),
+                full / nouns,
+                String.format(
+                    "%d bytes/lexeme with %d shared paradigms",
+                    compact / nouns,
+                    pool.size()
+                ),
+                String.format("%.1fx smaller", (double) full / compact)
+            )
+        );
+        MatcherAssert.assertThat(compact, Matchers.lessThan(full));
+    }
+
+    /**
+     * Measures used heap after garbage collection.
+     * @return Used heap in bytes
+     */
+    private static long heap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int run = 0; run < ParadigmFootprintBenchmark.COLLECTIONS; ++run) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Generates word forms of a noun, as a parser would produce them: each
+     * word form has its own meaning and spelling objects.
+     * @param number Number of the noun
+     * @return Word forms
+     * @throws Exception If could not obtain endings
+     */
+    private static ImmutableMap<GrammaticalMeaning, Spelling> forms(
+        final int number
+    ) throws Exception {
+        final RussianDeclension[] declensions = RussianDeclension.values();
+        final RussianDeclension declension =
+            declensions[number % declensions.length];
+        final StringBuilder stem = new StringBuilder("ст");
+        int rest = number;
+        do {
+            stem.append(
+                (char) ('а' + rest % ParadigmFootprintBenchmark.LETTERS)
+            );
+            rest /= ParadigmFootprintBenchmark.LETTERS;
+        } while (rest > 0);
+        final ImmutableMap.Builder<GrammaticalMeaning, Spelling> forms =
+            ImmutableMap.builder();
+        for (final GrammaticalMeaning meaning
+            : RussianPartOfSpeech.Сущ.meaningVariations()) {
+            final ImmutableSet<Grammeme> grammemes =
+                ImmutableSet.<Grammeme>builder()
+                    .addAll(meaning.grammemes())
+                    .build();
+            forms.put(
+                () -> grammemes,
+                new SpBasic(
+                    new StringBuilder(stem)
+                        .append(declension.ending(meaning))
+                        .toString()
+                )
+            );
+        }
+        return forms.build();
+    }
+}
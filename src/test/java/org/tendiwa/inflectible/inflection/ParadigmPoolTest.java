@@ -0,0 +1,249 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.inflection;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.GmEmpty;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.Phonetics;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.Spelling;
+import org.tendiwa.inflectible.implementations.EnglishGrammeme;
+import org.tendiwa.inflectible.implementations.EnglishPhonetics;
+import org.tendiwa.inflectible.implementations.RussianGrammeme;
+
+/**
+ * Unit tests for {@link ParadigmPool}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class ParadigmPoolTest {
+    /**
+     * {@link ParadigmPool} can share a paradigm between lexemes that inflect
+     * the same way.
+     * @throws Exception If fails
+     */
+    @Test
+    public void sharesEqualParadigms() throws Exception {
+        final ParadigmPool pool = new ParadigmPool();
+        pool.lexeme(new GmEmpty(), ParadigmPoolTest.forms("стол"));
+        pool.lexeme(new GmEmpty(), ParadigmPoolTest.forms("слон"));
+        pool.lexeme(new GmEmpty(), ParadigmPoolTest.forms("кот"));
+        MatcherAssert.assertThat(pool.size(), CoreMatchers.equalTo(1));
+    }
+
+    /**
+     * {@link ParadigmPool} can refuse word forms with the same grammatical
+     * meaning.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalStateException.class)
+    public void refusesSameGrammaticalMeaning() throws Exception {
+        new ParadigmPool().lexeme(
+            new GmEmpty(),
+            ImmutableMap.<GrammaticalMeaning, Spelling>of(
+                () -> ImmutableSet.of(RussianGrammeme.Ед),
+                new SpBasic("стол"),
+                () -> ImmutableSet.of(RussianGrammeme.Ед),
+                new SpBasic("столы")
+            )
+        );
+    }
+
+    /**
+     * {@link ParadigmPool} can store phonetic classes of word forms when it
+     * creates a lexeme.
+     * @throws Exception If fails
+     */
+    @Test
+    public void storesPhoneticClasses() throws Exception {
+        final Phonetics phonetics = new EnglishPhonetics();
+        final Spelling form = new ParadigmPool(phonetics)
+            .lexeme(
+                new GmEmpty(),
+                ImmutableMap.<GrammaticalMeaning, Spelling>of(
+                    new GmEmpty(),
+                    new SpBasic("hour"),
+                    () -> ImmutableSet.of(EnglishGrammeme.Plur),
+                    new SpBasic("hours")
+                )
+            )
+            .wordForm(() -> ImmutableSet.of(EnglishGrammeme.Plur));
+        MatcherAssert.assertThat(form.string(), CoreMatchers.is("hours"));
+        MatcherAssert.assertThat(
+            form.phoneticClass(),
+            CoreMatchers.equalTo(phonetics.phoneticClass("hours"))
+        );
+        MatcherAssert.assertThat(
+            form.phoneticClass().isPresent(),
+            CoreMatchers.is(true)
+        );
+    }
+
+    /**
+     * {@link ParadigmPool} can create lexemes that reconstruct their word
+     * forms.
+     * @throws Exception If fails
+     */
+    @Test
+    public void reconstructsWordForms() throws Exception {
+        MatcherAssert.assertThat(
+            new ParadigmPool()
+                .lexeme(new GmEmpty(), ParadigmPoolTest.forms("стол"))
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Т,
+                        RussianGrammeme.Мн
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("столами")
+        );
+    }
+
+    /**
+     * {@link ParadigmPool} can create lexemes that choose the word form most
+     * similar to the requested grammatical meaning.
+     * @throws Exception If fails
+     */
+    @Test
+    public void choosesClosestWordForm() throws Exception {
+        MatcherAssert.assertThat(
+            new ParadigmPool()
+                .lexeme(new GmEmpty(), ParadigmPoolTest.forms("слон"))
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Р,
+                        RussianGrammeme.Мн
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("слона")
+        );
+    }
+
+    /**
+     * {@link ParadigmPool} can create lexemes whose default spelling is the
+     * first word form.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsDefaultSpelling() throws Exception {
+        MatcherAssert.assertThat(
+            new ParadigmPool()
+                .lexeme(new GmEmpty(), ParadigmPoolTest.forms("кот"))
+                .defaultSpelling()
+                .string(),
+            CoreMatchers.equalTo("кот")
+        );
+    }
+
+    /**
+     * {@link ParadigmPool} can keep suppletive word forms that don't share
+     * the stem of the lexeme.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsSuppletiveWordForms() throws Exception {
+        final ParadigmPool pool = new ParadigmPool();
+        final Lexeme lexeme = pool.lexeme(
+            new GmEmpty(),
+            ImmutableMap.<GrammaticalMeaning, Spelling>builder()
+                .put(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.И,
+                        RussianGrammeme.Ед
+                    ),
+                    new SpBasic("человек")
+                )
+                .put(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Р,
+                        RussianGrammeme.Ед
+                    ),
+                    new SpBasic("человека")
+                )
+                .put(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.И,
+                        RussianGrammeme.Мн
+                    ),
+                    new SpBasic("люди")
+                )
+                .build()
+        );
+        MatcherAssert.assertThat(
+            lexeme
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.И,
+                        RussianGrammeme.Мн
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("люди")
+        );
+        MatcherAssert.assertThat(
+            lexeme
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Р,
+                        RussianGrammeme.Ед
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("человека")
+        );
+    }
+
+    /**
+     * Creates word forms of a noun that inflects like <i>стол</i>.
+     * @param stem Stem of the noun
+     * @return Word forms
+     */
+    private static ImmutableMap<GrammaticalMeaning, Spelling> forms(
+        final String stem
+    ) {
+        return ImmutableMap.<GrammaticalMeaning, Spelling>builder()
+            .put(
+                () -> ImmutableSet.of(RussianGrammeme.И, RussianGrammeme.Ед),
+                new SpBasic(stem)
+            )
+            .put(
+                () -> ImmutableSet.of(RussianGrammeme.Р, RussianGrammeme.Ед),
+                new SpBasic(String.format("%sа", stem))
+            )
+            .put(
+                () -> ImmutableSet.of(RussianGrammeme.Т, RussianGrammeme.Мн),
+                new SpBasic(String.format("%sами", stem))
+            )
+            .build();
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.metrics;
+
+import com.google.common.collect.ImmutableMap;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.BasicVocabulary;
+import org.tendiwa.inflectible.Concept;
+import org.tendiwa.inflectible.Lexeme;
+import org.tendiwa.inflectible.MissingLexemeException;
+import org.tendiwa.inflectible.SingleFormLexeme;
+import org.tendiwa.inflectible.ValidatedConcept;
+import org.tendiwa.inflectible.Vocabulary;
+
+/**
+ * Unit tests for {@link Instrumentation}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class InstrumentationTest {
+    /**
+     * {@link Instrumentation} can have no-op metrics by default.
+     * @throws Exception If fails
+     */
+    @Test
+    public void hasNoopMetricsByDefault() throws Exception {
+        MatcherAssert.assertThat(
+            Instrumentation.INSTANCE.metrics(),
+            CoreMatchers.instanceOf(MtNoop.class)
+        );
+    }
+
+    /**
+     * {@link Instrumentation} can pass found lexemes to the installed
+     * metrics.
+     * @throws Exception If fails
+     */
+    @Test
+    public void receivesHits() throws Exception {
+        final MtCounting metrics = new MtCounting();
+        final Metrics previous = Instrumentation.INSTANCE.install(metrics);
+        try {
+            InstrumentationTest.vocabulary()
+                .lexeme(new ValidatedConcept("DRAGON"));
+        } finally {
+            Instrumentation.INSTANCE.install(previous);
+        }
+        MatcherAssert.assertThat(metrics.hits(), CoreMatchers.equalTo(1L));
+    }
+
+    /**
+     * {@link Instrumentation} can pass missing lexemes to the installed
+     * metrics.
+     * @throws Exception If fails
+     */
+    @Test(expected = MissingLexemeException.class)
+    public void receivesMisses() throws Exception {
+        final MtCounting metrics = new MtCounting();
+        final Metrics previous = Instrumentation.INSTANCE.install(metrics);
+        try {
+            InstrumentationTest.vocabulary()
+                .lexeme(new ValidatedConcept("BEE"));
+        } finally {
+            Instrumentation.INSTANCE.install(previous);
+            MatcherAssert.assertThat(
+                metrics.misses(),
+                CoreMatchers.equalTo(1L)
+            );
+        }
+    }
+
+    /**
+     * Creates a vocabulary with a single lexeme.
+     * @return Vocabulary
+     */
+    private static Vocabulary vocabulary() {
+        return new BasicVocabulary(
+            ImmutableMap.<Concept, Lexeme>of(
+                new ValidatedConcept("DRAGON"),
+                new SingleFormLexeme("dragon")
+            )
+        );
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.metrics;
+
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MtCounting}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class MtCountingTest {
+    /**
+     * {@link MtCounting} can count renders and their latency per template.
+     * @throws Exception If fails
+     */
+    @Test
+    public void countsRendersPerTemplate() throws Exception {
+        final MtCounting metrics = new MtCounting();
+        metrics.render("greeting", 10L);
+        metrics.render("greeting", 5L);
+        metrics.render("farewell", 1L);
+        MatcherAssert.assertThat(
+            metrics.renders("greeting"),
+            CoreMatchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(
+            metrics.renderNanos("greeting"),
+            CoreMatchers.equalTo(15L)
+        );
+    }
+
+    /**
+     * {@link MtCounting} can count lexeme hits and misses.
+     * @throws Exception If fails
+     */
+    @Test
+    public void countsHitsAndMisses() throws Exception {
+        final MtCounting metrics = new MtCounting();
+        metrics.lookup(true);
+        metrics.lookup(true);
+        metrics.lookup(false);
+        MatcherAssert.assertThat(metrics.hits(), CoreMatchers.equalTo(2L));
+        MatcherAssert.assertThat(metrics.misses(), CoreMatchers.equalTo(1L));
+    }
+
+    /**
+     * {@link MtCounting} can compute cache hit rates.
+     * @throws Exception If fails
+     */
+    @Test
+    public void computesHitRate() throws Exception {
+        final MtCounting metrics = new MtCounting();
+        final String cache = "lexemes";
+        metrics.cache(cache, true);
+        metrics.cache(cache, true);
+        metrics.cache(cache, true);
+        metrics.cache(cache, false);
+        MatcherAssert.assertThat(
+            metrics.hitRate(cache),
+            CoreMatchers.equalTo(0.75)
+        );
+    }
+
+    /**
+     * {@link MtCounting} can report zero for events that never happened.
+     * @throws Exception If fails
+     */
+    @Test
+    public void reportsZeroForUnknownKeys() throws Exception {
+        final MtCounting metrics = new MtCounting();
+        MatcherAssert.assertThat(
+            metrics.inferences("RussianNoun"),
+            CoreMatchers.equalTo(0L)
+        );
+        MatcherAssert.assertThat(
+            metrics.hitRate("templates"),
+            CoreMatchers.equalTo(0.)
+        );
+    }
+}
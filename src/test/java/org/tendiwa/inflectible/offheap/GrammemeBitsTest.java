@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.offheap;
+
+import com.google.common.collect.ImmutableSet;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.tendiwa.inflectible.Grammeme;
+import org.tendiwa.inflectible.implementations.EnglishGrammeme;
+import org.tendiwa.inflectible.implementations.RussianGrammeme;
+
+/**
+ * Unit tests for {@link GrammemeBits}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class GrammemeBitsTest {
+    /**
+     * {@link GrammemeBits} can decode the mask it encoded.
+     * @throws Exception If fails
+     */
+    @Test
+    public void decodesEncodedMask() throws Exception {
+        final GrammemeBits bits = new GrammemeBits(RussianGrammeme.class);
+        final ImmutableSet<Grammeme> grammemes = ImmutableSet.of(
+            RussianGrammeme.Жен,
+            RussianGrammeme.Д,
+            RussianGrammeme.Мн
+        );
+        MatcherAssert.assertThat(
+            bits.grammemes(bits.mask(() -> grammemes)),
+            CoreMatchers.equalTo(grammemes)
+        );
+    }
+
+    /**
+     * {@link GrammemeBits} can fail on grammemes of another language.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void failsOnForeignGrammemes() throws Exception {
+        new GrammemeBits(RussianGrammeme.class)
+            .mask(() -> ImmutableSet.of(EnglishGrammeme.Sing));
+    }
+
+    /**
+     * {@link GrammemeBits} can fail if grammemes are not an enum.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void failsOnNonEnumGrammemes() throws Exception {
+        new GrammemeBits(Mockito.mock(Grammeme.class).getClass());
+    }
+}
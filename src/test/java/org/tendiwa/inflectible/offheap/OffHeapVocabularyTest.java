@@ -0,0 +1,270 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.offheap;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.BasicLexeme;
+import org.tendiwa.inflectible.GmEmpty;
+import org.tendiwa.inflectible.MissingLexemeException;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.ValidatedConcept;
+import org.tendiwa.inflectible.Vocabulary;
+import org.tendiwa.inflectible.implementations.RussianGrammeme;
+
+/**
+ * Unit tests for {@link OffHeapVocabulary}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class OffHeapVocabularyTest {
+    /**
+     * {@link OffHeapVocabulary} can find lexemes by their concepts.
+     * @throws Exception If fails
+     */
+    @Test
+    public void findsLexemes() throws Exception {
+        final Vocabulary vocabulary = OffHeapVocabularyTest.vocabulary();
+        MatcherAssert.assertThat(
+            vocabulary.hasLexeme(new ValidatedConcept("СТОЛ")),
+            CoreMatchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            vocabulary.hasLexeme(new ValidatedConcept("СТУЛ")),
+            CoreMatchers.is(false)
+        );
+    }
+
+    /**
+     * {@link OffHeapVocabulary} can select the word form whose grammatical
+     * meaning is the closest to the requested one.
+     * @throws Exception If fails
+     */
+    @Test
+    public void selectsClosestWordForm() throws Exception {
+        MatcherAssert.assertThat(
+            OffHeapVocabularyTest.vocabulary()
+                .lexeme(new ValidatedConcept("КНИГА"))
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Р,
+                        RussianGrammeme.Мн
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("книг")
+        );
+    }
+
+    /**
+     * {@link OffHeapVocabulary} can return the default spelling when no word
+     * form matches the requested grammatical meaning.
+     * @throws Exception If fails
+     */
+    @Test
+    public void fallsBackToDefaultSpelling() throws Exception {
+        MatcherAssert.assertThat(
+            OffHeapVocabularyTest.vocabulary()
+                .lexeme(new ValidatedConcept("СТОЛ"))
+                .wordForm(() -> ImmutableSet.of(RussianGrammeme.Прош))
+                .string(),
+            CoreMatchers.equalTo("стол")
+        );
+    }
+
+    /**
+     * {@link OffHeapVocabulary} can keep persistent grammemes of lexemes.
+     * @throws Exception If fails
+     */
+    @Test
+    public void keepsPersistentGrammemes() throws Exception {
+        MatcherAssert.assertThat(
+            OffHeapVocabularyTest.vocabulary()
+                .lexeme(new ValidatedConcept("КНИГА"))
+                .persistentGrammemes()
+                .grammemes(),
+            CoreMatchers.equalTo(ImmutableSet.of(RussianGrammeme.Жен))
+        );
+    }
+
+    /**
+     * {@link OffHeapVocabulary} can fail when there is no lexeme for a
+     * concept.
+     * @throws Exception If fails
+     */
+    @Test(expected = MissingLexemeException.class)
+    public void failsOnMissingLexeme() throws Exception {
+        OffHeapVocabularyTest.vocabulary()
+            .lexeme(new ValidatedConcept("СТУЛ"));
+    }
+
+    /**
+     * {@link OffHeapVocabulary} can read an image from a memory-mapped file.
+     * @throws Exception If fails
+     */
+    @Test
+    public void readsMappedFile() throws Exception {
+        final Path file = Files.createTempFile("vocabulary", ".image");
+        try {
+            OffHeapVocabularyTest.image().save(file);
+            MatcherAssert.assertThat(
+                new OffHeapVocabulary(RussianGrammeme.class, file)
+                    .lexeme(new ValidatedConcept("СТОЛ"))
+                    .wordForm(
+                        () -> ImmutableSet.of(RussianGrammeme.Т)
+                    )
+                    .string(),
+                CoreMatchers.equalTo("столом")
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * {@link OffHeapImage} can lay out more lexemes than fit into its
+     * initial buffers.
+     * @throws Exception If fails
+     */
+    @Test
+    public void laysOutManyLexemes() throws Exception {
+        final OffHeapImage image = new OffHeapImage(RussianGrammeme.class);
+        final int count = 1000;
+        for (int index = 0; index < count; ++index) {
+            image.add(
+                new ValidatedConcept(OffHeapVocabularyTest.word(index)),
+                new GmEmpty(),
+                ImmutableMap.of(
+                    new GmEmpty(),
+                    new SpBasic(OffHeapVocabularyTest.word(index))
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            new OffHeapVocabulary(RussianGrammeme.class, image.buffer())
+                .lexeme(new ValidatedConcept("ЙЙЙ"))
+                .defaultSpelling()
+                .string(),
+            CoreMatchers.equalTo("ЙЙЙ")
+        );
+    }
+
+    /**
+     * {@link OffHeapImage} can fail if two lexemes have the same concept.
+     * @throws Exception If fails
+     */
+    @Test(expected = IllegalStateException.class)
+    public void failsOnDuplicateConcepts() throws Exception {
+        OffHeapVocabularyTest.image()
+            .add(
+                new ValidatedConcept("СТОЛ"),
+                new GmEmpty(),
+                ImmutableMap.of(new GmEmpty(), new SpBasic("стол"))
+            )
+            .buffer();
+    }
+
+    /**
+     * Makes up a word of capital letters for a number, with digits 0 to 9
+     * spelled as letters from А to Й.
+     * @param number Number
+     * @return Word
+     */
+    private static String word(final int number) {
+        final StringBuilder word = new StringBuilder();
+        for (final char digit : String.valueOf(number).toCharArray()) {
+            word.append((char) ('А' + digit - '0'));
+        }
+        return word.toString();
+    }
+
+    /**
+     * Creates a vocabulary with a couple of lexemes.
+     * @return Vocabulary
+     */
+    private static Vocabulary vocabulary() {
+        return new OffHeapVocabulary(
+            RussianGrammeme.class,
+            OffHeapVocabularyTest.image().buffer()
+        );
+    }
+
+    /**
+     * Creates an image with a couple of lexemes.
+     * @return Image
+     */
+    private static OffHeapImage image() {
+        try {
+            return new OffHeapImage(RussianGrammeme.class)
+                .add(
+                    new ValidatedConcept("СТОЛ"),
+                    () -> ImmutableSet.of(RussianGrammeme.Муж),
+                    ImmutableMap.of(
+                        () -> ImmutableSet.of(
+                            RussianGrammeme.И,
+                            RussianGrammeme.Ед
+                        ),
+                        new SpBasic("стол"),
+                        () -> ImmutableSet.of(
+                            RussianGrammeme.Т,
+                            RussianGrammeme.Ед
+                        ),
+                        new SpBasic("столом")
+                    )
+                )
+                .add(
+                    new ValidatedConcept("КНИГА"),
+                    new BasicLexeme(
+                        () -> ImmutableSet.of(RussianGrammeme.Жен),
+                        ImmutableMap.of(
+                            () -> ImmutableSet.of(
+                                RussianGrammeme.И,
+                                RussianGrammeme.Ед
+                            ),
+                            new SpBasic("книга"),
+                            () -> ImmutableSet.of(
+                                RussianGrammeme.Р,
+                                RussianGrammeme.Мн
+                            ),
+                            new SpBasic("книг")
+                        )
+                    ),
+                    ImmutableSet.of(
+                        () -> ImmutableSet.of(
+                            RussianGrammeme.Р,
+                            RussianGrammeme.Мн
+                        )
+                    )
+                );
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
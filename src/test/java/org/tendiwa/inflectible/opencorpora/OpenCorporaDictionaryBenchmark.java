@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.opencorpora;
+
+import java.io.BufferedWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+/**
+ * Throughput benchmark for {@link OpenCorporaDictionary}. Runs only in the
+ * {@code benchmarks} Maven profile, which also limits the heap to make sure
+ * the dump is streamed rather than loaded. Size of the generated dump in
+ * megabytes is set by the {@code benchmark.megabytes} system property.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class OpenCorporaDictionaryBenchmark {
+    /**
+     * Default size of the generated dump in megabytes.
+     */
+    private static final int MEGABYTES = 300;
+
+    /**
+     * Number of bytes in a megabyte.
+     */
+    private static final long MEGABYTE = 1L << 20;
+
+    /**
+     * Number of letters in generated stems.
+     */
+    private static final int LETTERS = 32;
+
+    /**
+     * Case tags of generated word forms.
+     */
+    private static final String[] CASES = {
+        "nomn", "gent", "datv", "accs", "ablt", "loct",
+    };
+
+    /**
+     * Endings of generated word forms, singular then plural.
+     */
+    private static final String[] ENDINGS = {
+        "", "а", "у", "", "ом", "е", "ы", "ов", "ам", "ы", "ами", "ах",
+    };
+
+    /**
+     * {@link OpenCorporaDictionary} can stream a dump of several hundred
+     * megabytes.
+     * @throws Exception If fails
+     */
+    @Test
+    public void streamsLargeDump() throws Exception {
+        final Path file = Files.createTempFile("dict.opcorpora", ".xml");
+        try {
+            final int lemmas = OpenCorporaDictionaryBenchmark.generate(
+                file,
+                Long.getLong(
+                    "benchmark.megabytes",
+                    OpenCorporaDictionaryBenchmark.MEGABYTES
+                ) * OpenCorporaDictionaryBenchmark.MEGABYTE
+            );
+            final AtomicInteger forms = new AtomicInteger();
+            final long start = System.nanoTime();
+            final int exported = new OpenCorporaDictionary(file).export(
+                (concept, part, persistent, spellings) -> {
+                    concept.identifier();
+                    forms.addAndGet(spellings.size());
+                }
+            );
+            final double seconds = (double) (System.nanoTime() - start)
+                / TimeUnit.SECONDS.toNanos(1);
+            final double megabytes = (double) Files.size(file)
+                / OpenCorporaDictionaryBenchmark.MEGABYTE;
+            Logger.getLogger(this.getClass().getName()).info(
+                String.format(
+                    "%d lemmas, %d forms, %.1f MB in %.2f s: %.1f MB/s, %s",
+                    exported,
+                    forms.get(),
+                    megabytes,
+                    seconds,
+                    megabytes / seconds,
+                    String.format("%.0f lemmas/s", exported / seconds)
+                )
+            );
+            MatcherAssert.assertThat(exported, CoreMatchers.equalTo(lemmas));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Generates a dump of nouns.
+     * @param file File to write the dump to
+     * @param size Approximate size of the dump in bytes
+     * @return Number of generated lemmas
+     * @throws Exception If could not write the dump
+     */
+    private static int generate(final Path file, final long size)
+        throws Exception {
+        int lemmas = 0;
+        try (Writer writer = new BufferedWriter(
+            Files.newBufferedWriter(file, StandardCharsets.UTF_8)
+        )) {
+            writer.write("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n");
+            writer.write("<dictionary version=\"0.92\" revision=\"1\">\n");
+            writer.write("<lemmata>\n");
+            long written = 0L;
+            while (written < size) {
+                lemmas += 1;
+                final String lemma =
+                    OpenCorporaDictionaryBenchmark.lemma(lemmas);
+                writer.write(lemma);
+                written += lemma.getBytes(StandardCharsets.UTF_8).length;
+            }
+            writer.write("</lemmata>\n</dictionary>\n");
+        }
+        return lemmas;
+    }
+
+    /**
+     * Generates markup of a noun lemma.
+     * @param number Number of the lemma
+     * @return Markup
+     */
+    private static String lemma(final int number) {
+        final String stem = OpenCorporaDictionaryBenchmark.stem(number);
+        final StringBuilder builder = new StringBuilder()
+            .append("<lemma id=\"").append(number).append("\" rev=\"1\">")
+            .append("<l t=\"").append(stem).append("\">")
+            .append("<g v=\"NOUN\"/><g v=\"inan\"/><g v=\"masc\"/></l>\n");
+        final String[] cases = OpenCorporaDictionaryBenchmark.CASES;
+        final String[] endings = OpenCorporaDictionaryBenchmark.ENDINGS;
+        for (int index = 0; index < endings.length; ++index) {
+            builder
+                .append("<f t=\"").append(stem).append(endings[index])
+                .append("\"><g v=\"")
+                .append(index < cases.length ? "sing" : "plur")
+                .append("\"/><g v=\"")
+                .append(cases[index % cases.length])
+                .append("\"/></f>\n");
+        }
+        return builder.append("</lemma>\n").toString();
+    }
+
+    /**
+     * Generates a distinct stem for a number.
+     * @param number Number
+     * @return Stem of Cyrillic letters
+     */
+    private static String stem(final int number) {
+        final StringBuilder builder = new StringBuilder("ст");
+        int rest = number;
+        do {
+            builder.append(
+                (char) ('а' + rest % OpenCorporaDictionaryBenchmark.LETTERS)
+            );
+            rest /= OpenCorporaDictionaryBenchmark.LETTERS;
+        } while (rest > 0);
+        return builder.toString();
+    }
+}
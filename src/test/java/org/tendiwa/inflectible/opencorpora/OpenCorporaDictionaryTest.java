@@ -0,0 +1,162 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.opencorpora;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.Vocabulary;
+import org.tendiwa.inflectible.implementations.RussianGrammeme;
+import org.tendiwa.inflectible.offheap.OffHeapImage;
+import org.tendiwa.inflectible.offheap.OffHeapVocabulary;
+
+/**
+ * Unit tests for {@link OpenCorporaDictionary}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class OpenCorporaDictionaryTest {
+    /**
+     * {@link OpenCorporaDictionary} can skip lemmas of unsupported parts of
+     * speech.
+     * @throws Exception If fails
+     */
+    @Test
+    public void skipsUnsupportedPartsOfSpeech() throws Exception {
+        final Path file = OpenCorporaDictionaryTest.dump();
+        try {
+            MatcherAssert.assertThat(
+                new OpenCorporaDictionary(file)
+                    .export(new WordsMarkupSink(new StringWriter())),
+                CoreMatchers.equalTo(1)
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * {@link OpenCorporaDictionary} can map OpenCorpora tags to Russian
+     * grammemes and parts of speech.
+     * @throws Exception If fails
+     */
+    @Test
+    public void mapsTags() throws Exception {
+        final Path file = OpenCorporaDictionaryTest.dump();
+        final StringWriter markup = new StringWriter();
+        try {
+            new OpenCorporaDictionary(file)
+                .export(new WordsMarkupSink(markup));
+        } finally {
+            Files.delete(file);
+        }
+        MatcherAssert.assertThat(
+            markup.toString(),
+            CoreMatchers.equalTo(
+                Joiner.on('\n').join(
+                    "EZH.B (Сущ) <Муж> {",
+                    "\tёж <Ед И>",
+                    "\tежа <Ед Р>",
+                    "\tежами <Мн Т>",
+                    "}",
+                    ""
+                )
+            )
+        );
+    }
+
+    /**
+     * {@link OpenCorporaDictionary} can compile lexemes into an off-heap
+     * vocabulary.
+     * @throws Exception If fails
+     */
+    @Test
+    public void compilesOffHeapVocabulary() throws Exception {
+        final Path file = OpenCorporaDictionaryTest.dump();
+        final OffHeapImage image = new OffHeapImage(RussianGrammeme.class);
+        try {
+            new OpenCorporaDictionary(file)
+                .export(new OffHeapImageSink(image));
+        } finally {
+            Files.delete(file);
+        }
+        final Vocabulary vocabulary =
+            new OffHeapVocabulary(RussianGrammeme.class, image.buffer());
+        MatcherAssert.assertThat(
+            vocabulary
+                .lexeme(new CpTransliterated("ёж", 1))
+                .wordForm(
+                    () -> ImmutableSet.of(
+                        RussianGrammeme.Мн,
+                        RussianGrammeme.Т
+                    )
+                )
+                .string(),
+            CoreMatchers.equalTo("ежами")
+        );
+    }
+
+    /**
+     * Writes a small dictionary dump to a temporary file.
+     * @return Dump file
+     * @throws Exception If could not write the file
+     */
+    private static Path dump() throws Exception {
+        final Path file = Files.createTempFile("dict.opcorpora", ".xml");
+        Files.write(
+            file,
+            ImmutableList.of(
+                "<?xml version=\"1.0\" encoding=\"utf-8\"?>",
+                "<dictionary version=\"0.92\" revision=\"1\">",
+                "<grammemes><grammeme parent=\"\"><name>POST</name>",
+                "</grammeme></grammemes>",
+                "<lemmata>",
+                "<lemma id=\"1\" rev=\"1\">",
+                "<l t=\"ёж\"><g v=\"NOUN\"/><g v=\"anim\"/>",
+                "<g v=\"masc\"/></l>",
+                "<f t=\"ёж\"><g v=\"sing\"/><g v=\"nomn\"/></f>",
+                "<f t=\"ежа\"><g v=\"sing\"/><g v=\"gent\"/></f>",
+                "<f t=\"ежу\"><g v=\"sing\"/><g v=\"gen2\"/></f>",
+                "<f t=\"ежами\"><g v=\"plur\"/><g v=\"ablt\"/></f>",
+                "</lemma>",
+                "<lemma id=\"2\" rev=\"2\">",
+                "<l t=\"и\"><g v=\"CONJ\"/></l>",
+                "<f t=\"и\"></f>",
+                "</lemma>",
+                "</lemmata>",
+                "</dictionary>"
+            ),
+            StandardCharsets.UTF_8
+        );
+        return file;
+    }
+}
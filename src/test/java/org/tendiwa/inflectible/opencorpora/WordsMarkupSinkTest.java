@@ -0,0 +1,92 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Georgy Vlasov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tendiwa.inflectible.opencorpora;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.StringWriter;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.tendiwa.inflectible.GmEmpty;
+import org.tendiwa.inflectible.GrammaticalMeaning;
+import org.tendiwa.inflectible.SpBasic;
+import org.tendiwa.inflectible.Spelling;
+import org.tendiwa.inflectible.ValidatedConcept;
+import org.tendiwa.inflectible.implementations.RussianGrammeme;
+import org.tendiwa.inflectible.implementations.RussianPartOfSpeech;
+
+/**
+ * Unit tests for {@link WordsMarkupSink}.
+ * @author Georgy Vlasov (suseika@tendiwa.org)
+ * @version $Id$
+ * @since 0.4.0
+ */
+public final class WordsMarkupSinkTest {
+    /**
+     * {@link WordsMarkupSink} can skip word forms with dots, which the
+     * markup doesn't allow in spellings.
+     * @throws Exception If fails
+     */
+    @Test
+    public void skipsDottedForms() throws Exception {
+        final StringWriter markup = new StringWriter();
+        final WordsMarkupSink sink = new WordsMarkupSink(markup);
+        sink.add(
+            new ValidatedConcept("GOD"),
+            RussianPartOfSpeech.Сущ,
+            () -> ImmutableSet.of(RussianGrammeme.Муж),
+            ImmutableMap.<GrammaticalMeaning, Spelling>of(
+                () -> ImmutableSet.of(RussianGrammeme.Ед, RussianGrammeme.И),
+                new SpBasic("год"),
+                () -> ImmutableSet.of(RussianGrammeme.Ед, RussianGrammeme.Р),
+                new SpBasic("г."),
+                () -> ImmutableSet.of(RussianGrammeme.Мн, RussianGrammeme.Р),
+                new SpBasic("лет")
+            )
+        );
+        sink.add(
+            new ValidatedConcept("ETC"),
+            RussianPartOfSpeech.Сущ,
+            new GmEmpty(),
+            ImmutableMap.<GrammaticalMeaning, Spelling>of(
+                new GmEmpty(),
+                new SpBasic("т.д.")
+            )
+        );
+        MatcherAssert.assertThat(
+            markup.toString(),
+            CoreMatchers.equalTo(
+                Joiner.on('\n').join(
+                    "GOD (Сущ) <Муж> {",
+                    "\tгод <Ед И>",
+                    "\tлет <Мн Р>",
+                    "}",
+                    ""
+                )
+            )
+        );
+    }
+}